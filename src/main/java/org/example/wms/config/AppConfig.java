@@ -1,9 +1,11 @@
 package org.example.wms.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
 }
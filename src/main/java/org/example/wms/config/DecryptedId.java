@@ -0,0 +1,39 @@
+package org.example.wms.config;
+
+import org.example.wms.util.IdKind;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 경로 변수 또는 요청 파라미터의 암호화된 ID(창고/재고는 공개 ID도 가능)를 복호화하여 Long으로 받음
+ * 요청마다 한 번만 복호화하며, 복호화할 수 없거나 다른 종류의 공개 ID는 컨트롤러 호출 전에 400으로 거절
+ * (없는 공개 ID는 없는 암호화 ID와 같이 404)
+ * <pre>
+ * &#64;GetMapping("/{encryptedId}")
+ * public ... getProduct(&#64;DecryptedId(value = "encryptedId", kind = IdKind.PRODUCT) Long id)
+ * </pre>
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DecryptedId {
+
+    /**
+     * 경로 변수 또는 요청 파라미터 이름 (경로 변수를 먼저 찾음, 생략하면 메서드 파라미터 이름)
+     */
+    String value() default "";
+
+    /**
+     * ID가 가리키는 엔티티 종류 (공개 ID는 이 종류의 것만 받음)
+     */
+    IdKind kind();
+
+    /**
+     * 필수 여부 (선택 파라미터가 없으면 null)
+     */
+    boolean required() default true;
+}
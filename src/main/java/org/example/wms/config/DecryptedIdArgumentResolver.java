@@ -0,0 +1,62 @@
+package org.example.wms.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.wms.exception.InvalidIdException;
+import org.example.wms.service.PublicIdService;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * {@link DecryptedId} 파라미터 처리
+ * 경로 변수(없으면 요청 파라미터)의 암호화된 ID를 복호화하여 전달 (창고/재고의 공개 ID는 종류를 확인한 뒤 조회하여 전달)
+ * (컨트롤러에서 유효성 검증으로 한 번, 서비스에서 다시 한 번 복호화하던 것을 한 번으로 줄임)
+ */
+@RequiredArgsConstructor
+public class DecryptedIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final PublicIdService publicIdService;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(DecryptedId.class) && parameter.getParameterType() == Long.class;
+    }
+
+    /**
+     * @return 복호화된 ID (선택 파라미터가 없으면 null)
+     * @throws InvalidIdException 복호화할 수 없거나 다른 종류의 공개 ID이거나, 필수 ID가 없는 경우
+     * @throws IllegalArgumentException 없는 공개 ID인 경우 (404)
+     */
+    @Override
+    public Long resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        DecryptedId annotation = parameter.getParameterAnnotation(DecryptedId.class);
+        String name = annotation.value().isEmpty() ? parameter.getParameterName() : annotation.value();
+
+        String encryptedId = uriVariable(webRequest, name);
+        if (encryptedId == null) {
+            encryptedId = webRequest.getParameter(name);
+        }
+        if (encryptedId == null || encryptedId.isEmpty()) {
+            if (annotation.required()) {
+                throw new InvalidIdException();
+            }
+            return null;
+        }
+
+        return publicIdService.resolve(encryptedId, annotation.kind());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String uriVariable(NativeWebRequest webRequest, String name) {
+        Map<String, String> variables = (Map<String, String>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return variables == null ? null : variables.get(name);
+    }
+}
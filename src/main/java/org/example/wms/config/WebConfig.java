@@ -0,0 +1,32 @@
+package org.example.wms.config;
+
+import lombok.RequiredArgsConstructor;
+import org.example.wms.service.InventoryExportService;
+import org.example.wms.service.PublicIdService;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Spring MVC 설정
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final PublicIdService publicIdService;
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new DecryptedIdArgumentResolver(publicIdService));
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        // 내보내기 형식 파라미터는 소문자(format=csv)로 받음 (변환 실패 시 400)
+        registry.addConverter(String.class, InventoryExportService.Format.class, InventoryExportService.Format::from);
+    }
+}
@@ -1,21 +1,67 @@
 package org.example.wms.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.wms.config.DecryptedId;
 import org.example.wms.dto.ApiResponse;
+import org.example.wms.dto.crud.InventoryBulkUpsertRequest;
 import org.example.wms.dto.crud.InventoryCreateRequest;
+import org.example.wms.dto.crud.OrderAllocationRequest;
+import org.example.wms.dto.crud.OrderStockOutRequest;
+import org.example.wms.dto.crud.ReservationCreateRequest;
 import org.example.wms.dto.crud.StockInRequest;
 import org.example.wms.dto.crud.StockOutRequest;
+import org.example.wms.dto.crud.StocktakeRequest;
+import org.example.wms.dto.crud.TransferBatchRequest;
+import org.example.wms.dto.crud.TransferRequest;
+import org.example.wms.dto.info.InventoryBulkUpsertResultDTO;
 import org.example.wms.dto.info.InventoryInfoDTO;
+import org.example.wms.dto.info.OrderAllocationResultDTO;
+import org.example.wms.dto.info.OrderStockOutResultDTO;
+import org.example.wms.dto.info.ReservationInfoDTO;
+import org.example.wms.dto.info.StockMovementBatchResultDTO;
+import org.example.wms.dto.info.StocktakeResultDTO;
+import org.example.wms.dto.info.TransferBatchResultDTO;
+import org.example.wms.dto.info.TransferResultDTO;
 import org.example.wms.dto.list.InventoryListDTO;
+import org.example.wms.dto.list.InventoryMovementListDTO;
+import org.example.wms.entity.StockStatus;
+import org.example.wms.exception.InvalidIdException;
+import org.example.wms.service.InventoryBulkService;
+import org.example.wms.service.InventoryChangeStreamService;
+import org.example.wms.service.InventoryExportService;
+import org.example.wms.service.InventoryMovementService;
+import org.example.wms.service.IdempotencyService;
 import org.example.wms.service.InventoryService;
-import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.service.OrderAllocationService;
+import org.example.wms.service.OrderStockOutService;
+import org.example.wms.service.PublicIdService;
+import org.example.wms.service.ReservationService;
+import org.example.wms.service.RetryExecutor;
+import org.example.wms.service.StockAlertService;
+import org.example.wms.service.StockMovementCoalescer;
+import org.example.wms.service.StocktakeService;
+import org.example.wms.service.TransferService;
+import org.example.wms.util.IdKind;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
 
 /**
  * 재고 관리 REST API Controller
@@ -25,8 +71,24 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 @RequestMapping("/api/inventories")
 public class InventoryController {
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String EXPORT_PERMIT_INTERCEPTOR = InventoryController.class.getName() + ".exportPermit";
+
     private final InventoryService inventoryService;
-    private final IdEncryptionUtil idEncryptionUtil;
+    private final InventoryMovementService inventoryMovementService;
+    private final InventoryBulkService inventoryBulkService;
+    private final ReservationService reservationService;
+    private final OrderAllocationService orderAllocationService;
+    private final OrderStockOutService orderStockOutService;
+    private final TransferService transferService;
+    private final StocktakeService stocktakeService;
+    private final StockAlertService stockAlertService;
+    private final InventoryChangeStreamService inventoryChangeStreamService;
+    private final InventoryExportService inventoryExportService;
+    private final RetryExecutor retryExecutor;
+    private final StockMovementCoalescer stockMovementCoalescer;
+    private final IdempotencyService idempotencyService;
+    private final PublicIdService publicIdService;
 
     /**
      * 초기 재고 등록
@@ -38,42 +100,63 @@ public class InventoryController {
     @PostMapping
     public ResponseEntity<ApiResponse<InventoryInfoDTO>> createInventory(
             @Valid @RequestBody InventoryCreateRequest request) {
-        InventoryInfoDTO created = inventoryService.createInventory(request);
+        InventoryInfoDTO created = retryExecutor.execute("inventory.create",
+                () -> inventoryService.createInventory(request));
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success(created, "재고가 등록되었습니다."));
     }
 
+    /**
+     * 재고 일괄 등록 (없으면 생성, 있으면 병합 정책에 따라 수량 교체/증가)
+     * POST /api/inventories/bulk
+     *
+     * @param request 일괄 등록 요청 (mergePolicy: REPLACE/ADD, rows: [{encryptedProductId, encryptedWarehouseId, quantity}, ...])
+     * @return 200 OK + 행별 처리 결과 (CREATED / UPDATED / UNKNOWN_ID / DUPLICATE / INVALID) 및 처리량
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<InventoryBulkUpsertResultDTO>> upsertInventories(
+            @Valid @RequestBody InventoryBulkUpsertRequest request) {
+        InventoryBulkUpsertResultDTO result = inventoryBulkService.upsert(request);
+        return ResponseEntity.ok(ApiResponse.success(result, "재고 일괄 등록이 완료되었습니다."));
+    }
+
     /**
      * 재고 상세 조회
      * GET /api/inventories/{encryptedId}
      *
-     * @param encryptedId 암호화된 재고 ID
+     * @param inventoryId 재고 ID (경로의 암호화된 ID를 복호화)
      * @return 200 OK + 재고 상세 정보
      */
     @GetMapping("/{encryptedId}")
     public ResponseEntity<ApiResponse<InventoryInfoDTO>> getInventory(
-            @PathVariable String encryptedId) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        InventoryInfoDTO inventory = inventoryService.getInventory(encryptedId);
+            @DecryptedId(value = "encryptedId", kind = IdKind.INVENTORY) Long inventoryId) {
+        InventoryInfoDTO inventory = inventoryService.getInventory(inventoryId);
         return ResponseEntity.ok(ApiResponse.success(inventory));
     }
 
     /**
      * 전체 재고 목록 조회 (페이징)
      * GET /api/inventories
+     * GET /api/inventories?status=LOW&warehouseId={encryptedWarehouseId}
      *
+     * @param status 재고 상태 (SUFFICIENT, LOW, OUT_OF_STOCK, 선택사항)
+     * @param warehouseId 창고 ID (암호화된 ID를 복호화, 선택사항)
      * @param pageable 페이지 정보 (page, size, sort)
-     * @return 200 OK + 재고 목록
+     * @return 200 OK + 재고 목록 (상태 조건이 있으면 상태 인덱스로 조회)
      */
     @GetMapping
     public ResponseEntity<ApiResponse<Page<InventoryListDTO>>> getAllInventories(
+            @RequestParam(required = false) StockStatus status,
+            @DecryptedId(value = "warehouseId", required = false, kind = IdKind.WAREHOUSE) Long warehouseId,
             @PageableDefault(size = 10, sort = "quantity") Pageable pageable) {
-        Page<InventoryListDTO> inventories = inventoryService.getAllInventories(pageable);
+        if (status == null && warehouseId == null) {
+            Page<InventoryListDTO> inventories = inventoryService.getAllInventories(pageable);
+            return ResponseEntity.ok(ApiResponse.success(inventories));
+        }
+        Page<InventoryListDTO> inventories = status == null
+                ? inventoryService.getInventoriesByWarehouse(warehouseId, pageable)
+                : inventoryService.getInventoriesByStatus(status, warehouseId, pageable);
         return ResponseEntity.ok(ApiResponse.success(inventories));
     }
 
@@ -81,20 +164,15 @@ public class InventoryController {
      * 상품별 재고 조회
      * GET /api/inventories/by-product/{encryptedProductId}
      *
-     * @param encryptedProductId 암호화된 상품 ID
+     * @param productId 상품 ID (경로의 암호화된 ID를 복호화)
      * @param pageable 페이지 정보
      * @return 200 OK + 해당 상품의 재고 목록 (여러 창고에 분산된 재고)
      */
     @GetMapping("/by-product/{encryptedProductId}")
     public ResponseEntity<ApiResponse<Page<InventoryListDTO>>> getInventoriesByProduct(
-            @PathVariable String encryptedProductId,
+            @DecryptedId(value = "encryptedProductId", kind = IdKind.PRODUCT) Long productId,
             @PageableDefault(size = 10, sort = "quantity") Pageable pageable) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedProductId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        Page<InventoryListDTO> inventories = inventoryService.getInventoriesByProduct(encryptedProductId, pageable);
+        Page<InventoryListDTO> inventories = inventoryService.getInventoriesByProduct(productId, pageable);
         return ResponseEntity.ok(ApiResponse.success(inventories));
     }
 
@@ -102,66 +180,324 @@ public class InventoryController {
      * 창고별 재고 조회
      * GET /api/inventories/by-warehouse/{encryptedWarehouseId}
      *
-     * @param encryptedWarehouseId 암호화된 창고 ID
+     * @param warehouseId 창고 ID (경로의 암호화된 ID를 복호화)
      * @param pageable 페이지 정보
      * @return 200 OK + 해당 창고의 재고 목록 (여러 상품들)
      */
     @GetMapping("/by-warehouse/{encryptedWarehouseId}")
     public ResponseEntity<ApiResponse<Page<InventoryListDTO>>> getInventoriesByWarehouse(
-            @PathVariable String encryptedWarehouseId,
+            @DecryptedId(value = "encryptedWarehouseId", kind = IdKind.WAREHOUSE) Long warehouseId,
             @PageableDefault(size = 10, sort = "quantity") Pageable pageable) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedWarehouseId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        Page<InventoryListDTO> inventories = inventoryService.getInventoriesByWarehouse(encryptedWarehouseId, pageable);
+        Page<InventoryListDTO> inventories = inventoryService.getInventoriesByWarehouse(warehouseId, pageable);
         return ResponseEntity.ok(ApiResponse.success(inventories));
     }
 
+    /**
+     * 창고 재고 실사 반영 (현재 수량과 비교하여 차이만 반영)
+     * POST /api/inventories/by-warehouse/{encryptedWarehouseId}/stocktake
+     *
+     * @param warehouseId 창고 ID (경로의 암호화된 ID를 복호화)
+     * @param request 실사 목록 (lines: [{encryptedProductId, countedQuantity}, ...], zeroUncounted, reason)
+     * @return 200 OK + 차이 보고서 (상태별 집계, 반영 전후 총 수량, 차이가 큰 순 차이 내역, 거절된 라인)
+     */
+    @PostMapping("/by-warehouse/{encryptedWarehouseId}/stocktake")
+    public ResponseEntity<ApiResponse<StocktakeResultDTO>> reconcileStocktake(
+            @DecryptedId(value = "encryptedWarehouseId", kind = IdKind.WAREHOUSE) Long warehouseId,
+            @Valid @RequestBody StocktakeRequest request) {
+        StocktakeResultDTO result = stocktakeService.reconcile(warehouseId, request);
+        return ResponseEntity.ok(ApiResponse.success(result, "재고 실사가 반영되었습니다."));
+    }
+
     /**
      * 재고 입고
      * POST /api/inventories/stock-in
      *
+     * 같은 Idempotency-Key로 다시 요청하면 재고를 변경하지 않고 최초 응답을 반환
+     * 같은 키를 다른 요청 본문으로 사용하면 422 Unprocessable Entity
+     *
+     * @param idempotencyKey 멱등성 키 (선택사항)
      * @param request 입고 요청 (encryptedInventoryId, quantity)
      * @return 200 OK + 입고 완료 메시지
      */
     @PostMapping("/stock-in")
     public ResponseEntity<ApiResponse<Void>> stockIn(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody StockInRequest request) {
-        inventoryService.stockIn(request);
-        return ResponseEntity.ok(ApiResponse.success(null, "재고가 입고되었습니다."));
+        return idempotencyService.execute(idempotencyKey, "inventory.stock-in", request,
+                ApiResponse.success(null, "재고가 입고되었습니다."),
+                claim -> retryExecutor.run("inventory.stock-in", () -> stockMovementCoalescer.stockIn(request, claim)));
     }
 
     /**
      * 재고 출고
      * POST /api/inventories/stock-out
      *
+     * 같은 Idempotency-Key로 다시 요청하면 재고를 변경하지 않고 최초 응답을 반환
+     * 같은 키를 다른 요청 본문으로 사용하면 422 Unprocessable Entity
+     *
+     * @param idempotencyKey 멱등성 키 (선택사항)
      * @param request 출고 요청 (encryptedInventoryId, quantity)
      * @return 200 OK + 출고 완료 메시지
      */
     @PostMapping("/stock-out")
     public ResponseEntity<ApiResponse<Void>> stockOut(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody StockOutRequest request) {
-        inventoryService.stockOut(request);
-        return ResponseEntity.ok(ApiResponse.success(null, "재고가 출고되었습니다."));
+        return idempotencyService.execute(idempotencyKey, "inventory.stock-out", request,
+                ApiResponse.success(null, "재고가 출고되었습니다."),
+                claim -> retryExecutor.run("inventory.stock-out", () -> stockMovementCoalescer.stockOut(request, claim)));
+    }
+
+    /**
+     * 주문 출고 (모든 라인을 출고하거나 아무것도 출고하지 않음)
+     * POST /api/inventories/orders/stock-out
+     *
+     * 출고할 수 없는 라인이 있으면 400 Bad Request와 함께 부족 재고 목록 전체를 data로 반환
+     *
+     * @param request 주문 출고 요청 (lines: [{encryptedInventoryId, quantity}, ...], reason)
+     * @return 200 OK + 라인별 출고 후 수량
+     */
+    @PostMapping("/orders/stock-out")
+    public ResponseEntity<ApiResponse<OrderStockOutResultDTO>> stockOutOrder(
+            @Valid @RequestBody OrderStockOutRequest request) {
+        OrderStockOutResultDTO result = retryExecutor.execute("inventory.order-stock-out",
+                () -> orderStockOutService.stockOut(request));
+        return ResponseEntity.ok(ApiResponse.success(result, "주문 출고가 완료되었습니다."));
+    }
+
+    /**
+     * 입출고 일괄 처리
+     * POST /api/inventories/movements/batch
+     *
+     * 요청 본문은 [{encryptedInventoryId, type(IN/OUT), quantity, reason}, ...] 형식의 JSON 배열이며
+     * 크기에 관계없이 스트리밍으로 처리됨
+     *
+     * @param request HTTP 요청 (본문을 직접 스트리밍으로 읽음)
+     * @return 200 OK + 상태별 건수와 실패 라인 목록 (INSUFFICIENT / UNKNOWN_ID / INVALID, 최대 max-failures개)
+     */
+    @PostMapping(value = "/movements/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<StockMovementBatchResultDTO>> applyMovementBatch(
+            HttpServletRequest request) throws IOException {
+        StockMovementBatchResultDTO result = inventoryMovementService.applyBatch(request.getInputStream());
+        return ResponseEntity.ok(ApiResponse.success(result, "입출고 일괄 처리가 완료되었습니다."));
+    }
+
+    /**
+     * 재고별 이동 내역 조회 (최신순)
+     * GET /api/inventories/{encryptedId}/movements
+     *
+     * @param inventoryId 재고 ID (경로의 암호화된 ID를 복호화)
+     * @param pageable 페이지 정보
+     * @return 200 OK + 이동 내역 목록
+     */
+    @GetMapping("/{encryptedId}/movements")
+    public ResponseEntity<ApiResponse<Page<InventoryMovementListDTO>>> getMovementsByInventory(
+            @DecryptedId(value = "encryptedId", kind = IdKind.INVENTORY) Long inventoryId,
+            @PageableDefault(size = 20, sort = "movementId", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<InventoryMovementListDTO> movements = inventoryMovementService.getMovementsByInventory(inventoryId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(movements));
+    }
+
+    /**
+     * 창고별 이동 내역 조회 (최신순)
+     * GET /api/inventories/movements/by-warehouse/{encryptedWarehouseId}
+     *
+     * @param warehouseId 창고 ID (경로의 암호화된 ID를 복호화)
+     * @param pageable 페이지 정보
+     * @return 200 OK + 이동 내역 목록
+     */
+    @GetMapping("/movements/by-warehouse/{encryptedWarehouseId}")
+    public ResponseEntity<ApiResponse<Page<InventoryMovementListDTO>>> getMovementsByWarehouse(
+            @DecryptedId(value = "encryptedWarehouseId", kind = IdKind.WAREHOUSE) Long warehouseId,
+            @PageableDefault(size = 20, sort = "movementId", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<InventoryMovementListDTO> movements = inventoryMovementService.getMovementsByWarehouse(warehouseId, pageable);
+        return ResponseEntity.ok(ApiResponse.success(movements));
+    }
+
+    /**
+     * 재고 예약 (가용 재고에서 일정 시간 동안 차감)
+     * POST /api/inventories/{encryptedId}/reservations
+     *
+     * @param inventoryId 재고 ID (경로의 암호화된 ID를 복호화)
+     * @param request 예약 요청 (quantity, ttlSeconds)
+     * @return 201 Created + 예약 정보
+     */
+    @PostMapping("/{encryptedId}/reservations")
+    public ResponseEntity<ApiResponse<ReservationInfoDTO>> reserve(
+            @DecryptedId(value = "encryptedId", kind = IdKind.INVENTORY) Long inventoryId,
+            @Valid @RequestBody ReservationCreateRequest request) {
+        ReservationInfoDTO reservation = reservationService.reserve(inventoryId, request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success(reservation, "재고가 예약되었습니다."));
+    }
+
+    /**
+     * 재고 예약 확정 (예약 수량 출고)
+     * POST /api/inventories/reservations/{encryptedReservationId}/confirm
+     *
+     * @param reservationId 예약 ID (경로의 암호화된 ID를 복호화)
+     * @return 200 OK + 확정 완료 메시지
+     */
+    @PostMapping("/reservations/{encryptedReservationId}/confirm")
+    public ResponseEntity<ApiResponse<Void>> confirmReservation(
+            @DecryptedId(value = "encryptedReservationId", kind = IdKind.RESERVATION) Long reservationId) {
+        retryExecutor.run("inventory.reservation.confirm", () -> reservationService.confirm(reservationId));
+        return ResponseEntity.ok(ApiResponse.success(null, "예약이 확정되었습니다."));
+    }
+
+    /**
+     * 재고 예약 해제
+     * POST /api/inventories/reservations/{encryptedReservationId}/release
+     *
+     * @param reservationId 예약 ID (경로의 암호화된 ID를 복호화)
+     * @return 200 OK + 해제 완료 메시지
+     */
+    @PostMapping("/reservations/{encryptedReservationId}/release")
+    public ResponseEntity<ApiResponse<Void>> releaseReservation(
+            @DecryptedId(value = "encryptedReservationId", kind = IdKind.RESERVATION) Long reservationId) {
+        reservationService.release(reservationId);
+        return ResponseEntity.ok(ApiResponse.success(null, "예약이 해제되었습니다."));
+    }
+
+    /**
+     * 주문 창고 할당 (출고 창고 제안, 재고는 변경하지 않음)
+     * POST /api/inventories/allocations
+     *
+     * @param request 주문 할당 요청 (lines: [{encryptedProductId, quantity}, ...])
+     * @return 200 OK + 창고별 할당 내역 및 부족 수량
+     */
+    @PostMapping("/allocations")
+    public ResponseEntity<ApiResponse<OrderAllocationResultDTO>> allocateOrder(
+            @Valid @RequestBody OrderAllocationRequest request) {
+        OrderAllocationResultDTO result = orderAllocationService.allocate(request);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    /**
+     * 창고 간 재고 이동
+     * POST /api/inventories/transfers
+     *
+     * @param request 이동 요청 (encryptedProductId, encryptedFromWarehouseId, encryptedToWarehouseId, quantity)
+     * @return 200 OK + 양쪽 재고의 이동 후 수량
+     */
+    @PostMapping("/transfers")
+    public ResponseEntity<ApiResponse<TransferResultDTO>> transfer(
+            @Valid @RequestBody TransferRequest request) {
+        // 요청 본문의 ID를 한 번만 변환 (유효하지 않으면 400)
+        Long productId = publicIdService.resolveIfValid(request.getEncryptedProductId(), IdKind.PRODUCT);
+        Long fromWarehouseId = publicIdService.resolveIfValid(request.getEncryptedFromWarehouseId(), IdKind.WAREHOUSE);
+        Long toWarehouseId = publicIdService.resolveIfValid(request.getEncryptedToWarehouseId(), IdKind.WAREHOUSE);
+        if (productId == null || fromWarehouseId == null || toWarehouseId == null) {
+            throw new InvalidIdException();
+        }
+
+        TransferResultDTO result = retryExecutor.execute("inventory.transfer", () -> transferService.transfer(
+                productId, fromWarehouseId, toWarehouseId, request.getQuantity(), request.getReason()));
+        return ResponseEntity.ok(ApiResponse.success(result, "재고가 이동되었습니다."));
+    }
+
+    /**
+     * 창고 간 재고 일괄 이동
+     * POST /api/inventories/transfers/batch
+     *
+     * @param request 일괄 이동 요청 (transfers: [{encryptedProductId, encryptedFromWarehouseId, ...}, ...])
+     * @return 200 OK + 상태별 건수와 실패 라인 목록 (INSUFFICIENT / UNKNOWN_ID / INVALID, 최대 max-failures개)
+     */
+    @PostMapping("/transfers/batch")
+    public ResponseEntity<ApiResponse<TransferBatchResultDTO>> transferBatch(
+            @Valid @RequestBody TransferBatchRequest request) {
+        TransferBatchResultDTO result = retryExecutor.execute("inventory.transfer.batch",
+                () -> transferService.transferAll(request));
+        return ResponseEntity.ok(ApiResponse.success(result, "재고 일괄 이동이 완료되었습니다."));
+    }
+
+    /**
+     * 재고 부족 알림 스트림 (Server-Sent Events)
+     * GET /api/inventories/alerts/stream
+     *
+     * 입출고로 재고 상태가 바뀔 때마다(충분/부족/없음) stock-alert 이벤트를 전송
+     *
+     * @return SSE 스트림 (이벤트 데이터: inventoryId, productId, warehouseId, previousStatus, status, quantity, occurredAt)
+     */
+    @GetMapping(value = "/alerts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAlerts() {
+        return stockAlertService.openStream();
+    }
+
+    /**
+     * 재고 변경 실시간 스트림 (Server-Sent Events, 대시보드용)
+     * GET /api/inventories/changes/stream?warehouseId={encryptedWarehouseId}&productId={encryptedProductId}
+     *
+     * 조건에 맞는 재고의 수량이 바뀔 때마다 inventory-change 이벤트를 전송
+     * 수신이 느리면 재고별로 최신 수량만 전송됨 (중간 변경은 생략)
+     *
+     * @param warehouseId 창고 ID (암호화된 ID를 복호화, 선택사항)
+     * @param productId 상품 ID (암호화된 ID를 복호화, 선택사항)
+     * @return SSE 스트림 (이벤트 데이터: inventoryId, productId, warehouseId, quantity, status, occurredAt)
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @DecryptedId(value = "warehouseId", required = false, kind = IdKind.WAREHOUSE) Long warehouseId,
+            @DecryptedId(value = "productId", required = false, kind = IdKind.PRODUCT) Long productId) {
+        return inventoryChangeStreamService.openStream(warehouseId, productId);
+    }
+
+    /**
+     * 재고 내보내기 (NDJSON / CSV 스트리밍)
+     * GET /api/inventories/export?format=ndjson|csv&warehouseId={encryptedWarehouseId}&productId={encryptedProductId}&gzip=true
+     *
+     * DB 커서에서 읽는 대로 전송하므로 재고 행 수와 관계없이 서버 메모리 사용량이 일정함 (재고 ID 오름차순)
+     * 전송 중 오류가 나면 응답이 중간에 끊김 (상태 코드는 이미 200으로 전송됨)
+     * 동시 내보내기 수가 최대치이면 429 (Retry-After)
+     *
+     * @param format 형식 (ndjson 기본, csv / 대소문자 구분 없음)
+     * @param warehouseId 창고 ID (암호화된 ID를 복호화, 선택사항)
+     * @param productId 상품 ID (암호화된 ID를 복호화, 선택사항)
+     * @param gzip gzip 압축 여부 (true이면 application/gzip, 파일명 .gz)
+     * @return 200 OK + 첨부 파일 (행 필드: inventoryId, productId, productName, warehouseId, warehouseName,
+     *         quantity, lowThreshold, stockStatus, updatedAt)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportInventories(
+            @RequestParam(defaultValue = "ndjson") InventoryExportService.Format format,
+            @DecryptedId(value = "warehouseId", required = false, kind = IdKind.WAREHOUSE) Long warehouseId,
+            @DecryptedId(value = "productId", required = false, kind = IdKind.PRODUCT) Long productId,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            NativeWebRequest webRequest) {
+        InventoryExportService.Export body = inventoryExportService.export(warehouseId, productId, format, gzip);
+        try {
+            // 본문이 실행되지 않고 비동기 요청이 끝나도(타임아웃, 오류, 연결 종료) 동시 내보내기 허가를 반환
+            WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(EXPORT_PERMIT_INTERCEPTOR,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            body.release();
+                        }
+                    });
+            String filename = "inventories." + format.getExtension() + (gzip ? ".gz" : "");
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(filename).build().toString())
+                    .body(body);
+        } catch (RuntimeException e) {
+            body.release();
+            throw e;
+        }
     }
 
     /**
      * 재고 삭제
      * DELETE /api/inventories/{encryptedId}
      *
-     * @param encryptedId 암호화된 재고 ID
+     * @param inventoryId 재고 ID (경로의 암호화된 ID를 복호화)
      * @return 204 No Content
      */
     @DeleteMapping("/{encryptedId}")
-    public ResponseEntity<Void> deleteInventory(@PathVariable String encryptedId) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        inventoryService.deleteInventory(encryptedId);
+    public ResponseEntity<Void> deleteInventory(
+            @DecryptedId(value = "encryptedId", kind = IdKind.INVENTORY) Long inventoryId) {
+        inventoryService.deleteInventory(inventoryId);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -2,13 +2,14 @@ package org.example.wms.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.wms.config.DecryptedId;
 import org.example.wms.dto.ApiResponse;
 import org.example.wms.dto.crud.ManufacturerCreateRequest;
 import org.example.wms.dto.crud.ManufacturerUpdateRequest;
 import org.example.wms.dto.info.ManufacturerInfoDTO;
 import org.example.wms.dto.list.ManufacturerListDTO;
 import org.example.wms.service.ManufacturerService;
-import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -25,7 +26,6 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/manufacturers")
 public class ManufactureController {
     private final ManufacturerService manufacturerService;
-    private final IdEncryptionUtil idEncryptionUtil;
 
     /**
      * 제조사 생성
@@ -47,17 +47,13 @@ public class ManufactureController {
      * 제조사 상세 조회
      * GET /api/manufacturers/{encryptedId}
      *
-     * @param encryptedId 암호화된 제조사 ID
+     * @param manufacturerId 제조사 ID (경로의 암호화된 ID를 복호화)
      * @return 200 OK + 제조사 상세 정보
      */
     @GetMapping("/{encryptedId}")
     public ResponseEntity<ApiResponse<ManufacturerInfoDTO>> getManufacturer(
-            @PathVariable String encryptedId) {
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        ManufacturerInfoDTO manufacturer = manufacturerService.getManufacturer(encryptedId);
+            @DecryptedId(value = "encryptedId", kind = IdKind.MANUFACTURER) Long manufacturerId) {
+        ManufacturerInfoDTO manufacturer = manufacturerService.getManufacturer(manufacturerId);
         return ResponseEntity.ok(ApiResponse.success(manufacturer));
     }
 
@@ -95,20 +91,15 @@ public class ManufactureController {
      * 제조사 정보 수정
      * PUT /api/manufacturers/{encryptedId}
      *
-     * @param encryptedId 암호화된 제조사 ID
+     * @param manufacturerId 제조사 ID (경로의 암호화된 ID를 복호화)
      * @param request 수정할 정보 (모든 필드 선택적)
      * @return 200 OK + 수정 완료 메시지
      */
     @PutMapping("/{encryptedId}")
     public ResponseEntity<ApiResponse<Void>> updateManufacturer(
-            @PathVariable String encryptedId,
+            @DecryptedId(value = "encryptedId", kind = IdKind.MANUFACTURER) Long manufacturerId,
             @Valid @RequestBody ManufacturerUpdateRequest request) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        manufacturerService.updateManufacturer(encryptedId, request);
+        manufacturerService.updateManufacturer(manufacturerId, request);
         return ResponseEntity.ok(ApiResponse.success(null, "제조사 정보가 수정되었습니다."));
     }
 
@@ -116,17 +107,13 @@ public class ManufactureController {
      * 제조사 삭제
      * DELETE /api/manufacturers/{encryptedId}
      *
-     * @param encryptedId 암호화된 제조사 ID
+     * @param manufacturerId 제조사 ID (경로의 암호화된 ID를 복호화)
      * @return 204 No Content
      */
     @DeleteMapping("/{encryptedId}")
-    public ResponseEntity<Void> deleteManufacturer(@PathVariable String encryptedId) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        manufacturerService.deleteManufacturer(encryptedId);
+    public ResponseEntity<Void> deleteManufacturer(
+            @DecryptedId(value = "encryptedId", kind = IdKind.MANUFACTURER) Long manufacturerId) {
+        manufacturerService.deleteManufacturer(manufacturerId);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -2,13 +2,19 @@ package org.example.wms.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.wms.config.DecryptedId;
 import org.example.wms.dto.ApiResponse;
 import org.example.wms.dto.crud.ProductCreateRequest;
 import org.example.wms.dto.crud.ProductUpdateRequest;
+import org.example.wms.dto.crud.StockThresholdRequest;
 import org.example.wms.dto.info.ProductInfoDTO;
+import org.example.wms.dto.info.StockSummaryReconcileResultDTO;
 import org.example.wms.dto.list.ProductListDTO;
 import org.example.wms.service.ProductService;
-import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.service.ProductStockSummaryService;
+import org.example.wms.service.PublicIdService;
+import org.example.wms.service.StockThresholdService;
+import org.example.wms.util.IdKind;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -25,7 +31,9 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/products")
 public class ProductController {
     private final ProductService productService;
-    private final IdEncryptionUtil idEncryptionUtil;
+    private final ProductStockSummaryService productStockSummaryService;
+    private final StockThresholdService stockThresholdService;
+    private final PublicIdService publicIdService;
 
     /**
      * 상품 생성
@@ -47,18 +55,13 @@ public class ProductController {
      * 상품 상세 조회
      * GET /api/products/{encryptedId}
      *
-     * @param encryptedId 암호화된 상품 ID
+     * @param productId 상품 ID (경로의 암호화된 ID를 복호화)
      * @return 200 OK + 상품 상세 정보
      */
     @GetMapping("/{encryptedId}")
     public ResponseEntity<ApiResponse<ProductInfoDTO>> getProduct(
-            @PathVariable String encryptedId) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        ProductInfoDTO product = productService.getProduct(encryptedId);
+            @DecryptedId(value = "encryptedId", kind = IdKind.PRODUCT) Long productId) {
+        ProductInfoDTO product = productService.getProduct(productId);
         return ResponseEntity.ok(ApiResponse.success(product));
     }
 
@@ -130,20 +133,15 @@ public class ProductController {
      * 상품 정보 수정
      * PUT /api/products/{encryptedId}
      *
-     * @param encryptedId 암호화된 상품 ID
+     * @param productId 상품 ID (경로의 암호화된 ID를 복호화)
      * @param request 수정할 정보 (모든 필드 선택적)
      * @return 200 OK + 수정 완료 메시지
      */
     @PutMapping("/{encryptedId}")
     public ResponseEntity<ApiResponse<Void>> updateProduct(
-            @PathVariable String encryptedId,
+            @DecryptedId(value = "encryptedId", kind = IdKind.PRODUCT) Long productId,
             @Valid @RequestBody ProductUpdateRequest request) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        productService.updateProduct(encryptedId, request);
+        productService.updateProduct(productId, request);
         return ResponseEntity.ok(ApiResponse.success(null, "상품 정보가 수정되었습니다."));
     }
 
@@ -151,17 +149,60 @@ public class ProductController {
      * 상품 삭제
      * DELETE /api/products/{encryptedId}
      *
-     * @param encryptedId 암호화된 상품 ID
+     * @param productId 상품 ID (경로의 암호화된 ID를 복호화)
      * @return 204 No Content
      */
     @DeleteMapping("/{encryptedId}")
-    public ResponseEntity<Void> deleteProduct(@PathVariable String encryptedId) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
+    public ResponseEntity<Void> deleteProduct(
+            @DecryptedId(value = "encryptedId", kind = IdKind.PRODUCT) Long productId) {
+        productService.deleteProduct(productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 부족 기준 수량 설정 (상품 기본값 또는 창고별 재정의)
+     * PUT /api/products/{encryptedId}/stock-threshold
+     *
+     * @param productId 상품 ID (경로의 암호화된 ID를 복호화)
+     * @param request 부족 기준 수량, 암호화된 창고 ID (선택사항)
+     * @return 200 OK + 설정 완료 메시지
+     */
+    @PutMapping("/{encryptedId}/stock-threshold")
+    public ResponseEntity<ApiResponse<Void>> setStockThreshold(
+            @DecryptedId(value = "encryptedId", kind = IdKind.PRODUCT) Long productId,
+            @Valid @RequestBody StockThresholdRequest request) {
+        // 요청 본문의 창고 ID 변환 (없으면 null, 유효하지 않으면 400)
+        Long warehouseId = publicIdService.resolve(request.getEncryptedWarehouseId(), IdKind.WAREHOUSE);
+
+        stockThresholdService.setThreshold(productId, warehouseId, request.getLowThreshold());
+        return ResponseEntity.ok(ApiResponse.success(null, "부족 기준 수량이 설정되었습니다."));
+    }
 
-        productService.deleteProduct(encryptedId);
+    /**
+     * 부족 기준 수량 설정 삭제 (창고별 재정의는 상품 기본값으로, 상품 기본값은 전체 기본값으로 되돌림)
+     * DELETE /api/products/{encryptedId}/stock-threshold?warehouseId=암호화된창고ID
+     *
+     * @param productId 상품 ID (경로의 암호화된 ID를 복호화)
+     * @param warehouseId 창고 ID (암호화된 ID를 복호화, 선택사항, 미지정 시 상품 기본값 삭제)
+     * @return 204 No Content
+     */
+    @DeleteMapping("/{encryptedId}/stock-threshold")
+    public ResponseEntity<Void> deleteStockThreshold(
+            @DecryptedId(value = "encryptedId", kind = IdKind.PRODUCT) Long productId,
+            @DecryptedId(value = "warehouseId", required = false, kind = IdKind.WAREHOUSE) Long warehouseId) {
+        stockThresholdService.deleteThreshold(productId, warehouseId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 상품별 재고 요약 재계산
+     * POST /api/products/stock-summary/reconcile
+     *
+     * @return 200 OK + 확인한 상품 수와 보정 내역
+     */
+    @PostMapping("/stock-summary/reconcile")
+    public ResponseEntity<ApiResponse<StockSummaryReconcileResultDTO>> reconcileStockSummary() {
+        StockSummaryReconcileResultDTO result = productStockSummaryService.reconcile();
+        return ResponseEntity.ok(ApiResponse.success(result, "재고 요약 재계산이 완료되었습니다."));
+    }
+}
@@ -2,20 +2,28 @@ package org.example.wms.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.wms.config.DecryptedId;
 import org.example.wms.dto.ApiResponse;
 import org.example.wms.dto.crud.WarehouseCreateRequest;
 import org.example.wms.dto.crud.WarehouseUpdateRequest;
+import org.example.wms.dto.info.InventoryAsOfDTO;
+import org.example.wms.dto.info.InventorySnapshotResultDTO;
 import org.example.wms.dto.info.WarehouseInfoDTO;
 import org.example.wms.dto.list.WarehouseListDTO;
+import org.example.wms.service.InventoryHistoryService;
 import org.example.wms.service.WarehouseService;
-import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 창고 관리 REST API Controller
  * Base URL: /api/warehouses
@@ -25,7 +33,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/warehouses")
 public class WarehouseController {
     private final WarehouseService warehouseService;
-    private final IdEncryptionUtil idEncryptionUtil;
+    private final InventoryHistoryService inventoryHistoryService;
 
     /**
      * 창고 생성
@@ -47,18 +55,13 @@ public class WarehouseController {
      * 창고 상세 조회
      * GET /api/warehouses/{encryptedId}
      *
-     * @param encryptedId 암호화된 창고 ID
+     * @param warehouseId 창고 ID (경로의 암호화된 ID를 복호화)
      * @return 200 OK + 창고 상세 정보
      */
     @GetMapping("/{encryptedId}")
     public ResponseEntity<ApiResponse<WarehouseInfoDTO>> getWarehouse(
-            @PathVariable String encryptedId) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        WarehouseInfoDTO warehouse = warehouseService.getWarehouse(encryptedId);
+            @DecryptedId(value = "encryptedId", kind = IdKind.WAREHOUSE) Long warehouseId) {
+        WarehouseInfoDTO warehouse = warehouseService.getWarehouse(warehouseId);
         return ResponseEntity.ok(ApiResponse.success(warehouse));
     }
 
@@ -108,24 +111,63 @@ public class WarehouseController {
         return ResponseEntity.ok(ApiResponse.success(warehouses));
     }
 
+    /**
+     * 총 재고량으로 검색
+     * GET /api/warehouses/search/by-total-quantity?minQuantity=100
+     *
+     * @param minQuantity 최소 재고량
+     * @param pageable 페이지 정보 (기본 정렬: 총 재고량 내림차순)
+     * @return 200 OK + 검색된 창고 목록
+     */
+    @GetMapping("/search/by-total-quantity")
+    public ResponseEntity<ApiResponse<Page<WarehouseListDTO>>> searchByTotalQuantity(
+            @RequestParam Long minQuantity,
+            @PageableDefault(size = 10, sort = "totalQuantity", direction = Sort.Direction.DESC) Pageable pageable) {
+        Page<WarehouseListDTO> warehouses = warehouseService.searchByTotalQuantity(minQuantity, pageable);
+        return ResponseEntity.ok(ApiResponse.success(warehouses));
+    }
+
+    /**
+     * 창고 재고 시점 조회 (가장 최근 스냅샷 + 이후 이력 재생)
+     * GET /api/warehouses/{encryptedId}/stock/as-of?at=2025-01-31T23:59:59
+     *
+     * @param warehouseId 창고 ID (경로의 암호화된 ID를 복호화)
+     * @param at 조회 시점 (ISO 날짜-시간)
+     * @return 200 OK + 시점 기준 재고별 수량과 총 수량
+     */
+    @GetMapping("/{encryptedId}/stock/as-of")
+    public ResponseEntity<ApiResponse<InventoryAsOfDTO>> getStockAsOf(
+            @DecryptedId(value = "encryptedId", kind = IdKind.WAREHOUSE) Long warehouseId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        InventoryAsOfDTO stock = inventoryHistoryService.getStockAsOf(warehouseId, at);
+        return ResponseEntity.ok(ApiResponse.success(stock));
+    }
+
+    /**
+     * 전체 창고 재고 스냅샷 생성 (평소에는 주기적으로 생성)
+     * POST /api/warehouses/stock-snapshots
+     *
+     * @return 200 OK + 스냅샷을 만든 창고 수
+     */
+    @PostMapping("/stock-snapshots")
+    public ResponseEntity<ApiResponse<InventorySnapshotResultDTO>> createStockSnapshots() {
+        InventorySnapshotResultDTO result = inventoryHistoryService.snapshotAll();
+        return ResponseEntity.ok(ApiResponse.success(result, "재고 스냅샷이 생성되었습니다."));
+    }
+
     /**
      * 창고 정보 수정
      * PUT /api/warehouses/{encryptedId}
      *
-     * @param encryptedId 암호화된 창고 ID
+     * @param warehouseId 창고 ID (경로의 암호화된 ID를 복호화)
      * @param request 수정할 정보 (모든 필드 선택적)
      * @return 200 OK + 수정 완료 메시지
      */
     @PutMapping("/{encryptedId}")
     public ResponseEntity<ApiResponse<Void>> updateWarehouse(
-            @PathVariable String encryptedId,
+            @DecryptedId(value = "encryptedId", kind = IdKind.WAREHOUSE) Long warehouseId,
             @Valid @RequestBody WarehouseUpdateRequest request) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        warehouseService.updateWarehouse(encryptedId, request);
+        warehouseService.updateWarehouse(warehouseId, request);
         return ResponseEntity.ok(ApiResponse.success(null, "창고 정보가 수정되었습니다."));
     }
 
@@ -133,17 +175,13 @@ public class WarehouseController {
      * 창고 삭제
      * DELETE /api/warehouses/{encryptedId}
      *
-     * @param encryptedId 암호화된 창고 ID
+     * @param warehouseId 창고 ID (경로의 암호화된 ID를 복호화)
      * @return 204 No Content
      */
     @DeleteMapping("/{encryptedId}")
-    public ResponseEntity<Void> deleteWarehouse(@PathVariable String encryptedId) {
-        // ID 유효성 검증
-        if (!idEncryptionUtil.isValid(encryptedId)) {
-            throw new IllegalArgumentException("유효하지 않은 ID입니다.");
-        }
-
-        warehouseService.deleteWarehouse(encryptedId);
+    public ResponseEntity<Void> deleteWarehouse(
+            @DecryptedId(value = "encryptedId", kind = IdKind.WAREHOUSE) Long warehouseId) {
+        warehouseService.deleteWarehouse(warehouseId);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package org.example.wms.dto.crud;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 등록 요청 DTO
+ * 없는 재고는 생성하고, 이미 있는 재고는 병합 정책에 따라 수량을 변경
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class InventoryBulkUpsertRequest {
+
+    @NotNull(message = "병합 정책은 필수입니다")
+    private MergePolicy mergePolicy;
+
+    @NotEmpty(message = "재고 목록은 필수입니다")
+    @Size(max = 10000, message = "재고 목록은 10000개 이하여야 합니다")
+    @Valid
+    private List<InventoryCreateRequest> rows;
+
+    public enum MergePolicy {
+        REPLACE,  // 기존 수량을 요청 수량으로 교체
+        ADD       // 기존 수량에 요청 수량을 더함
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.wms.dto.crud;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 주문 창고 할당 요청 DTO
+ * 주문 라인(상품, 수량) 목록을 받아 창고별로 나눔
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class OrderAllocationRequest {
+
+    @NotEmpty(message = "주문 라인은 필수입니다")
+    @Size(max = 1000, message = "주문 라인은 1000개 이하여야 합니다")
+    @Valid
+    private List<OrderLine> lines;
+
+    /**
+     * 주문 라인 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class OrderLine {
+
+        @NotNull(message = "상품 ID는 필수입니다")
+        private String encryptedProductId;  // 암호화된 상품 ID
+
+        @NotNull(message = "주문 수량은 필수입니다")
+        @Positive(message = "주문 수량은 0보다 커야 합니다")
+        private Integer quantity;
+    }
+}
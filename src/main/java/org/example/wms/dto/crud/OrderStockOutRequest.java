@@ -0,0 +1,47 @@
+package org.example.wms.dto.crud;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 주문 출고 요청 DTO
+ * 주문의 모든 라인을 한 번에 출고 (전부 출고되거나 전부 출고되지 않음)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class OrderStockOutRequest {
+
+    @NotEmpty(message = "출고 라인은 필수입니다")
+    @Size(max = 1000, message = "출고 라인은 1000개 이하여야 합니다")
+    @Valid
+    private List<OrderLine> lines;
+
+    private String reason;  // 출고 사유 (선택사항, 예: 주문 번호)
+
+    /**
+     * 출고 라인 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class OrderLine {
+
+        @NotNull(message = "재고 ID는 필수입니다")
+        private String encryptedInventoryId;  // 암호화된 재고 ID
+
+        @NotNull(message = "출고 수량은 필수입니다")
+        @Positive(message = "출고 수량은 0보다 커야 합니다")
+        private Integer quantity;
+    }
+}
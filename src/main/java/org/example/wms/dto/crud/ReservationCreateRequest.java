@@ -0,0 +1,24 @@
+package org.example.wms.dto.crud;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+/**
+ * 재고 예약 요청 DTO
+ * 실제 출고 전에 가용 재고를 일정 시간 동안 확보
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ReservationCreateRequest {
+
+    @NotNull(message = "예약 수량은 필수입니다")
+    @Positive(message = "예약 수량은 0보다 커야 합니다")
+    private Integer quantity;
+
+    @Positive(message = "예약 유지 시간은 0보다 커야 합니다")
+    private Integer ttlSeconds;  // 예약 유지 시간 (선택사항, 미지정 시 기본값)
+}
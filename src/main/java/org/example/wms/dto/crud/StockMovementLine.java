@@ -0,0 +1,34 @@
+package org.example.wms.dto.crud;
+
+import lombok.*;
+
+/**
+ * 입출고 일괄 처리의 단일 라인
+ * 스트리밍 파싱 중 라인별로 검증하므로 Bean Validation 대신 서비스에서 검증
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class StockMovementLine {
+
+    private String encryptedInventoryId;  // 암호화된 재고 ID
+
+    private Direction type;  // IN: 입고, OUT: 출고
+
+    private Integer quantity;
+
+    private String reason;  // 입출고 사유 (선택사항)
+
+    public enum Direction {
+        IN, OUT
+    }
+
+    /**
+     * 수량 변화량 (입고는 양수, 출고는 음수)
+     */
+    public int delta() {
+        return type == Direction.IN ? quantity : -quantity;
+    }
+}
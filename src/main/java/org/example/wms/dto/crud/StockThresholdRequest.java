@@ -0,0 +1,23 @@
+package org.example.wms.dto.crud;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * 부족 기준 수량 설정 요청 DTO
+ * 창고 ID가 없으면 상품 기본값, 있으면 해당 창고의 재정의로 설정
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class StockThresholdRequest {
+
+    @NotNull(message = "부족 기준 수량은 필수입니다")
+    @Min(value = 0, message = "부족 기준 수량은 0 이상이어야 합니다")
+    private Integer lowThreshold;
+
+    private String encryptedWarehouseId;  // 암호화된 창고 ID (선택사항, 미지정 시 상품 기본값)
+}
@@ -0,0 +1,50 @@
+package org.example.wms.dto.crud;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 재고 실사 반영 요청 DTO
+ * 창고 전체의 상품별 실사 수량 (현재 수량과의 차이만 반영)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString(exclude = "lines")
+public class StocktakeRequest {
+
+    @NotEmpty(message = "실사 목록은 필수입니다")
+    @Size(max = 200000, message = "실사 목록은 200000개 이하여야 합니다")
+    @Valid
+    private List<CountLine> lines;
+
+    private Boolean zeroUncounted;  // 실사 목록에 없는 재고를 0으로 맞출지 여부 (선택사항, 기본 false)
+
+    @Size(max = 200, message = "사유는 200자 이하여야 합니다")
+    private String reason;  // 실사 사유 (선택사항, 예: 실사 번호)
+
+    /**
+     * 상품별 실사 수량 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    @ToString
+    public static class CountLine {
+
+        @NotNull(message = "상품 ID는 필수입니다")
+        private String encryptedProductId;  // 암호화된 상품 ID
+
+        @NotNull(message = "실사 수량은 필수입니다")
+        @PositiveOrZero(message = "실사 수량은 0 이상이어야 합니다")
+        private Integer countedQuantity;
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.wms.dto.crud;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 창고 간 재고 일괄 이동 요청 DTO
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class TransferBatchRequest {
+
+    @NotEmpty(message = "이동 목록은 필수입니다")
+    @Size(max = 1000, message = "이동 목록은 1000개 이하여야 합니다")
+    @Valid
+    private List<TransferRequest> transfers;
+}
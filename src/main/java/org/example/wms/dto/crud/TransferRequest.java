@@ -0,0 +1,32 @@
+package org.example.wms.dto.crud;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+/**
+ * 창고 간 재고 이동 요청 DTO
+ * 한 상품을 보내는 창고에서 받는 창고로 이동 (받는 창고에 재고가 없으면 생성)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class TransferRequest {
+
+    @NotNull(message = "상품 ID는 필수입니다")
+    private String encryptedProductId;  // 암호화된 상품 ID
+
+    @NotNull(message = "보내는 창고 ID는 필수입니다")
+    private String encryptedFromWarehouseId;  // 암호화된 창고 ID
+
+    @NotNull(message = "받는 창고 ID는 필수입니다")
+    private String encryptedToWarehouseId;  // 암호화된 창고 ID
+
+    @NotNull(message = "이동 수량은 필수입니다")
+    @Positive(message = "이동 수량은 0보다 커야 합니다")
+    private Integer quantity;
+
+    private String reason;  // 이동 사유 (선택사항)
+}
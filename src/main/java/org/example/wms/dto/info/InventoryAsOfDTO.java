@@ -0,0 +1,37 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 창고 재고 시점 조회 결과 DTO
+ * 조회 시점 이전의 가장 최근 스냅샷에 이후 이력을 재생한 값 (수량이 0인 재고는 제외)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class InventoryAsOfDTO {
+    private String warehouseId;         // 암호화된 창고 ID (공개 ID 모드에서는 공개 ID)
+    private LocalDateTime asOf;         // 조회 시점
+    private LocalDateTime snapshotAt;   // 사용한 스냅샷 시각
+    private int replayedChanges;        // 스냅샷 이후 재생한 이력 수
+    private long totalQuantity;
+    private List<Item> items;
+
+    /**
+     * 재고별 수량 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class Item {
+        private String inventoryId;  // 암호화된 재고 ID (공개 ID 모드에서는 공개 ID)
+        private String productId;    // 암호화된 상품 ID
+        private int quantity;
+    }
+}
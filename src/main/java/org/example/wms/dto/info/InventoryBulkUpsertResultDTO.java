@@ -0,0 +1,68 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 재고 일괄 등록 결과 DTO
+ * 행별 처리 결과, 상태별 집계, 처리량(rows/s) 포함
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class InventoryBulkUpsertResultDTO {
+    private int totalRows;
+    private int createdCount;
+    private int updatedCount;
+    private int unknownIdCount;
+    private int duplicateCount;
+    private int invalidCount;
+    private long elapsedMs;
+    private double rowsPerSecond;
+    private List<RowResult> results;
+
+    /**
+     * 행별 처리 결과 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class RowResult {
+        private int row;             // 1부터 시작하는 행 번호
+        private RowStatus status;
+        private String inventoryId;  // 암호화된 재고 ID (공개 ID 모드에서는 공개 ID, 반영되지 않은 경우 null)
+        private Integer quantity;    // 반영 후 수량 (반영되지 않은 경우 null)
+        private String message;      // 반영되지 않은 사유 (반영된 경우 null)
+    }
+
+    public enum RowStatus {
+        CREATED,     // 새 재고 생성
+        UPDATED,     // 기존 재고 수량 변경
+        UNKNOWN_ID,  // 존재하지 않거나 복호화할 수 없는 상품/창고 ID
+        DUPLICATE,   // 같은 요청에서 앞서 나온 (상품, 창고) 조합
+        INVALID      // 예약 수량보다 적게 교체, 핫 재고 엔진이 관리하는 재고
+    }
+
+    public static InventoryBulkUpsertResultDTO of(List<RowResult> results, long elapsedNanos) {
+        int[] counts = new int[RowStatus.values().length];
+        for (RowResult result : results) {
+            counts[result.getStatus().ordinal()]++;
+        }
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        return InventoryBulkUpsertResultDTO.builder()
+                .totalRows(results.size())
+                .createdCount(counts[RowStatus.CREATED.ordinal()])
+                .updatedCount(counts[RowStatus.UPDATED.ordinal()])
+                .unknownIdCount(counts[RowStatus.UNKNOWN_ID.ordinal()])
+                .duplicateCount(counts[RowStatus.DUPLICATE.ordinal()])
+                .invalidCount(counts[RowStatus.INVALID.ordinal()])
+                .elapsedMs(elapsedNanos / 1_000_000)
+                .rowsPerSecond(results.size() / seconds)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+import org.example.wms.entity.StockStatus;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.service.PublicIdService;
+import org.example.wms.util.IdEncryptionUtil;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 변경 스트림 DTO (SSE 이벤트 데이터)
+ * 느린 구독자에게는 재고별 최신 값만 전달되므로 변화량 대신 변경 후 수량을 전달
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class InventoryChangeStreamDTO {
+    private String inventoryId;  // 암호화된 재고 ID (공개 ID 모드에서는 공개 ID)
+    private String productId;    // 암호화된 상품 ID
+    private String warehouseId;  // 암호화된 창고 ID (공개 ID 모드에서는 공개 ID)
+    private int quantity;        // 변경 후 수량
+    private StockStatus status;
+    private LocalDateTime occurredAt;
+
+    /**
+     * 재고 변경 → DTO 변환 (ID 암호화, 재고/창고 ID는 공개 ID 모드를 따름)
+     * @param status 변경 후 재고 상태 (상품/창고의 부족 기준 수량으로 판정)
+     */
+    public static InventoryChangeStreamDTO of(InventoryChange change, StockStatus status, IdEncryptionUtil encryptionUtil,
+                                              PublicIdService publicIdService) {
+        return InventoryChangeStreamDTO.builder()
+                .inventoryId(publicIdService.renderInventoryId(change.getInventoryId()))
+                .productId(encryptionUtil.encrypt(change.getProductId()))
+                .warehouseId(publicIdService.renderWarehouseId(change.getWarehouseId()))
+                .quantity(change.getQuantity())
+                .status(status)
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package org.example.wms.dto.info;
 
 import lombok.*;
 import org.example.wms.entity.InventoryEntity;
+import org.example.wms.entity.WarehouseEntity;
 import org.example.wms.util.IdEncryptionUtil;
 
 import java.time.LocalDateTime;
@@ -17,28 +18,55 @@ import java.time.LocalDateTime;
 @ToString
 @EqualsAndHashCode(of = {"inventoryId"})
 public class InventoryInfoDTO {
-    private String inventoryId;  // 암호화된 ID
+    private String inventoryId;  // 암호화된 ID (공개 ID 모드에서는 공개 ID)
     private String productId;    // 암호화된 상품 ID
     private String productName;
-    private String warehouseId;  // 암호화된 창고 ID
+    private String warehouseId;  // 암호화된 창고 ID (공개 ID 모드에서는 공개 ID)
     private String warehouseName;
     private String warehouseLocation;
     private Integer quantity;
+    private Integer availableQuantity;  // 현재 수량 - 활성 예약 수량
+    private Integer lowThreshold;       // 부족 기준 수량 (이 수량 이하이면 부족)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     /**
-     * Entity → DTO 변환 (ID 암호화)
+     * Entity → DTO 변환 (ID 암호화, 예약 없음)
      */
     public static InventoryInfoDTO of(InventoryEntity inventory, IdEncryptionUtil encryptionUtil) {
+        return of(inventory, encryptionUtil, 0);
+    }
+
+    /**
+     * Entity → DTO 변환 (ID 암호화, 가용 수량 포함)
+     * @param reservedQuantity 활성 예약 수량
+     */
+    public static InventoryInfoDTO of(InventoryEntity inventory, IdEncryptionUtil encryptionUtil, int reservedQuantity) {
+        return of(inventory, encryptionUtil, reservedQuantity, false);
+    }
+
+    /**
+     * Entity → DTO 변환 (가용 수량 포함)
+     * @param reservedQuantity 활성 예약 수량
+     * @param publicIds true면 재고/창고 ID로 저장된 공개 ID를 그대로 사용 (공개 ID가 없으면 암호화)
+     */
+    public static InventoryInfoDTO of(InventoryEntity inventory, IdEncryptionUtil encryptionUtil, int reservedQuantity,
+                                      boolean publicIds) {
+        WarehouseEntity warehouse = inventory.getWarehouse();
         return InventoryInfoDTO.builder()
-                .inventoryId(encryptionUtil.encrypt(inventory.getInventoryId()))
+                .inventoryId(publicIds && inventory.getPublicId() != null
+                        ? inventory.getPublicId()
+                        : encryptionUtil.encrypt(inventory.getInventoryId()))
                 .productId(encryptionUtil.encrypt(inventory.getProduct().getProductId()))
                 .productName(inventory.getProduct().getName())
-                .warehouseId(encryptionUtil.encrypt(inventory.getWarehouse().getWarehouseId()))
+                .warehouseId(publicIds && warehouse.getPublicId() != null
+                        ? warehouse.getPublicId()
+                        : encryptionUtil.encrypt(warehouse.getWarehouseId()))
                 .warehouseName(inventory.getWarehouse().getName())
                 .warehouseLocation(inventory.getWarehouse().getLocation())
                 .quantity(inventory.getQuantity())
+                .availableQuantity(inventory.getQuantity() - reservedQuantity)
+                .lowThreshold(inventory.getLowThreshold())
                 .createdAt(inventory.getCreatedAt())
                 .updatedAt(inventory.getUpdatedAt())
                 .build();
@@ -0,0 +1,17 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+/**
+ * 창고별 재고 스냅샷 생성 결과 DTO
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class InventorySnapshotResultDTO {
+    private int warehouses;        // 스냅샷을 만든 창고 수
+    private int failedWarehouses;  // 실패한 창고 수 (다음 주기에 다시 생성)
+    private long elapsedMs;
+}
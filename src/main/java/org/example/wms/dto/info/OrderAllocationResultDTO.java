@@ -0,0 +1,105 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+import org.example.wms.service.OrderAllocator;
+import org.example.wms.service.PublicIdService;
+import org.example.wms.util.IdEncryptionUtil;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 창고 할당 결과 DTO
+ * 창고별 할당 내역과 할당하지 못한 수량 포함
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class OrderAllocationResultDTO {
+    private boolean fullyAllocated;
+    private int warehouseCount;
+    private List<WarehouseAllocation> warehouses;  // 창고 선택 순서
+    private List<Shortage> shortages;
+
+    /**
+     * 창고별 할당 내역 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class WarehouseAllocation {
+        private String warehouseId;  // 암호화된 창고 ID (공개 ID 모드에서는 공개 ID)
+        private List<AllocatedLine> lines;
+    }
+
+    /**
+     * 할당된 라인 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class AllocatedLine {
+        private String productId;    // 암호화된 상품 ID
+        private String inventoryId;  // 암호화된 재고 ID (공개 ID 모드에서는 공개 ID)
+        private int quantity;
+    }
+
+    /**
+     * 할당하지 못한 상품 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class Shortage {
+        private String productId;  // 암호화된 상품 ID
+        private int requested;
+        private int allocated;
+    }
+
+    /**
+     * 할당 결과 → DTO 변환 (ID 암호화, 재고/창고 ID는 공개 ID 모드에 따라 한 번에 변환)
+     */
+    public static OrderAllocationResultDTO of(OrderAllocator.Result result, IdEncryptionUtil encryptionUtil,
+                                              PublicIdService publicIdService) {
+        List<OrderAllocator.Allocation> allocations = result.allocations();
+        String[] inventoryIds = publicIdService.renderInventoryIds(
+                allocations.stream().mapToLong(OrderAllocator.Allocation::inventoryId).toArray());
+        Map<Long, List<AllocatedLine>> byWarehouse = new LinkedHashMap<>();
+        for (int i = 0; i < allocations.size(); i++) {
+            OrderAllocator.Allocation allocation = allocations.get(i);
+            byWarehouse.computeIfAbsent(allocation.warehouseId(), id -> new ArrayList<>())
+                    .add(new AllocatedLine(
+                            encryptionUtil.encrypt(allocation.productId()),
+                            inventoryIds[i],
+                            allocation.quantity()));
+        }
+        String[] warehouseIds = publicIdService.renderWarehouseIds(
+                byWarehouse.keySet().stream().mapToLong(Long::longValue).toArray());
+        List<WarehouseAllocation> warehouses = new ArrayList<>(byWarehouse.size());
+        int w = 0;
+        for (List<AllocatedLine> lines : byWarehouse.values()) {
+            warehouses.add(new WarehouseAllocation(warehouseIds[w++], lines));
+        }
+
+        List<Shortage> shortages = result.shortages().stream()
+                .map(shortage -> new Shortage(
+                        encryptionUtil.encrypt(shortage.productId()),
+                        shortage.requested(),
+                        shortage.allocated()))
+                .toList();
+
+        return OrderAllocationResultDTO.builder()
+                .fullyAllocated(result.fullyAllocated())
+                .warehouseCount(result.warehouseCount())
+                .warehouses(warehouses)
+                .shortages(shortages)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 주문 출고 결과 DTO
+ * 라인별 출고 후 수량 포함 (거절된 경우에는 부족 목록만 에러 응답으로 반환)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class OrderStockOutResultDTO {
+    private int lineCount;
+    private int totalQuantity;
+    private List<Line> lines;
+
+    /**
+     * 출고된 라인 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class Line {
+        private int line;                // 1부터 시작하는 라인 번호
+        private String inventoryId;      // 암호화된 재고 ID
+        private int quantity;            // 출고 수량
+        private int remainingQuantity;   // 이 라인 출고 후 수량
+    }
+
+    /**
+     * 출고할 수 없는 재고 (내부 클래스, 같은 재고의 라인은 합산)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class Shortage {
+        private String inventoryId;  // 요청에 포함된 암호화된 재고 ID
+        private ShortageReason reason;
+        private int requested;       // 주문 전체의 요청 수량
+        private int available;       // 예약을 제외한 가용 수량
+    }
+
+    public enum ShortageReason {
+        INSUFFICIENT,  // 가용 재고 부족
+        UNKNOWN_ID     // 존재하지 않거나 복호화할 수 없는 재고 ID
+    }
+}
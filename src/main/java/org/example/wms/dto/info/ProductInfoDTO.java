@@ -2,8 +2,11 @@ package org.example.wms.dto.info;
 
 import lombok.*;
 import org.example.wms.entity.ProductEntity;
+import org.example.wms.entity.ProductStockSummaryEntity;
 import org.example.wms.util.IdEncryptionUtil;
 
+import java.time.LocalDateTime;
+
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
@@ -16,14 +19,25 @@ public class ProductInfoDTO {
     public String description;
     public Double price;
     public String manufacturer;
+    private long totalQuantity;
+    private int warehouseCount;
+    private LocalDateTime lastMovementAt;
 
     public static ProductInfoDTO of(ProductEntity product, IdEncryptionUtil encryptionUtil) {
+        return of(product, null, encryptionUtil);
+    }
+
+    public static ProductInfoDTO of(ProductEntity product, ProductStockSummaryEntity summary,
+                                    IdEncryptionUtil encryptionUtil) {
         return ProductInfoDTO.builder()
                 .productId(encryptionUtil.encrypt(product.getProductId()))
                 .name(product.getName())
                 .description(product.getDescription())
                 .price(product.getPrice())
                 .manufacturer(product.getManufacturer().getCompanyName())
+                .totalQuantity(summary == null ? 0 : summary.getTotalQuantity())
+                .warehouseCount(summary == null ? 0 : summary.getWarehouseCount())
+                .lastMovementAt(summary == null ? null : summary.getLastMovementAt())
                 .build();
     }
 }
@@ -0,0 +1,37 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+import org.example.wms.entity.InventoryReservationEntity;
+import org.example.wms.service.PublicIdService;
+import org.example.wms.util.IdEncryptionUtil;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 정보 DTO
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@EqualsAndHashCode(of = {"reservationId"})
+public class ReservationInfoDTO {
+    private String reservationId;  // 암호화된 ID
+    private String inventoryId;    // 암호화된 재고 ID (공개 ID 모드에서는 공개 ID)
+    private Integer quantity;
+    private LocalDateTime expiresAt;
+
+    /**
+     * Entity → DTO 변환 (ID 암호화, 재고 ID는 공개 ID 모드를 따름)
+     */
+    public static ReservationInfoDTO of(InventoryReservationEntity reservation, IdEncryptionUtil encryptionUtil,
+                                        PublicIdService publicIdService) {
+        return ReservationInfoDTO.builder()
+                .reservationId(encryptionUtil.encrypt(reservation.getReservationId()))
+                .inventoryId(publicIdService.renderInventoryId(reservation.getInventoryId()))
+                .quantity(reservation.getQuantity())
+                .expiresAt(reservation.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+import org.example.wms.entity.StockStatus;
+import org.example.wms.event.StockAlert;
+import org.example.wms.service.PublicIdService;
+import org.example.wms.util.IdEncryptionUtil;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 알림 DTO (SSE 이벤트 데이터)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class StockAlertDTO {
+    private String inventoryId;  // 암호화된 재고 ID (공개 ID 모드에서는 공개 ID)
+    private String productId;    // 암호화된 상품 ID
+    private String warehouseId;  // 암호화된 창고 ID (공개 ID 모드에서는 공개 ID)
+    private StockStatus previousStatus;
+    private StockStatus status;
+    private int quantity;
+    private LocalDateTime occurredAt;
+
+    /**
+     * 알림 → DTO 변환 (ID 암호화, 재고/창고 ID는 공개 ID 모드를 따름)
+     */
+    public static StockAlertDTO of(StockAlert alert, IdEncryptionUtil encryptionUtil, PublicIdService publicIdService) {
+        return StockAlertDTO.builder()
+                .inventoryId(publicIdService.renderInventoryId(alert.getInventoryId()))
+                .productId(encryptionUtil.encrypt(alert.getProductId()))
+                .warehouseId(publicIdService.renderWarehouseId(alert.getWarehouseId()))
+                .previousStatus(alert.getPreviousStatus())
+                .status(alert.getStatus())
+                .quantity(alert.getQuantity())
+                .occurredAt(alert.getOccurredAt())
+                .build();
+    }
+}
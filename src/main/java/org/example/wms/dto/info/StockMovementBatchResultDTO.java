@@ -0,0 +1,44 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 입출고 일괄 처리 결과 DTO
+ * 상태별 집계와 라인 순서상 처음 발생한 실패 라인 목록 포함 (적용된 라인은 건수로만 집계)
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class StockMovementBatchResultDTO {
+    private int totalLines;
+    private int appliedCount;
+    private int insufficientCount;
+    private int unknownIdCount;
+    private int invalidCount;
+    private List<LineResult> failures;   // 실패한 라인 (라인 순서, 최대 app.inventory.batch.max-failures개)
+    private boolean failuresTruncated;   // 실패 라인이 더 있지만 목록에서 생략된 경우 true
+
+    /**
+     * 라인별 처리 결과 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class LineResult {
+        private int line;  // 1부터 시작하는 라인 번호
+        private String encryptedInventoryId;
+        private LineStatus status;
+    }
+
+    public enum LineStatus {
+        APPLIED,       // 적용됨
+        INSUFFICIENT,  // 재고 부족
+        UNKNOWN_ID,    // 존재하지 않거나 복호화할 수 없는 재고 ID
+        INVALID        // 입출고 구분 또는 수량이 잘못됨
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품별 재고 요약 재계산 결과 DTO
+ * 요약 값과 inventory 집계 값이 달랐던 상품 수와 차이 내역(최대 100건) 포함
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class StockSummaryReconcileResultDTO {
+    private int checkedProducts;
+    private int driftedProducts;
+    private long elapsedMs;
+    private List<Drift> drifts;
+
+    /**
+     * 요약 값 차이 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class Drift {
+        private String productId;            // 암호화된 상품 ID
+        private long recordedQuantity;       // 요약 테이블의 값 (요약 행이 없으면 0)
+        private long actualQuantity;         // inventory 집계 값 (보정 후 요약 값)
+        private int recordedWarehouseCount;
+        private int actualWarehouseCount;
+    }
+}
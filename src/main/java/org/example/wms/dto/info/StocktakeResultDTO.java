@@ -0,0 +1,68 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 재고 실사 반영 결과 DTO (차이 보고서)
+ * 상태별 집계, 반영 전후 총 수량, 차이 내역(차이가 큰 순 최대 1000건), 거절된 라인 포함
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class StocktakeResultDTO {
+    private int countedLines;
+    private int matchedCount;     // 실사 수량과 같은 재고
+    private int adjustedCount;    // 실사 수량으로 변경한 재고
+    private int createdCount;     // 실사에서 발견되어 새로 생성한 재고
+    private int zeroedCount;      // 실사 목록에 없어 0으로 맞춘 재고
+    private int skippedCount;     // 핫 재고 엔진이 관리하여 반영하지 않은 재고
+    private int rejectedCount;    // 복호화할 수 없거나 존재하지 않는 상품, 중복 라인
+    private long quantityBefore;  // 반영 전 창고 총 수량
+    private long quantityAfter;   // 반영 후 창고 총 수량
+    private long netVariance;     // 반영한 차이 합계
+    private long absoluteVariance; // 반영한 차이 절댓값 합계
+    private long elapsedMs;
+    private List<Variance> variances;
+    private List<RejectedLine> rejectedLines;
+
+    /**
+     * 재고별 차이 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class Variance {
+        private String productId;     // 암호화된 상품 ID
+        private String inventoryId;   // 암호화된 재고 ID (공개 ID 모드에서는 공개 ID)
+        private int systemQuantity;   // 반영 전 수량 (새로 생성한 재고는 0)
+        private int countedQuantity;
+        private int variance;         // 실사 수량 - 반영 전 수량
+        private VarianceStatus status;
+        private boolean belowReserved; // 실사 수량이 활성 예약 수량보다 적음 (예약 확인 필요)
+    }
+
+    /**
+     * 거절된 라인 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class RejectedLine {
+        private int line;             // 1부터 시작하는 라인 번호
+        private String productId;     // 요청의 암호화된 상품 ID
+        private String reason;
+    }
+
+    public enum VarianceStatus {
+        ADJUSTED,  // 실사 수량으로 변경
+        CREATED,   // 새 재고 생성
+        ZEROED,    // 실사 목록에 없어 0으로 변경
+        SKIPPED    // 핫 재고 엔진이 관리하여 반영하지 않음
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 창고 간 재고 일괄 이동 결과 DTO
+ * 라인별 처리 결과와 상태별 집계 포함
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class TransferBatchResultDTO {
+    private int totalLines;
+    private int appliedCount;
+    private int insufficientCount;
+    private int unknownIdCount;
+    private int invalidCount;
+    private List<LineResult> results;
+
+    /**
+     * 라인별 처리 결과 (내부 클래스)
+     */
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @ToString
+    public static class LineResult {
+        private int line;                 // 1부터 시작하는 라인 번호
+        private LineStatus status;
+        private String message;           // 적용되지 않은 사유 (적용된 경우 null)
+        private TransferResultDTO result; // 적용된 경우의 이동 결과 (적용되지 않은 경우 null)
+    }
+
+    public enum LineStatus {
+        APPLIED,       // 적용됨
+        INSUFFICIENT,  // 보내는 창고의 가용 재고 부족
+        UNKNOWN_ID,    // 존재하지 않거나 복호화할 수 없는 상품/창고/재고
+        INVALID        // 같은 창고로 이동, 핫 재고 엔진이 관리하는 재고
+    }
+
+    public static TransferBatchResultDTO of(List<LineResult> results) {
+        int[] counts = new int[LineStatus.values().length];
+        for (LineResult result : results) {
+            counts[result.getStatus().ordinal()]++;
+        }
+        return TransferBatchResultDTO.builder()
+                .totalLines(results.size())
+                .appliedCount(counts[LineStatus.APPLIED.ordinal()])
+                .insufficientCount(counts[LineStatus.INSUFFICIENT.ordinal()])
+                .unknownIdCount(counts[LineStatus.UNKNOWN_ID.ordinal()])
+                .invalidCount(counts[LineStatus.INVALID.ordinal()])
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.wms.dto.info;
+
+import lombok.*;
+
+/**
+ * 창고 간 재고 이동 결과 DTO
+ * 양쪽 재고의 이동 후 수량 포함
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class TransferResultDTO {
+    private String fromInventoryId;  // 암호화된 재고 ID (보내는 창고, 공개 ID 모드에서는 공개 ID)
+    private String toInventoryId;    // 암호화된 재고 ID (받는 창고, 공개 ID 모드에서는 공개 ID)
+    private int quantity;            // 이동 수량
+    private int fromQuantity;        // 보내는 창고의 이동 후 수량
+    private int toQuantity;          // 받는 창고의 이동 후 수량
+}
@@ -18,7 +18,7 @@ import java.util.stream.Collectors;
 @ToString
 @EqualsAndHashCode(of = {"warehouseId"})
 public class WarehouseInfoDTO {
-    private String warehouseId;  // 암호화된 ID
+    private String warehouseId;  // 암호화된 ID (공개 ID 모드에서는 공개 ID)
     private String name;
     private String location;
     private String contact;
@@ -42,6 +42,14 @@ public class WarehouseInfoDTO {
      * Entity → DTO 변환 (ID 암호화)
      */
     public static WarehouseInfoDTO of(WarehouseEntity warehouse, IdEncryptionUtil encryptionUtil) {
+        return of(warehouse, encryptionUtil, false);
+    }
+
+    /**
+     * Entity → DTO 변환
+     * @param publicIds true면 저장된 공개 ID를 그대로 사용 (공개 ID가 없으면 암호화)
+     */
+    public static WarehouseInfoDTO of(WarehouseEntity warehouse, IdEncryptionUtil encryptionUtil, boolean publicIds) {
         List<SimpleInventoryInfo> inventoryInfos = warehouse.getInventories().stream()
                 .map(inventory -> SimpleInventoryInfo.builder()
                         .productName(inventory.getProduct().getName())
@@ -50,7 +58,9 @@ public class WarehouseInfoDTO {
                 .collect(Collectors.toList());
 
         return WarehouseInfoDTO.builder()
-                .warehouseId(encryptionUtil.encrypt(warehouse.getWarehouseId()))
+                .warehouseId(publicIds && warehouse.getPublicId() != null
+                        ? warehouse.getPublicId()
+                        : encryptionUtil.encrypt(warehouse.getWarehouseId()))
                 .name(warehouse.getName())
                 .location(warehouse.getLocation())
                 .contact(warehouse.getContact())
@@ -2,7 +2,9 @@ package org.example.wms.dto.list;
 
 import lombok.*;
 import org.example.wms.entity.InventoryEntity;
+import org.example.wms.entity.StockStatus;
 import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.PublicIds;
 import org.springframework.data.domain.Page;
 
 /**
@@ -16,7 +18,7 @@ import org.springframework.data.domain.Page;
 @ToString
 @EqualsAndHashCode(of = {"inventoryId"})
 public class InventoryListDTO {
-    private String inventoryId;  // 암호화된 ID
+    private String inventoryId;  // 암호화된 ID (공개 ID 모드에서는 공개 ID)
     private String productName;
     private String warehouseName;
     private Integer quantity;
@@ -26,30 +28,44 @@ public class InventoryListDTO {
      * Entity → DTO 변환 (ID 암호화)
      */
     public static InventoryListDTO of(InventoryEntity inventory, IdEncryptionUtil encryptionUtil) {
+        return of(inventory, encryptionUtil.encrypt(inventory.getInventoryId()));
+    }
+
+    private static InventoryListDTO of(InventoryEntity inventory, String encryptedId) {
         return InventoryListDTO.builder()
-                .inventoryId(encryptionUtil.encrypt(inventory.getInventoryId()))
+                .inventoryId(encryptedId)
                 .productName(inventory.getProduct().getName())
                 .warehouseName(inventory.getWarehouse().getName())
                 .quantity(inventory.getQuantity())
-                .status(determineStatus(inventory.getQuantity()))
+                .status(statusOf(inventory).getLabel())
                 .build();
     }
 
-    public static Page<InventoryListDTO> of(Page<InventoryEntity> page, IdEncryptionUtil encryptionUtil) {
-        return page.map(inventory -> of(inventory, encryptionUtil));
+    private static StockStatus statusOf(InventoryEntity inventory) {
+        // DB가 계산한 상태를 사용하고, 아직 읽지 않은 엔티티만 행에 기록된 부족 기준 수량으로 판정
+        return inventory.getStockStatus() != null
+                ? inventory.getStockStatus()
+                : StockStatus.of(inventory.getQuantity(), inventory.getLowThreshold());
     }
 
+    /**
+     * 페이지 변환 (페이지의 ID를 한 번에 암호화, Page.map은 내용 순서대로 변환)
+     */
+    public static Page<InventoryListDTO> of(Page<InventoryEntity> page, IdEncryptionUtil encryptionUtil) {
+        return of(page, encryptionUtil, false);
+    }
 
     /**
-     * 재고 상태 판정
+     * 페이지 변환
+     * @param publicIds true면 저장된 공개 ID를 그대로 사용 (공개 ID가 없는 행만 암호화)
      */
-    private static String determineStatus(Integer quantity) {
-        if (quantity == 0) {
-            return "없음";
-        } else if (quantity <= 10) {
-            return "부족";
-        } else {
-            return "충분";
-        }
+    public static Page<InventoryListDTO> of(Page<InventoryEntity> page, IdEncryptionUtil encryptionUtil, boolean publicIds) {
+        long[] inventoryIds = page.stream().mapToLong(InventoryEntity::getInventoryId).toArray();
+        String[] ids = publicIds
+                ? PublicIds.orEncrypted(page.stream().map(InventoryEntity::getPublicId).toArray(String[]::new),
+                        inventoryIds, encryptionUtil)
+                : encryptionUtil.encryptAll(inventoryIds);
+        int[] row = new int[1];
+        return page.map(inventory -> of(inventory, ids[row[0]++]));
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package org.example.wms.dto.list;
+
+import lombok.*;
+import org.example.wms.entity.InventoryMovementEntity;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.service.PublicIdService;
+import org.example.wms.util.IdEncryptionUtil;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이동 원장 조회용 DTO
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+@EqualsAndHashCode(of = {"movementId"})
+public class InventoryMovementListDTO {
+    private String movementId;    // 암호화된 ID
+    private String inventoryId;   // 암호화된 재고 ID (공개 ID 모드에서는 공개 ID)
+    private String warehouseId;   // 암호화된 창고 ID (공개 ID 모드에서는 공개 ID)
+    private Integer delta;
+    private Integer resultingQuantity;
+    private MovementSource source;
+    private String reason;
+    private LocalDateTime createdAt;
+
+    private static InventoryMovementListDTO of(InventoryMovementEntity movement, String movementId,
+                                               String inventoryId, String warehouseId) {
+        return InventoryMovementListDTO.builder()
+                .movementId(movementId)
+                .inventoryId(inventoryId)
+                .warehouseId(warehouseId)
+                .delta(movement.getDelta())
+                .resultingQuantity(movement.getResultingQuantity())
+                .source(movement.getSource())
+                .reason(movement.getReason())
+                .createdAt(movement.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * 페이지 변환 (페이지의 ID를 종류별로 한 번에 변환, Page.map은 내용 순서대로 변환)
+     * 원장은 재고/창고별로 조회하므로 연속으로 반복되는 재고/창고 ID는 한 번만 암호화됨
+     * 재고/창고 ID는 공개 ID 모드를 따름
+     */
+    public static Page<InventoryMovementListDTO> of(Page<InventoryMovementEntity> page, IdEncryptionUtil encryptionUtil,
+                                                    PublicIdService publicIdService) {
+        String[] movementIds = encryptionUtil.encryptAll(
+                page.stream().mapToLong(InventoryMovementEntity::getMovementId).toArray());
+        String[] inventoryIds = publicIdService.renderInventoryIds(
+                page.stream().mapToLong(InventoryMovementEntity::getInventoryId).toArray());
+        String[] warehouseIds = publicIdService.renderWarehouseIds(
+                page.stream().mapToLong(InventoryMovementEntity::getWarehouseId).toArray());
+        int[] row = new int[1];
+        return page.map(movement -> {
+            int i = row[0]++;
+            return of(movement, movementIds[i], inventoryIds[i], warehouseIds[i]);
+        });
+    }
+}
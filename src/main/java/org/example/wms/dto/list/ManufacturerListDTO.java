@@ -25,15 +25,25 @@ public class ManufacturerListDTO {
      * Entity → DTO 변환 (ID 암호화)
      */
     public static ManufacturerListDTO of(ManufacturerEntity manufacturer, IdEncryptionUtil encryptionUtil) {
+        return of(manufacturer, encryptionUtil.encrypt(manufacturer.getManufacturerId()));
+    }
+
+    private static ManufacturerListDTO of(ManufacturerEntity manufacturer, String encryptedId) {
         return ManufacturerListDTO.builder()
-                .manufacturerId(encryptionUtil.encrypt(manufacturer.getManufacturerId()))
+                .manufacturerId(encryptedId)
                 .companyName(manufacturer.getCompanyName())
                 .location(manufacturer.getLocation())
                 .contact(manufacturer.getContact())
                 .build();
     }
 
+    /**
+     * 페이지 변환 (페이지의 ID를 한 번에 암호화, Page.map은 내용 순서대로 변환)
+     */
     public static Page<ManufacturerListDTO> of(Page<ManufacturerEntity> page, IdEncryptionUtil encryptionUtil){
-        return page.map(e -> ManufacturerListDTO.of(e, encryptionUtil));
+        String[] ids = encryptionUtil.encryptAll(
+                page.stream().mapToLong(ManufacturerEntity::getManufacturerId).toArray());
+        int[] row = new int[1];
+        return page.map(e -> ManufacturerListDTO.of(e, ids[row[0]++]));
     }
 }
\ No newline at end of file
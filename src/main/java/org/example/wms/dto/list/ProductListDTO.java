@@ -2,9 +2,12 @@ package org.example.wms.dto.list;
 
 import lombok.*;
 import org.example.wms.entity.ProductEntity;
+import org.example.wms.entity.ProductStockSummaryEntity;
 import org.example.wms.util.IdEncryptionUtil;
 import org.springframework.data.domain.Page;
 
+import java.util.Map;
+
 /**
  * 상품 목록 조회용 DTO
  * 간소화된 정보만 포함
@@ -20,21 +23,38 @@ public class ProductListDTO {
     private String name;
     private Double price;
     private String manufacturerName;
+    private long totalQuantity;   // 전체 창고 재고 합계
+    private int warehouseCount;   // 재고가 있는 창고 수
 
     /**
      * Entity → DTO 변환 (ID 암호화)
+     * @param summary 상품별 재고 요약 (요약 행이 없으면 null → 재고 0)
      */
-    public static ProductListDTO of(ProductEntity product, IdEncryptionUtil encryptionUtil) {
+    public static ProductListDTO of(ProductEntity product, ProductStockSummaryEntity summary,
+                                    IdEncryptionUtil encryptionUtil) {
+        return of(product, summary, encryptionUtil.encrypt(product.getProductId()));
+    }
+
+    private static ProductListDTO of(ProductEntity product, ProductStockSummaryEntity summary, String encryptedId) {
         return ProductListDTO.builder()
-                .productId(encryptionUtil.encrypt(product.getProductId()))
+                .productId(encryptedId)
                 .name(product.getName())
                 .price(product.getPrice())
                 .manufacturerName(product.getManufacturer().getCompanyName())
+                .totalQuantity(summary == null ? 0 : summary.getTotalQuantity())
+                .warehouseCount(summary == null ? 0 : summary.getWarehouseCount())
                 .build();
     }
 
-    public static Page<ProductListDTO> of(Page<ProductEntity> page, IdEncryptionUtil encryptionUtil){
-        return page.map(e -> ProductListDTO.of(e, encryptionUtil));
+    /**
+     * 페이지 변환 (페이지의 ID를 한 번에 암호화, Page.map은 내용 순서대로 변환)
+     * @param summaries 상품 ID → 재고 요약 (페이지의 상품 ID로 한 번에 조회한 값)
+     */
+    public static Page<ProductListDTO> of(Page<ProductEntity> page, Map<Long, ProductStockSummaryEntity> summaries,
+                                          IdEncryptionUtil encryptionUtil){
+        String[] ids = encryptionUtil.encryptAll(page.stream().mapToLong(ProductEntity::getProductId).toArray());
+        int[] row = new int[1];
+        return page.map(e -> ProductListDTO.of(e, summaries.get(e.getProductId()), ids[row[0]++]));
     }
 
 }
\ No newline at end of file
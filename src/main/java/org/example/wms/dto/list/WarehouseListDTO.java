@@ -3,6 +3,7 @@ package org.example.wms.dto.list;
 import lombok.*;
 import org.example.wms.entity.WarehouseEntity;
 import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.PublicIds;
 import org.springframework.data.domain.Page;
 
 /**
@@ -16,26 +17,52 @@ import org.springframework.data.domain.Page;
 @ToString
 @EqualsAndHashCode(of = {"warehouseId"})
 public class WarehouseListDTO {
-    private String warehouseId;  // 암호화된 ID
+    private String warehouseId;  // 암호화된 ID (공개 ID 모드에서는 공개 ID)
     private String name;
     private String location;
     private String contact;
     private Integer inventoryCount;  // 보관 중인 재고 종류 수
+    private Long totalQuantity;      // 재고 합계
+    private Integer zeroStockCount;  // 수량이 0인 재고 종류 수
 
     /**
      * Entity → DTO 변환 (ID 암호화)
+     * 재고 집계는 창고와 함께 읽은 합계 컬럼을 사용 (재고 컬렉션을 로딩하지 않음)
      */
     public static WarehouseListDTO of(WarehouseEntity warehouse, IdEncryptionUtil encryptionUtil) {
+        return of(warehouse, encryptionUtil.encrypt(warehouse.getWarehouseId()));
+    }
+
+    private static WarehouseListDTO of(WarehouseEntity warehouse, String encryptedId) {
         return WarehouseListDTO.builder()
-                .warehouseId(encryptionUtil.encrypt(warehouse.getWarehouseId()))
+                .warehouseId(encryptedId)
                 .name(warehouse.getName())
                 .location(warehouse.getLocation())
                 .contact(warehouse.getContact())
-                .inventoryCount(warehouse.getInventories().size())
+                .inventoryCount(warehouse.getSkuCount() == null ? 0 : warehouse.getSkuCount())
+                .totalQuantity(warehouse.getTotalQuantity() == null ? 0L : warehouse.getTotalQuantity())
+                .zeroStockCount(warehouse.getZeroStockSkuCount() == null ? 0 : warehouse.getZeroStockSkuCount())
                 .build();
     }
 
+    /**
+     * 페이지 변환 (페이지의 ID를 한 번에 암호화, Page.map은 내용 순서대로 변환)
+     */
     public static Page<WarehouseListDTO> of(Page<WarehouseEntity> page, IdEncryptionUtil encryptionUtil) {
-        return page.map(warehouse -> of(warehouse, encryptionUtil));
+        return of(page, encryptionUtil, false);
+    }
+
+    /**
+     * 페이지 변환
+     * @param publicIds true면 저장된 공개 ID를 그대로 사용 (공개 ID가 없는 행만 암호화)
+     */
+    public static Page<WarehouseListDTO> of(Page<WarehouseEntity> page, IdEncryptionUtil encryptionUtil, boolean publicIds) {
+        long[] warehouseIds = page.stream().mapToLong(WarehouseEntity::getWarehouseId).toArray();
+        String[] ids = publicIds
+                ? PublicIds.orEncrypted(page.stream().map(WarehouseEntity::getPublicId).toArray(String[]::new),
+                        warehouseIds, encryptionUtil)
+                : encryptionUtil.encryptAll(warehouseIds);
+        int[] row = new int[1];
+        return page.map(warehouse -> of(warehouse, ids[row[0]++]));
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package org.example.wms.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리된 멱등성 키 (Idempotency-Key 헤더)
+ * 입출고와 같은 트랜잭션에서 기록되므로, 키가 있으면 해당 입출고가 반영된 것이 보장됨
+ * 만료된 키는 주기적으로 삭제
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "idempotencyKey")
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at"))
+public class IdempotencyKeyEntity {
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "operation", nullable = false, length = 50)
+    private String operation;
+
+    @Column(name = "request_hash", length = 64)
+    private String requestHash;  // 요청 본문의 SHA-256 (hex, 해시 도입 전에 기록된 키는 null)
+
+    @Column(name = "response_body", nullable = false, columnDefinition = "TEXT")
+    private String responseBody;  // 최초 응답 (ApiResponse JSON)
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
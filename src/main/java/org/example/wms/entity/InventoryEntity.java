@@ -2,8 +2,11 @@ package org.example.wms.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.wms.util.PublicIds;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDateTime;
 
@@ -19,6 +22,12 @@ import java.time.LocalDateTime;
                         name = "unique_product_warehouse",
                         columnNames = {"product_id", "warehouse_id"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_inventory_status", columnList = "stock_status, quantity"),
+                @Index(name = "idx_inventory_warehouse_status", columnList = "warehouse_id, stock_status, quantity"),
+                @Index(name = "idx_inventory_warehouse", columnList = "warehouse_id"),
+                @Index(name = "uk_inventory_public_id", columnList = "public_id", unique = true)
         })
 public class InventoryEntity {
     @Id
@@ -26,10 +35,30 @@ public class InventoryEntity {
     @Column(name = "inventory_id")
     private Long inventoryId;
 
+    // 외부 노출용 공개 ID (생성 시 발급, 변경 불가, 기존 행은 일괄 발급 전까지 null)
+    @Column(name = "public_id", length = PublicIds.LENGTH, updatable = false)
+    private String publicId;
+
     @Column(name = "quantity", nullable = false)
     @Builder.Default
     private Integer quantity = 0;
 
+    // 부족 기준 수량 (생성 시 상품/창고 설정으로 기록, 설정 변경은 StockThresholdService가 DB에서 일괄 반영)
+    @Column(name = "low_threshold", nullable = false, updatable = false)
+    @Builder.Default
+    private Integer lowThreshold = StockStatus.DEFAULT_LOW_THRESHOLD;
+
+    // 수량과 부족 기준 수량으로 DB가 계산하는 재고 상태 (STORED 생성 컬럼, 모든 쓰기 경로에서 자동 갱신)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stock_status", length = 12, insertable = false, updatable = false)
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    private StockStatus stockStatus;
+
+    // 낙관적 락 버전 (수량을 바꾸는 네이티브 UPDATE도 함께 증가시킴)
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -48,6 +77,13 @@ public class InventoryEntity {
     @JoinColumn(name = "warehouse_id", nullable = false)
     private WarehouseEntity warehouse;
 
+    @PrePersist
+    void assignPublicId() {
+        if (publicId == null) {
+            publicId = PublicIds.newInventoryId();
+        }
+    }
+
     // 비즈니스 메서드
     public void addQuantity(int amount) {
         if (amount < 0) {
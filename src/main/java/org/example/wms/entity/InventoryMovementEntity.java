@@ -0,0 +1,51 @@
+package org.example.wms.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이동 원장 (추가 전용)
+ * 재고 수량이 변경될 때마다 한 행씩 기록되며 수정/삭제하지 않음
+ * 대량 INSERT를 위해 연관관계 대신 ID 컬럼만 보관
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "movementId")
+@Table(name = "inventory_movements",
+        indexes = {
+                @Index(name = "idx_movement_inventory", columnList = "inventory_id, movement_id"),
+                @Index(name = "idx_movement_warehouse", columnList = "warehouse_id, movement_id")
+        })
+public class InventoryMovementEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "movement_id")
+    private Long movementId;
+
+    @Column(name = "inventory_id", nullable = false)
+    private Long inventoryId;
+
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId;
+
+    @Column(name = "delta", nullable = false)
+    private Integer delta;  // 수량 변화량 (입고는 양수, 출고는 음수)
+
+    @Column(name = "resulting_quantity", nullable = false)
+    private Integer resultingQuantity;  // 변경 후 수량
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private MovementSource source;
+
+    @Column(name = "reason", length = 200)
+    private String reason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;  // 이동 발생 시각 (원장 기록 시각이 아님)
+}
@@ -0,0 +1,18 @@
+package org.example.wms.entity;
+
+/**
+ * 재고 수량 변경 출처
+ * inventory_movements.source 컬럼에 문자열로 저장
+ */
+public enum MovementSource {
+    CREATE,     // 초기 재고 등록
+    STOCK_IN,   // 단건 입고
+    STOCK_OUT,  // 단건 출고
+    BATCH,      // 입출고 일괄 처리
+    RESERVATION, // 예약 확정 출고
+    TRANSFER_OUT, // 창고 간 이동 (보내는 창고)
+    TRANSFER_IN,  // 창고 간 이동 (받는 창고)
+    BULK_UPSERT,  // 재고 일괄 등록 (기존 재고 수량 교체/증가)
+    ORDER_OUT,    // 주문 출고 (여러 라인 일괄)
+    STOCKTAKE     // 재고 실사 결과 반영 (실사 수량과의 차이)
+}
@@ -0,0 +1,37 @@
+package org.example.wms.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 재고 요약 (조회 전용)
+ * 재고가 바뀌는 트랜잭션 안에서 변화량으로 갱신되며, 목록/상세 조회 시 집계 쿼리 없이 기본 키로 읽음
+ * 갱신은 {@link org.example.wms.repository.InventoryJdbcRepository}의 UPSERT로만 수행
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(of = "productId")
+@Table(name = "product_stock_summary")
+public class ProductStockSummaryEntity {
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "total_quantity", nullable = false)
+    private Long totalQuantity;
+
+    // 수량이 0보다 큰 재고가 있는 창고 수
+    @Column(name = "warehouse_count", nullable = false)
+    private Integer warehouseCount;
+
+    @Column(name = "last_movement_at")
+    private LocalDateTime lastMovementAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
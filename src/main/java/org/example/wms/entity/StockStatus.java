@@ -0,0 +1,40 @@
+package org.example.wms.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 수량 상태
+ * 수량 0은 없음, 부족 기준 수량 이하는 부족, 그 외는 충분
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StockStatus {
+    SUFFICIENT("충분"),
+    LOW("부족"),
+    OUT_OF_STOCK("없음");
+
+    /** 부족 기준 수량 기본값 (이 수량 이하이면 부족) */
+    public static final int DEFAULT_LOW_THRESHOLD = 10;
+
+    private final String label;
+
+    /**
+     * 수량으로 상태 판정 (기본 부족 기준 수량)
+     */
+    public static StockStatus of(int quantity) {
+        return of(quantity, DEFAULT_LOW_THRESHOLD);
+    }
+
+    /**
+     * 수량으로 상태 판정
+     * @param quantity 현재 수량
+     * @param lowThreshold 부족 기준 수량 (이 수량 이하이면 부족)
+     */
+    public static StockStatus of(int quantity, int lowThreshold) {
+        if (quantity <= 0) {
+            return OUT_OF_STOCK;
+        }
+        return quantity <= lowThreshold ? LOW : SUFFICIENT;
+    }
+}
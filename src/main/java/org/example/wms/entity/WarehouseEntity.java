@@ -3,7 +3,9 @@ package org.example.wms.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.example.wms.util.PublicIds;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SecondaryRow;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -11,7 +13,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "warehouses")
+@Table(name = "warehouses",
+        indexes = @Index(name = "uk_warehouses_public_id", columnList = "public_id", unique = true))
+// 창고별 재고 합계는 WarehouseStockTotalsUpdater가 커밋 후 모아서 JDBC로만 갱신 (엔티티는 조회만 하며 외부 조인으로 함께 읽음)
+@SecondaryTable(name = "warehouse_stock_totals", pkJoinColumns = @PrimaryKeyJoinColumn(name = "warehouse_id"))
+@SecondaryRow(table = "warehouse_stock_totals", owned = false)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +29,10 @@ public class WarehouseEntity {
     @Column(name = "warehouse_id")
     private Long warehouseId;
 
+    // 외부 노출용 공개 ID (생성 시 발급, 변경 불가, 기존 행은 일괄 발급 전까지 null)
+    @Column(name = "public_id", length = PublicIds.LENGTH, updatable = false)
+    private String publicId;
+
     @Column(name = "name", nullable = false, length = 200)
     private String name;
 
@@ -40,8 +50,27 @@ public class WarehouseEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 재고 합계 (재고가 한 번도 없던 창고는 null)
+    @Column(name = "total_quantity", table = "warehouse_stock_totals", insertable = false, updatable = false)
+    private Long totalQuantity;
+
+    // 재고 행(SKU) 수
+    @Column(name = "sku_count", table = "warehouse_stock_totals", insertable = false, updatable = false)
+    private Integer skuCount;
+
+    // 수량이 0인 재고 행 수
+    @Column(name = "zero_stock_sku_count", table = "warehouse_stock_totals", insertable = false, updatable = false)
+    private Integer zeroStockSkuCount;
+
     // 양방향 관계 (선택사항)
     @OneToMany(mappedBy = "warehouse", cascade = CascadeType.ALL)
     @Builder.Default
     private List<InventoryEntity> inventories = new ArrayList<>();
+
+    @PrePersist
+    void assignPublicId() {
+        if (publicId == null) {
+            publicId = PublicIds.newWarehouseId();
+        }
+    }
 }
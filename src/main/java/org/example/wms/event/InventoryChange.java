@@ -0,0 +1,31 @@
+package org.example.wms.event;
+
+import lombok.*;
+import org.example.wms.entity.MovementSource;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 한 행의 수량 변경 내역
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+@ToString
+public class InventoryChange {
+    private final Long inventoryId;
+    private final Long productId;
+    private final Long warehouseId;
+    private final int delta;     // 수량 변화량 (입고는 양수, 출고는 음수)
+    private final int quantity;  // 변경 후 수량
+    private final MovementSource source;
+    private final String reason;
+    private final LocalDateTime occurredAt;
+
+    /**
+     * 변경 전 수량
+     */
+    public int previousQuantity() {
+        return quantity - delta;
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.wms.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 재고 수량 변경 이벤트
+ * 재고 쓰기 경로(등록/입고/출고/일괄 처리)에서 트랜잭션 안에서 발행됨
+ * 하나의 작업에서 발생한 변경을 묶어서 전달하므로 리스너가 일괄 처리할 수 있음
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class InventoryChangedEvent {
+    private final List<InventoryChange> changes;
+
+    public static InventoryChangedEvent of(InventoryChange change) {
+        return new InventoryChangedEvent(List.of(change));
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.wms.event;
+
+import lombok.*;
+import org.example.wms.entity.StockStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 상태 경계(부족 기준 수량, 0)를 넘은 변경
+ * 커밋된 재고 변경에서 감지되어 알림 버스로 전달됨
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+@ToString
+public class StockAlert {
+    private final long sequence;  // 버스에서 부여한 일련번호 (SSE 이벤트 ID)
+    private final Long inventoryId;
+    private final Long productId;
+    private final Long warehouseId;
+    private final StockStatus previousStatus;
+    private final StockStatus status;
+    private final int quantity;  // 변경 후 수량
+    private final LocalDateTime occurredAt;
+}
@@ -0,0 +1,11 @@
+package org.example.wms.exception;
+
+/**
+ * 동시 처리 수가 최대치에 도달해 요청을 받을 수 없는 경우 (잠시 후 다시 시도하면 처리될 수 있음)
+ */
+public class ConcurrencyLimitException extends RuntimeException {
+
+    public ConcurrencyLimitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.wms.exception;
+
+/**
+ * 이미 처리된 멱등성 키로 요청한 경우
+ * 입출고 트랜잭션을 롤백시키고, 멱등성 처리 계층에서 최초 응답으로 바꿔 반환함
+ */
+public class DuplicateRequestException extends RuntimeException {
+
+    public DuplicateRequestException(String idempotencyKey) {
+        super("이미 처리된 요청입니다: " + idempotencyKey);
+    }
+}
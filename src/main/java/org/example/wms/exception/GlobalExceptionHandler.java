@@ -1,16 +1,23 @@
 package org.example.wms.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.example.wms.dto.ApiResponse;
+import org.example.wms.dto.info.OrderStockOutResultDTO.Shortage;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,6 +43,70 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(e.getMessage() != null ? e.getMessage() : "리소스를 찾을 수 없습니다."));
     }
 
+    /**
+     * IllegalStateException 처리
+     * 재고 부족 등 현재 상태에서 요청을 수행할 수 없는 경우
+     *
+     * @param e 예외
+     * @return 400 BAD_REQUEST 응답
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIllegalStateException(IllegalStateException e) {
+        log.warn("IllegalStateException 발생: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage() != null ? e.getMessage() : "요청을 처리할 수 없습니다."));
+    }
+
+    /**
+     * InsufficientStockException 처리
+     * 주문 출고에서 하나 이상의 라인을 출고할 수 없는 경우
+     *
+     * @param e 예외
+     * @return 400 BAD_REQUEST 응답 (부족 재고 목록 포함)
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<ApiResponse<List<Shortage>>> handleInsufficientStockException(InsufficientStockException e) {
+        log.warn("InsufficientStockException 발생: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.<List<Shortage>>builder()
+                        .success(false)
+                        .data(e.getShortages())
+                        .message(e.getMessage())
+                        .build());
+    }
+
+    /**
+     * InvalidIdException 처리
+     * 요청의 암호화된 ID를 복호화할 수 없거나 다른 종류의 공개 ID인 경우 (없는 ID는 404)
+     *
+     * @param e 예외
+     * @return 400 BAD_REQUEST 응답
+     */
+    @ExceptionHandler(InvalidIdException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidIdException(InvalidIdException e) {
+        log.warn("InvalidIdException 발생: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    /**
+     * IdempotencyKeyReusedException 처리
+     * 처리된 멱등성 키를 다른 작업이나 다른 요청 본문으로 다시 사용한 경우
+     *
+     * @param e 예외
+     * @return 422 UNPROCESSABLE_ENTITY 응답
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIdempotencyKeyReusedException(IdempotencyKeyReusedException e) {
+        log.warn("IdempotencyKeyReusedException 발생: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     /**
      * DataIntegrityViolationException 처리
      * 데이터베이스 제약 조건 위반 (외래키, 유니크 제약 등)
@@ -62,6 +133,37 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(message));
     }
 
+    /**
+     * ConcurrencyFailureException 처리
+     * 낙관적 락 충돌, 데드락 등으로 재시도 후에도 요청을 완료하지 못한 경우
+     *
+     * @param e 예외
+     * @return 409 CONFLICT 응답
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConcurrencyFailureException(ConcurrencyFailureException e) {
+        log.warn("ConcurrencyFailureException 발생: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("다른 요청과 충돌했습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    /**
+     * ConcurrencyLimitException 처리
+     * 재고 내보내기 등 동시 처리 수가 제한된 작업이 최대치에 도달한 경우
+     *
+     * @param e 예외
+     * @return 429 TOO_MANY_REQUESTS 응답
+     */
+    @ExceptionHandler(ConcurrencyLimitException.class)
+    public ResponseEntity<ApiResponse<Void>> handleConcurrencyLimitException(ConcurrencyLimitException e) {
+        log.warn("ConcurrencyLimitException 발생: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     /**
      * MethodArgumentNotValidException 처리
      * Request Body의 유효성 검증 실패 (@Valid 검증 실패)
@@ -91,6 +193,35 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    /**
+     * HttpMessageNotReadableException, JsonProcessingException 처리
+     * 요청 본문이 올바른 JSON이 아닌 경우 (스트리밍 파싱 포함)
+     *
+     * @param e 예외
+     * @return 400 BAD_REQUEST 응답
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class, JsonProcessingException.class})
+    public ResponseEntity<ApiResponse<Void>> handleUnreadableBody(Exception e) {
+        log.warn("요청 본문 해석 실패: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("요청 본문을 읽을 수 없습니다."));
+    }
+
+    /**
+     * 요청 파라미터를 변환할 수 없는 경우 (알 수 없는 재고 상태 등)
+     *
+     * @param e 예외
+     * @return 400 BAD_REQUEST 응답
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        log.warn("요청 파라미터 변환 실패: {}={}", e.getName(), e.getValue());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("요청 파라미터 형식이 올바르지 않습니다: " + e.getName()));
+    }
+
     /**
      * 예상치 못한 모든 예외 처리
      *
@@ -0,0 +1,12 @@
+package org.example.wms.exception;
+
+/**
+ * 이미 처리된 멱등성 키를 다른 작업이나 다른 요청 본문으로 다시 사용한 경우
+ * 최초 응답을 돌려주면 다른 요청이 처리된 것처럼 보이므로 재요청으로 취급하지 않음
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(String idempotencyKey) {
+        super("다른 요청에 사용된 Idempotency-Key입니다: " + idempotencyKey);
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.wms.exception;
+
+import lombok.Getter;
+import org.example.wms.dto.info.OrderStockOutResultDTO.Shortage;
+
+import java.util.List;
+
+/**
+ * 주문 출고 시 하나 이상의 라인을 출고할 수 없는 경우
+ * 주문 전체가 롤백되며, 부족한 재고 목록 전체를 응답 데이터로 반환함
+ */
+@Getter
+public class InsufficientStockException extends IllegalStateException {
+
+    private final List<Shortage> shortages;
+
+    public InsufficientStockException(List<Shortage> shortages) {
+        super("출고할 수 없는 재고가 있습니다. 부족 재고: " + shortages.size() + "건");
+        this.shortages = shortages;
+    }
+}
@@ -0,0 +1,12 @@
+package org.example.wms.exception;
+
+/**
+ * 요청의 암호화된 ID를 복호화할 수 없거나, 다른 종류의 공개 ID이거나, 필수 ID가 없는 경우
+ * 서비스를 호출하기 전에 400으로 거절함
+ */
+public class InvalidIdException extends RuntimeException {
+
+    public InvalidIdException() {
+        super("유효하지 않은 ID입니다.");
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.wms.repository;
+
+import org.example.wms.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    // 이미 있는 키면 무시 (다른 트랜잭션이 같은 키를 기록 중이면 그 트랜잭션이 끝날 때까지 대기)
+    String INSERT_IGNORE_SQL = """
+        INSERT IGNORE INTO idempotency_keys (idempotency_key, operation, request_hash, response_body, created_at, expires_at)
+        VALUES (:key, :operation, :requestHash, :responseBody, :createdAt, :expiresAt)
+        """;
+
+    String DELETE_BY_KEY_SQL = """
+        DELETE FROM idempotency_keys
+        WHERE idempotency_key = :key
+        """;
+
+    String DELETE_EXPIRED_KEY_SQL = """
+        DELETE FROM idempotency_keys
+        WHERE idempotency_key = :key AND expires_at <= :now
+        """;
+
+    String DELETE_EXPIRED_SQL = """
+        DELETE FROM idempotency_keys
+        WHERE expires_at <= :now
+        """;
+
+    /**
+     * 멱등성 키 기록 (호출 측 트랜잭션에 참여)
+     * @return 기록된 행 수 (0이면 이미 처리된 키)
+     */
+    @Modifying
+    @Query(value = INSERT_IGNORE_SQL, nativeQuery = true)
+    int insertIgnore(@Param("key") String key,
+                     @Param("operation") String operation,
+                     @Param("requestHash") String requestHash,
+                     @Param("responseBody") String responseBody,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 멱등성 키 삭제 (호출 측 트랜잭션에 참여)
+     * @param key 멱등성 키
+     */
+    @Modifying
+    @Query(value = DELETE_BY_KEY_SQL, nativeQuery = true)
+    void deleteByKey(@Param("key") String key);
+
+    /**
+     * 만료된 멱등성 키 하나 삭제 (호출 측 트랜잭션에 참여, 정리 작업 전에 같은 키를 다시 기록하는 경우)
+     * @param key 멱등성 키
+     * @param now 기준 시각
+     */
+    @Modifying
+    @Query(value = DELETE_EXPIRED_KEY_SQL, nativeQuery = true)
+    void deleteExpiredKey(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 키 일괄 삭제 (idx_idempotency_expires_at 사용)
+     * @param now 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = DELETE_EXPIRED_SQL, nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
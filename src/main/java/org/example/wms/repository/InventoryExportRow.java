@@ -0,0 +1,27 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 내보내기 행 (상품명, 창고명 포함, 엔티티 로딩 없이 조회)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class InventoryExportRow {
+    private final long inventoryId;
+    private final String inventoryPublicId;  // 일괄 발급 전이면 null
+    private final long productId;
+    private final String productName;
+    private final long warehouseId;
+    private final String warehousePublicId;  // 일괄 발급 전이면 null
+    private final String warehouseName;
+    private final int quantity;
+    private final int lowThreshold;
+    private final String stockStatus;
+    private final LocalDateTime updatedAt;
+}
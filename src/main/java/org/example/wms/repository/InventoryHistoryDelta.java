@@ -0,0 +1,47 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.example.wms.event.InventoryChange;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 이력 변화량 한 건 (시점 조회 시 스냅샷 이후로 재생하는 단위)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class InventoryHistoryDelta {
+    private final long inventoryId;
+    private final long productId;
+    private final long warehouseId;
+    private final int delta;
+
+    /**
+     * 한 트랜잭션의 재고 변경 내역을 재고별로 합산 (합계가 0인 재고는 제외)
+     * @param changes 재고 변경 내역
+     * @return 재고 ID 오름차순 변화량 목록
+     */
+    public static List<InventoryHistoryDelta> aggregate(Collection<InventoryChange> changes) {
+        Map<Long, InventoryHistoryDelta> sums = new TreeMap<>();
+        for (InventoryChange change : changes) {
+            sums.merge(change.getInventoryId(),
+                    new InventoryHistoryDelta(change.getInventoryId(), change.getProductId(),
+                            change.getWarehouseId(), change.getDelta()),
+                    (a, b) -> new InventoryHistoryDelta(a.inventoryId, a.productId, a.warehouseId, a.delta + b.delta));
+        }
+        List<InventoryHistoryDelta> deltas = new ArrayList<>(sums.size());
+        for (InventoryHistoryDelta delta : sums.values()) {
+            if (delta.delta != 0) {
+                deltas.add(delta);
+            }
+        }
+        return deltas;
+    }
+}
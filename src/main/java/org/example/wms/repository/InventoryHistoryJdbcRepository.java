@@ -0,0 +1,177 @@
+package org.example.wms.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 재고 이력(inventory_history)과 창고별 스냅샷(inventory_snapshots, inventory_snapshot_items)용 JDBC Repository
+ * 이력은 재고 행을 잠근 트랜잭션에서 기록하므로, 창고의 재고 행을 모두 잠근 스냅샷 시점에는
+ * 그 창고의 이전 이력이 모두 커밋되어 있고 이후 이력은 잠금이 풀린 뒤에야 ID를 받음
+ * 따라서 스냅샷에 그 시점의 마지막 이력 ID를 기록하고 그보다 큰 ID만 재생하면 이력이 정확히 앞뒤로 나뉨
+ * (기록 시각은 같은 마이크로초에 겹치거나 시계가 되돌아갈 수 있어 경계로 쓰지 않고, 조회 시점까지 자르는 데만 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryHistoryJdbcRepository {
+
+    // SQL 상수 정의
+    static final String INSERT_DELTA_SQL = """
+        INSERT INTO inventory_history (warehouse_id, inventory_id, product_id, delta, recorded_at)
+        VALUES (?, ?, ?, ?, NOW(6))
+        """;
+
+    static final String FIND_WAREHOUSE_IDS_SQL = """
+        SELECT w.warehouse_id FROM warehouses w ORDER BY w.warehouse_id
+        """;
+
+    // 창고의 재고 행과 그 사이 간격까지 잠가 진행 중인 변경의 커밋을 기다리고 새 재고 생성을 막음
+    static final String LOCK_WAREHOUSE_STOCK_SQL = """
+        SELECT i.inventory_id FROM inventory i
+        WHERE i.warehouse_id = ?
+        FOR UPDATE
+        """;
+
+    static final String CURRENT_TIME_SQL = """
+        SELECT NOW(6)
+        """;
+
+    // 이력 ID는 자동 증가이므로 잠금 이후 기록되는 이 창고의 이력은 모두 이 값보다 큼
+    static final String LAST_HISTORY_ID_SQL = """
+        SELECT COALESCE(MAX(h.history_id), 0) FROM inventory_history h
+        """;
+
+    static final String INSERT_SNAPSHOT_SQL = """
+        INSERT INTO inventory_snapshots (warehouse_id, taken_at, last_history_id) VALUES (?, ?, ?)
+        """;
+
+    static final String INSERT_SNAPSHOT_ITEMS_SQL = """
+        INSERT INTO inventory_snapshot_items (snapshot_id, inventory_id, product_id, quantity)
+        SELECT ?, i.inventory_id, i.product_id, i.quantity FROM inventory i
+        WHERE i.warehouse_id = ? AND i.quantity <> 0
+        """;
+
+    static final String FIND_SNAPSHOT_AT_OR_BEFORE_SQL = """
+        SELECT s.snapshot_id, s.warehouse_id, s.taken_at, s.last_history_id FROM inventory_snapshots s
+        WHERE s.warehouse_id = ? AND s.taken_at <= ?
+        ORDER BY s.taken_at DESC
+        LIMIT 1
+        """;
+
+    static final String FIND_SNAPSHOT_ITEMS_SQL = """
+        SELECT si.inventory_id, si.product_id, si.quantity FROM inventory_snapshot_items si
+        WHERE si.snapshot_id = ?
+        """;
+
+    static final String FIND_DELTAS_SQL = """
+        SELECT h.inventory_id, h.product_id, h.warehouse_id, h.delta FROM inventory_history h
+        WHERE h.warehouse_id = ? AND h.history_id > ? AND h.recorded_at <= ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고별 변화량 기록 (JDBC 배치, 호출한 트랜잭션에 참여)
+     * 재고 행을 잠근 트랜잭션 안에서 호출해야 기록 시각이 스냅샷 기준으로 정확히 나뉨
+     * @param deltas 재고별 변화량 목록
+     */
+    public void insertDeltas(List<InventoryHistoryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getWarehouseId());
+            ps.setLong(2, delta.getInventoryId());
+            ps.setLong(3, delta.getProductId());
+            ps.setInt(4, delta.getDelta());
+        });
+    }
+
+    /**
+     * 전체 창고 ID 조회 (창고 ID 오름차순)
+     */
+    public List<Long> findWarehouseIds() {
+        return jdbcTemplate.queryForList(FIND_WAREHOUSE_IDS_SQL, Long.class);
+    }
+
+    /**
+     * 창고 재고 스냅샷 생성 (트랜잭션 안에서 호출)
+     * 창고의 재고 행을 모두 잠근 뒤 DB 시각과 마지막 이력 ID를 기록하고, 수량이 0이 아닌 재고를 복사
+     * @param warehouseId 창고 ID
+     * @return 생성된 스냅샷
+     */
+    public InventorySnapshotRow takeSnapshot(long warehouseId) {
+        jdbcTemplate.queryForList(LOCK_WAREHOUSE_STOCK_SQL, Long.class, warehouseId);
+        LocalDateTime takenAt = jdbcTemplate.queryForObject(CURRENT_TIME_SQL, LocalDateTime.class);
+        long lastHistoryId = jdbcTemplate.queryForObject(LAST_HISTORY_ID_SQL, Long.class);
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SNAPSHOT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, warehouseId);
+            ps.setTimestamp(2, Timestamp.valueOf(takenAt));
+            ps.setLong(3, lastHistoryId);
+            return ps;
+        }, keyHolder);
+        long snapshotId = keyHolder.getKey().longValue();
+
+        jdbcTemplate.update(INSERT_SNAPSHOT_ITEMS_SQL, snapshotId, warehouseId);
+        return new InventorySnapshotRow(snapshotId, warehouseId, takenAt, lastHistoryId);
+    }
+
+    /**
+     * 지정 시각 이전(같은 시각 포함)의 가장 최근 스냅샷 조회
+     */
+    public Optional<InventorySnapshotRow> findSnapshotAtOrBefore(long warehouseId, LocalDateTime at) {
+        return jdbcTemplate.query(FIND_SNAPSHOT_AT_OR_BEFORE_SQL,
+                (rs, rowNum) -> new InventorySnapshotRow(
+                        rs.getLong("snapshot_id"),
+                        rs.getLong("warehouse_id"),
+                        rs.getTimestamp("taken_at").toLocalDateTime(),
+                        rs.getLong("last_history_id")),
+                warehouseId, Timestamp.valueOf(at)).stream().findFirst();
+    }
+
+    /**
+     * 스냅샷 항목 순회 (재고 ID, 상품 ID, 수량)
+     */
+    public void forEachSnapshotItem(InventorySnapshotRow snapshot, Consumer<InventoryStockRow> consumer) {
+        jdbcTemplate.query(FIND_SNAPSHOT_ITEMS_SQL,
+                rs -> {
+                    consumer.accept(new InventoryStockRow(
+                            rs.getLong("inventory_id"),
+                            rs.getLong("product_id"),
+                            snapshot.getWarehouseId(),
+                            rs.getInt("quantity")));
+                },
+                snapshot.getSnapshotId());
+    }
+
+    /**
+     * 스냅샷 이후 조회 시점까지 기록된 변화량 순회
+     * @param afterHistoryId 스냅샷의 마지막 이력 ID (제외)
+     * @param to 끝 시각 (포함, 조회 시점)
+     */
+    public void forEachDelta(long warehouseId, long afterHistoryId, LocalDateTime to,
+                             Consumer<InventoryHistoryDelta> consumer) {
+        jdbcTemplate.query(FIND_DELTAS_SQL,
+                rs -> {
+                    consumer.accept(new InventoryHistoryDelta(
+                            rs.getLong("inventory_id"),
+                            rs.getLong("product_id"),
+                            rs.getLong("warehouse_id"),
+                            rs.getInt("delta")));
+                },
+                warehouseId, afterHistoryId, Timestamp.valueOf(to));
+    }
+}
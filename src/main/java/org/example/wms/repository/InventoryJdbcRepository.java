@@ -0,0 +1,612 @@
+package org.example.wms.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.util.PublicIds;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 재고 대량 처리용 JDBC Repository
+ * JPA로 처리하기 어려운 JDBC 배치 작업 담당
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventoryJdbcRepository {
+
+    // SQL 상수 정의
+    static final String FIND_EXISTING_IDS_SQL = """
+        SELECT i.inventory_id FROM inventory i
+        WHERE i.inventory_id IN (:ids)
+        """;
+
+    static final String FIND_EXISTING_PRODUCT_IDS_SQL = """
+        SELECT p.product_id FROM products p
+        WHERE p.product_id IN (:ids)
+        """;
+
+    static final String FIND_EXISTING_WAREHOUSE_IDS_SQL = """
+        SELECT w.warehouse_id FROM warehouses w
+        WHERE w.warehouse_id IN (:ids)
+        """;
+
+    // 변경 후 수량이 하한(출고는 예약 수량, 입고는 0) 이상인 경우에만 적용됨
+    static final String APPLY_DELTA_SQL = """
+        UPDATE inventory
+        SET quantity = quantity + ?, version = version + 1, updated_at = NOW()
+        WHERE inventory_id = ? AND quantity + ? >= ?
+        """;
+
+    static final String FIND_STOCK_ROW_SQL = """
+        SELECT i.inventory_id, i.product_id, i.warehouse_id, i.quantity FROM inventory i
+        WHERE i.inventory_id = ?
+        """;
+
+    static final String LOCK_STOCK_ROW_SQL = """
+        SELECT i.inventory_id, i.product_id, i.warehouse_id, i.quantity FROM inventory i
+        WHERE i.inventory_id = ?
+        FOR UPDATE
+        """;
+
+    // 이동 등 여러 행을 잠그는 작업은 항상 재고 ID 오름차순으로 잠가 교착 상태를 방지
+    static final String LOCK_STOCK_ROWS_SQL = """
+        SELECT i.inventory_id, i.product_id, i.warehouse_id, i.quantity FROM inventory i
+        WHERE i.inventory_id IN (:ids)
+        ORDER BY i.inventory_id
+        FOR UPDATE
+        """;
+
+    static final String FIND_STOCK_ROWS_BY_KEYS_SQL = """
+        SELECT i.inventory_id, i.product_id, i.warehouse_id, i.quantity FROM inventory i
+        WHERE (i.product_id, i.warehouse_id) IN (:keys)
+        """;
+
+    static final String LOCK_STOCK_ROWS_BY_KEYS_SQL = """
+        SELECT i.inventory_id, i.product_id, i.warehouse_id, i.quantity FROM inventory i
+        WHERE (i.product_id, i.warehouse_id) IN (:keys)
+        FOR UPDATE
+        """;
+
+    // 동시에 같은 재고를 만드는 요청이 있으면 먼저 커밋된 행을 그대로 사용
+    // (IGNORE는 중복 시 0건을 돌려주므로 실제 생성 여부를 알 수 있음, 상품/창고 존재는 호출 측에서 확인)
+    static final String INSERT_EMPTY_ROW_SQL = """
+        INSERT IGNORE INTO inventory (product_id, warehouse_id, public_id, quantity, low_threshold, version, created_at, updated_at)
+        VALUES (?, ?, ?, 0, ?, 0, NOW(6), NOW(6))
+        """;
+
+    // 재고 일괄 등록: 이미 있는 재고는 수량을 요청 수량으로 교체
+    static final String UPSERT_REPLACE_SQL = """
+        INSERT INTO inventory (product_id, warehouse_id, public_id, quantity, low_threshold, version, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, 0, NOW(6), NOW(6))
+        ON DUPLICATE KEY UPDATE quantity = VALUES(quantity), version = version + 1, updated_at = NOW(6)
+        """;
+
+    // 재고 일괄 등록: 이미 있는 재고는 요청 수량만큼 증가
+    static final String UPSERT_ADD_SQL = """
+        INSERT INTO inventory (product_id, warehouse_id, public_id, quantity, low_threshold, version, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, 0, NOW(6), NOW(6))
+        ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity), version = version + 1, updated_at = NOW(6)
+        """;
+
+    // 재고 실사: 창고의 재고 행과 그 사이 간격까지 잠가 실사 반영 중에는 변경/생성을 막음
+    // (창고 인덱스는 (창고 ID, 재고 ID) 순이므로 정렬 없이 재고 ID 오름차순으로 읽으며 잠금 = 다른 작업과 같은 잠금 순서)
+    static final String LOCK_WAREHOUSE_STOCK_SQL = """
+        SELECT i.inventory_id, i.product_id, i.warehouse_id, i.quantity FROM inventory i FORCE INDEX (idx_inventory_warehouse)
+        WHERE i.warehouse_id = ?
+        ORDER BY i.inventory_id
+        FOR UPDATE
+        """;
+
+    static final String FIND_STOCK_ROWS_SQL = """
+        SELECT i.inventory_id, i.product_id, i.warehouse_id, i.quantity FROM inventory i
+        WHERE i.inventory_id IN (:ids)
+        """;
+
+    static final String FIND_AVAILABLE_STOCK_ROWS_SQL = """
+        SELECT i.inventory_id, i.product_id, i.warehouse_id, i.quantity FROM inventory i
+        WHERE i.quantity > 0
+        """;
+
+    // 내보내기: 조건(창고/상품)은 호출 시 덧붙이고 재고 ID 오름차순으로 정렬
+    static final String EXPORT_SELECT_SQL = """
+        SELECT i.inventory_id, i.public_id, i.product_id, p.name AS product_name,
+               i.warehouse_id, w.public_id AS warehouse_public_id, w.name AS warehouse_name,
+               i.quantity, i.low_threshold, i.stock_status, i.updated_at
+        FROM inventory i
+        JOIN products p ON p.product_id = i.product_id
+        JOIN warehouses w ON w.warehouse_id = i.warehouse_id
+        """;
+
+    static final String INSERT_MOVEMENT_SQL = """
+        INSERT INTO inventory_movements
+            (inventory_id, warehouse_id, delta, resulting_quantity, source, reason, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    // 이미 검증된 변화량 반영 (핫 재고 엔진의 집계 변화량, 잠금 후 합산한 변화량)
+    static final String APPLY_VERIFIED_DELTA_SQL = """
+        UPDATE inventory
+        SET quantity = quantity + ?, version = version + 1, updated_at = NOW()
+        WHERE inventory_id = ?
+        """;
+
+    static final String UPSERT_HOT_CHECKPOINT_SQL = """
+        INSERT INTO hot_stock_checkpoints (inventory_id, journal_version)
+        VALUES (?, ?)
+        ON DUPLICATE KEY UPDATE journal_version = VALUES(journal_version)
+        """;
+
+    static final String FIND_HOT_CHECKPOINTS_SQL = """
+        SELECT c.inventory_id, c.journal_version FROM hot_stock_checkpoints c
+        """;
+
+    static final String DELETE_HOT_CHECKPOINTS_SQL = """
+        DELETE FROM hot_stock_checkpoints
+        """;
+
+    /** 라인별 처리 결과: 존재하지 않는 재고 */
+    public static final int UNKNOWN = -1;
+    /** 라인별 처리 결과: 재고 부족 */
+    public static final int INSUFFICIENT = 0;
+    /** 라인별 처리 결과: 적용됨 */
+    public static final int APPLIED = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 존재하는 재고 ID 일괄 조회 (IN 쿼리 1회)
+     * @param inventoryIds 재고 ID 목록
+     * @return 존재하는 재고 ID 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingIds(Collection<Long> inventoryIds) {
+        if (inventoryIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                FIND_EXISTING_IDS_SQL, Map.of("ids", inventoryIds), Long.class));
+    }
+
+    /**
+     * 존재하는 상품 ID 일괄 조회 (IN 쿼리 1회)
+     * @param productIds 상품 ID 목록
+     * @return 존재하는 상품 ID 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingProductIds(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                FIND_EXISTING_PRODUCT_IDS_SQL, Map.of("ids", productIds), Long.class));
+    }
+
+    /**
+     * 존재하는 창고 ID 일괄 조회 (IN 쿼리 1회)
+     * @param warehouseIds 창고 ID 목록
+     * @return 존재하는 창고 ID 집합
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingWarehouseIds(Collection<Long> warehouseIds) {
+        if (warehouseIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                FIND_EXISTING_WAREHOUSE_IDS_SQL, Map.of("ids", warehouseIds), Long.class));
+    }
+
+    /**
+     * 재고 수량 일괄 변경 (JDBC 배치, 조건부 UPDATE)
+     * 같은 재고에 대한 여러 라인은 배열 순서대로 적용됨
+     * @param inventoryIds 재고 ID 목록
+     * @param deltas 수량 변화량 목록 (입고는 양수, 출고는 음수)
+     * @param floors 라인별 변경 후 최소 수량 (예약 수량)
+     * @return 라인별 처리 결과 ({@link #UNKNOWN}, {@link #INSUFFICIENT}, {@link #APPLIED})
+     */
+    @Transactional
+    public int[] applyDeltas(long[] inventoryIds, int[] deltas, int[] floors) {
+        Set<Long> distinctIds = new HashSet<>();
+        for (long id : inventoryIds) {
+            distinctIds.add(id);
+        }
+        Set<Long> existing = findExistingIds(distinctIds);
+
+        int[] outcomes = new int[inventoryIds.length];
+        int[] targets = new int[inventoryIds.length];
+        int targetCount = 0;
+        for (int i = 0; i < inventoryIds.length; i++) {
+            if (existing.contains(inventoryIds[i])) {
+                targets[targetCount++] = i;
+            } else {
+                outcomes[i] = UNKNOWN;
+            }
+        }
+        if (targetCount == 0) {
+            return outcomes;
+        }
+
+        final int batchSize = targetCount;
+        int[] counts = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                int line = targets[i];
+                ps.setInt(1, deltas[line]);
+                ps.setLong(2, inventoryIds[line]);
+                ps.setInt(3, deltas[line]);
+                ps.setInt(4, floors[line]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batchSize;
+            }
+        });
+
+        for (int i = 0; i < batchSize; i++) {
+            outcomes[targets[i]] = counts[i] > 0 ? APPLIED : INSUFFICIENT;
+        }
+        return outcomes;
+    }
+
+    /**
+     * 재고 수량 일괄 변경 (JDBC 배치, 조건부 UPDATE, 존재 여부 조회 없음)
+     * 호출 측에서 행을 잠그고 검증한 경우에 사용하며, 조건은 검증 이후의 안전장치 역할
+     * @param inventoryIds 재고 ID 목록
+     * @param deltas 수량 변화량 목록
+     * @param floors 라인별 변경 후 최소 수량 (예약 수량)
+     * @return 라인별로 적용되었으면 true
+     */
+    public boolean[] applyLockedDeltas(long[] inventoryIds, int[] deltas, int[] floors) {
+        int[] counts = jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, deltas[i]);
+                ps.setLong(2, inventoryIds[i]);
+                ps.setInt(3, deltas[i]);
+                ps.setInt(4, floors[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return inventoryIds.length;
+            }
+        });
+        boolean[] applied = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            applied[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+        }
+        return applied;
+    }
+
+    /**
+     * 재고 행의 식별 정보와 현재 수량 조회
+     * 쓰기 트랜잭션 안에서 UPDATE 직후 호출하면 해당 UPDATE가 반영된 값을 읽음
+     * @param inventoryId 재고 ID
+     * @return 재고 행 정보
+     */
+    public Optional<InventoryStockRow> findStockRow(Long inventoryId) {
+        List<InventoryStockRow> rows = jdbcTemplate.query(FIND_STOCK_ROW_SQL, this::mapStockRow, inventoryId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 재고 행 잠금 조회 (SELECT ... FOR UPDATE)
+     * 트랜잭션 안에서 호출해야 하며, 커밋/롤백 전까지 다른 쓰기 요청은 대기
+     * @param inventoryId 재고 ID
+     * @return 재고 행 정보
+     */
+    public Optional<InventoryStockRow> lockStockRow(Long inventoryId) {
+        List<InventoryStockRow> rows = jdbcTemplate.query(LOCK_STOCK_ROW_SQL, this::mapStockRow, inventoryId);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * 재고 수량 변경 (조건 없음, 호출 측에서 잠금 후 검증한 경우에만 사용)
+     * @param inventoryId 재고 ID
+     * @param delta 수량 변화량
+     */
+    public void addQuantity(long inventoryId, int delta) {
+        jdbcTemplate.update(APPLY_VERIFIED_DELTA_SQL, delta, inventoryId);
+    }
+
+    /**
+     * 재고 수량 일괄 변경 (조건 없음, JDBC 배치, 호출 측에서 잠금 후 검증한 경우에만 사용)
+     * @param inventoryIds 재고 ID 목록
+     * @param deltas 수량 변화량 목록
+     */
+    public void addQuantities(long[] inventoryIds, int[] deltas) {
+        jdbcTemplate.batchUpdate(APPLY_VERIFIED_DELTA_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setInt(1, deltas[i]);
+                ps.setLong(2, inventoryIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return inventoryIds.length;
+            }
+        });
+    }
+
+    /**
+     * 여러 재고 행 잠금 조회 (재고 ID 오름차순으로 잠금)
+     * 트랜잭션 안에서 호출해야 하며, 여러 행을 잠그는 작업끼리는 잠금 순서가 같으므로 서로 교착되지 않음
+     * @param inventoryIds 재고 ID 목록
+     * @return 재고 ID → 재고 행 정보 (존재하는 재고만)
+     */
+    public Map<Long, InventoryStockRow> lockStockRows(Collection<Long> inventoryIds) {
+        Map<Long, InventoryStockRow> rows = new HashMap<>();
+        if (inventoryIds.isEmpty()) {
+            return rows;
+        }
+        namedParameterJdbcTemplate.query(LOCK_STOCK_ROWS_SQL, Map.of("ids", inventoryIds),
+                rs -> {
+                    InventoryStockRow row = mapStockRow(rs, 0);
+                    rows.put(row.getInventoryId(), row);
+                });
+        return rows;
+    }
+
+    /**
+     * (상품, 창고) 조합으로 재고 행 일괄 조회 (IN 쿼리 1회, 잠금 없음)
+     * @param keys (상품 ID, 창고 ID) 목록
+     * @return (상품 ID, 창고 ID) → 재고 행 정보 (존재하는 재고만)
+     */
+    public Map<StockKey, InventoryStockRow> findStockRowsByKeys(Collection<StockKey> keys) {
+        return queryByKeys(FIND_STOCK_ROWS_BY_KEYS_SQL, keys);
+    }
+
+    /**
+     * (상품, 창고) 조합으로 재고 행 잠금 조회 (트랜잭션 시작 이후 커밋된 행도 읽음)
+     * 이 트랜잭션에서 방금 생성했거나 이미 잠근 행을 다시 읽거나, ID 순으로 잠근 뒤 그 사이 생성된 행을 확인하는 용도로 사용
+     * 없는 조합은 인덱스 간격 잠금으로 커밋까지 다른 요청의 생성을 막음
+     * @param keys (상품 ID, 창고 ID) 목록
+     * @return (상품 ID, 창고 ID) → 재고 행 정보 (존재하는 재고만)
+     */
+    public Map<StockKey, InventoryStockRow> lockStockRowsByKeys(Collection<StockKey> keys) {
+        return queryByKeys(LOCK_STOCK_ROWS_BY_KEYS_SQL, keys);
+    }
+
+    private Map<StockKey, InventoryStockRow> queryByKeys(String sql, Collection<StockKey> keys) {
+        Map<StockKey, InventoryStockRow> rows = new HashMap<>();
+        if (keys.isEmpty()) {
+            return rows;
+        }
+        List<Object[]> tuples = keys.stream()
+                .map(key -> new Object[]{key.productId(), key.warehouseId()})
+                .toList();
+        namedParameterJdbcTemplate.query(sql, Map.of("keys", tuples),
+                rs -> {
+                    InventoryStockRow row = mapStockRow(rs, 0);
+                    rows.put(new StockKey(row.getProductId(), row.getWarehouseId()), row);
+                });
+        return rows;
+    }
+
+    /**
+     * 수량 0인 재고 행 생성 (이미 있으면 건너뜀)
+     * 새 행의 잠금 순서가 요청마다 같도록 (상품 ID, 창고 ID) 순으로 정렬하여 생성
+     * 실제로 생성했는지 알아야 하므로 배치로 묶지 않음 (배치 재작성 시 행별 결과를 알 수 없음)
+     * @param keys 생성할 (상품 ID, 창고 ID) 목록 (상품, 창고는 존재해야 함)
+     * @param lowThresholds 키별 부족 기준 수량
+     * @return 이 호출에서 생성된 키 (다른 요청이 먼저 만든 키 제외)
+     */
+    public Set<StockKey> insertEmptyRows(Collection<StockKey> keys, ToIntFunction<StockKey> lowThresholds) {
+        Set<StockKey> inserted = new HashSet<>();
+        for (StockKey key : keys.stream().sorted().toList()) {
+            // 생성 시 1, 이미 있으면 0
+            if (jdbcTemplate.update(INSERT_EMPTY_ROW_SQL, key.productId(), key.warehouseId(),
+                    PublicIds.newInventoryId(), lowThresholds.applyAsInt(key)) == 1) {
+                inserted.add(key);
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * 재고 일괄 등록 (JDBC 배치 INSERT ... ON DUPLICATE KEY UPDATE)
+     * 호출 측에서 (상품 ID, 창고 ID) 순으로 정렬하여 전달해야 요청 간 잠금 순서가 같음
+     * @param keys (상품 ID, 창고 ID) 목록 (상품, 창고는 존재해야 함)
+     * @param quantities 행별 수량
+     * @param add true면 기존 수량에 더하고, false면 기존 수량을 교체
+     * @param lowThresholds 키별 부족 기준 수량 (새로 생성되는 행에만 기록)
+     */
+    public void upsertRows(List<StockKey> keys, int[] quantities, boolean add, ToIntFunction<StockKey> lowThresholds) {
+        jdbcTemplate.batchUpdate(add ? UPSERT_ADD_SQL : UPSERT_REPLACE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, keys.get(i).productId());
+                ps.setLong(2, keys.get(i).warehouseId());
+                ps.setString(3, PublicIds.newInventoryId());  // 이미 있는 행이면 사용되지 않음
+                ps.setInt(4, quantities[i]);
+                ps.setInt(5, lowThresholds.applyAsInt(keys.get(i)));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return keys.size();
+            }
+        });
+    }
+
+    /**
+     * 재고 행의 식별 정보와 현재 수량 일괄 조회 (IN 쿼리 1회)
+     * @param inventoryIds 재고 ID 목록
+     * @return 재고 ID → 재고 행 정보
+     */
+    public Map<Long, InventoryStockRow> findStockRows(Collection<Long> inventoryIds) {
+        Map<Long, InventoryStockRow> rows = new HashMap<>();
+        if (inventoryIds.isEmpty()) {
+            return rows;
+        }
+        namedParameterJdbcTemplate.query(FIND_STOCK_ROWS_SQL, Map.of("ids", inventoryIds),
+                rs -> {
+                    InventoryStockRow row = mapStockRow(rs, 0);
+                    rows.put(row.getInventoryId(), row);
+                });
+        return rows;
+    }
+
+    /**
+     * 수량이 남아 있는 모든 재고 행을 한 번의 쿼리로 순회 (엔티티 로딩 없음)
+     * @param consumer 행 처리 함수
+     */
+    public void forEachAvailableStockRow(Consumer<InventoryStockRow> consumer) {
+        jdbcTemplate.query(FIND_AVAILABLE_STOCK_ROWS_SQL,
+                rs -> {
+                    consumer.accept(mapStockRow(rs, 0));
+                });
+    }
+
+    /**
+     * 재고 내보내기 행을 스트리밍 커서로 순회 (창고/상품 조건은 선택)
+     * 전방 전용, 읽기 전용 결과에 fetch size Integer.MIN_VALUE를 지정해 MySQL 드라이버가 결과를 메모리에 모으지 않고
+     * 한 행씩 읽게 하므로, 행 수와 관계없이 메모리 사용량이 일정함
+     * 순회가 끝날 때까지 커넥션을 점유하며, 중간에 중단하면 드라이버가 남은 행을 읽어 버린 뒤 커넥션을 반환함
+     * @param warehouseId 창고 ID (null이면 전체)
+     * @param productId 상품 ID (null이면 전체)
+     * @param consumer 행 처리 함수
+     */
+    public void forEachExportRow(Long warehouseId, Long productId, Consumer<InventoryExportRow> consumer) {
+        StringBuilder sql = new StringBuilder(EXPORT_SELECT_SQL).append("WHERE 1 = 1");
+        if (warehouseId != null) {
+            sql.append(" AND i.warehouse_id = ?");
+        }
+        if (productId != null) {
+            sql.append(" AND i.product_id = ?");
+        }
+        sql.append(" ORDER BY i.inventory_id");
+
+        jdbcTemplate.query(con -> {
+                    PreparedStatement ps = con.prepareStatement(sql.toString(),
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    ps.setFetchSize(Integer.MIN_VALUE);
+                    int index = 1;
+                    if (warehouseId != null) {
+                        ps.setLong(index++, warehouseId);
+                    }
+                    if (productId != null) {
+                        ps.setLong(index, productId);
+                    }
+                    return ps;
+                },
+                rs -> {
+                    Timestamp updatedAt = rs.getTimestamp("updated_at");
+                    consumer.accept(new InventoryExportRow(
+                            rs.getLong("inventory_id"),
+                            rs.getString("public_id"),
+                            rs.getLong("product_id"),
+                            rs.getString("product_name"),
+                            rs.getLong("warehouse_id"),
+                            rs.getString("warehouse_public_id"),
+                            rs.getString("warehouse_name"),
+                            rs.getInt("quantity"),
+                            rs.getInt("low_threshold"),
+                            rs.getString("stock_status"),
+                            updatedAt != null ? updatedAt.toLocalDateTime() : null));
+                });
+    }
+
+    /**
+     * 창고의 재고 행을 모두 재고 ID 오름차순으로 잠그며 순회 (트랜잭션 안에서 호출)
+     * 커밋할 때까지 해당 창고의 재고 변경과 새 재고 생성이 대기하므로 한 시점의 일관된 수량을 읽음
+     * @param warehouseId 창고 ID
+     * @param consumer 재고 행 처리
+     */
+    public void forEachLockedWarehouseRow(long warehouseId, Consumer<InventoryStockRow> consumer) {
+        jdbcTemplate.query(LOCK_WAREHOUSE_STOCK_SQL,
+                rs -> {
+                    consumer.accept(mapStockRow(rs, 0));
+                },
+                warehouseId);
+    }
+
+    /**
+     * 재고 이동 원장 일괄 기록 (JDBC 배치 INSERT)
+     * @param changes 기록할 변경 내역
+     */
+    public void insertMovements(List<InventoryChange> changes) {
+        jdbcTemplate.batchUpdate(INSERT_MOVEMENT_SQL, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, change.getInventoryId());
+            ps.setLong(2, change.getWarehouseId());
+            ps.setInt(3, change.getDelta());
+            ps.setInt(4, change.getQuantity());
+            ps.setString(5, change.getSource().name());
+            ps.setString(6, change.getReason());
+            ps.setTimestamp(7, Timestamp.valueOf(change.getOccurredAt()));
+        });
+    }
+
+    private InventoryStockRow mapStockRow(ResultSet rs, int rowNum) throws SQLException {
+        return new InventoryStockRow(
+                rs.getLong("inventory_id"),
+                rs.getLong("product_id"),
+                rs.getLong("warehouse_id"),
+                rs.getInt("quantity"));
+    }
+
+    /**
+     * 핫 재고 엔진의 집계 변화량과 저널 체크포인트를 한 트랜잭션으로 반영
+     * 체크포인트가 같은 트랜잭션에 기록되므로 복구 시 이미 반영된 저널 레코드를 다시 적용하지 않음
+     * @param inventoryIds 재고 ID 목록
+     * @param deltas 집계 변화량 목록
+     * @param versions 반영된 마지막 저널 버전 목록
+     */
+    @Transactional
+    public void flushHotDeltas(long[] inventoryIds, int[] deltas, int[] versions) {
+        addQuantities(inventoryIds, deltas);
+        jdbcTemplate.batchUpdate(UPSERT_HOT_CHECKPOINT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, inventoryIds[i]);
+                ps.setInt(2, versions[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return inventoryIds.length;
+            }
+        });
+    }
+
+    /**
+     * 핫 재고 저널 체크포인트 조회
+     * @return 재고 ID → DB에 반영된 마지막 저널 버전
+     */
+    public Map<Long, Integer> findHotCheckpoints() {
+        Map<Long, Integer> checkpoints = new HashMap<>();
+        jdbcTemplate.query(FIND_HOT_CHECKPOINTS_SQL,
+                rs -> {
+                    checkpoints.put(rs.getLong("inventory_id"), rs.getInt("journal_version"));
+                });
+        return checkpoints;
+    }
+
+    /**
+     * 핫 재고 저널 체크포인트 초기화 (복구 완료 후 저널 버전이 0부터 다시 시작됨)
+     */
+    @Transactional
+    public void clearHotCheckpoints() {
+        jdbcTemplate.update(DELETE_HOT_CHECKPOINTS_SQL);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package org.example.wms.repository;
+
+import org.example.wms.entity.InventoryMovementEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovementEntity, Long> {
+
+    /**
+     * 재고별 이동 내역 조회 (idx_movement_inventory 사용)
+     * @param inventoryId 재고 ID
+     * @param pageable 페이징 정보
+     * @return 이동 내역 목록
+     */
+    Page<InventoryMovementEntity> findByInventoryId(Long inventoryId, Pageable pageable);
+
+    /**
+     * 창고별 이동 내역 조회 (idx_movement_warehouse 사용)
+     * @param warehouseId 창고 ID
+     * @param pageable 페이징 정보
+     * @return 이동 내역 목록
+     */
+    Page<InventoryMovementEntity> findByWarehouseId(Long warehouseId, Pageable pageable);
+}
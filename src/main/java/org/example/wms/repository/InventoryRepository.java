@@ -2,11 +2,13 @@ package org.example.wms.repository;
 
 import org.example.wms.entity.InventoryEntity;
 import org.example.wms.entity.ProductEntity;
+import org.example.wms.entity.StockStatus;
 import org.example.wms.entity.WarehouseEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,12 +17,6 @@ import java.util.Optional;
 public interface InventoryRepository extends JpaRepository<InventoryEntity, Long> {
 
     // Native Query 상수 정의
-    String FIND_LOW_STOCK_SQL = """
-        SELECT i.* FROM inventory i
-        WHERE i.quantity <= :threshold
-        ORDER BY i.quantity ASC
-        """;
-
     String FIND_TOTAL_QUANTITY_BY_PRODUCT_SQL = """
         SELECT SUM(i.quantity) FROM inventory i
         WHERE i.product_id = :productId
@@ -32,6 +28,19 @@ public interface InventoryRepository extends JpaRepository<InventoryEntity, Long
         WHERE i.product_id = :productId AND i.quantity > 0
         """;
 
+    String INCREASE_QUANTITY_SQL = """
+        UPDATE inventory
+        SET quantity = quantity + :amount, version = version + 1, updated_at = NOW()
+        WHERE inventory_id = :inventoryId
+        """;
+
+    // 예약분을 제외한 가용 재고가 충분한 경우에만 차감 (조건부 UPDATE)
+    String DECREASE_QUANTITY_SQL = """
+        UPDATE inventory
+        SET quantity = quantity - :amount, version = version + 1, updated_at = NOW()
+        WHERE inventory_id = :inventoryId AND quantity - :reserved >= :amount
+        """;
+
     /**
      * ID로 재고 조회 (상품 및 창고 정보 포함)
      * @param id 재고 ID
@@ -106,25 +115,24 @@ public interface InventoryRepository extends JpaRepository<InventoryEntity, Long
     Page<InventoryEntity> findByQuantityGreaterThanEqual(Integer quantity, Pageable pageable);
 
     /**
-     * 수량 이하인 재고 조회
-     * @param quantity 최대 수량
-     * @param pageable 페이징 정보
+     * 재고 상태로 조회 (stock_status, quantity 인덱스 범위 조회)
+     * @param stockStatus 재고 상태
+     * @param pageable 페이징 정보 (수량순 정렬은 인덱스 순서와 같아 정렬 비용 없음)
      * @return 재고 목록
      */
     @EntityGraph(attributePaths = {"product", "warehouse"})
-    Page<InventoryEntity> findByQuantityLessThanEqual(Integer quantity, Pageable pageable);
+    Page<InventoryEntity> findByStockStatus(StockStatus stockStatus, Pageable pageable);
 
     /**
-     * 재고 부족 목록 조회 (낮은 재고부터 정렬)
-     * @param threshold 임계값
+     * 창고의 재고를 상태로 조회 (warehouse_id, stock_status, quantity 인덱스 범위 조회)
+     * @param warehouseId 창고 ID
+     * @param stockStatus 재고 상태
      * @param pageable 페이징 정보
      * @return 재고 목록
      */
-    @Query(value = FIND_LOW_STOCK_SQL, nativeQuery = true)
-    Page<InventoryEntity> findLowStock(
-            @Param("threshold") Integer threshold,
-            Pageable pageable
-    );
+    @EntityGraph(attributePaths = {"product", "warehouse"})
+    Page<InventoryEntity> findByWarehouseWarehouseIdAndStockStatus(Long warehouseId, StockStatus stockStatus,
+                                                                   Pageable pageable);
 
     /**
      * 상품의 전체 재고 수량 조회
@@ -145,4 +153,26 @@ public interface InventoryRepository extends JpaRepository<InventoryEntity, Long
             @Param("productId") Long productId,
             Pageable pageable
     );
+
+    /**
+     * 재고 수량 증가 (단일 UPDATE)
+     * @param inventoryId 재고 ID
+     * @param amount 증가 수량
+     * @return 변경된 행 수 (0이면 재고 없음)
+     */
+    @Modifying
+    @Query(value = INCREASE_QUANTITY_SQL, nativeQuery = true)
+    int increaseQuantity(@Param("inventoryId") Long inventoryId, @Param("amount") int amount);
+
+    /**
+     * 재고 수량 차감 (예약분을 제외한 가용 재고가 충분한 경우에만 적용되는 조건부 UPDATE)
+     * @param inventoryId 재고 ID
+     * @param amount 차감 수량
+     * @param reserved 차감 후에도 남겨야 하는 예약 수량
+     * @return 변경된 행 수 (0이면 재고 없음 또는 재고 부족)
+     */
+    @Modifying
+    @Query(value = DECREASE_QUANTITY_SQL, nativeQuery = true)
+    int decreaseQuantity(@Param("inventoryId") Long inventoryId, @Param("amount") int amount,
+                         @Param("reserved") int reserved);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package org.example.wms.repository;
+
+import org.example.wms.entity.InventoryReservationEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservationEntity, Long> {
+
+    String DELETE_EXPIRED_SQL = """
+        DELETE FROM inventory_reservations
+        WHERE expires_at <= :now
+        """;
+
+    /**
+     * 만료된 예약 일괄 삭제 (idx_reservation_expires_at 사용)
+     * @param now 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = DELETE_EXPIRED_SQL, nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
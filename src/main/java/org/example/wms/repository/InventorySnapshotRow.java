@@ -0,0 +1,20 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 창고별 재고 스냅샷 정보 (항목은 inventory_snapshot_items)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class InventorySnapshotRow {
+    private final long snapshotId;
+    private final long warehouseId;
+    private final LocalDateTime takenAt;
+    private final long lastHistoryId;  // 스냅샷에 반영된 마지막 이력 ID (이후 이력만 재생)
+}
@@ -0,0 +1,18 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 재고 행의 식별 정보와 현재 수량 (엔티티 로딩 없이 조회)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class InventoryStockRow {
+    private final long inventoryId;
+    private final long productId;
+    private final long warehouseId;
+    private final int quantity;
+}
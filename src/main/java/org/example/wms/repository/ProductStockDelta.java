@@ -0,0 +1,52 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.example.wms.event.InventoryChange;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 상품별 재고 요약 변화량 (재고 변경 내역을 상품 단위로 합산한 값)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ProductStockDelta {
+    private final long productId;
+    private final long quantityDelta;
+    private final int warehouseCountDelta;  // 재고가 0에서 양수가 되면 +1, 양수에서 0 이하가 되면 -1
+    private final LocalDateTime lastMovementAt;
+
+    /**
+     * 재고 변경 내역을 상품별로 합산
+     * 같은 재고의 연속된 변경도 변경마다 이전 수량과 비교하므로 창고 수 변화량이 정확히 합산됨
+     * @param changes 재고 변경 내역
+     * @return 상품 ID 오름차순 변화량 목록 (잠금 순서와 같음)
+     */
+    public static List<ProductStockDelta> aggregate(Collection<InventoryChange> changes) {
+        Map<Long, long[]> sums = new TreeMap<>();  // 상품 ID → {수량 변화량, 창고 수 변화량}
+        Map<Long, LocalDateTime> lastMovements = new TreeMap<>();
+        for (InventoryChange change : changes) {
+            long[] sum = sums.computeIfAbsent(change.getProductId(), id -> new long[2]);
+            sum[0] += change.getDelta();
+            boolean wasStocked = change.previousQuantity() > 0;
+            boolean isStocked = change.getQuantity() > 0;
+            if (wasStocked != isStocked) {
+                sum[1] += isStocked ? 1 : -1;
+            }
+            lastMovements.merge(change.getProductId(), change.getOccurredAt(),
+                    (a, b) -> a.isAfter(b) ? a : b);
+        }
+        List<ProductStockDelta> deltas = new ArrayList<>(sums.size());
+        sums.forEach((productId, sum) -> deltas.add(
+                new ProductStockDelta(productId, sum[0], (int) sum[1], lastMovements.get(productId))));
+        return deltas;
+    }
+}
@@ -0,0 +1,167 @@
+package org.example.wms.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품별 재고 요약(product_stock_summary) 갱신용 JDBC Repository
+ * 요약 행은 재고 행을 모두 잠근 뒤 상품 ID 오름차순으로 잠그므로 재고 변경끼리 교착되지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockSummaryJdbcRepository {
+
+    // SQL 상수 정의
+    // 변화량 누적: 요약 행이 없으면 변화량을 초기값으로 생성
+    static final String APPLY_DELTA_SQL = """
+        INSERT INTO product_stock_summary (product_id, total_quantity, warehouse_count, last_movement_at, updated_at)
+        VALUES (?, ?, ?, ?, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            total_quantity = total_quantity + VALUES(total_quantity),
+            warehouse_count = warehouse_count + VALUES(warehouse_count),
+            last_movement_at = GREATEST(COALESCE(last_movement_at, VALUES(last_movement_at)), VALUES(last_movement_at)),
+            updated_at = NOW(6)
+        """;
+
+    // 재계산 값으로 교체 (마지막 변경 시각은 더 최근 값 유지)
+    static final String OVERWRITE_SQL = """
+        INSERT INTO product_stock_summary (product_id, total_quantity, warehouse_count, last_movement_at, updated_at)
+        VALUES (?, ?, ?, ?, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            total_quantity = VALUES(total_quantity),
+            warehouse_count = VALUES(warehouse_count),
+            last_movement_at = GREATEST(COALESCE(last_movement_at, VALUES(last_movement_at)),
+                                        COALESCE(VALUES(last_movement_at), last_movement_at)),
+            updated_at = NOW(6)
+        """;
+
+    static final String FIND_PRODUCT_IDS_AFTER_SQL = """
+        SELECT p.product_id FROM products p
+        WHERE p.product_id > ?
+        ORDER BY p.product_id
+        LIMIT ?
+        """;
+
+    static final String LOCK_SUMMARIES_SQL = """
+        SELECT s.product_id, s.total_quantity, s.warehouse_count, s.last_movement_at FROM product_stock_summary s
+        WHERE s.product_id IN (:ids)
+        ORDER BY s.product_id
+        FOR UPDATE
+        """;
+
+    static final String AGGREGATE_INVENTORY_SQL = """
+        SELECT i.product_id,
+               SUM(i.quantity) AS total_quantity,
+               SUM(i.quantity > 0) AS warehouse_count,
+               MAX(i.updated_at) AS last_movement_at
+        FROM inventory i
+        WHERE i.product_id IN (:ids)
+        GROUP BY i.product_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 상품별 변화량 누적 (JDBC 배치, 호출한 트랜잭션에 참여)
+     * @param deltas 상품 ID 오름차순 변화량 목록
+     */
+    public void applyDeltas(List<ProductStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getProductId());
+            ps.setLong(2, delta.getQuantityDelta());
+            ps.setInt(3, delta.getWarehouseCountDelta());
+            setTimestamp(ps, 4, delta.getLastMovementAt());
+        });
+    }
+
+    /**
+     * 재계산한 요약 값으로 교체 (JDBC 배치)
+     * @param summaries 상품 ID 오름차순 요약 목록
+     */
+    public void overwrite(List<ProductStockSummaryRow> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(OVERWRITE_SQL, summaries, summaries.size(), (ps, summary) -> {
+            ps.setLong(1, summary.getProductId());
+            ps.setLong(2, summary.getTotalQuantity());
+            ps.setInt(3, summary.getWarehouseCount());
+            setTimestamp(ps, 4, summary.getLastMovementAt());
+        });
+    }
+
+    /**
+     * 상품 ID를 키 순서대로 한 묶음 조회 (keyset 페이징)
+     * @param afterProductId 이전 묶음의 마지막 상품 ID (처음이면 0)
+     * @param limit 묶음 크기
+     * @return 상품 ID 오름차순 목록
+     */
+    public List<Long> findProductIdsAfter(long afterProductId, int limit) {
+        return jdbcTemplate.queryForList(FIND_PRODUCT_IDS_AFTER_SQL, Long.class, afterProductId, limit);
+    }
+
+    /**
+     * 요약 행을 상품 ID 오름차순으로 잠가 조회
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 요약 (행이 없는 상품은 제외)
+     */
+    public Map<Long, ProductStockSummaryRow> lockSummaries(Collection<Long> productIds) {
+        return queryByProductIds(LOCK_SUMMARIES_SQL, productIds);
+    }
+
+    /**
+     * inventory 테이블에서 상품별 요약을 직접 집계
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 집계 값 (재고가 없는 상품은 제외)
+     */
+    public Map<Long, ProductStockSummaryRow> aggregateInventory(Collection<Long> productIds) {
+        return queryByProductIds(AGGREGATE_INVENTORY_SQL, productIds);
+    }
+
+    private Map<Long, ProductStockSummaryRow> queryByProductIds(String sql, Collection<Long> productIds) {
+        Map<Long, ProductStockSummaryRow> rows = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return rows;
+        }
+        namedParameterJdbcTemplate.query(sql, Map.of("ids", productIds),
+                rs -> {
+                    ProductStockSummaryRow row = mapSummaryRow(rs);
+                    rows.put(row.getProductId(), row);
+                });
+        return rows;
+    }
+
+    private ProductStockSummaryRow mapSummaryRow(ResultSet rs) throws SQLException {
+        Timestamp lastMovementAt = rs.getTimestamp("last_movement_at");
+        return new ProductStockSummaryRow(
+                rs.getLong("product_id"),
+                rs.getLong("total_quantity"),
+                rs.getInt("warehouse_count"),
+                lastMovementAt == null ? null : lastMovementAt.toLocalDateTime());
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.wms.repository;
+
+import org.example.wms.entity.ProductStockSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductStockSummaryRepository extends JpaRepository<ProductStockSummaryEntity, Long> {
+}
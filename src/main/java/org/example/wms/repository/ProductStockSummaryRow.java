@@ -0,0 +1,27 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 재고 요약 값 (요약 테이블 또는 inventory 집계 결과)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ProductStockSummaryRow {
+    private final long productId;
+    private final long totalQuantity;
+    private final int warehouseCount;
+    private final LocalDateTime lastMovementAt;
+
+    /**
+     * 수량과 창고 수가 같은지 여부 (마지막 변경 시각은 비교하지 않음)
+     */
+    public boolean sameStock(ProductStockSummaryRow other) {
+        return totalQuantity == other.totalQuantity && warehouseCount == other.warehouseCount;
+    }
+}
@@ -0,0 +1,162 @@
+package org.example.wms.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.wms.util.PublicIds;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 공개 ID(public_id) 조회 및 일괄 발급용 JDBC Repository
+ * 공개 ID는 유니크 인덱스로 조회하며, 기존 행의 발급은 공개 ID가 없는 행만 갱신하므로 여러 번 실행해도 안전
+ */
+@Repository
+@RequiredArgsConstructor
+public class PublicIdJdbcRepository {
+
+    // SQL 상수 정의
+    static final String FIND_WAREHOUSE_ID_SQL = """
+        SELECT w.warehouse_id FROM warehouses w
+        WHERE w.public_id = ?
+        """;
+
+    static final String FIND_INVENTORY_ID_SQL = """
+        SELECT i.inventory_id FROM inventory i
+        WHERE i.public_id = ?
+        """;
+
+    static final String FIND_WAREHOUSE_PUBLIC_IDS_SQL = """
+        SELECT w.warehouse_id AS id, w.public_id FROM warehouses w
+        WHERE w.warehouse_id IN (:ids) AND w.public_id IS NOT NULL
+        """;
+
+    static final String FIND_INVENTORY_PUBLIC_IDS_SQL = """
+        SELECT i.inventory_id AS id, i.public_id FROM inventory i
+        WHERE i.inventory_id IN (:ids) AND i.public_id IS NOT NULL
+        """;
+
+    static final String FIND_WAREHOUSES_WITHOUT_PUBLIC_ID_SQL = """
+        SELECT w.warehouse_id FROM warehouses w
+        WHERE w.public_id IS NULL
+        ORDER BY w.warehouse_id
+        LIMIT ?
+        """;
+
+    static final String FIND_INVENTORIES_WITHOUT_PUBLIC_ID_SQL = """
+        SELECT i.inventory_id FROM inventory i
+        WHERE i.public_id IS NULL
+        ORDER BY i.inventory_id
+        LIMIT ?
+        """;
+
+    // 그 사이 다른 인스턴스가 발급한 행은 건너뜀
+    static final String ASSIGN_WAREHOUSE_PUBLIC_ID_SQL = """
+        UPDATE warehouses SET public_id = ?
+        WHERE warehouse_id = ? AND public_id IS NULL
+        """;
+
+    static final String ASSIGN_INVENTORY_PUBLIC_ID_SQL = """
+        UPDATE inventory SET public_id = ?
+        WHERE inventory_id = ? AND public_id IS NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 공개 ID로 내부 ID 조회 (종류 글자로 테이블 선택)
+     * @param publicId 공개 ID (형식은 호출 측에서 확인)
+     * @return 내부 ID (없으면 empty)
+     */
+    public Optional<Long> findId(String publicId) {
+        String sql = publicId.charAt(0) == PublicIds.WAREHOUSE ? FIND_WAREHOUSE_ID_SQL : FIND_INVENTORY_ID_SQL;
+        return jdbcTemplate.queryForList(sql, Long.class, publicId).stream().findFirst();
+    }
+
+    /**
+     * 창고 ID로 공개 ID 조회 (응답 ID 변환용)
+     * @param warehouseIds 창고 ID 목록
+     * @return 창고 ID → 공개 ID (공개 ID가 없는 창고는 제외)
+     */
+    public Map<Long, String> findWarehousePublicIds(Collection<Long> warehouseIds) {
+        return findPublicIds(FIND_WAREHOUSE_PUBLIC_IDS_SQL, warehouseIds);
+    }
+
+    /**
+     * 재고 ID로 공개 ID 조회 (응답 ID 변환용)
+     * @param inventoryIds 재고 ID 목록
+     * @return 재고 ID → 공개 ID (공개 ID가 없는 재고는 제외)
+     */
+    public Map<Long, String> findInventoryPublicIds(Collection<Long> inventoryIds) {
+        return findPublicIds(FIND_INVENTORY_PUBLIC_IDS_SQL, inventoryIds);
+    }
+
+    private Map<Long, String> findPublicIds(String sql, Collection<Long> ids) {
+        Map<Long, String> publicIds = new HashMap<>();
+        if (ids.isEmpty()) {
+            return publicIds;
+        }
+        namedParameterJdbcTemplate.query(sql, Map.of("ids", ids),
+                rs -> {
+                    publicIds.put(rs.getLong("id"), rs.getString("public_id"));
+                });
+        return publicIds;
+    }
+
+    /**
+     * 공개 ID가 없는 창고 ID 조회 (ID 오름차순)
+     * @param limit 최대 개수
+     */
+    public List<Long> findWarehousesWithoutPublicId(int limit) {
+        return jdbcTemplate.queryForList(FIND_WAREHOUSES_WITHOUT_PUBLIC_ID_SQL, Long.class, limit);
+    }
+
+    /**
+     * 공개 ID가 없는 재고 ID 조회 (ID 오름차순)
+     * @param limit 최대 개수
+     */
+    public List<Long> findInventoriesWithoutPublicId(int limit) {
+        return jdbcTemplate.queryForList(FIND_INVENTORIES_WITHOUT_PUBLIC_ID_SQL, Long.class, limit);
+    }
+
+    /**
+     * 창고 공개 ID 일괄 발급 (JDBC 배치, 호출한 트랜잭션에 참여)
+     * @param warehouseIds 창고 ID 목록
+     * @return 발급한 행 수
+     */
+    public int assignWarehousePublicIds(List<Long> warehouseIds) {
+        return assign(ASSIGN_WAREHOUSE_PUBLIC_ID_SQL, warehouseIds, PublicIds.WAREHOUSE);
+    }
+
+    /**
+     * 재고 공개 ID 일괄 발급 (JDBC 배치, 호출한 트랜잭션에 참여)
+     * @param inventoryIds 재고 ID 목록
+     * @return 발급한 행 수
+     */
+    public int assignInventoryPublicIds(List<Long> inventoryIds) {
+        return assign(ASSIGN_INVENTORY_PUBLIC_ID_SQL, inventoryIds, PublicIds.INVENTORY);
+    }
+
+    private int assign(String sql, List<Long> ids, char kind) {
+        int[][] counts = jdbcTemplate.batchUpdate(sql, ids, ids.size(), (ps, id) -> {
+            ps.setString(1, kind == PublicIds.WAREHOUSE ? PublicIds.newWarehouseId() : PublicIds.newInventoryId());
+            ps.setLong(2, id);
+        });
+        int assigned = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    assigned++;
+                }
+            }
+        }
+        return assigned;
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.wms.repository;
+
+import java.util.Comparator;
+
+/**
+ * 재고 행의 자연 키 (상품 ID, 창고 ID)
+ * inventory 테이블의 unique_product_warehouse 제약과 같은 조합
+ */
+public record StockKey(long productId, long warehouseId) implements Comparable<StockKey> {
+
+    private static final Comparator<StockKey> ORDER = Comparator
+            .comparingLong(StockKey::productId)
+            .thenComparingLong(StockKey::warehouseId);
+
+    @Override
+    public int compareTo(StockKey other) {
+        return ORDER.compare(this, other);
+    }
+}
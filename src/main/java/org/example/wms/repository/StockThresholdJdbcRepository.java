@@ -0,0 +1,104 @@
+package org.example.wms.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 부족 기준 수량(stock_thresholds) 관리 및 재고 행 반영용 JDBC Repository
+ * 재고 행의 low_threshold는 재고 상태(stock_status) 생성 컬럼의 계산에 사용됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockThresholdJdbcRepository {
+
+    /** 상품 기본값 행의 창고 ID */
+    public static final long PRODUCT_DEFAULT = 0L;
+
+    // SQL 상수 정의
+    static final String FIND_ALL_SQL = """
+        SELECT t.product_id, t.warehouse_id, t.low_threshold FROM stock_thresholds t
+        """;
+
+    static final String FIND_THRESHOLD_SQL = """
+        SELECT t.low_threshold FROM stock_thresholds t
+        WHERE t.product_id = ? AND t.warehouse_id = ?
+        """;
+
+    static final String UPSERT_SQL = """
+        INSERT INTO stock_thresholds (product_id, warehouse_id, low_threshold, updated_at)
+        VALUES (?, ?, ?, NOW(6))
+        ON DUPLICATE KEY UPDATE low_threshold = VALUES(low_threshold), updated_at = NOW(6)
+        """;
+
+    static final String DELETE_SQL = """
+        DELETE FROM stock_thresholds WHERE product_id = ? AND warehouse_id = ?
+        """;
+
+    // 창고별 재정의: 해당 재고 행 하나만 변경
+    static final String APPLY_TO_WAREHOUSE_SQL = """
+        UPDATE inventory SET low_threshold = ?
+        WHERE product_id = ? AND warehouse_id = ? AND low_threshold <> ?
+        """;
+
+    // 상품 기본값: 창고별 재정의가 있는 재고 행은 제외
+    static final String APPLY_TO_PRODUCT_SQL = """
+        UPDATE inventory i SET i.low_threshold = ?
+        WHERE i.product_id = ? AND i.low_threshold <> ?
+          AND NOT EXISTS (SELECT 1 FROM stock_thresholds t
+                          WHERE t.product_id = i.product_id AND t.warehouse_id = i.warehouse_id)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전체 설정 조회 (인메모리 맵 적재용)
+     */
+    public List<StockThresholdRow> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, (rs, rowNum) -> new StockThresholdRow(
+                rs.getLong("product_id"),
+                rs.getLong("warehouse_id"),
+                rs.getInt("low_threshold")));
+    }
+
+    /**
+     * 설정 한 건 조회
+     * @param warehouseId 창고 ID (상품 기본값은 PRODUCT_DEFAULT)
+     */
+    public Optional<Integer> findThreshold(long productId, long warehouseId) {
+        return jdbcTemplate.queryForList(FIND_THRESHOLD_SQL, Integer.class, productId, warehouseId)
+                .stream().findFirst();
+    }
+
+    /**
+     * 설정 등록 또는 변경
+     * @param warehouseId 창고 ID (상품 기본값은 PRODUCT_DEFAULT)
+     */
+    public void upsert(long productId, long warehouseId, int lowThreshold) {
+        jdbcTemplate.update(UPSERT_SQL, productId, warehouseId, lowThreshold);
+    }
+
+    /**
+     * 설정 삭제
+     * @param warehouseId 창고 ID (상품 기본값은 PRODUCT_DEFAULT)
+     * @return 삭제 여부
+     */
+    public boolean delete(long productId, long warehouseId) {
+        return jdbcTemplate.update(DELETE_SQL, productId, warehouseId) > 0;
+    }
+
+    /**
+     * 재고 행에 기준 수량 반영 (재고 상태는 DB가 다시 계산)
+     * @param warehouseId 창고 ID (PRODUCT_DEFAULT면 창고별 재정의가 없는 상품의 모든 재고 행)
+     * @return 변경된 재고 행 수
+     */
+    public int applyToInventory(long productId, long warehouseId, int lowThreshold) {
+        if (warehouseId == PRODUCT_DEFAULT) {
+            return jdbcTemplate.update(APPLY_TO_PRODUCT_SQL, lowThreshold, productId, lowThreshold);
+        }
+        return jdbcTemplate.update(APPLY_TO_WAREHOUSE_SQL, lowThreshold, productId, warehouseId, lowThreshold);
+    }
+}
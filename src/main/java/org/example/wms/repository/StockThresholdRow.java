@@ -0,0 +1,17 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 부족 기준 수량 설정 한 행 (warehouseId = 0이면 상품 기본값)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class StockThresholdRow {
+    private final long productId;
+    private final long warehouseId;
+    private final int lowThreshold;
+}
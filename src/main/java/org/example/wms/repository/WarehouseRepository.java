@@ -20,14 +20,6 @@ public interface WarehouseRepository extends JpaRepository<WarehouseEntity, Long
         WHERE p.name LIKE CONCAT('%', :productName, '%')
         """;
 
-    String FIND_BY_TOTAL_QUANTITY_SQL = """
-        SELECT w.*, SUM(i.quantity) as total_quantity
-        FROM warehouses w
-        LEFT JOIN inventory i ON w.warehouse_id = i.warehouse_id
-        GROUP BY w.warehouse_id
-        HAVING total_quantity >= :minQuantity
-        """;
-
     /**
      * ID로 창고 조회 (재고 정보 포함)
      * @param id 창고 ID
@@ -36,14 +28,6 @@ public interface WarehouseRepository extends JpaRepository<WarehouseEntity, Long
     @EntityGraph(attributePaths = {"inventories"})
     Optional<WarehouseEntity> findById(Long id);
 
-    /**
-     * 전체 창고 조회 (재고 정보 포함)
-     * @param pageable 페이징 정보
-     * @return 창고 목록
-     */
-    @EntityGraph(attributePaths = {"inventories"})
-    Page<WarehouseEntity> findAll(Pageable pageable);
-
     /**
      * 창고명으로 검색
      * @param name 창고명 (부분 일치)
@@ -89,13 +73,10 @@ public interface WarehouseRepository extends JpaRepository<WarehouseEntity, Long
 
     /**
      * 총 재고량 기준으로 창고 검색
+     * 창고별 합계 테이블의 total_quantity 인덱스 범위 조회 (재고 테이블 집계 없음)
      * @param minQuantity 최소 재고량
      * @param pageable 페이징 정보
-     * @return 창고 목록
+     * @return 창고 목록 (재고가 한 번도 없던 창고 제외)
      */
-    @Query(value = FIND_BY_TOTAL_QUANTITY_SQL, nativeQuery = true)
-    Page<WarehouseEntity> findByTotalQuantityGreaterThanEqual(
-            @Param("minQuantity") Integer minQuantity,
-            Pageable pageable
-    );
+    Page<WarehouseEntity> findByTotalQuantityGreaterThanEqual(Long minQuantity, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 창고별 재고 합계 변화량 (재고 변경 내역을 창고 단위로 합산한 값)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class WarehouseStockDelta {
+    private final long warehouseId;
+    private final long quantityDelta;
+    private final int skuCountDelta;           // 생성(CREATE)된 재고 행 수
+    private final int zeroStockSkuCountDelta;  // 수량이 0이 된 행 수 - 0에서 벗어난 행 수
+
+    /**
+     * 재고 변경 내역을 창고별로 합산
+     * 재고 행 생성은 출처가 CREATE인 변경으로 판단 (생성 전에는 0인 행으로 세지 않음)
+     * @param changes 재고 변경 내역
+     * @return 창고 ID 오름차순 변화량 목록 (잠금 순서와 같음)
+     */
+    public static List<WarehouseStockDelta> aggregate(Collection<InventoryChange> changes) {
+        Map<Long, long[]> sums = new TreeMap<>();  // 창고 ID → {수량, SKU 수, 0인 SKU 수 변화량}
+        for (InventoryChange change : changes) {
+            long[] sum = sums.computeIfAbsent(change.getWarehouseId(), id -> new long[3]);
+            boolean created = change.getSource() == MovementSource.CREATE;
+            sum[0] += change.getDelta();
+            if (created) {
+                sum[1]++;
+            }
+            boolean wasZero = !created && change.previousQuantity() == 0;
+            boolean isZero = change.getQuantity() == 0;
+            sum[2] += (isZero ? 1 : 0) - (wasZero ? 1 : 0);
+        }
+        List<WarehouseStockDelta> deltas = new ArrayList<>(sums.size());
+        sums.forEach((warehouseId, sum) -> deltas.add(
+                new WarehouseStockDelta(warehouseId, sum[0], (int) sum[1], (int) sum[2])));
+        return deltas;
+    }
+}
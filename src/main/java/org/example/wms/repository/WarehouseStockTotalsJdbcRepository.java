@@ -0,0 +1,148 @@
+package org.example.wms.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 창고별 재고 합계(warehouse_stock_totals) 갱신용 JDBC Repository
+ * 합계는 warehouses 행이 아닌 별도 테이블에 두어, 재고 행 INSERT 시 외래 키 검사로 걸리는
+ * warehouses 공유 잠금과 합계 갱신의 배타 잠금이 서로 교착되지 않게 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class WarehouseStockTotalsJdbcRepository {
+
+    // SQL 상수 정의
+    // 변화량 누적: 합계 행이 없으면 변화량을 초기값으로 생성
+    static final String APPLY_DELTA_SQL = """
+        INSERT INTO warehouse_stock_totals (warehouse_id, total_quantity, sku_count, zero_stock_sku_count, updated_at)
+        VALUES (?, ?, ?, ?, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            total_quantity = total_quantity + VALUES(total_quantity),
+            sku_count = sku_count + VALUES(sku_count),
+            zero_stock_sku_count = zero_stock_sku_count + VALUES(zero_stock_sku_count),
+            updated_at = NOW(6)
+        """;
+
+    // 재계산 값으로 교체
+    static final String OVERWRITE_SQL = """
+        INSERT INTO warehouse_stock_totals (warehouse_id, total_quantity, sku_count, zero_stock_sku_count, updated_at)
+        VALUES (?, ?, ?, ?, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            total_quantity = VALUES(total_quantity),
+            sku_count = VALUES(sku_count),
+            zero_stock_sku_count = VALUES(zero_stock_sku_count),
+            updated_at = NOW(6)
+        """;
+
+    static final String FIND_WAREHOUSE_IDS_AFTER_SQL = """
+        SELECT w.warehouse_id FROM warehouses w
+        WHERE w.warehouse_id > ?
+        ORDER BY w.warehouse_id
+        LIMIT ?
+        """;
+
+    static final String LOCK_TOTALS_SQL = """
+        SELECT t.warehouse_id, t.total_quantity, t.sku_count, t.zero_stock_sku_count FROM warehouse_stock_totals t
+        WHERE t.warehouse_id IN (:ids)
+        ORDER BY t.warehouse_id
+        FOR UPDATE
+        """;
+
+    static final String AGGREGATE_INVENTORY_SQL = """
+        SELECT i.warehouse_id,
+               SUM(i.quantity) AS total_quantity,
+               COUNT(*) AS sku_count,
+               SUM(i.quantity = 0) AS zero_stock_sku_count
+        FROM inventory i
+        WHERE i.warehouse_id IN (:ids)
+        GROUP BY i.warehouse_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 창고별 변화량 누적 (JDBC 배치, 호출한 트랜잭션에 참여)
+     * @param deltas 창고 ID 오름차순 변화량 목록
+     */
+    public void applyDeltas(List<WarehouseStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getWarehouseId());
+            ps.setLong(2, delta.getQuantityDelta());
+            ps.setInt(3, delta.getSkuCountDelta());
+            ps.setInt(4, delta.getZeroStockSkuCountDelta());
+        });
+    }
+
+    /**
+     * 재계산한 합계 값으로 교체 (JDBC 배치)
+     * @param totals 창고 ID 오름차순 합계 목록
+     */
+    public void overwrite(List<WarehouseStockTotalsRow> totals) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(OVERWRITE_SQL, totals, totals.size(), (ps, row) -> {
+            ps.setLong(1, row.getWarehouseId());
+            ps.setLong(2, row.getTotalQuantity());
+            ps.setInt(3, row.getSkuCount());
+            ps.setInt(4, row.getZeroStockSkuCount());
+        });
+    }
+
+    /**
+     * 창고 ID를 키 순서대로 한 묶음 조회 (keyset 페이징)
+     * @param afterWarehouseId 이전 묶음의 마지막 창고 ID (처음이면 0)
+     * @param limit 묶음 크기
+     * @return 창고 ID 오름차순 목록
+     */
+    public List<Long> findWarehouseIdsAfter(long afterWarehouseId, int limit) {
+        return jdbcTemplate.queryForList(FIND_WAREHOUSE_IDS_AFTER_SQL, Long.class, afterWarehouseId, limit);
+    }
+
+    /**
+     * 합계 행을 창고 ID 오름차순으로 잠가 조회
+     * @param warehouseIds 창고 ID 목록
+     * @return 창고 ID → 합계 (행이 없는 창고는 제외)
+     */
+    public Map<Long, WarehouseStockTotalsRow> lockTotals(Collection<Long> warehouseIds) {
+        return queryByWarehouseIds(LOCK_TOTALS_SQL, warehouseIds);
+    }
+
+    /**
+     * inventory 테이블에서 창고별 합계를 직접 집계
+     * @param warehouseIds 창고 ID 목록
+     * @return 창고 ID → 집계 값 (재고가 없는 창고는 제외)
+     */
+    public Map<Long, WarehouseStockTotalsRow> aggregateInventory(Collection<Long> warehouseIds) {
+        return queryByWarehouseIds(AGGREGATE_INVENTORY_SQL, warehouseIds);
+    }
+
+    private Map<Long, WarehouseStockTotalsRow> queryByWarehouseIds(String sql, Collection<Long> warehouseIds) {
+        Map<Long, WarehouseStockTotalsRow> rows = new HashMap<>();
+        if (warehouseIds.isEmpty()) {
+            return rows;
+        }
+        namedParameterJdbcTemplate.query(sql, Map.of("ids", warehouseIds),
+                rs -> {
+                    WarehouseStockTotalsRow row = new WarehouseStockTotalsRow(
+                            rs.getLong("warehouse_id"),
+                            rs.getLong("total_quantity"),
+                            rs.getInt("sku_count"),
+                            rs.getInt("zero_stock_sku_count"));
+                    rows.put(row.getWarehouseId(), row);
+                });
+        return rows;
+    }
+}
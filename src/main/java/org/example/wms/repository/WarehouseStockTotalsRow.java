@@ -0,0 +1,26 @@
+package org.example.wms.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 창고별 재고 합계 값 (합계 테이블 또는 inventory 집계 결과)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class WarehouseStockTotalsRow {
+    private final long warehouseId;
+    private final long totalQuantity;
+    private final int skuCount;
+    private final int zeroStockSkuCount;
+
+    /**
+     * 총 수량, SKU 수, 수량이 0인 SKU 수가 모두 같은지 여부
+     */
+    public boolean sameTotals(WarehouseStockTotalsRow other) {
+        return totalQuantity == other.totalQuantity && skuCount == other.skuCount
+                && zeroStockSkuCount == other.zeroStockSkuCount;
+    }
+}
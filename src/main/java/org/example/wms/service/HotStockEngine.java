@@ -0,0 +1,348 @@
+package org.example.wms.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.repository.InventoryHistoryDelta;
+import org.example.wms.repository.InventoryHistoryJdbcRepository;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.repository.ProductStockDelta;
+import org.example.wms.repository.ProductStockSummaryJdbcRepository;
+import org.example.wms.repository.WarehouseStockDelta;
+import org.example.wms.repository.WarehouseStockTotalsJdbcRepository;
+import org.example.wms.util.StockJournal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 핫 재고 인메모리 카운터 엔진 (선택 기능)
+ * 출고가 몰리는 재고는 DB 행 락 대신 메모리의 락 없는 카운터(CAS)로 수량을 관리
+ * - 재고별로 독립된 카운터를 사용하므로 서로 다른 재고 간 경합이 없음
+ * - 음수 재고 검증은 메모리에서 수행하고, 모든 변경은 저널(메모리 매핑 파일)에 먼저 기록
+ * - 누적된 변화량은 주기적으로 inventory 테이블에 한 번에 반영
+ * 엔진이 관리하는 재고의 DB 수량(상품별 요약, 창고별 합계, 재고 이력 포함)은 최대 flush-interval-ms 만큼 늦게 반영됨
+ * 트랜잭션 안에서 변경하면 트랜잭션이 롤백될 때 카운터를 되돌리고 보상 레코드를 저널에 기록
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.inventory.hot-engine", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class HotStockEngine {
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final ProductStockSummaryJdbcRepository summaryJdbcRepository;
+    private final WarehouseStockTotalsJdbcRepository totalsJdbcRepository;
+    private final InventoryHistoryJdbcRepository historyJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.inventory.hot-engine.inventory-ids:}")
+    private long[] hotInventoryIds;
+
+    @Value("${app.inventory.hot-engine.journal-dir:./data/stock-journal}")
+    private String journalDir;
+
+    @Value("${app.inventory.hot-engine.journal-segment-bytes:16777216}")
+    private int journalSegmentBytes;
+
+    private final Map<Long, HotCounter> counters = new ConcurrentHashMap<>();
+    private StockJournal journal;
+
+    @PostConstruct
+    void start() throws IOException {
+        journal = new StockJournal(Path.of(journalDir), journalSegmentBytes);
+        recover();
+
+        List<Long> ids = new ArrayList<>();
+        for (long id : hotInventoryIds) {
+            ids.add(id);
+        }
+        Map<Long, InventoryStockRow> rows = inventoryJdbcRepository.findStockRows(ids);
+        for (long id : hotInventoryIds) {
+            InventoryStockRow row = rows.get(id);
+            if (row == null) {
+                log.warn("핫 재고로 지정된 재고를 찾을 수 없습니다: {}", id);
+                continue;
+            }
+            counters.put(id, new HotCounter(row.getProductId(), row.getWarehouseId(), row.getQuantity()));
+        }
+        journal.open();
+        log.info("핫 재고 엔진 시작: {}개 재고", counters.size());
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        flush();
+        journal.close();
+    }
+
+    /**
+     * 엔진이 관리하는 재고인지 여부
+     * @param inventoryId 재고 ID
+     * @return 관리 대상이면 true
+     */
+    public boolean handles(Long inventoryId) {
+        return inventoryId != null && counters.containsKey(inventoryId);
+    }
+
+    /**
+     * 재고 수량 변경 (메모리 반영 + 저널 기록)
+     * 호출한 트랜잭션이 롤백되면 변경을 되돌림 (트랜잭션 밖에서 호출하면 즉시 확정)
+     * @param inventoryId 재고 ID ({@link #handles(Long)}가 true인 재고)
+     * @param delta 수량 변화량 (입고는 양수, 출고는 음수)
+     * @param reserved 출고 후에도 남겨야 하는 예약 수량
+     * @param source 변경 출처
+     * @param reason 변경 사유
+     * @return 변경 내역 (변경 후 수량 포함)
+     * @throws IllegalStateException 재고가 부족한 경우
+     */
+    public InventoryChange apply(long inventoryId, int delta, int reserved, MovementSource source, String reason) {
+        HotCounter counter = counters.get(inventoryId);
+        long state;
+        int quantity;
+        int version;
+        do {
+            state = counter.state.get();
+            quantity = quantityOf(state);
+            version = versionOf(state);
+            if (delta < 0 && quantity + delta < reserved) {
+                throw new IllegalStateException(InventoryService.insufficientStockMessage(quantity, reserved, -delta));
+            }
+        } while (!counter.state.compareAndSet(state, pack(version + 1, quantity + delta)));
+
+        journal.append(inventoryId, delta, version + 1);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        compensate(inventoryId, delta);
+                    } else if (status == STATUS_UNKNOWN) {
+                        log.warn("트랜잭션 결과를 알 수 없어 핫 재고 변경을 유지합니다: inventoryId={}, delta={}",
+                                inventoryId, delta);
+                    }
+                }
+            });
+        }
+
+        return InventoryChange.builder()
+                .inventoryId(inventoryId)
+                .productId(counter.productId)
+                .warehouseId(counter.warehouseId)
+                .delta(delta)
+                .quantity(quantity + delta)
+                .source(source)
+                .reason(reason)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 롤백된 변경을 되돌림 (반대 변화량을 카운터에 반영하고 보상 레코드를 저널에 기록)
+     * 되돌린 입고분이 그 사이 다른 출고에 이미 사용되었으면 수량이 예약 수량 아래로 내려갈 수 있음
+     */
+    private void compensate(long inventoryId, int delta) {
+        HotCounter counter = counters.get(inventoryId);
+        long state;
+        int quantity;
+        int version;
+        do {
+            state = counter.state.get();
+            quantity = quantityOf(state);
+            version = versionOf(state);
+        } while (!counter.state.compareAndSet(state, pack(version + 1, quantity - delta)));
+
+        journal.append(inventoryId, -delta, version + 1);
+        if (quantity - delta < 0) {
+            log.warn("롤백된 입고를 되돌려 핫 재고 수량이 음수가 되었습니다: inventoryId={}, quantity={}",
+                    inventoryId, quantity - delta);
+        }
+    }
+
+    /**
+     * 현재 메모리 수량 조회
+     * @param inventoryId 재고 ID
+     * @return 엔진이 관리하는 최신 수량
+     */
+    public int currentQuantity(Long inventoryId) {
+        return quantityOf(counters.get(inventoryId).state.get());
+    }
+
+    /**
+     * 누적 변화량을 DB에 반영
+     * 1) 저널 세그먼트 회전 → 2) 카운터 스냅샷 → 3) 변화량 + 체크포인트 + 상품별 요약/창고별 합계를 한 트랜잭션으로 반영
+     * → 4) 반영된 세그먼트 삭제
+     * 반영에 실패하면 다음 주기에 누적분과 함께 다시 반영
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.hot-engine.flush-interval-ms:200}")
+    public synchronized void flush() {
+        long segmentMarker = journal.rotate();
+
+        List<Long> ids = new ArrayList<>();
+        List<long[]> snapshots = new ArrayList<>();
+        for (Map.Entry<Long, HotCounter> entry : counters.entrySet()) {
+            HotCounter counter = entry.getValue();
+            long state = counter.state.get();
+            if (versionOf(state) != counter.flushedVersion) {
+                ids.add(entry.getKey());
+                snapshots.add(new long[]{quantityOf(state), versionOf(state)});
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        long[] inventoryIds = new long[ids.size()];
+        int[] deltas = new int[ids.size()];
+        int[] versions = new int[ids.size()];
+        List<InventoryChange> changes = new ArrayList<>(ids.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ids.size(); i++) {
+            HotCounter counter = counters.get(ids.get(i));
+            inventoryIds[i] = ids.get(i);
+            deltas[i] = (int) snapshots.get(i)[0] - counter.flushedQuantity;
+            versions[i] = (int) snapshots.get(i)[1];
+            changes.add(summaryChange(ids.get(i), counter.productId, counter.warehouseId,
+                    deltas[i], (int) snapshots.get(i)[0], now));
+        }
+
+        try {
+            flushWithSummary(inventoryIds, deltas, versions, changes);
+        } catch (Exception e) {
+            log.error("핫 재고 변화량 반영 실패 ({}건), 다음 주기에 재시도합니다.", ids.size(), e);
+            return;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            HotCounter counter = counters.get(ids.get(i));
+            counter.flushedQuantity = (int) snapshots.get(i)[0];
+            counter.flushedVersion = versions[i];
+        }
+        try {
+            journal.force();
+            journal.deleteBefore(segmentMarker);
+        } catch (IOException e) {
+            log.warn("반영된 저널 세그먼트 삭제 실패", e);
+        }
+    }
+
+    /**
+     * 시작 시 DB에 반영되지 않은 저널 레코드를 복구
+     * 재고별 체크포인트 버전 이후의 레코드만 합산하여 반영하고, 저널과 체크포인트를 초기화
+     */
+    private void recover() throws IOException {
+        Map<Long, Integer> checkpoints = inventoryJdbcRepository.findHotCheckpoints();
+        Map<Long, long[]> pending = new HashMap<>();  // 재고 ID → {변화량 합계, 최대 버전}
+        journal.replay((inventoryId, delta, version) -> {
+            if (version <= checkpoints.getOrDefault(inventoryId, 0)) {
+                return;
+            }
+            long[] sum = pending.computeIfAbsent(inventoryId, id -> new long[2]);
+            sum[0] += delta;
+            sum[1] = Math.max(sum[1], version);
+        });
+
+        if (!pending.isEmpty()) {
+            Map<Long, InventoryStockRow> rows = inventoryJdbcRepository.findStockRows(pending.keySet());
+            long[] inventoryIds = new long[pending.size()];
+            int[] deltas = new int[pending.size()];
+            int[] versions = new int[pending.size()];
+            List<InventoryChange> changes = new ArrayList<>(pending.size());
+            LocalDateTime now = LocalDateTime.now();
+            int i = 0;
+            for (Map.Entry<Long, long[]> entry : pending.entrySet()) {
+                inventoryIds[i] = entry.getKey();
+                deltas[i] = (int) entry.getValue()[0];
+                versions[i] = (int) entry.getValue()[1];
+                InventoryStockRow row = rows.get(entry.getKey());
+                if (row != null) {
+                    changes.add(summaryChange(row.getInventoryId(), row.getProductId(), row.getWarehouseId(),
+                            deltas[i], row.getQuantity() + deltas[i], now));
+                }
+                i++;
+            }
+            flushWithSummary(inventoryIds, deltas, versions, changes);
+            log.info("핫 재고 저널 복구: {}개 재고 반영", pending.size());
+        }
+
+        journal.deleteExistingSegments();
+        inventoryJdbcRepository.clearHotCheckpoints();
+    }
+
+    /**
+     * 변화량 + 체크포인트 + 상품별 요약/창고별 합계/재고 이력을 한 트랜잭션으로 반영
+     */
+    private void flushWithSummary(long[] inventoryIds, int[] deltas, int[] versions, List<InventoryChange> changes) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            inventoryJdbcRepository.flushHotDeltas(inventoryIds, deltas, versions);
+            summaryJdbcRepository.applyDeltas(ProductStockDelta.aggregate(changes));
+            totalsJdbcRepository.applyDeltas(WarehouseStockDelta.aggregate(changes));
+            historyJdbcRepository.insertDeltas(InventoryHistoryDelta.aggregate(changes));
+        });
+    }
+
+    /**
+     * 요약 누적용 변경 내역 (반영 주기 동안의 누적 변화량, 반영 후 수량)
+     */
+    private static InventoryChange summaryChange(long inventoryId, long productId, long warehouseId,
+                                                 int delta, int quantity, LocalDateTime occurredAt) {
+        return InventoryChange.builder()
+                .inventoryId(inventoryId)
+                .productId(productId)
+                .warehouseId(warehouseId)
+                .delta(delta)
+                .quantity(quantity)
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    private static long pack(int version, int quantity) {
+        return ((long) version << 32) | (quantity & 0xFFFFFFFFL);
+    }
+
+    private static int quantityOf(long state) {
+        return (int) state;
+    }
+
+    private static int versionOf(long state) {
+        return (int) (state >>> 32);
+    }
+
+    /**
+     * 재고별 카운터
+     * state: 상위 32비트 변경 버전, 하위 32비트 수량 (한 번의 CAS로 함께 갱신)
+     */
+    private static final class HotCounter {
+        private final long productId;
+        private final long warehouseId;
+        private final AtomicLong state;
+        // 플러시 스레드에서만 접근
+        private int flushedQuantity;
+        private int flushedVersion;
+
+        private HotCounter(long productId, long warehouseId, int quantity) {
+            this.productId = productId;
+            this.warehouseId = warehouseId;
+            this.state = new AtomicLong(pack(0, quantity));
+            this.flushedQuantity = quantity;
+        }
+    }
+}
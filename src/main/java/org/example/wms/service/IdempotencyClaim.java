@@ -0,0 +1,11 @@
+package org.example.wms.service;
+
+/**
+ * 입출고 트랜잭션에서 기록할 멱등성 키
+ * @param key Idempotency-Key 헤더 값
+ * @param operation 작업 이름 (같은 키를 다른 작업에 재사용하는지 검증)
+ * @param requestHash 요청 본문의 SHA-256 (같은 키를 다른 요청 본문에 재사용하는지 검증)
+ * @param responseBody 재요청 시 그대로 돌려줄 응답 (ApiResponse JSON)
+ */
+public record IdempotencyClaim(String key, String operation, String requestHash, String responseBody) {
+}
@@ -0,0 +1,191 @@
+package org.example.wms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.dto.ApiResponse;
+import org.example.wms.exception.DuplicateRequestException;
+import org.example.wms.exception.IdempotencyKeyReusedException;
+import org.example.wms.repository.IdempotencyKeyRepository;
+import org.example.wms.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+
+/**
+ * 입출고 멱등성 처리 (Idempotency-Key 헤더)
+ * 1) 메모리 LRU에서 최근 처리된 키 확인 (DB 조회 없음)
+ * 2) 없으면 입출고 트랜잭션 안에서 키를 INSERT IGNORE로 기록 → 이미 있으면 롤백 후 저장된 최초 응답 반환
+ * 키 기록이 입출고와 같은 트랜잭션이므로, 키만 남고 입출고가 빠지거나 그 반대인 경우가 없음
+ * 성공한 요청만 기록되며, 실패한 요청(재고 부족 등)은 같은 키로 다시 시도할 수 있음
+ * 메모리와 DB 모두 만료 시각(ttl-hours)이 지난 키는 처리되지 않은 키로 취급 (DB는 정리 작업 전이라도 기록 시 덮어씀)
+ * 키와 함께 요청 본문의 해시를 기록하여, 같은 키를 다른 작업이나 다른 본문에 사용하면 최초 응답 대신 422로 거절
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class IdempotencyService {
+
+    /** 재요청에 대한 응답 헤더 */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    private LruCache<String, StoredResponse> recentKeys;
+
+    /**
+     * 처리된 키의 작업 이름, 요청 본문 해시, 최초 응답, 만료 시각
+     */
+    private record StoredResponse(String operation, String requestHash, String responseBody,
+                                  LocalDateTime expiresAt) {
+    }
+
+    @PostConstruct
+    void init() {
+        recentKeys = new LruCache<>(cacheSize);
+    }
+
+    /**
+     * 멱등성 키를 적용하여 작업 실행
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 키 없이 실행)
+     * @param operation 작업 이름
+     * @param request 요청 본문 (JSON으로 직렬화한 해시를 키와 함께 기록)
+     * @param response 성공 시 반환할 응답 (재요청 시 이 응답이 그대로 반환됨)
+     * @param action 실행할 작업 (전달받은 claim을 입출고 트랜잭션에서 기록해야 함)
+     * @return 200 OK + 최초 응답
+     * @throws IllegalStateException 키 형식이 잘못된 경우
+     * @throws IdempotencyKeyReusedException 다른 작업이나 다른 요청 본문에 사용된 키인 경우
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<ApiResponse<Void>> execute(String idempotencyKey, String operation, Object request,
+                                                     ApiResponse<Void> response, Consumer<IdempotencyClaim> action) {
+        if (idempotencyKey == null) {
+            action.accept(null);
+            return ResponseEntity.ok(response);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalStateException("Idempotency-Key는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String requestHash = hash(request);
+        LocalDateTime now = LocalDateTime.now();
+        StoredResponse cached = recentKeys.get(idempotencyKey);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return replay(idempotencyKey, cached, operation, requestHash);
+        }
+
+        String responseBody = toJson(response);
+        try {
+            action.accept(new IdempotencyClaim(idempotencyKey, operation, requestHash, responseBody));
+        } catch (DuplicateRequestException e) {
+            StoredResponse stored = idempotencyKeyRepository.findById(idempotencyKey)
+                    .map(entity -> new StoredResponse(entity.getOperation(), entity.getRequestHash(),
+                            entity.getResponseBody(), entity.getExpiresAt()))
+                    .orElseThrow(() -> new IllegalStateException("같은 Idempotency-Key로 처리 중인 요청이 있습니다."));
+            recentKeys.put(idempotencyKey, stored);
+            return replay(idempotencyKey, stored, operation, requestHash);
+        }
+        // 요청 시작 시각 기준이므로 DB에 기록된 만료 시각보다 먼저 만료됨
+        recentKeys.put(idempotencyKey, new StoredResponse(operation, requestHash, responseBody,
+                now.plusHours(ttlHours)));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 멱등성 키 기록 (입출고 트랜잭션 안에서 호출)
+     * 같은 키를 기록 중인 다른 트랜잭션이 있으면 그 트랜잭션이 끝날 때까지 대기
+     * 만료되었지만 아직 정리되지 않은 같은 키는 먼저 삭제하고 새로 기록
+     * @param claim 기록할 키
+     * @return 기록했으면 true, 이미 처리된 키면 false
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryClaim(IdempotencyClaim claim) {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.deleteExpiredKey(claim.key(), now);
+        return idempotencyKeyRepository.insertIgnore(claim.key(), claim.operation(), claim.requestHash(),
+                claim.responseBody(), now, now.plusHours(ttlHours)) > 0;
+    }
+
+    /**
+     * 기록한 멱등성 키 삭제 (같은 트랜잭션에서 요청이 거절된 경우)
+     * @param claim 삭제할 키
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void releaseClaim(IdempotencyClaim claim) {
+        idempotencyKeyRepository.deleteByKey(claim.key());
+    }
+
+    /**
+     * 만료된 키 정리
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:3600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteExpiredKeys() {
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("만료된 멱등성 키 {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * 저장된 최초 응답을 재요청 응답으로 반환
+     * 해시 도입 전에 기록된 키(requestHash가 null)는 작업 이름만 비교
+     */
+    private ResponseEntity<ApiResponse<Void>> replay(String idempotencyKey, StoredResponse stored,
+                                                     String operation, String requestHash) {
+        if (!stored.operation().equals(operation)
+                || (stored.requestHash() != null && !stored.requestHash().equals(requestHash))) {
+            throw new IdempotencyKeyReusedException(idempotencyKey);
+        }
+        try {
+            ApiResponse<Void> original = objectMapper.readValue(stored.responseBody(), new TypeReference<ApiResponse<Void>>() {
+            });
+            return ResponseEntity.ok().header(REPLAYED_HEADER, "true").body(original);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 요청 본문의 SHA-256 (역직렬화한 요청을 다시 직렬화하므로 공백이나 줄바꿈 차이는 같은 본문으로 취급)
+     */
+    private String hash(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("요청을 저장할 수 없습니다.", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(ApiResponse<Void> response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답을 저장할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.dto.crud.InventoryBulkUpsertRequest;
+import org.example.wms.dto.crud.InventoryBulkUpsertRequest.MergePolicy;
+import org.example.wms.dto.crud.InventoryCreateRequest;
+import org.example.wms.dto.info.InventoryBulkUpsertResultDTO;
+import org.example.wms.dto.info.InventoryBulkUpsertResultDTO.RowResult;
+import org.example.wms.dto.info.InventoryBulkUpsertResultDTO.RowStatus;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.repository.StockKey;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 재고 일괄 등록 서비스 (신규 창고 초기 적재 등)
+ * - 상품/창고 존재 여부는 IN 쿼리 각 1회로 확인 (행마다 findById 하지 않음)
+ * - 행은 (상품 ID, 창고 ID) 순으로 정렬하여 batchSize 단위로 INSERT ... ON DUPLICATE KEY UPDATE 배치 반영
+ * - 기존 재고는 행 ID 오름차순으로 먼저 잠근 뒤 (상품, 창고)로 다시 잠가 읽어 병합 전 수량과 생성 여부를 판단
+ *   (재고 이동과 같은 잠금 순서, 그 사이 다른 요청이 만든 행도 기존 재고로 판단하며 없는 조합은 생성을 막음)
+ * 묶음(batchSize) 단위로 커밋되며, 충돌 시 해당 묶음만 다시 실행
+ *
+ * 메트릭
+ * - wms.inventory.bulk-upsert.rows: 처리한 행 수 (status 태그, 초당 증가량 = rows/s)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryBulkService {
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryExecutor retryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationRegistry reservationRegistry;
+    private final Optional<HotStockEngine> hotStockEngine;
+    private final StockThresholdService stockThresholdService;
+    private final MeterRegistry meterRegistry;
+    private final PublicIdService publicIdService;
+
+    @Value("${app.inventory.batch.size:500}")
+    private int batchSize;
+
+    /**
+     * 반영 대상 행
+     */
+    private record PendingRow(int index, StockKey key, int quantity) {
+    }
+
+    /**
+     * 재고 일괄 등록
+     * 없는 (상품, 창고) 조합은 생성하고, 있는 조합은 병합 정책(REPLACE / ADD)에 따라 수량 변경
+     * @param request 일괄 등록 요청 DTO (병합 정책, 행 목록)
+     * @return 행별 처리 결과와 처리량
+     */
+    public InventoryBulkUpsertResultDTO upsert(InventoryBulkUpsertRequest request) {
+        long start = System.nanoTime();
+        List<InventoryCreateRequest> rows = request.getRows();
+        boolean add = request.getMergePolicy() == MergePolicy.ADD;
+        RowResult[] results = new RowResult[rows.size()];
+
+        // 1. ID 복호화 후 상품/창고 존재 여부를 IN 쿼리로 한 번에 확인
+        long[] productIds = new long[rows.size()];
+        long[] warehouseIds = new long[rows.size()];
+        Set<Long> products = new HashSet<>();
+        Set<Long> warehouses = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Long productId = decryptOrNull(rows.get(i).getEncryptedProductId());
+            Long warehouseId = publicIdService.resolveIfValid(rows.get(i).getEncryptedWarehouseId(), IdKind.WAREHOUSE);
+            if (productId == null || warehouseId == null) {
+                results[i] = rejected(i, RowStatus.UNKNOWN_ID, "유효하지 않은 ID입니다.");
+                continue;
+            }
+            productIds[i] = productId;
+            warehouseIds[i] = warehouseId;
+            products.add(productId);
+            warehouses.add(warehouseId);
+        }
+        Set<Long> existingProducts = inventoryJdbcRepository.findExistingProductIds(products);
+        Set<Long> existingWarehouses = inventoryJdbcRepository.findExistingWarehouseIds(warehouses);
+
+        // 2. 요청 내 중복 조합 제외 (처음 나온 행만 반영)
+        List<PendingRow> pending = new ArrayList<>(rows.size());
+        Set<StockKey> seen = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            if (!existingProducts.contains(productIds[i])) {
+                results[i] = rejected(i, RowStatus.UNKNOWN_ID, "상품을 찾을 수 없습니다.");
+                continue;
+            }
+            if (!existingWarehouses.contains(warehouseIds[i])) {
+                results[i] = rejected(i, RowStatus.UNKNOWN_ID, "창고를 찾을 수 없습니다.");
+                continue;
+            }
+            StockKey key = new StockKey(productIds[i], warehouseIds[i]);
+            if (!seen.add(key)) {
+                results[i] = rejected(i, RowStatus.DUPLICATE, "같은 요청에 이미 있는 상품/창고 조합입니다.");
+                continue;
+            }
+            pending.add(new PendingRow(i, key, rows.get(i).getQuantity()));
+        }
+
+        // 3. (상품, 창고) 순으로 정렬하여 묶음 단위로 반영
+        pending.sort(Comparator.comparing(PendingRow::key));
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<PendingRow> chunk = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            retryExecutor.run("inventory.bulk-upsert",
+                    () -> transactionTemplate.executeWithoutResult(tx -> applyChunk(chunk, add, results)));
+        }
+
+        InventoryBulkUpsertResultDTO result = InventoryBulkUpsertResultDTO.of(Arrays.asList(results),
+                System.nanoTime() - start);
+        recordMetrics(results);
+        log.info("재고 일괄 등록: {}행 ({} 생성, {} 변경), {}ms, {} rows/s", result.getTotalRows(),
+                result.getCreatedCount(), result.getUpdatedCount(), result.getElapsedMs(),
+                String.format("%.0f", result.getRowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * 묶음 하나를 한 트랜잭션으로 반영: 기존 재고 잠금 → 행별 판단 → 배치 UPSERT → 반영 후 수량 조회 → 이벤트 발행
+     */
+    private void applyChunk(List<PendingRow> chunk, boolean add, RowResult[] results) {
+        List<StockKey> keys = chunk.stream().map(PendingRow::key).toList();
+        List<Long> existingIds = inventoryJdbcRepository.findStockRowsByKeys(keys).values().stream()
+                .map(InventoryStockRow::getInventoryId)
+                .toList();
+        inventoryJdbcRepository.lockStockRows(existingIds);
+        // 잠금 없는 조회 이후 다른 요청이 만든 행은 여기서 잠그고, 없는 조합은 커밋까지 생성을 막음
+        // (UPSERT의 행별 결과는 배치 재작성(rewriteBatchedStatements) 시 알 수 없으므로 잠근 조회로 생성 여부를 판단)
+        Map<StockKey, InventoryStockRow> before = inventoryJdbcRepository.lockStockRowsByKeys(keys);
+
+        List<PendingRow> applicable = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            InventoryStockRow current = before.get(row.key());
+            if (current != null && hotStockEngine.isPresent() && hotStockEngine.get().handles(current.getInventoryId())) {
+                results[row.index()] = rejected(row.index(), RowStatus.INVALID,
+                        "핫 재고 엔진이 관리하는 재고는 일괄 등록할 수 없습니다.");
+                continue;
+            }
+            if (current != null && !add) {
+                int reserved = reservationRegistry.reservedQuantity(current.getInventoryId());
+                if (row.quantity() < reserved) {
+                    results[row.index()] = rejected(row.index(), RowStatus.INVALID,
+                            "예약 수량보다 적은 수량으로 변경할 수 없습니다. 예약 수량: " + reserved);
+                    continue;
+                }
+            }
+            applicable.add(row);
+        }
+        if (applicable.isEmpty()) {
+            return;
+        }
+
+        List<StockKey> applicableKeys = applicable.stream().map(PendingRow::key).toList();
+        int[] quantities = applicable.stream().mapToInt(PendingRow::quantity).toArray();
+        inventoryJdbcRepository.upsertRows(applicableKeys, quantities, add,
+                key -> stockThresholdService.lowThreshold(key.productId(), key.warehouseId()));
+        Map<StockKey, InventoryStockRow> after = inventoryJdbcRepository.lockStockRowsByKeys(applicableKeys);
+
+        String[] inventoryIds = publicIdService.renderInventoryIds(applicable.stream()
+                .mapToLong(row -> after.get(row.key()).getInventoryId()).toArray());
+        List<InventoryChange> changes = new ArrayList<>(applicable.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < applicable.size(); i++) {
+            PendingRow row = applicable.get(i);
+            InventoryStockRow previous = before.get(row.key());
+            InventoryStockRow written = after.get(row.key());
+            boolean created = previous == null;
+            int delta = add ? row.quantity() : written.getQuantity() - (created ? 0 : previous.getQuantity());
+            results[row.index()] = new RowResult(row.index() + 1, created ? RowStatus.CREATED : RowStatus.UPDATED,
+                    inventoryIds[i], written.getQuantity(), null);
+            if (created || delta != 0) {
+                changes.add(InventoryChange.builder()
+                        .inventoryId(written.getInventoryId())
+                        .productId(written.getProductId())
+                        .warehouseId(written.getWarehouseId())
+                        .delta(delta)
+                        .quantity(written.getQuantity())
+                        .source(created ? MovementSource.CREATE : MovementSource.BULK_UPSERT)
+                        .occurredAt(now)
+                        .build());
+            }
+        }
+        eventPublisher.publishEvent(new InventoryChangedEvent(changes));
+    }
+
+    private void recordMetrics(RowResult[] results) {
+        int[] counts = new int[RowStatus.values().length];
+        for (RowResult result : results) {
+            counts[result.getStatus().ordinal()]++;
+        }
+        for (RowStatus status : RowStatus.values()) {
+            if (counts[status.ordinal()] > 0) {
+                Counter.builder("wms.inventory.bulk-upsert.rows")
+                        .tag("status", status.name())
+                        .register(meterRegistry)
+                        .increment(counts[status.ordinal()]);
+            }
+        }
+    }
+
+    private static RowResult rejected(int index, RowStatus status, String message) {
+        return new RowResult(index + 1, status, null, null, message);
+    }
+
+    private Long decryptOrNull(String encryptedId) {
+        try {
+            Long id = idEncryptionUtil.decrypt(encryptedId);
+            return id != null && id > 0 ? id : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.dto.info.InventoryChangeStreamDTO;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.util.IdEncryptionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * 재고 변경 실시간 스트림 서비스 (대시보드용 SSE)
+ * 커밋된 재고 변경을 창고/상품 조건에 맞는 구독자에게 전송
+ * - 구독자별 대기열은 재고 ID → 최신 값 맵이므로, 느린 구독자는 중간 값이 합쳐져 재고별 최신 수량만 받음
+ *   (대기열 크기는 구독 조건에 해당하는 재고 수를 넘지 않음)
+ * - 커밋 스레드는 맵에 넣고 전송을 예약만 하며, 실제 전송은 구독자별 가상 스레드에서 순서대로 수행
+ *   (느리거나 멈춘 연결의 쓰기는 그 구독자의 스레드만 점유)
+ * - 전송 한 번이 send-timeout-ms를 넘은 구독자는 연결을 끊음 (클라이언트(EventSource)가 다시 연결함)
+ * - 구독자는 창고 ID(없으면 상품 ID)로 색인하여 변경마다 전체 구독자를 훑지 않음
+ *
+ * 메트릭
+ * - wms.inventory.stream.connections: 연결된 스트림 수
+ * - wms.inventory.stream.queue-depth: 전체 구독자의 전송 대기 중인 재고 수
+ * - wms.inventory.stream.conflated: 최신 값으로 대체되어 전송되지 않은 중간 변경 수
+ * - wms.inventory.stream.sent: 전송한 변경 수
+ * - wms.inventory.stream.evicted: 전송 시간 초과로 끊은 연결 수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryChangeStreamService {
+
+    static final String EVENT_NAME = "inventory-change";
+
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final MeterRegistry meterRegistry;
+    private final StockThresholdService stockThresholdService;
+    private final PublicIdService publicIdService;
+
+    @Value("${app.inventory.stream.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    @Value("${app.inventory.stream.max-subscribers:200}")
+    private int maxSubscribers;
+
+    @Value("${app.inventory.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    // 창고 조건이 있으면 창고로, 상품 조건만 있으면 상품으로, 조건이 없으면 전체 목록에 색인
+    private final Map<Long, Set<Subscriber>> byWarehouse = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Subscriber>> byProduct = new ConcurrentHashMap<>();
+    private final Set<Subscriber> unfiltered = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private LongFunction<SseEmitter> emitterFactory = SseEmitter::new;  // 테스트에서 교체
+
+    private ExecutorService sender;
+    private Counter conflatedCounter;
+    private Counter sentCounter;
+    private Counter evictedCounter;
+
+    @PostConstruct
+    void start() {
+        sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("inventory-stream-", 0).factory());
+        Gauge.builder("wms.inventory.stream.connections", subscribers, Collection::size).register(meterRegistry);
+        Gauge.builder("wms.inventory.stream.queue-depth", queueDepth, AtomicInteger::get).register(meterRegistry);
+        conflatedCounter = Counter.builder("wms.inventory.stream.conflated").register(meterRegistry);
+        sentCounter = Counter.builder("wms.inventory.stream.sent").register(meterRegistry);
+        evictedCounter = Counter.builder("wms.inventory.stream.evicted").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        sender.shutdown();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 재고 변경 스트림 연결
+     * @param warehouseId 창고 ID 조건 (없으면 null)
+     * @param productId 상품 ID 조건 (없으면 null)
+     * @return SSE 스트림
+     * @throws IllegalStateException 연결 수가 최대치에 도달한 경우
+     */
+    public SseEmitter openStream(Long warehouseId, Long productId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("재고 변경 스트림 연결 수가 최대치에 도달했습니다.");
+        }
+        Subscriber subscriber = new Subscriber(emitterFactory.apply(sseTimeoutMs), warehouseId, productId);
+        subscriber.emitter.onCompletion(subscriber::close);
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(e -> subscriber.close());
+        subscribers.add(subscriber);
+        index(subscriber).add(subscriber);
+        return subscriber.emitter;
+    }
+
+    /**
+     * 전송 한 번이 send-timeout-ms를 넘은 구독자의 연결을 끊음
+     * 대기열은 바로 비우고 이후 변경은 넣지 않으며, 멈춘 쓰기는 연결이 닫혀 실패할 때까지 그 구독자의 스레드만 점유
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.stream.send-check-interval-ms:1000}")
+    public void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                subscriber.evict();
+            }
+        }
+    }
+
+    /**
+     * 연결된 스트림 수
+     */
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 커밋된 재고 변경을 조건에 맞는 구독자의 대기열에 반영 (전송은 기다리지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (InventoryChange change : event.getChanges()) {
+            InventoryChangeStreamDTO[] data = new InventoryChangeStreamDTO[1];
+            offer(byWarehouse.get(change.getWarehouseId()), change, data);
+            offer(byProduct.get(change.getProductId()), change, data);
+            offer(unfiltered, change, data);
+        }
+    }
+
+    private void offer(Set<Subscriber> candidates, InventoryChange change, InventoryChangeStreamDTO[] data) {
+        if (candidates == null || candidates.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : candidates) {
+            if (subscriber.matches(change)) {
+                if (data[0] == null) {
+                    // 조건에 맞는 구독자가 있을 때만, 변경당 한 번만 ID 암호화
+                    data[0] = InventoryChangeStreamDTO.of(change, stockThresholdService.statusOf(
+                            change.getProductId(), change.getWarehouseId(), change.getQuantity()), idEncryptionUtil,
+                            publicIdService);
+                }
+                subscriber.offer(change.getInventoryId(), data[0]);
+            }
+        }
+    }
+
+    private Set<Subscriber> index(Subscriber subscriber) {
+        if (subscriber.warehouseId != null) {
+            return byWarehouse.computeIfAbsent(subscriber.warehouseId, id -> ConcurrentHashMap.newKeySet());
+        }
+        if (subscriber.productId != null) {
+            return byProduct.computeIfAbsent(subscriber.productId, id -> ConcurrentHashMap.newKeySet());
+        }
+        return unfiltered;
+    }
+
+    /**
+     * 스트림 구독자 (재고별 최신 값 대기열)
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long warehouseId;
+        private final Long productId;
+        private final Map<Long, InventoryChangeStreamDTO> pending = new LinkedHashMap<>();  // this로 보호
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long sendStartedAt;  // 전송 중이면 시작 시각(nanoTime), 아니면 0
+
+        private Subscriber(SseEmitter emitter, Long warehouseId, Long productId) {
+            this.emitter = emitter;
+            this.warehouseId = warehouseId;
+            this.productId = productId;
+        }
+
+        private boolean matches(InventoryChange change) {
+            return (warehouseId == null || warehouseId.equals(change.getWarehouseId()))
+                    && (productId == null || productId.equals(change.getProductId()));
+        }
+
+        private void offer(Long inventoryId, InventoryChangeStreamDTO data) {
+            synchronized (this) {
+                if (closed.get()) {
+                    return;
+                }
+                if (pending.put(inventoryId, data) == null) {
+                    queueDepth.incrementAndGet();
+                } else {
+                    conflatedCounter.increment();
+                }
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /**
+         * 대기열이 빌 때까지 전송 (구독자당 한 스레드만 실행)
+         */
+        private void drain() {
+            while (true) {
+                List<InventoryChangeStreamDTO> batch;
+                synchronized (this) {
+                    if (pending.isEmpty() || closed.get()) {
+                        scheduled.set(false);
+                        return;
+                    }
+                    batch = new ArrayList<>(pending.values());
+                    pending.clear();
+                }
+                queueDepth.addAndGet(-batch.size());
+                for (InventoryChangeStreamDTO data : batch) {
+                    if (closed.get()) {
+                        break;  // 전송 시간 초과로 끊긴 경우 남은 값은 버림
+                    }
+                    sendStartedAt = System.nanoTime();
+                    try {
+                        emitter.send(SseEmitter.event().name(EVENT_NAME).data(data));
+                        sentCounter.increment();
+                    } catch (Exception e) {
+                        log.debug("재고 변경 스트림 전송 실패, 연결 제거: {}", e.getMessage());
+                        close();
+                        emitter.completeWithError(e);
+                        scheduled.set(false);
+                        return;
+                    } finally {
+                        sendStartedAt = 0;
+                    }
+                }
+            }
+        }
+
+        /**
+         * 연결을 목록에서 제거하고 오류로 종료 (종료는 전송 중인 쓰기가 끝날 때까지 기다릴 수 있으므로 별도 스레드에서 수행)
+         */
+        private void evict() {
+            if (close()) {
+                evictedCounter.increment();
+                log.warn("재고 변경 스트림 전송 시간 초과, 연결 종료");
+                sender.execute(() -> emitter.completeWithError(new TimeoutException("재고 변경 스트림 전송 시간 초과")));
+            }
+        }
+
+        /**
+         * @return 이번 호출로 닫았으면 true
+         */
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.remove(this);
+            index(this).remove(this);
+            synchronized (this) {
+                queueDepth.addAndGet(-pending.size());
+                pending.clear();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package org.example.wms.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.exception.ConcurrencyLimitException;
+import org.example.wms.repository.InventoryExportRow;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.util.IdEncryptionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 재고 내보내기 서비스 (NDJSON / CSV)
+ * - DB 커서에서 읽은 행을 바로 응답 스트림에 쓰므로, 행 수와 관계없이 메모리 사용량이 버퍼 크기로 일정함
+ *   (결과를 목록이나 엔티티로 모으지 않고, 행마다 쓰기 버퍼를 거쳐 전송)
+ * - 내보내는 동안 커넥션을 하나 점유하므로 동시 내보내기 수를 제한함
+ * - ID는 목록 응답과 같은 규칙 (공개 ID 모드이면 재고/창고 공개 ID, 아니면 암호화 ID / 상품 ID는 항상 암호화 ID)
+ */
+@Slf4j
+@Service
+public class InventoryExportService {
+
+    static final String CSV_HEADER =
+            "inventoryId,productId,productName,warehouseId,warehouseName,quantity,lowThreshold,stockStatus,updatedAt";
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final PublicIdService publicIdService;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final Semaphore permits;
+
+    public InventoryExportService(InventoryJdbcRepository inventoryJdbcRepository,
+                                  IdEncryptionUtil idEncryptionUtil,
+                                  PublicIdService publicIdService,
+                                  ObjectMapper objectMapper,
+                                  @Value("${app.inventory.export.max-concurrent:2}") int maxConcurrent,
+                                  @Value("${app.inventory.export.buffer-size:65536}") int bufferSize) {
+        this.inventoryJdbcRepository = inventoryJdbcRepository;
+        this.idEncryptionUtil = idEncryptionUtil;
+        this.publicIdService = publicIdService;
+        this.objectMapper = objectMapper;
+        this.bufferSize = Math.max(1024, bufferSize);
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        /**
+         * 요청 파라미터 → 형식 (대소문자 구분 없음, WebConfig에서 요청 파라미터 변환기로 등록)
+         * @throws IllegalArgumentException 지원하지 않는 형식인 경우 (요청 파라미터 변환 실패로 400 응답)
+         */
+        public static Format from(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * 재고 내보내기 응답 본문 생성 (실제 조회와 전송은 응답을 쓸 때 수행)
+     * 동시 내보내기 허가를 하나 점유하며, 본문을 쓰고 나면 반환함
+     * 본문이 실행되지 않고 요청이 끝나는 경우(타임아웃, 오류, 연결 종료)를 위해 호출 측은 요청 완료 시 {@link Export#release()}를 호출해야 함
+     * @param warehouseId 창고 ID 조건 (없으면 null)
+     * @param productId 상품 ID 조건 (없으면 null)
+     * @param format 내보내기 형식
+     * @param gzip gzip 압축 여부
+     * @return 응답 본문
+     * @throws ConcurrencyLimitException 동시 내보내기 수가 최대치에 도달한 경우
+     */
+    public Export export(Long warehouseId, Long productId, Format format, boolean gzip) {
+        if (!permits.tryAcquire()) {
+            throw new ConcurrencyLimitException("동시 재고 내보내기 수가 최대치에 도달했습니다.");
+        }
+        return new Export(warehouseId, productId, format, gzip);
+    }
+
+    /**
+     * 내보내기 응답 본문 (동시 내보내기 허가 하나를 점유)
+     * 허가는 정확히 한 번만 반환함: 본문이 실행되면 본문이 끝날 때, 실행되기 전에 요청이 끝나면 {@link #release()}에서 반환
+     * (본문 실행 중에 요청이 끝나면 커서를 닫을 때까지 커넥션을 점유하므로 본문이 끝날 때 반환)
+     */
+    public final class Export implements StreamingResponseBody {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+
+        private final Long warehouseId;
+        private final Long productId;
+        private final Format format;
+        private final boolean gzip;
+        private final AtomicInteger state = new AtomicInteger(NEW);
+
+        private Export(Long warehouseId, Long productId, Format format, boolean gzip) {
+            this.warehouseId = warehouseId;
+            this.productId = productId;
+            this.format = format;
+            this.gzip = gzip;
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                // 요청이 이미 끝나 허가를 반환한 경우
+                throw new IOException("이미 종료된 재고 내보내기 요청입니다.");
+            }
+            long start = System.nanoTime();
+            try {
+                long rows = gzip ? writeGzip(warehouseId, productId, format, out)
+                        : write(warehouseId, productId, format, out);
+                log.info("재고 내보내기 완료: 형식 {}, {}행, {}ms", format, rows, (System.nanoTime() - start) / 1_000_000);
+            } catch (IOException | UncheckedIOException e) {
+                // 응답 상태는 이미 전송되었으므로 로그만 남김 (대부분 클라이언트 연결 종료)
+                log.warn("재고 내보내기 중단: {}", e.getMessage());
+                throw e instanceof UncheckedIOException unchecked ? unchecked.getCause() : (IOException) e;
+            } finally {
+                state.set(DONE);
+                permits.release();
+            }
+        }
+
+        /**
+         * 요청 완료 시 호출 (본문이 실행되지 않았으면 허가 반환, 여러 번 호출해도 한 번만 반환)
+         */
+        public void release() {
+            if (state.compareAndSet(NEW, DONE)) {
+                permits.release();
+            }
+        }
+    }
+
+    private long writeGzip(Long warehouseId, Long productId, Format format, OutputStream out) throws IOException {
+        GZIPOutputStream gzipOut = new GZIPOutputStream(out, bufferSize);
+        long rows = write(warehouseId, productId, format, gzipOut);
+        gzipOut.finish();
+        return rows;
+    }
+
+    /**
+     * 조건에 맞는 재고 행을 형식에 맞춰 출력 (출력 스트림은 닫지 않음)
+     * @return 출력한 행 수
+     */
+    long write(Long warehouseId, Long productId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), bufferSize);
+        long[] rows = new long[1];
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            inventoryJdbcRepository.forEachExportRow(warehouseId, productId, row -> {
+                try {
+                    writeCsv(writer, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } else {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            inventoryJdbcRepository.forEachExportRow(warehouseId, productId, row -> {
+                try {
+                    writeJson(generator, row);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            generator.flush();
+        }
+        writer.flush();
+        return rows[0];
+    }
+
+    private void writeJson(JsonGenerator generator, InventoryExportRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("inventoryId", inventoryId(row));
+        generator.writeStringField("productId", idEncryptionUtil.encrypt(row.getProductId()));
+        generator.writeStringField("productName", row.getProductName());
+        generator.writeStringField("warehouseId", warehouseId(row));
+        generator.writeStringField("warehouseName", row.getWarehouseName());
+        generator.writeNumberField("quantity", row.getQuantity());
+        generator.writeNumberField("lowThreshold", row.getLowThreshold());
+        generator.writeStringField("stockStatus", row.getStockStatus());
+        generator.writeStringField("updatedAt", row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : null);
+        generator.writeEndObject();
+    }
+
+    private void writeCsv(Writer writer, InventoryExportRow row) throws IOException {
+        writer.write(inventoryId(row));
+        writer.write(',');
+        writer.write(idEncryptionUtil.encrypt(row.getProductId()));
+        writer.write(',');
+        writer.write(csv(row.getProductName()));
+        writer.write(',');
+        writer.write(warehouseId(row));
+        writer.write(',');
+        writer.write(csv(row.getWarehouseName()));
+        writer.write(',');
+        writer.write(Integer.toString(row.getQuantity()));
+        writer.write(',');
+        writer.write(Integer.toString(row.getLowThreshold()));
+        writer.write(',');
+        writer.write(csv(row.getStockStatus()));
+        writer.write(',');
+        writer.write(row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : "");
+        writer.write('\n');
+    }
+
+    private String inventoryId(InventoryExportRow row) {
+        return publicIdService.render(row.getInventoryId(), row.getInventoryPublicId());
+    }
+
+    private String warehouseId(InventoryExportRow row) {
+        return publicIdService.render(row.getWarehouseId(), row.getWarehousePublicId());
+    }
+
+    /**
+     * CSV 필드 값 (RFC 4180: 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 큰따옴표는 두 번 씀)
+     */
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.wms.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.dto.info.InventoryAsOfDTO;
+import org.example.wms.dto.info.InventorySnapshotResultDTO;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryHistoryDelta;
+import org.example.wms.repository.InventoryHistoryJdbcRepository;
+import org.example.wms.repository.InventorySnapshotRow;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 재고 이력 및 시점 조회
+ * - 재고 변경 이벤트를 커밋 직전(BEFORE_COMMIT)에 재고별 변화량으로 합산하여 같은 트랜잭션에서 기록
+ *   (원장과 달리 유실되지 않으며, 핫 재고 엔진이 관리하는 재고는 엔진이 DB에 반영할 때 기록)
+ * - 주기적으로 창고별 스냅샷을 만들어, 시점 조회는 가장 최근 스냅샷 + 이후 이력만 재생
+ *   (스냅샷과 이력의 경계는 기록 시각이 아닌 스냅샷에 기록한 마지막 이력 ID)
+ *   (재생할 이력은 스냅샷 주기 동안의 변경으로 제한되므로 전체 이력 크기와 무관)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryHistoryService {
+
+    // 재고 행 외의 행을 잠그지 않으므로 다른 집계 갱신 뒤에 실행
+    static final int LISTENER_ORDER = ProductStockSummaryService.LISTENER_ORDER + 2;
+
+    private final InventoryHistoryJdbcRepository historyJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryExecutor retryExecutor;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final Optional<HotStockEngine> hotStockEngine;
+    private final PublicIdService publicIdService;
+
+    private final AtomicBoolean snapshotting = new AtomicBoolean();
+
+    /**
+     * 재고 변경을 같은 트랜잭션에서 이력에 기록
+     */
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        List<InventoryChange> changes = event.getChanges();
+        if (hotStockEngine.isPresent()) {
+            changes = changes.stream()
+                    .filter(change -> !hotStockEngine.get().handles(change.getInventoryId()))
+                    .toList();
+        }
+        historyJdbcRepository.insertDeltas(InventoryHistoryDelta.aggregate(changes));
+    }
+
+    /**
+     * 주기적인 창고별 스냅샷 생성
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.history.snapshot-interval-ms:3600000}",
+            initialDelayString = "${app.inventory.history.snapshot-interval-ms:3600000}")
+    public void scheduledSnapshot() {
+        try {
+            snapshotAll();
+        } catch (IllegalStateException e) {
+            log.debug("재고 스냅샷 생성 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 창고의 재고 스냅샷 생성
+     * 창고마다 한 트랜잭션: 해당 창고의 재고 행 잠금 → 스냅샷 시각 결정 → 재고 복사 (다른 창고의 변경은 막지 않음)
+     * @return 스냅샷을 만든 창고 수
+     * @throws IllegalStateException 이미 생성 중인 경우
+     */
+    public InventorySnapshotResultDTO snapshotAll() {
+        if (!snapshotting.compareAndSet(false, true)) {
+            throw new IllegalStateException("재고 스냅샷 생성이 이미 실행 중입니다.");
+        }
+        try {
+            long start = System.nanoTime();
+            int created = 0;
+            int failed = 0;
+            for (Long warehouseId : historyJdbcRepository.findWarehouseIds()) {
+                try {
+                    retryExecutor.run("inventory.snapshot",
+                            () -> transactionTemplate.executeWithoutResult(tx -> historyJdbcRepository.takeSnapshot(warehouseId)));
+                    created++;
+                } catch (RuntimeException e) {
+                    // 한 창고의 실패로 나머지 창고를 건너뛰지 않음 (실패한 창고는 이전 스냅샷부터 재생)
+                    log.warn("창고 {} 재고 스냅샷 생성 실패: {}", warehouseId, e.getMessage());
+                    failed++;
+                }
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            log.info("재고 스냅샷 생성: {}개 창고 (실패 {}개), {}ms", created, failed, elapsedMs);
+            return InventorySnapshotResultDTO.builder()
+                    .warehouses(created)
+                    .failedWarehouses(failed)
+                    .elapsedMs(elapsedMs)
+                    .build();
+        } finally {
+            snapshotting.set(false);
+        }
+    }
+
+    /**
+     * 새 창고의 기준 스냅샷 생성 (창고 생성 트랜잭션에서 호출, 이후 시점은 모두 조회 가능)
+     * @param warehouseId 창고 ID
+     */
+    public void createBaseline(Long warehouseId) {
+        historyJdbcRepository.takeSnapshot(warehouseId);
+    }
+
+    /**
+     * 창고 재고 시점 조회
+     * @param encryptedWarehouseId 암호화된 창고 ID
+     * @param asOf 조회 시점
+     * @return 시점 기준 재고별 수량 (수량이 0인 재고 제외)
+     * @throws IllegalStateException 조회 시점 이전의 스냅샷이 없는 경우 (이력 기록 시작 전)
+     */
+    public InventoryAsOfDTO getStockAsOf(String encryptedWarehouseId, LocalDateTime asOf) {
+        return getStockAsOf(publicIdService.resolve(encryptedWarehouseId, IdKind.WAREHOUSE), asOf);
+    }
+
+    /**
+     * 창고 재고 시점 조회 (복호화된 ID)
+     * @param warehouseId 창고 ID
+     * @param asOf 조회 시점
+     * @return 시점 기준 재고별 수량 (수량이 0인 재고 제외)
+     * @throws IllegalStateException 조회 시점 이전의 스냅샷이 없는 경우 (이력 기록 시작 전)
+     */
+    public InventoryAsOfDTO getStockAsOf(Long warehouseId, LocalDateTime asOf) {
+        InventorySnapshotRow snapshot = historyJdbcRepository.findSnapshotAtOrBefore(warehouseId, asOf)
+                .orElseThrow(() -> new IllegalStateException("조회 시점 이전의 재고 이력이 없습니다."));
+
+        // 재고 ID → {상품 ID, 수량}
+        Map<Long, long[]> stock = new TreeMap<>();
+        historyJdbcRepository.forEachSnapshotItem(snapshot,
+                row -> stock.put(row.getInventoryId(), new long[]{row.getProductId(), row.getQuantity()}));
+        int[] replayed = new int[1];
+        historyJdbcRepository.forEachDelta(warehouseId, snapshot.getLastHistoryId(), asOf, delta -> {
+            stock.computeIfAbsent(delta.getInventoryId(), id -> new long[]{delta.getProductId(), 0})[1] += delta.getDelta();
+            replayed[0]++;
+        });
+
+        stock.values().removeIf(item -> item[1] == 0);
+        String[] inventoryIds = publicIdService.renderInventoryIds(
+                stock.keySet().stream().mapToLong(Long::longValue).toArray());
+        List<InventoryAsOfDTO.Item> items = new ArrayList<>(stock.size());
+        long totalQuantity = 0;
+        int i = 0;
+        for (long[] item : stock.values()) {
+            totalQuantity += item[1];
+            items.add(new InventoryAsOfDTO.Item(inventoryIds[i++], idEncryptionUtil.encrypt(item[0]), (int) item[1]));
+        }
+        return InventoryAsOfDTO.builder()
+                .warehouseId(publicIdService.renderWarehouseId(warehouseId))
+                .asOf(asOf)
+                .snapshotAt(snapshot.getTakenAt())
+                .replayedChanges(replayed[0])
+                .totalQuantity(totalQuantity)
+                .items(items)
+                .build();
+    }
+}
@@ -0,0 +1,332 @@
+package org.example.wms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 이동 원장 비동기 기록기
+ * 커밋된 재고 변경을 제한된 크기의 큐에 넣고, 별도 스레드가 모아서 JDBC 배치 INSERT로 기록
+ * 입고/출고 요청 스레드는 원장 INSERT를 기다리지 않음
+ * 기록에 실패한 묶음은 버리지 않고 간격을 늘려 가며 재시도하고, 그래도 실패하면 로컬 파일(spill-file)에 보관했다가
+ * DB가 복구되면 기록 스레드가 다시 기록 (파일 보관까지 실패한 건수는 wms.inventory.ledger.dropped로 집계)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryLedgerWriter {
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.inventory.ledger.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.inventory.ledger.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.inventory.ledger.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    @Value("${app.inventory.ledger.retry-attempts:5}")
+    private int retryAttempts;
+
+    @Value("${app.inventory.ledger.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${app.inventory.ledger.retry-max-backoff-ms:5000}")
+    private long retryMaxBackoffMs;
+
+    @Value("${app.inventory.ledger.spill-file:./data/ledger-spill.ndjson}")
+    private Path spillFile;
+
+    private BlockingQueue<InventoryChange> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private final Object spillLock = new Object();
+    private volatile boolean spillPending;  // 파일에 보관된 원장이 있음
+    private long lastReplayAt;              // 기록 스레드만 사용
+
+    private Counter retriedCounter;
+    private Counter spilledCounter;
+    private Counter droppedCounter;
+
+    /**
+     * 파일 보관 형식 (재고 변경 한 건이 NDJSON 한 줄)
+     */
+    private record SpilledMovement(Long inventoryId, Long productId, Long warehouseId, int delta, int quantity,
+                                   MovementSource source, String reason, LocalDateTime occurredAt) {
+
+        static SpilledMovement of(InventoryChange change) {
+            return new SpilledMovement(change.getInventoryId(), change.getProductId(), change.getWarehouseId(),
+                    change.getDelta(), change.getQuantity(), change.getSource(), change.getReason(),
+                    change.getOccurredAt());
+        }
+
+        InventoryChange toChange() {
+            return new InventoryChange(inventoryId, productId, warehouseId, delta, quantity, source, reason,
+                    occurredAt);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        retriedCounter = Counter.builder("wms.inventory.ledger.retried").register(meterRegistry);
+        spilledCounter = Counter.builder("wms.inventory.ledger.spilled").register(meterRegistry);
+        droppedCounter = Counter.builder("wms.inventory.ledger.dropped").register(meterRegistry);
+        spillPending = Files.exists(spillFile);  // 이전 실행에서 보관된 원장은 시작 후 기록
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writerThread = new Thread(this::writeLoop, "inventory-ledger-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        // 종료 시 남은 항목은 호출 스레드에서 기록
+        List<InventoryChange> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        writeOrSpill(remaining);
+    }
+
+    /**
+     * 커밋된 재고 변경을 원장 큐에 추가
+     * 롤백된 변경은 기록되지 않음. 큐가 가득 찬 상태가 지속되면 호출 스레드에서 직접 기록(유실 방지)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        List<InventoryChange> overflow = null;
+        for (InventoryChange change : event.getChanges()) {
+            if (!offer(change)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(change);
+            }
+        }
+        if (overflow != null) {
+            log.warn("원장 큐가 가득 차 {}건을 동기 기록합니다.", overflow.size());
+            writeOrSpill(overflow);
+        }
+    }
+
+    /**
+     * 현재 큐에 쌓여 있는 원장 항목 수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    private boolean offer(InventoryChange change) {
+        try {
+            return queue.offer(change, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void writeLoop() {
+        List<InventoryChange> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                if (spillPending && System.currentTimeMillis() - lastReplayAt >= retryMaxBackoffMs) {
+                    replaySpill();
+                }
+                InventoryChange first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                // stop()에서 깨운 경우 running 플래그로 종료
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 기록 스레드의 묶음 기록 (실패하면 간격을 두 배씩 늘려 재시도, 모두 실패하면 파일에 보관)
+     */
+    private void writeWithRetry(List<InventoryChange> changes) {
+        long backoff = retryBackoffMs;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                inventoryJdbcRepository.insertMovements(changes);
+                return;
+            } catch (Exception e) {
+                if (attempt >= retryAttempts || !running) {
+                    log.error("재고 이동 원장 기록 실패 ({}건, {}회 시도), 파일에 보관합니다.", changes.size(), attempt, e);
+                    spill(changes);
+                    return;
+                }
+                log.warn("재고 이동 원장 기록 실패 ({}건), {}ms 후 재시도: {}", changes.size(), backoff, e.getMessage());
+                retriedCounter.increment();
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    // 종료 중이면 기다리지 않고 보관
+                    spill(changes);
+                    return;
+                }
+                backoff = Math.min(backoff * 2, retryMaxBackoffMs);
+            }
+        }
+    }
+
+    /**
+     * 요청 스레드와 종료 시의 기록 (요청 스레드를 붙잡지 않도록 재시도 없이 바로 파일에 보관)
+     */
+    private void writeOrSpill(List<InventoryChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            inventoryJdbcRepository.insertMovements(changes);
+        } catch (Exception e) {
+            log.error("재고 이동 원장 기록 실패 ({}건), 파일에 보관합니다.", changes.size(), e);
+            spill(changes);
+        }
+    }
+
+    private void spill(List<InventoryChange> changes) {
+        synchronized (spillLock) {
+            try {
+                Path parent = spillFile.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                    for (InventoryChange change : changes) {
+                        writer.write(objectMapper.writeValueAsString(SpilledMovement.of(change)));
+                        writer.newLine();
+                    }
+                }
+                spillPending = true;
+                spilledCounter.increment(changes.size());
+            } catch (IOException e) {
+                droppedCounter.increment(changes.size());
+                log.error("재고 이동 원장 파일 보관 실패, {}건 유실: {}", changes.size(), changes, e);
+            }
+        }
+    }
+
+    /**
+     * 파일에 보관된 원장을 묶음 단위로 기록
+     * 기록에 실패하면 아직 기록하지 못한 줄만 파일에 남기고 다음 시도로 미룸
+     */
+    private void replaySpill() {
+        lastReplayAt = System.currentTimeMillis();
+        synchronized (spillLock) {
+            if (!Files.exists(spillFile)) {
+                spillPending = false;
+                return;
+            }
+            Path remaining = null;
+            int replayed = 0;
+            try (BufferedReader reader = Files.newBufferedReader(spillFile, StandardCharsets.UTF_8)) {
+                List<String> lines = new ArrayList<>(batchSize);
+                while (true) {
+                    lines.clear();
+                    String line;
+                    while (lines.size() < batchSize && (line = reader.readLine()) != null) {
+                        lines.add(line);
+                    }
+                    if (lines.isEmpty()) {
+                        break;
+                    }
+                    try {
+                        inventoryJdbcRepository.insertMovements(parse(lines));
+                        replayed += lines.size();
+                    } catch (Exception e) {
+                        log.warn("보관된 원장 기록 실패, 다음에 다시 시도합니다: {}", e.getMessage());
+                        remaining = copyRemaining(lines, reader);
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                log.error("보관된 원장 파일을 읽을 수 없습니다: {}", spillFile, e);
+                return;
+            }
+
+            try {
+                if (remaining != null) {
+                    Files.move(remaining, spillFile, StandardCopyOption.REPLACE_EXISTING);
+                } else {
+                    Files.delete(spillFile);
+                    spillPending = false;
+                }
+            } catch (IOException e) {
+                log.error("보관된 원장 파일 정리 실패: {}", spillFile, e);
+            }
+            if (replayed > 0) {
+                log.info("보관된 재고 이동 원장 {}건을 기록했습니다.", replayed);
+            }
+        }
+    }
+
+    private List<InventoryChange> parse(List<String> lines) {
+        List<InventoryChange> changes = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            try {
+                changes.add(objectMapper.readValue(line, SpilledMovement.class).toChange());
+            } catch (JsonProcessingException e) {
+                // 보관 중 중단되어 잘린 줄
+                droppedCounter.increment();
+                log.error("보관된 원장 줄을 읽을 수 없어 건너뜁니다: {}", line, e);
+            }
+        }
+        return changes;
+    }
+
+    private Path copyRemaining(List<String> lines, BufferedReader reader) throws IOException {
+        Path remaining = spillFile.resolveSibling(spillFile.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(remaining, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.newLine();
+            }
+            reader.transferTo(writer);
+        }
+        return remaining;
+    }
+}
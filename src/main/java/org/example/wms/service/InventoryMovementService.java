@@ -0,0 +1,378 @@
+package org.example.wms.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.wms.dto.crud.StockMovementLine;
+import org.example.wms.dto.info.StockMovementBatchResultDTO;
+import org.example.wms.dto.info.StockMovementBatchResultDTO.LineResult;
+import org.example.wms.dto.info.StockMovementBatchResultDTO.LineStatus;
+import org.example.wms.dto.list.InventoryMovementListDTO;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryMovementRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 입출고 일괄 처리 및 재고 이동 원장 조회 서비스
+ * 스캐너/ERP에서 전송되는 대량의 입출고 라인을 스트리밍으로 읽어 JDBC 배치로 반영
+ * 핫 재고 엔진이 관리하는 재고의 라인은 단건 입출고와 같이 엔진에서 처리
+ */
+@Service
+@RequiredArgsConstructor
+public class InventoryMovementService {
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final InventoryMovementRepository inventoryMovementRepository;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationRegistry reservationRegistry;
+    private final PublicIdService publicIdService;
+    private final Optional<HotStockEngine> hotStockEngine;  // app.inventory.hot-engine.enabled=true 인 경우에만 존재
+
+    @Value("${app.inventory.batch.size:500}")
+    private int batchSize;
+
+    @Value("${app.inventory.batch.max-failures:1000}")
+    private int maxFailures;
+
+    /**
+     * 일괄 처리 집계 (상태별 건수와 라인 순서상 처음 maxFailures개의 실패 라인만 보관)
+     * DB 라인의 결과는 묶음을 반영한 뒤에 정해지므로, 그 사이에 결정된 라인의 실패는 보류했다가
+     * 반영 결과와 라인 순서대로 합쳐서 기록 (정렬 없음)
+     */
+    private static final class BatchTally {
+        private final int maxFailures;
+        private final int[] counts = new int[LineStatus.values().length];
+        private final List<LineResult> failures = new ArrayList<>();
+        private final List<LineResult> deferred = new ArrayList<>();  // 대기 중인 DB 라인보다 뒤 라인의 실패
+        private int totalLines;
+        private boolean truncated;
+
+        private BatchTally(int maxFailures) {
+            this.maxFailures = maxFailures;
+        }
+
+        /**
+         * 읽는 즉시 결과가 정해진 라인 기록
+         * @param pendingAhead 앞 라인 중 반영을 기다리는 DB 라인이 있으면 true
+         */
+        void record(int lineNumber, String encryptedInventoryId, LineStatus status, boolean pendingAhead) {
+            totalLines++;
+            counts[status.ordinal()]++;
+            if (status == LineStatus.APPLIED) {
+                return;
+            }
+            if (!pendingAhead) {
+                addFailure(new LineResult(lineNumber, encryptedInventoryId, status));
+            } else if (failures.size() + deferred.size() < maxFailures) {
+                deferred.add(new LineResult(lineNumber, encryptedInventoryId, status));
+            } else {
+                truncated = true;
+            }
+        }
+
+        /**
+         * 반영을 마친 DB 라인 기록 (묶음의 라인 순서대로 호출, 그 앞에 보류된 실패를 먼저 기록)
+         */
+        void recordFlushed(int lineNumber, String encryptedInventoryId, LineStatus status) {
+            drainDeferredBefore(lineNumber);
+            totalLines++;
+            counts[status.ordinal()]++;
+            if (status != LineStatus.APPLIED) {
+                addFailure(new LineResult(lineNumber, encryptedInventoryId, status));
+            }
+        }
+
+        /**
+         * 묶음 반영 후 남은 보류 실패 기록
+         */
+        void endFlush() {
+            drainDeferredBefore(Integer.MAX_VALUE);
+        }
+
+        StockMovementBatchResultDTO toResult() {
+            return StockMovementBatchResultDTO.builder()
+                    .totalLines(totalLines)
+                    .appliedCount(counts[LineStatus.APPLIED.ordinal()])
+                    .insufficientCount(counts[LineStatus.INSUFFICIENT.ordinal()])
+                    .unknownIdCount(counts[LineStatus.UNKNOWN_ID.ordinal()])
+                    .invalidCount(counts[LineStatus.INVALID.ordinal()])
+                    .failures(failures)
+                    .failuresTruncated(truncated)
+                    .build();
+        }
+
+        private void drainDeferredBefore(int lineNumber) {
+            int n = 0;
+            while (n < deferred.size() && deferred.get(n).getLine() < lineNumber) {
+                addFailure(deferred.get(n++));
+            }
+            deferred.subList(0, n).clear();
+        }
+
+        private void addFailure(LineResult failure) {
+            if (failures.size() < maxFailures) {
+                failures.add(failure);
+            } else {
+                truncated = true;
+            }
+        }
+    }
+
+    /**
+     * 입출고 일괄 처리
+     * JSON 배열을 한 라인씩 읽어 batchSize 단위로 반영하므로 요청 크기와 무관하게 파싱 메모리가 일정함
+     * 묶음(batchSize) 단위로 커밋되며, 잘못된 라인은 해당 라인의 결과로만 기록되고 나머지 라인은 계속 처리됨
+     * 결과도 상태별 건수와 처음 maxFailures개의 실패 라인만 보관하므로 요청 크기와 무관하게 메모리가 일정함
+     * @param body 요청 본문 (StockMovementLine의 JSON 배열)
+     * @return 상태별 건수와 실패 라인
+     * @throws IOException 요청 본문이 JSON 배열이 아니거나 읽을 수 없는 경우
+     */
+    public StockMovementBatchResultDTO applyBatch(InputStream body) throws IOException {
+        BatchTally tally = new BatchTally(maxFailures);
+        List<PendingLine> pending = new ArrayList<>(batchSize);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "요청 본문은 JSON 배열이어야 합니다.");
+            }
+
+            int lineNumber = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                JsonNode node = objectMapper.readTree(parser);
+                lineNumber++;
+
+                StockMovementLine line = toLine(node);
+                if (line == null || line.getType() == null
+                        || line.getQuantity() == null || line.getQuantity() <= 0) {
+                    tally.record(lineNumber, text(node), LineStatus.INVALID, !pending.isEmpty());
+                    continue;
+                }
+
+                Long inventoryId = publicIdService.resolveIfValid(line.getEncryptedInventoryId(), IdKind.INVENTORY);
+                if (inventoryId == null) {
+                    tally.record(lineNumber, line.getEncryptedInventoryId(), LineStatus.UNKNOWN_ID, !pending.isEmpty());
+                    continue;
+                }
+
+                if (hotStockEngine.isPresent() && hotStockEngine.get().handles(inventoryId)) {
+                    // 핫 재고는 DB를 직접 갱신하지 않고 엔진에서 바로 처리 (엔진 수량과 DB 수량이 어긋나지 않도록)
+                    tally.record(lineNumber, line.getEncryptedInventoryId(),
+                            applyHot(inventoryId, line.delta(), line.getReason()), !pending.isEmpty());
+                    continue;
+                }
+
+                pending.add(new PendingLine(lineNumber, line.getEncryptedInventoryId(), inventoryId,
+                        line.delta(), line.getReason()));
+                if (pending.size() >= batchSize) {
+                    flush(pending, tally);
+                }
+            }
+        }
+        flush(pending, tally);
+        return tally.toResult();
+    }
+
+    /**
+     * 핫 재고 엔진이 관리하는 재고의 라인 처리 (출고는 예약 수량까지 차감하지 않음)
+     * @return 라인 처리 결과
+     */
+    private LineStatus applyHot(long inventoryId, int delta, String reason) {
+        try {
+            // 출고는 같은 재고의 예약 등록과 직렬화한 상태에서 예약 수량을 읽고 반영
+            InventoryChange change = delta >= 0
+                    ? hotStockEngine.get().apply(inventoryId, delta, 0, MovementSource.BATCH, reason)
+                    : reservationRegistry.withReservedQuantity(inventoryId, reserved -> hotStockEngine.get()
+                            .apply(inventoryId, delta, reserved, MovementSource.BATCH, reason));
+            eventPublisher.publishEvent(InventoryChangedEvent.of(change));
+            return LineStatus.APPLIED;
+        } catch (IllegalStateException e) {
+            return LineStatus.INSUFFICIENT;
+        }
+    }
+
+    /**
+     * 대기 중인 라인을 하나의 트랜잭션, 하나의 JDBC 배치로 반영
+     */
+    private void flush(List<PendingLine> pending, BatchTally tally) {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long[] inventoryIds = new long[pending.size()];
+        int[] deltas = new int[pending.size()];
+        Set<Long> outgoingIds = new HashSet<>();
+        for (int i = 0; i < pending.size(); i++) {
+            inventoryIds[i] = pending.get(i).inventoryId;
+            deltas[i] = pending.get(i).delta;
+            if (deltas[i] < 0) {
+                outgoingIds.add(inventoryIds[i]);
+            }
+        }
+
+        int[] outcomes = transactionTemplate.execute(tx -> {
+            // 출고 라인은 예약된 수량까지 차감하지 않음
+            // 재고 행을 잠근 뒤 예약 수량을 읽어, 그 사이 등록된 예약분까지 출고하지 않도록 함 (예약도 같은 행을 잠그고 등록)
+            inventoryJdbcRepository.lockStockRows(outgoingIds);
+            int[] floors = new int[pending.size()];
+            for (int i = 0; i < pending.size(); i++) {
+                floors[i] = deltas[i] < 0 ? reservationRegistry.reservedQuantity(inventoryIds[i]) : 0;
+            }
+            int[] applied = inventoryJdbcRepository.applyDeltas(inventoryIds, deltas, floors);
+            publishChanges(pending, applied);
+            return applied;
+        });
+        for (int i = 0; i < outcomes.length; i++) {
+            PendingLine line = pending.get(i);
+            LineStatus status = switch (outcomes[i]) {
+                case InventoryJdbcRepository.APPLIED -> LineStatus.APPLIED;
+                case InventoryJdbcRepository.INSUFFICIENT -> LineStatus.INSUFFICIENT;
+                default -> LineStatus.UNKNOWN_ID;
+            };
+            tally.recordFlushed(line.lineNumber, line.encryptedInventoryId, status);
+        }
+        tally.endFlush();
+        pending.clear();
+    }
+
+    /**
+     * 적용된 라인의 재고 변경 이벤트 발행
+     * 같은 트랜잭션에서 최종 수량을 읽고, 라인을 역순으로 되짚어 라인별 변경 후 수량을 계산
+     */
+    private void publishChanges(List<PendingLine> pending, int[] outcomes) {
+        List<Long> appliedIds = new ArrayList<>();
+        for (int i = 0; i < outcomes.length; i++) {
+            if (outcomes[i] == InventoryJdbcRepository.APPLIED) {
+                appliedIds.add(pending.get(i).inventoryId);
+            }
+        }
+        if (appliedIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, InventoryStockRow> rows = inventoryJdbcRepository.findStockRows(appliedIds);
+        Map<Long, Integer> running = new HashMap<>();
+        rows.forEach((id, row) -> running.put(id, row.getQuantity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        InventoryChange[] changes = new InventoryChange[outcomes.length];
+        for (int i = outcomes.length - 1; i >= 0; i--) {
+            if (outcomes[i] != InventoryJdbcRepository.APPLIED) {
+                continue;
+            }
+            PendingLine line = pending.get(i);
+            InventoryStockRow row = rows.get(line.inventoryId);
+            int quantity = running.get(line.inventoryId);
+            running.put(line.inventoryId, quantity - line.delta);
+            changes[i] = InventoryChange.builder()
+                    .inventoryId(line.inventoryId)
+                    .productId(row.getProductId())
+                    .warehouseId(row.getWarehouseId())
+                    .delta(line.delta)
+                    .quantity(quantity)
+                    .source(MovementSource.BATCH)
+                    .reason(line.reason)
+                    .occurredAt(now)
+                    .build();
+        }
+        eventPublisher.publishEvent(new InventoryChangedEvent(
+                Arrays.stream(changes).filter(Objects::nonNull).toList()));
+    }
+
+    /**
+     * 재고별 이동 내역 조회
+     * @param encryptedInventoryId 암호화된 재고 ID
+     * @param pageable 페이지 정보
+     * @return 이동 내역 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<InventoryMovementListDTO> getMovementsByInventory(String encryptedInventoryId, Pageable pageable) {
+        return getMovementsByInventory(publicIdService.resolve(encryptedInventoryId, IdKind.INVENTORY), pageable);
+    }
+
+    /**
+     * 재고별 이동 내역 조회 (복호화된 ID)
+     * @param inventoryId 재고 ID
+     * @param pageable 페이지 정보
+     * @return 이동 내역 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<InventoryMovementListDTO> getMovementsByInventory(Long inventoryId, Pageable pageable) {
+        return InventoryMovementListDTO.of(
+                inventoryMovementRepository.findByInventoryId(inventoryId, pageable), idEncryptionUtil,
+                publicIdService);
+    }
+
+    /**
+     * 창고별 이동 내역 조회
+     * @param encryptedWarehouseId 암호화된 창고 ID
+     * @param pageable 페이지 정보
+     * @return 이동 내역 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<InventoryMovementListDTO> getMovementsByWarehouse(String encryptedWarehouseId, Pageable pageable) {
+        return getMovementsByWarehouse(publicIdService.resolve(encryptedWarehouseId, IdKind.WAREHOUSE), pageable);
+    }
+
+    /**
+     * 창고별 이동 내역 조회 (복호화된 ID)
+     * @param warehouseId 창고 ID
+     * @param pageable 페이지 정보
+     * @return 이동 내역 목록
+     */
+    @Transactional(readOnly = true)
+    public Page<InventoryMovementListDTO> getMovementsByWarehouse(Long warehouseId, Pageable pageable) {
+        return InventoryMovementListDTO.of(
+                inventoryMovementRepository.findByWarehouseId(warehouseId, pageable), idEncryptionUtil,
+                publicIdService);
+    }
+
+    private StockMovementLine toLine(JsonNode node) {
+        try {
+            return objectMapper.treeToValue(node, StockMovementLine.class);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String text(JsonNode node) {
+        JsonNode id = node.get("encryptedInventoryId");
+        return id != null && id.isTextual() ? id.asText() : null;
+    }
+
+
+    private record PendingLine(int lineNumber, String encryptedInventoryId, long inventoryId, int delta,
+                               String reason) {
+    }
+}
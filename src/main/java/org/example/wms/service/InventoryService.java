@@ -7,18 +7,32 @@ import org.example.wms.dto.crud.StockOutRequest;
 import org.example.wms.dto.info.InventoryInfoDTO;
 import org.example.wms.dto.list.InventoryListDTO;
 import org.example.wms.entity.InventoryEntity;
+import org.example.wms.entity.MovementSource;
 import org.example.wms.entity.ProductEntity;
+import org.example.wms.entity.StockStatus;
 import org.example.wms.entity.WarehouseEntity;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.exception.DuplicateRequestException;
+import org.example.wms.repository.InventoryJdbcRepository;
 import org.example.wms.repository.InventoryRepository;
+import org.example.wms.repository.InventoryStockRow;
 import org.example.wms.repository.ProductRepository;
 import org.example.wms.repository.WarehouseRepository;
 import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -27,7 +41,14 @@ public class InventoryService {
     private  final InventoryRepository inventoryRepository;
     private final ProductRepository productRepository;
     private final WarehouseRepository warehouseRepository;
+    private final InventoryJdbcRepository inventoryJdbcRepository;
     private final IdEncryptionUtil idEncryptionUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Optional<HotStockEngine> hotStockEngine;  // app.inventory.hot-engine.enabled=true 인 경우에만 존재
+    private final ReservationRegistry reservationRegistry;
+    private final IdempotencyService idempotencyService;
+    private final StockThresholdService stockThresholdService;
+    private final PublicIdService publicIdService;
     //--------------------------------생성-------------------------------------------------
 
     /**
@@ -37,9 +58,10 @@ public class InventoryService {
      * @throws IllegalArgumentException 상품 또는 창고를 찾을 수 없는 경우
      * @throws DataIntegrityViolationException 이미 등록된 재고가 있는 경우
      */
+    @Transactional
     public InventoryInfoDTO createInventory(InventoryCreateRequest request){
         Long productId = idEncryptionUtil.decrypt(request.getEncryptedProductId());
-        Long warehouseId = idEncryptionUtil.decrypt(request.getEncryptedWarehouseId());
+        Long warehouseId = publicIdService.resolve(request.getEncryptedWarehouseId(), IdKind.WAREHOUSE);
 
         ProductEntity productEntity = productRepository.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
@@ -51,10 +73,20 @@ public class InventoryService {
                 .product(productEntity)
                 .warehouse(warehouseEntity)
                 .quantity(request.getQuantity())
+                .lowThreshold(stockThresholdService.lowThreshold(productId, warehouseId))
                 .build();
 
         InventoryEntity saved = inventoryRepository.saveAndFlush(inventoryEntity);
-        return InventoryInfoDTO.of(saved, idEncryptionUtil);
+        eventPublisher.publishEvent(InventoryChangedEvent.of(InventoryChange.builder()
+                .inventoryId(saved.getInventoryId())
+                .productId(productId)
+                .warehouseId(warehouseId)
+                .delta(saved.getQuantity())
+                .quantity(saved.getQuantity())
+                .source(MovementSource.CREATE)
+                .occurredAt(LocalDateTime.now())
+                .build()));
+        return InventoryInfoDTO.of(saved, idEncryptionUtil, 0, publicIdService.isEnabled());
     }
 
     //--------------------------------조회-------------------------------------------------
@@ -66,10 +98,39 @@ public class InventoryService {
      * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
      */
     public InventoryInfoDTO getInventory(String encryptedId){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        return getInventory(publicIdService.resolve(encryptedId, IdKind.INVENTORY));
+    }
+
+    /**
+     * 재고 단건 조회 (복호화된 ID)
+     * @param id 재고 ID
+     * @return 재고 상세 정보 (상품명, 창고명 포함)
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     */
+    public InventoryInfoDTO getInventory(Long id){
         InventoryEntity entity = inventoryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다."));
-        return InventoryInfoDTO.of(entity, idEncryptionUtil);
+        return InventoryInfoDTO.of(entity, idEncryptionUtil, reservationRegistry.reservedQuantity(id),
+                publicIdService.isEnabled());
+    }
+
+    /**
+     * 예약 판단용 현재 재고 수량 조회 함수 (호출 측 트랜잭션 안에서 호출)
+     * DB 재고는 재고 행을 잠그고 읽은 수량을 돌려주므로, 커밋 전까지 같은 재고의 출고는 잠금을 기다린 뒤 예약 수량을 읽음
+     * 핫 재고 엔진이 관리하는 재고는 메모리 수량을 읽는 함수를 돌려줌 (예약 레지스트리의 재고별 동기화 안에서 호출됨)
+     * @param inventoryId 재고 ID
+     * @return 현재 수량 조회 함수
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public IntSupplier lockOnHandQuantity(Long inventoryId) {
+        if (hotStockEngine.isPresent() && hotStockEngine.get().handles(inventoryId)) {
+            return () -> hotStockEngine.get().currentQuantity(inventoryId);
+        }
+        int quantity = inventoryJdbcRepository.lockStockRow(inventoryId)
+                .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다."))
+                .getQuantity();
+        return () -> quantity;
     }
 
     /**
@@ -79,7 +140,34 @@ public class InventoryService {
      */
     public Page<InventoryListDTO> getAllInventories(Pageable pageable){
         Page<InventoryEntity> page = inventoryRepository.findAll(pageable);
-        return InventoryListDTO.of(page,idEncryptionUtil);
+        return InventoryListDTO.of(page, idEncryptionUtil, publicIdService.isEnabled());
+    }
+
+    /**
+     * 재고 상태별 목록 조회 (페이징, 상태 인덱스 조회)
+     * @param status 재고 상태 (충분/부족/없음)
+     * @param encryptedWarehouseId 암호화된 창고 ID (없으면 전체 창고)
+     * @param pageable 페이지 정보
+     * @return 해당 상태의 재고 목록
+     */
+    public Page<InventoryListDTO> getInventoriesByStatus(StockStatus status, String encryptedWarehouseId,
+                                                         Pageable pageable){
+        Long warehouseId = publicIdService.resolve(encryptedWarehouseId, IdKind.WAREHOUSE);
+        return getInventoriesByStatus(status, warehouseId, pageable);
+    }
+
+    /**
+     * 재고 상태별 목록 조회 (복호화된 ID)
+     * @param status 재고 상태 (충분/부족/없음)
+     * @param warehouseId 창고 ID (없으면 전체 창고)
+     * @param pageable 페이지 정보
+     * @return 해당 상태의 재고 목록
+     */
+    public Page<InventoryListDTO> getInventoriesByStatus(StockStatus status, Long warehouseId, Pageable pageable){
+        Page<InventoryEntity> page = warehouseId == null
+                ? inventoryRepository.findByStockStatus(status, pageable)
+                : inventoryRepository.findByWarehouseWarehouseIdAndStockStatus(warehouseId, status, pageable);
+        return InventoryListDTO.of(page, idEncryptionUtil, publicIdService.isEnabled());
     }
 
     /**
@@ -89,9 +177,18 @@ public class InventoryService {
      * @return 해당 상품의 창고별 재고 목록
      */
     public Page<InventoryListDTO> getInventoriesByProduct(String encryptedProductId, Pageable pageable){
-        Long productId = idEncryptionUtil.decrypt(encryptedProductId);
+        return getInventoriesByProduct(idEncryptionUtil.decrypt(encryptedProductId), pageable);
+    }
+
+    /**
+     * 특정 상품의 재고 목록 조회 (복호화된 ID)
+     * @param productId 상품 ID
+     * @param pageable 페이지 정보
+     * @return 해당 상품의 창고별 재고 목록
+     */
+    public Page<InventoryListDTO> getInventoriesByProduct(Long productId, Pageable pageable){
         Page<InventoryEntity> page = inventoryRepository.findByProductProductId(productId, pageable);
-        return InventoryListDTO.of(page,idEncryptionUtil);
+        return InventoryListDTO.of(page, idEncryptionUtil, publicIdService.isEnabled());
     }
 
     /**
@@ -101,39 +198,161 @@ public class InventoryService {
      * @return 해당 창고의 상품별 재고 목록
      */
     public Page<InventoryListDTO> getInventoriesByWarehouse(String encryptedWarehouseId, Pageable pageable){
-        Long warehouseId = idEncryptionUtil.decrypt(encryptedWarehouseId);
+        return getInventoriesByWarehouse(publicIdService.resolve(encryptedWarehouseId, IdKind.WAREHOUSE), pageable);
+    }
+
+    /**
+     * 특정 창고의 재고 목록 조회 (복호화된 ID)
+     * @param warehouseId 창고 ID
+     * @param pageable 페이지 정보
+     * @return 해당 창고의 상품별 재고 목록
+     */
+    public Page<InventoryListDTO> getInventoriesByWarehouse(Long warehouseId, Pageable pageable){
         Page<InventoryEntity> page = inventoryRepository.findByWarehouseWarehouseId(warehouseId,pageable);
-        return  InventoryListDTO.of(page,idEncryptionUtil);
+        return InventoryListDTO.of(page, idEncryptionUtil, publicIdService.isEnabled());
     }
 
     //--------------------------------수정-------------------------------------------------
     /**
      * 재고 입고 (수량 증가)
+     * 조건 없는 단일 UPDATE로 처리하여 동시 입고 시에도 수량이 유실되지 않음
      * @param request 입고 요청 DTO (상품 ID, 창고 ID, 입고 수량)
      * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
      */
     @Transactional
     public void stockIn(StockInRequest request){
-        Long id = idEncryptionUtil.decrypt(request.getEncryptedInventoryId());
-        InventoryEntity entity= inventoryRepository.findById(id)
-                .orElseThrow(()->new IllegalArgumentException("재고를 찾을 수 없습니다."));
+        stockIn(request, null);
+    }
 
-        entity.addQuantity(request.getQuantity());
-        inventoryRepository.saveAndFlush(entity);
+    /**
+     * 재고 입고 (멱등성 키 기록 포함)
+     * 키를 먼저 기록하므로 이미 처리된 키면 재고를 변경하지 않음
+     * @param request 입고 요청 DTO
+     * @param claim 같은 트랜잭션에서 기록할 멱등성 키 (없으면 null)
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     * @throws DuplicateRequestException 이미 처리된 멱등성 키인 경우
+     */
+    @Transactional
+    public void stockIn(StockInRequest request, IdempotencyClaim claim){
+        Long id = publicIdService.resolve(request.getEncryptedInventoryId(), IdKind.INVENTORY);
+        claimIdempotencyKey(claim);
+        if (applyHot(id, request.getQuantity(), 0, MovementSource.STOCK_IN, request.getReason())) {
+            return;
+        }
+        int updated = inventoryRepository.increaseQuantity(id, request.getQuantity());
+        if (updated == 0) {
+            throw new IllegalArgumentException("재고를 찾을 수 없습니다.");
+        }
+        publishChange(id, request.getQuantity(), MovementSource.STOCK_IN, request.getReason());
     }
 
     /**
      * 재고 출고 (수량 감소)
+     * 재고 행을 잠근 뒤 조건부 UPDATE(quantity - 예약 수량 >= 출고 수량)로 처리하고, 변경된 행이 없으면 재고 부족 여부를 판단
      * @param request 출고 요청 DTO (상품 ID, 창고 ID, 출고 수량)
-     * @throws IllegalArgumentException 재고를 찾을 수 없거나 재고가 부족한 경우
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     * @throws IllegalStateException 가용 재고가 부족한 경우
      */
+    @Transactional
     public void stockOut(StockOutRequest request){
-        Long id = idEncryptionUtil.decrypt(request.getEncryptedInventoryId());
-        InventoryEntity entity= inventoryRepository.findById(id)
-                .orElseThrow(()->new IllegalArgumentException("재고를 찾을 수 없습니다."));
+        stockOut(request, null);
+    }
+
+    /**
+     * 재고 출고 (멱등성 키 기록 포함)
+     * 키를 먼저 기록하므로 이미 처리된 키면 재고를 변경하지 않음
+     * @param request 출고 요청 DTO
+     * @param claim 같은 트랜잭션에서 기록할 멱등성 키 (없으면 null)
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     * @throws IllegalStateException 가용 재고가 부족한 경우
+     * @throws DuplicateRequestException 이미 처리된 멱등성 키인 경우
+     */
+    @Transactional
+    public void stockOut(StockOutRequest request, IdempotencyClaim claim){
+        Long id = publicIdService.resolve(request.getEncryptedInventoryId(), IdKind.INVENTORY);
+        claimIdempotencyKey(claim);
+        stockOut(id, request.getQuantity(), 0, MovementSource.STOCK_OUT, request.getReason());
+    }
+
+    /**
+     * 재고 출고 (내부 호출용)
+     * @param inventoryId 재고 ID
+     * @param quantity 출고 수량
+     * @param ownReservation 이 출고로 확정되는 예약 수량 (활성 예약 합계에서 제외)
+     * @param source 변경 출처
+     * @param reason 변경 사유
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     * @throws IllegalStateException 가용 재고가 부족한 경우
+     */
+    @Transactional
+    public void stockOut(Long inventoryId, int quantity, int ownReservation, MovementSource source, String reason) {
+        if (applyHot(inventoryId, -quantity, ownReservation, source, reason)) {
+            return;
+        }
+        // 재고 행을 잠근 뒤 예약 수량을 읽어, 그 사이 등록된 예약분까지 출고하지 않도록 함 (예약도 같은 행을 잠그고 등록)
+        InventoryStockRow row = inventoryJdbcRepository.lockStockRow(inventoryId)
+                .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다."));
+        int reserved = reservationRegistry.reservedQuantity(inventoryId) - ownReservation;
+        int updated = inventoryRepository.decreaseQuantity(inventoryId, quantity, reserved);
+        if (updated == 0) {
+            throw new IllegalStateException(insufficientStockMessage(row.getQuantity(), reserved, quantity));
+        }
+        publishChange(inventoryId, -quantity, source, reason);
+    }
 
-        entity.removeQuantity(request.getQuantity());
-        inventoryRepository.save(entity);
+    /**
+     * 재고 부족 메시지 (예약이 있으면 예약 수량 포함)
+     */
+    static String insufficientStockMessage(int current, int reserved, int requested) {
+        if (reserved > 0) {
+            return "가용 재고가 부족합니다. 현재 재고: " + current + ", 예약 수량: " + reserved + ", 요청 수량: " + requested;
+        }
+        return "재고가 부족합니다. 현재 재고: " + current + ", 요청 수량: " + requested;
+    }
+
+    /**
+     * 멱등성 키 기록 (이미 처리된 키면 트랜잭션을 롤백시키는 예외 발생)
+     */
+    private void claimIdempotencyKey(IdempotencyClaim claim) {
+        if (claim != null && !idempotencyService.tryClaim(claim)) {
+            throw new DuplicateRequestException(claim.key());
+        }
+    }
+
+    /**
+     * 핫 재고 엔진이 관리하는 재고면 엔진에서 처리 (DB 반영은 엔진이 주기적으로 수행)
+     * @return 엔진에서 처리했으면 true
+     */
+    private boolean applyHot(Long inventoryId, int delta, int ownReservation, MovementSource source, String reason) {
+        if (hotStockEngine.isEmpty() || !hotStockEngine.get().handles(inventoryId)) {
+            return false;
+        }
+        // 출고는 같은 재고의 예약 등록과 직렬화한 상태에서 예약 수량을 읽고 반영
+        InventoryChange change = delta >= 0
+                ? hotStockEngine.get().apply(inventoryId, delta, 0, source, reason)
+                : reservationRegistry.withReservedQuantity(inventoryId, reserved -> hotStockEngine.get()
+                        .apply(inventoryId, delta, reserved - ownReservation, source, reason));
+        eventPublisher.publishEvent(InventoryChangedEvent.of(change));
+        return true;
+    }
+
+    /**
+     * 재고 변경 이벤트 발행
+     * UPDATE 직후 같은 트랜잭션에서 변경 후 수량을 읽어 원장 등 후속 처리에 전달
+     */
+    private void publishChange(Long inventoryId, int delta, MovementSource source, String reason) {
+        InventoryStockRow row = inventoryJdbcRepository.findStockRow(inventoryId)
+                .orElseThrow(() -> new IllegalArgumentException("재고를 찾을 수 없습니다."));
+        eventPublisher.publishEvent(InventoryChangedEvent.of(InventoryChange.builder()
+                .inventoryId(row.getInventoryId())
+                .productId(row.getProductId())
+                .warehouseId(row.getWarehouseId())
+                .delta(delta)
+                .quantity(row.getQuantity())
+                .source(source)
+                .reason(reason)
+                .occurredAt(LocalDateTime.now())
+                .build()));
     }
     //--------------------------------삭제-------------------------------------------------
     /**
@@ -142,8 +361,15 @@ public class InventoryService {
      * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
      */
     public void deleteInventory(String encryptedId){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        deleteInventory(publicIdService.resolve(encryptedId, IdKind.INVENTORY));
+    }
 
+    /**
+     * 재고 삭제 (복호화된 ID)
+     * @param id 재고 ID
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     */
+    public void deleteInventory(Long id){
         InventoryEntity entity = inventoryRepository.findById(id)
                 .orElseThrow(()->new IllegalArgumentException("재고를 찾을 수 없습니다."));
     }
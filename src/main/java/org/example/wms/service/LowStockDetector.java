@@ -0,0 +1,52 @@
+package org.example.wms.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.wms.entity.StockStatus;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.event.StockAlert;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 재고 부족 경계 감지기
+ * 커밋된 재고 변경마다 변경 전/후 수량의 상태만 비교하므로 변경 1건당 O(1)
+ * (상품/창고별 부족 기준 수량은 인메모리 맵에서 조회)
+ * 상태가 바뀐 경우(충분 → 부족, 부족 → 없음, 없음 → 충분 등)에만 알림 버스로 발행
+ */
+@Component
+@RequiredArgsConstructor
+public class LowStockDetector {
+
+    private final StockAlertBus stockAlertBus;
+    private final StockThresholdService stockThresholdService;
+
+    /**
+     * 커밋된 재고 변경에서 상태 경계를 넘은 변경을 찾아 발행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        for (InventoryChange change : event.getChanges()) {
+            int lowThreshold = stockThresholdService.lowThreshold(change.getProductId(), change.getWarehouseId());
+            StockStatus previous = StockStatus.of(change.previousQuantity(), lowThreshold);
+            StockStatus current = StockStatus.of(change.getQuantity(), lowThreshold);
+            if (previous != current) {
+                stockAlertBus.publish(toAlert(stockAlertBus.nextSequence(), change, previous, current));
+            }
+        }
+    }
+
+    static StockAlert toAlert(long sequence, InventoryChange change, StockStatus previous, StockStatus current) {
+        return StockAlert.builder()
+                .sequence(sequence)
+                .inventoryId(change.getInventoryId())
+                .productId(change.getProductId())
+                .warehouseId(change.getWarehouseId())
+                .previousStatus(previous)
+                .status(current)
+                .quantity(change.getQuantity())
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+}
@@ -48,7 +48,16 @@ public class ManufacturerService {
      * @throws IllegalArgumentException 제조사를 찾을 수 없는 경우
      */
     public ManufacturerInfoDTO getManufacturer(String encryptedId) {
-        var id =idEncryptionUtil.decrypt(encryptedId);
+        return getManufacturer(idEncryptionUtil.decrypt(encryptedId));
+    }
+
+    /**
+     * 제조사 단건 조회 (복호화된 ID)
+     * @param id 제조사 ID
+     * @return 제조사 상세 정보
+     * @throws IllegalArgumentException 제조사를 찾을 수 없는 경우
+     */
+    public ManufacturerInfoDTO getManufacturer(Long id) {
         return manufacturerRepository.findById(id)
                 .map(entity -> ManufacturerInfoDTO.of(entity, idEncryptionUtil))
                 .orElseThrow(() -> new IllegalArgumentException("제조사를 찾을 수 없습니다."));
@@ -91,7 +100,17 @@ public class ManufacturerService {
      */
     @Transactional
     public void updateManufacturer(String encryptedId, ManufacturerUpdateRequest request){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        updateManufacturer(idEncryptionUtil.decrypt(encryptedId), request);
+    }
+
+    /**
+     * 제조사 정보 수정 (복호화된 ID)
+     * @param id 제조사 ID
+     * @param request 수정할 정보
+     * @throws IllegalArgumentException 제조사를 찾을 수 없는 경우
+     */
+    @Transactional
+    public void updateManufacturer(Long id, ManufacturerUpdateRequest request){
         ManufacturerEntity entity = manufacturerRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("제조사를 찾을 수 없습니다."));
 
@@ -117,9 +136,19 @@ public class ManufacturerService {
      */
     @Transactional
     public void deleteManufacturer(String encryptedId){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        deleteManufacturer(idEncryptionUtil.decrypt(encryptedId));
+    }
+
+    /**
+     * 제조사 삭제 (복호화된 ID)
+     * @param id 제조사 ID
+     * @throws IllegalArgumentException 제조사를 찾을 수 없는 경우
+     * @throws DataIntegrityViolationException 연관된 상품이 있는 경우
+     */
+    @Transactional
+    public void deleteManufacturer(Long id){
         ManufacturerEntity entity = manufacturerRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("제조사를 찾을 수 없습니다. id=" + encryptedId));
+                .orElseThrow(() -> new IllegalArgumentException("제조사를 찾을 수 없습니다."));
 
         try {
             manufacturerRepository.delete(entity);
@@ -0,0 +1,56 @@
+package org.example.wms.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.wms.dto.crud.OrderAllocationRequest;
+import org.example.wms.dto.crud.OrderAllocationRequest.OrderLine;
+import org.example.wms.dto.info.OrderAllocationResultDTO;
+import org.example.wms.util.IdEncryptionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 주문 창고 할당 서비스
+ * 메모리 인덱스(상품 → 창고 → 수량)만 사용하므로 주문 라인 수와 관계없이 SQL을 실행하지 않음
+ * 할당 결과는 제안이며 재고를 차감하거나 예약하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderAllocationService {
+
+    private final StockAllocationIndex stockAllocationIndex;
+    private final ReservationRegistry reservationRegistry;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final PublicIdService publicIdService;
+
+    @Value("${app.inventory.allocation.warehouse-priority:}")
+    private long[] warehousePriority;
+
+    private OrderAllocator orderAllocator;
+
+    @PostConstruct
+    void init() {
+        orderAllocator = new OrderAllocator(warehousePriority);
+    }
+
+    /**
+     * 주문을 창고별로 할당 (사용 창고 수 최소화, 동률이면 우선순위 창고)
+     * 같은 상품의 라인은 합산하여 할당하며, 가용 수량은 활성 예약을 제외한 수량
+     * @param request 주문 할당 요청 DTO (상품 ID, 수량 목록)
+     * @return 창고별 할당 내역과 부족 수량
+     */
+    public OrderAllocationResultDTO allocate(OrderAllocationRequest request) {
+        Map<Long, Integer> demand = new LinkedHashMap<>();
+        for (OrderLine line : request.getLines()) {
+            Long productId = idEncryptionUtil.decrypt(line.getEncryptedProductId());
+            demand.merge(productId, line.getQuantity(), Integer::sum);
+        }
+
+        OrderAllocator.Result result = orderAllocator.allocate(demand,
+                productId -> stockAllocationIndex.slotsOf(productId, reservationRegistry::reservedQuantity));
+        return OrderAllocationResultDTO.of(result, idEncryptionUtil, publicIdService);
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.wms.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 다중 창고 주문 할당기 (순수 계산, DB 접근 없음)
+ * 탐욕적 집합 덮개 방식으로 사용 창고 수를 최소화
+ * - 남은 주문 라인을 가장 많이 "완전히" 충족할 수 있는 창고를 먼저 선택
+ * - 동률이면 충족 가능한 수량이 많은 창고, 그다음 우선순위가 높은 창고, 그다음 창고 ID가 작은 창고
+ * - 선택한 창고에서 가능한 만큼 할당하고, 남은 수량으로 다음 창고를 선택
+ * 창고 하나로 주문 전체를 충족할 수 있으면 항상 그 창고 하나만 사용함
+ */
+public final class OrderAllocator {
+
+    /**
+     * 상품의 창고별 가용 재고
+     */
+    public record Slot(long inventoryId, long warehouseId, int available) {
+    }
+
+    /**
+     * 창고별 할당 결과 한 건
+     */
+    public record Allocation(long productId, long warehouseId, long inventoryId, int quantity) {
+    }
+
+    /**
+     * 할당하지 못한 수량
+     */
+    public record Shortage(long productId, int requested, int allocated) {
+    }
+
+    /**
+     * 할당 결과 (allocations는 창고 선택 순서대로 정렬됨)
+     */
+    public record Result(List<Allocation> allocations, List<Shortage> shortages, int warehouseCount) {
+
+        public boolean fullyAllocated() {
+            return shortages.isEmpty();
+        }
+    }
+
+    private final Map<Long, Integer> priorityRanks = new HashMap<>();
+
+    /**
+     * @param warehousePriority 우선 사용할 창고 ID (앞에 있을수록 우선)
+     */
+    public OrderAllocator(long[] warehousePriority) {
+        for (int i = 0; i < warehousePriority.length; i++) {
+            priorityRanks.putIfAbsent(warehousePriority[i], i);
+        }
+    }
+
+    /**
+     * 주문 할당
+     * @param demand 상품 ID → 주문 수량 (같은 상품은 하나로 합산된 상태)
+     * @param stock 상품 ID → 창고별 가용 재고 조회 함수
+     * @return 할당 결과
+     */
+    public Result allocate(Map<Long, Integer> demand, Function<Long, List<Slot>> stock) {
+        int productCount = demand.size();
+        long[] productIds = new long[productCount];
+        int[] remaining = new int[productCount];
+
+        // 창고별로 (상품 인덱스, 재고) 목록을 구성
+        Map<Long, Integer> warehouseIndexes = new HashMap<>();
+        List<Candidate> candidates = new ArrayList<>();
+        int p = 0;
+        for (Map.Entry<Long, Integer> entry : demand.entrySet()) {
+            productIds[p] = entry.getKey();
+            remaining[p] = entry.getValue();
+            List<Slot> slots = stock.apply(entry.getKey());
+            if (slots != null) {
+                for (Slot slot : slots) {
+                    if (slot.available() <= 0) {
+                        continue;
+                    }
+                    Integer index = warehouseIndexes.get(slot.warehouseId());
+                    if (index == null) {
+                        index = candidates.size();
+                        warehouseIndexes.put(slot.warehouseId(), index);
+                        candidates.add(new Candidate(slot.warehouseId(),
+                                priorityRanks.getOrDefault(slot.warehouseId(), Integer.MAX_VALUE)));
+                    }
+                    candidates.get(index).add(p, slot);
+                }
+            }
+            p++;
+        }
+
+        List<Allocation> allocations = new ArrayList<>();
+        int unfilledLines = productCount;
+        int warehouseCount = 0;
+        boolean[] used = new boolean[candidates.size()];
+        while (unfilledLines > 0) {
+            int best = -1;
+            int bestLines = 0;
+            long bestUnits = 0;
+            for (int w = 0; w < candidates.size(); w++) {
+                if (used[w]) {
+                    continue;
+                }
+                Candidate candidate = candidates.get(w);
+                int lines = 0;
+                long units = 0;
+                for (int i = 0; i < candidate.size; i++) {
+                    int need = remaining[candidate.products[i]];
+                    if (need == 0) {
+                        continue;
+                    }
+                    int available = candidate.slots[i].available();
+                    if (available >= need) {
+                        lines++;
+                        units += need;
+                    } else {
+                        units += available;
+                    }
+                }
+                if (units > 0 && (best < 0 || isBetter(candidate, lines, units, candidates.get(best), bestLines, bestUnits))) {
+                    best = w;
+                    bestLines = lines;
+                    bestUnits = units;
+                }
+            }
+            if (best < 0) {
+                break;  // 남은 라인을 채울 수 있는 창고가 없음
+            }
+
+            used[best] = true;
+            warehouseCount++;
+            Candidate chosen = candidates.get(best);
+            for (int i = 0; i < chosen.size; i++) {
+                int product = chosen.products[i];
+                int quantity = Math.min(remaining[product], chosen.slots[i].available());
+                if (quantity == 0) {
+                    continue;
+                }
+                remaining[product] -= quantity;
+                if (remaining[product] == 0) {
+                    unfilledLines--;
+                }
+                allocations.add(new Allocation(productIds[product], chosen.warehouseId,
+                        chosen.slots[i].inventoryId(), quantity));
+            }
+        }
+
+        List<Shortage> shortages = new ArrayList<>();
+        p = 0;
+        for (int requested : demand.values()) {
+            if (remaining[p] > 0) {
+                shortages.add(new Shortage(productIds[p], requested, requested - remaining[p]));
+            }
+            p++;
+        }
+        return new Result(allocations, shortages, warehouseCount);
+    }
+
+    private static boolean isBetter(Candidate candidate, int lines, long units,
+                                    Candidate best, int bestLines, long bestUnits) {
+        if (lines != bestLines) {
+            return lines > bestLines;
+        }
+        if (units != bestUnits) {
+            return units > bestUnits;
+        }
+        if (candidate.priorityRank != best.priorityRank) {
+            return candidate.priorityRank < best.priorityRank;
+        }
+        return candidate.warehouseId < best.warehouseId;
+    }
+
+    /**
+     * 할당 후보 창고 (주문 상품 중 이 창고에 재고가 있는 것만 보관)
+     */
+    private static final class Candidate {
+        private final long warehouseId;
+        private final int priorityRank;
+        private int[] products = new int[4];
+        private Slot[] slots = new Slot[4];
+        private int size;
+
+        private Candidate(long warehouseId, int priorityRank) {
+            this.warehouseId = warehouseId;
+            this.priorityRank = priorityRank;
+        }
+
+        private void add(int product, Slot slot) {
+            if (size == products.length) {
+                products = Arrays.copyOf(products, size * 2);
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            products[size] = product;
+            slots[size] = slot;
+            size++;
+        }
+    }
+}
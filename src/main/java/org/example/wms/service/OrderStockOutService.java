@@ -0,0 +1,201 @@
+package org.example.wms.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.wms.dto.crud.OrderStockOutRequest;
+import org.example.wms.dto.crud.OrderStockOutRequest.OrderLine;
+import org.example.wms.dto.info.OrderStockOutResultDTO;
+import org.example.wms.dto.info.OrderStockOutResultDTO.Shortage;
+import org.example.wms.dto.info.OrderStockOutResultDTO.ShortageReason;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.exception.InsufficientStockException;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.util.IdKind;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 주문 출고 서비스
+ * 주문의 모든 라인을 한 트랜잭션으로 출고하며, 한 라인이라도 출고할 수 없으면 아무것도 차감하지 않음
+ * - 같은 재고의 라인은 합산하여 판단하고, 관련 재고 행을 재고 ID 오름차순으로 한 번에 잠금
+ * - 모든 라인을 검증한 뒤 부족한 재고 목록 전체를 한 번에 반환 (첫 번째 부족에서 멈추지 않음)
+ * - 차감은 예약 수량을 하한으로 하는 조건부 UPDATE의 JDBC 배치 한 번으로 반영
+ * - 핫 재고 엔진이 관리하는 재고는 잠그지 않고, DB 재고 검증이 끝난 뒤 엔진에서 차감
+ *   (주문이 실패해 트랜잭션이 롤백되면 엔진이 차감을 되돌림)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderStockOutService {
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final ReservationRegistry reservationRegistry;
+    private final PublicIdService publicIdService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Optional<HotStockEngine> hotStockEngine;
+
+    /**
+     * 주문 출고
+     * @param request 주문 출고 요청 DTO (재고 ID, 수량 목록)
+     * @return 라인별 출고 후 수량
+     * @throws InsufficientStockException 출고할 수 없는 재고가 있는 경우 (부족 목록 포함, 전체 롤백)
+     */
+    @Transactional
+    public OrderStockOutResultDTO stockOut(OrderStockOutRequest request) {
+        List<OrderLine> lines = request.getLines();
+
+        // 1. 재고별 요청 수량 합산 (복호화할 수 없는 ID는 부족 목록에 추가, 핫 재고는 따로 합산)
+        long[] inventoryIds = new long[lines.size()];
+        Map<Long, Integer> demand = new LinkedHashMap<>();
+        Map<Long, String> encryptedIds = new HashMap<>();
+        Map<String, Integer> undecryptable = new LinkedHashMap<>();
+        Map<Long, Integer> hotDemand = new LinkedHashMap<>();
+        for (int i = 0; i < lines.size(); i++) {
+            OrderLine line = lines.get(i);
+            Long inventoryId = publicIdService.resolveIfValid(line.getEncryptedInventoryId(), IdKind.INVENTORY);
+            if (inventoryId == null) {
+                undecryptable.merge(line.getEncryptedInventoryId(), line.getQuantity(), Integer::sum);
+                continue;
+            }
+            inventoryIds[i] = inventoryId;
+            encryptedIds.putIfAbsent(inventoryId, line.getEncryptedInventoryId());
+            if (hotStockEngine.isPresent() && hotStockEngine.get().handles(inventoryId)) {
+                hotDemand.merge(inventoryId, line.getQuantity(), Integer::sum);
+                continue;
+            }
+            demand.merge(inventoryId, line.getQuantity(), Integer::sum);
+        }
+        List<Shortage> shortages = new ArrayList<>();
+        undecryptable.forEach((encryptedId, requested) ->
+                shortages.add(new Shortage(encryptedId, ShortageReason.UNKNOWN_ID, requested, 0)));
+
+        // 2. 재고 ID 오름차순으로 잠근 뒤 모든 재고를 검증
+        Map<Long, InventoryStockRow> rows = inventoryJdbcRepository.lockStockRows(demand.keySet());
+        Map<Long, Integer> reservedByInventory = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : demand.entrySet()) {
+            Long inventoryId = entry.getKey();
+            InventoryStockRow row = rows.get(inventoryId);
+            if (row == null) {
+                shortages.add(new Shortage(encryptedIds.get(inventoryId), ShortageReason.UNKNOWN_ID, entry.getValue(), 0));
+                continue;
+            }
+            int reserved = reservationRegistry.reservedQuantity(inventoryId);
+            int available = row.getQuantity() - reserved;
+            if (entry.getValue() > available) {
+                shortages.add(new Shortage(encryptedIds.get(inventoryId), ShortageReason.INSUFFICIENT,
+                        entry.getValue(), Math.max(available, 0)));
+                continue;
+            }
+            reservedByInventory.put(inventoryId, reserved);
+        }
+        if (!shortages.isEmpty()) {
+            throw new InsufficientStockException(shortages);
+        }
+
+        // 3. 핫 재고를 엔진에서 차감 (부족하면 전체 롤백, 이미 차감한 핫 재고는 롤백 시 엔진이 되돌림)
+        Map<Long, InventoryChange> hotChanges = applyHot(hotDemand, encryptedIds, request.getReason(), shortages);
+        if (!shortages.isEmpty()) {
+            throw new InsufficientStockException(shortages);
+        }
+
+        // 4. 재고 ID 오름차순으로 합산 수량을 배치 차감 (조건은 검증 이후의 안전장치)
+        Map<Long, Integer> sorted = new TreeMap<>(demand);
+        long[] ids = new long[sorted.size()];
+        int[] deltas = new int[sorted.size()];
+        int[] floors = new int[sorted.size()];
+        int n = 0;
+        for (Map.Entry<Long, Integer> entry : sorted.entrySet()) {
+            ids[n] = entry.getKey();
+            deltas[n] = -entry.getValue();
+            floors[n] = reservedByInventory.get(entry.getKey());
+            n++;
+        }
+        boolean[] applied = inventoryJdbcRepository.applyLockedDeltas(ids, deltas, floors);
+        for (boolean ok : applied) {
+            if (!ok) {
+                throw new IllegalStateException("주문 출고 중 재고가 변경되었습니다. 다시 시도해 주세요.");
+            }
+        }
+
+        // 5. 라인 순서대로 출고 후 수량 계산 및 이벤트 발행
+        Map<Long, Integer> running = new HashMap<>();
+        rows.forEach((id, row) -> running.put(id, row.getQuantity()));
+        hotChanges.forEach((id, change) -> running.put(id, change.getQuantity() + hotDemand.get(id)));
+        List<OrderStockOutResultDTO.Line> results = new ArrayList<>(lines.size());
+        List<InventoryChange> changes = new ArrayList<>(lines.size());
+        LocalDateTime now = LocalDateTime.now();
+        int totalQuantity = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            InventoryStockRow row = rows.get(inventoryIds[i]);
+            InventoryChange hotChange = hotChanges.get(inventoryIds[i]);
+            int quantity = lines.get(i).getQuantity();
+            int remaining = running.merge(inventoryIds[i], -quantity, Integer::sum);
+            totalQuantity += quantity;
+            results.add(new OrderStockOutResultDTO.Line(i + 1, lines.get(i).getEncryptedInventoryId(), quantity, remaining));
+            changes.add(InventoryChange.builder()
+                    .inventoryId(inventoryIds[i])
+                    .productId(row != null ? row.getProductId() : hotChange.getProductId())
+                    .warehouseId(row != null ? row.getWarehouseId() : hotChange.getWarehouseId())
+                    .delta(-quantity)
+                    .quantity(remaining)
+                    .source(MovementSource.ORDER_OUT)
+                    .reason(request.getReason())
+                    .occurredAt(now)
+                    .build());
+        }
+        eventPublisher.publishEvent(new InventoryChangedEvent(changes));
+
+        return OrderStockOutResultDTO.builder()
+                .lineCount(lines.size())
+                .totalQuantity(totalQuantity)
+                .lines(results)
+                .build();
+    }
+
+    /**
+     * 핫 재고별 합산 수량을 엔진에서 차감 (재고 ID 오름차순)
+     * 부족한 재고가 나오면 이후 재고는 차감하지 않고 가용 수량만 확인하여 부족 목록에 추가
+     * @return 재고 ID → 엔진 변경 내역 (합산 차감 후 수량)
+     */
+    private Map<Long, InventoryChange> applyHot(Map<Long, Integer> hotDemand, Map<Long, String> encryptedIds,
+                                                String reason, List<Shortage> shortages) {
+        Map<Long, InventoryChange> changes = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : new TreeMap<>(hotDemand).entrySet()) {
+            Long inventoryId = entry.getKey();
+            int requested = entry.getValue();
+            if (shortages.isEmpty()) {
+                try {
+                    // 같은 재고의 예약 등록과 직렬화한 상태에서 예약 수량을 읽고 반영
+                    changes.put(inventoryId, reservationRegistry.withReservedQuantity(inventoryId, reserved ->
+                            hotStockEngine.get().apply(inventoryId, -requested, reserved,
+                                    MovementSource.ORDER_OUT, reason)));
+                } catch (IllegalStateException e) {
+                    shortages.add(hotShortage(inventoryId, encryptedIds.get(inventoryId), requested));
+                }
+                continue;
+            }
+            Shortage shortage = hotShortage(inventoryId, encryptedIds.get(inventoryId), requested);
+            if (requested > shortage.getAvailable()) {
+                shortages.add(shortage);
+            }
+        }
+        return changes;
+    }
+
+    private Shortage hotShortage(Long inventoryId, String encryptedId, int requested) {
+        int available = hotStockEngine.get().currentQuantity(inventoryId)
+                - reservationRegistry.reservedQuantity(inventoryId);
+        return new Shortage(encryptedId, ShortageReason.INSUFFICIENT, requested, Math.max(available, 0));
+    }
+}
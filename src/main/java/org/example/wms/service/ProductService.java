@@ -7,8 +7,10 @@ import org.example.wms.dto.info.ProductInfoDTO;
 import org.example.wms.dto.list.ProductListDTO;
 import org.example.wms.entity.ManufacturerEntity;
 import org.example.wms.entity.ProductEntity;
+import org.example.wms.entity.ProductStockSummaryEntity;
 import org.example.wms.repository.ManufacturerRepository;
 import org.example.wms.repository.ProductRepository;
+import org.example.wms.repository.ProductStockSummaryRepository;
 import org.example.wms.util.IdEncryptionUtil;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
@@ -16,12 +18,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductService {
     private final ManufacturerRepository manufacturerRepository;
     private final ProductRepository productRepository;
+    private final ProductStockSummaryRepository productStockSummaryRepository;
     private final IdEncryptionUtil idEncryptionUtil;
 
     //--------------------------------생성-------------------------------------------------
@@ -51,13 +58,25 @@ public class ProductService {
     /**
      * 상품 단건 조회
      * @param encryptedId 암호화된 상품 ID
-     * @return 상품 상세 정보 (제조사 정보 포함)
+     * @return 상품 상세 정보 (제조사 정보, 재고 요약 포함)
      * @throws IllegalArgumentException 상품을 찾을 수 없는 경우
      */
     public ProductInfoDTO getProduct(String encryptedId){
-        ProductEntity entity = productRepository.findById(idEncryptionUtil.decrypt(encryptedId))
+        return getProduct(idEncryptionUtil.decrypt(encryptedId));
+    }
+
+    /**
+     * 상품 단건 조회 (복호화된 ID)
+     * @param id 상품 ID
+     * @return 상품 상세 정보 (제조사 정보, 재고 요약 포함)
+     * @throws IllegalArgumentException 상품을 찾을 수 없는 경우
+     */
+    public ProductInfoDTO getProduct(Long id){
+        ProductEntity entity = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-        return ProductInfoDTO.of(entity, idEncryptionUtil);
+        return ProductInfoDTO.of(entity,
+                productStockSummaryRepository.findById(entity.getProductId()).orElse(null),
+                idEncryptionUtil);
     }
 
     /**
@@ -66,7 +85,7 @@ public class ProductService {
      * @return 상품 목록 (제조사명 포함)
      */
     public Page<ProductListDTO> getAllProducts(Pageable pageable){
-        return ProductListDTO.of(productRepository.findAll(pageable), idEncryptionUtil);
+        return toListDTO(productRepository.findAll(pageable));
     }
 
     /**
@@ -76,8 +95,7 @@ public class ProductService {
      * @return 검색된 상품 목록
      */
     public Page<ProductListDTO> searchByName(String name, Pageable pageable){
-        return  ProductListDTO.of(productRepository.findByNameContaining(name, pageable),
-                                  idEncryptionUtil);
+        return toListDTO(productRepository.findByNameContaining(name, pageable));
     }
 
     /**
@@ -87,10 +105,7 @@ public class ProductService {
      * @return 검색된 상품 목록
      */
     public Page<ProductListDTO> searchByManufacturerName(String manufacturerName, Pageable pageable){
-        return ProductListDTO
-                .of(productRepository
-                        .findByManufacturerCompanyNameContaining(manufacturerName, pageable),
-                     idEncryptionUtil);
+        return toListDTO(productRepository.findByManufacturerCompanyNameContaining(manufacturerName, pageable));
     }
 
     /**
@@ -101,9 +116,17 @@ public class ProductService {
      * @return 검색된 상품 목록
      */
     public Page<ProductListDTO> searchByPriceRange(Double minPrice, Double maxPrice, Pageable pageable){
-        return ProductListDTO
-                .of(productRepository.findByPriceBetween(minPrice,maxPrice, pageable),
-                    idEncryptionUtil);
+        return toListDTO(productRepository.findByPriceBetween(minPrice,maxPrice, pageable));
+    }
+
+    /**
+     * 상품 페이지 → 목록 DTO (페이지의 상품 ID로 재고 요약을 기본 키 IN 조회 1회)
+     */
+    private Page<ProductListDTO> toListDTO(Page<ProductEntity> page){
+        Map<Long, ProductStockSummaryEntity> summaries = productStockSummaryRepository
+                .findAllById(page.map(ProductEntity::getProductId).getContent()).stream()
+                .collect(Collectors.toMap(ProductStockSummaryEntity::getProductId, Function.identity()));
+        return ProductListDTO.of(page, summaries, idEncryptionUtil);
     }
 
 
@@ -118,7 +141,17 @@ public class ProductService {
      */
     @Transactional
     public void updateProduct(String encryptedId, ProductUpdateRequest request){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        updateProduct(idEncryptionUtil.decrypt(encryptedId), request);
+    }
+
+    /**
+     * 상품 정보 수정 (복호화된 ID)
+     * @param id 상품 ID
+     * @param request 수정할 정보
+     * @throws IllegalArgumentException 상품을 찾을 수 없는 경우
+     */
+    @Transactional
+    public void updateProduct(Long id, ProductUpdateRequest request){
         ProductEntity entity = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
@@ -147,7 +180,17 @@ public class ProductService {
      */
     @Transactional
     public void deleteProduct(String encryptedId){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        deleteProduct(idEncryptionUtil.decrypt(encryptedId));
+    }
+
+    /**
+     * 상품 삭제 (복호화된 ID)
+     * @param id 상품 ID
+     * @throws IllegalArgumentException 상품을 찾을 수 없는 경우
+     * @throws DataIntegrityViolationException 연관된 재고가 있는 경우
+     */
+    @Transactional
+    public void deleteProduct(Long id){
         ProductEntity entity = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
 
@@ -0,0 +1,165 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.dto.info.StockSummaryReconcileResultDTO;
+import org.example.wms.dto.info.StockSummaryReconcileResultDTO.Drift;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.ProductStockDelta;
+import org.example.wms.repository.ProductStockSummaryJdbcRepository;
+import org.example.wms.repository.ProductStockSummaryRow;
+import org.example.wms.util.IdEncryptionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품별 재고 요약(총 수량, 재고가 있는 창고 수, 마지막 변경 시각) 관리
+ * - 재고 변경 이벤트를 커밋 직전(BEFORE_COMMIT)에 상품별 변화량으로 합산하여 같은 트랜잭션에서 누적
+ *   (재고 변경이 롤백되면 요약 변경도 함께 롤백됨)
+ * - 핫 재고 엔진이 관리하는 재고는 엔진이 DB에 반영할 때 같은 트랜잭션에서 누적
+ * - 주기적으로 상품 ID 묶음 단위로 inventory를 다시 집계하여 차이가 있으면 보정하고 보고
+ *
+ * 메트릭
+ * - wms.product-summary.drift: 재계산 시 보정된 상품 수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockSummaryService {
+
+    // 같은 트랜잭션의 다른 집계 갱신(재고 이력)보다 먼저 실행되어 잠금 순서를 고정
+    static final int LISTENER_ORDER = 0;
+
+    private static final int MAX_REPORTED_DRIFTS = 100;
+
+    private final ProductStockSummaryJdbcRepository summaryJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final Optional<HotStockEngine> hotStockEngine;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.product.summary.reconcile-chunk-size:500}")
+    private int reconcileChunkSize;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+    private Counter driftCounter;
+
+    @PostConstruct
+    void start() {
+        driftCounter = Counter.builder("wms.product-summary.drift").register(meterRegistry);
+    }
+
+    /**
+     * 재고 변경을 같은 트랜잭션에서 상품별 요약에 누적
+     * 요약 행은 재고 행 잠금 이후 상품 ID 오름차순으로 잠기므로 잠금 순서가 항상 같음
+     */
+    @Order(LISTENER_ORDER)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        List<InventoryChange> changes = event.getChanges();
+        if (hotStockEngine.isPresent()) {
+            changes = changes.stream()
+                    .filter(change -> !hotStockEngine.get().handles(change.getInventoryId()))
+                    .toList();
+        }
+        summaryJdbcRepository.applyDeltas(ProductStockDelta.aggregate(changes));
+    }
+
+    /**
+     * 주기적인 요약 재계산
+     */
+    @Scheduled(fixedDelayString = "${app.product.summary.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.product.summary.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (IllegalStateException e) {
+            log.debug("재고 요약 재계산 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 상품의 요약을 inventory 집계와 비교하여 보정
+     * 상품 ID 묶음마다 한 트랜잭션: 요약 행 잠금 → inventory 집계 → 다른 상품만 교체
+     * (요약 행을 먼저 잠그므로 집계 도중 해당 상품의 재고 변경은 커밋 직전에 대기하고, 집계는 잠금 이후 시점을 읽음)
+     * @return 확인한 상품 수와 보정 내역
+     * @throws IllegalStateException 이미 재계산 중인 경우
+     */
+    public StockSummaryReconcileResultDTO reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            throw new IllegalStateException("재고 요약 재계산이 이미 실행 중입니다.");
+        }
+        try {
+            long start = System.nanoTime();
+            List<Drift> drifts = new ArrayList<>();
+            int[] counts = new int[2];  // {확인한 상품 수, 보정한 상품 수}
+            long lastProductId = 0;
+            while (true) {
+                List<Long> productIds = summaryJdbcRepository.findProductIdsAfter(lastProductId, reconcileChunkSize);
+                if (productIds.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(tx -> reconcileChunk(productIds, drifts, counts));
+                lastProductId = productIds.get(productIds.size() - 1);
+            }
+
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            if (counts[1] > 0) {
+                log.warn("재고 요약 재계산: {}개 상품 중 {}개 보정, {}ms", counts[0], counts[1], elapsedMs);
+            } else {
+                log.info("재고 요약 재계산: {}개 상품 일치, {}ms", counts[0], elapsedMs);
+            }
+            return StockSummaryReconcileResultDTO.builder()
+                    .checkedProducts(counts[0])
+                    .driftedProducts(counts[1])
+                    .elapsedMs(elapsedMs)
+                    .drifts(drifts)
+                    .build();
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    private void reconcileChunk(List<Long> productIds, List<Drift> drifts, int[] counts) {
+        Map<Long, ProductStockSummaryRow> recorded = summaryJdbcRepository.lockSummaries(productIds);
+        Map<Long, ProductStockSummaryRow> actual = summaryJdbcRepository.aggregateInventory(productIds);
+
+        List<ProductStockSummaryRow> corrections = new ArrayList<>();
+        for (Long productId : productIds) {
+            ProductStockSummaryRow current = recorded.get(productId);
+            ProductStockSummaryRow expected = actual.getOrDefault(productId,
+                    new ProductStockSummaryRow(productId, 0, 0, null));
+            boolean drifted = current == null
+                    ? expected.getTotalQuantity() != 0 || expected.getWarehouseCount() != 0
+                    : !current.sameStock(expected);
+            if (!drifted) {
+                continue;
+            }
+            corrections.add(expected);
+            if (drifts.size() < MAX_REPORTED_DRIFTS) {
+                drifts.add(new Drift(idEncryptionUtil.encrypt(productId),
+                        current == null ? 0 : current.getTotalQuantity(), expected.getTotalQuantity(),
+                        current == null ? 0 : current.getWarehouseCount(), expected.getWarehouseCount()));
+            }
+        }
+        summaryJdbcRepository.overwrite(corrections);
+        counts[0] += productIds.size();
+        counts[1] += corrections.size();
+        driftCounter.increment(corrections.size());
+    }
+}
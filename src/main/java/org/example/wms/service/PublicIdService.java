@@ -0,0 +1,257 @@
+package org.example.wms.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.exception.InvalidIdException;
+import org.example.wms.repository.PublicIdJdbcRepository;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.example.wms.util.LruCache;
+import org.example.wms.util.PublicIds;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * 공개 ID 모드 (창고/재고)
+ * - 모드를 켜면 창고/재고 목록과 상세 응답의 ID로 행에 저장된 공개 ID를 그대로 사용 (행마다 암호화하지 않음)
+ *   공개 ID가 아직 없는 기존 행은 암호화 ID로 응답하며, 주기적인 일괄 발급으로 채움
+ * - 입력 ID는 모드와 관계없이 공개 ID와 암호화 ID를 모두 받음 (형식은 길이로 구분)
+ *   공개 ID는 기대하는 종류(창고/재고)의 종류 글자일 때만 받으며, 없는 공개 ID는 없는 암호화 ID와 같이 404로 응답
+ *   공개 ID는 유니크 인덱스로 내부 ID를 조회하며, 변경되지 않으므로 조회 결과를 LRU 캐시에 보관
+ * - 내부 ID만 가진 응답(이동, 실사, 할당, 알림 등)의 창고/재고 ID도 이 서비스로 변환하여 모드를 따름
+ *   (내부 ID → 공개 ID 조회 결과도 LRU 캐시에 보관하며, 공개 ID가 아직 없는 행은 캐시하지 않고 암호화 ID로 응답)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublicIdService {
+
+    private final PublicIdJdbcRepository publicIdJdbcRepository;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.public-id.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.public-id.cache-size:10000}")
+    private int cacheSize;
+
+    @Value("${app.public-id.backfill-chunk-size:1000}")
+    private int backfillChunkSize;
+
+    private LruCache<String, Long> resolved;
+    private LruCache<Long, String> warehousePublicIds;
+    private LruCache<Long, String> inventoryPublicIds;
+    private final AtomicBoolean backfilling = new AtomicBoolean();
+
+    @PostConstruct
+    void start() {
+        resolved = new LruCache<>(cacheSize);
+        warehousePublicIds = new LruCache<>(cacheSize);
+        inventoryPublicIds = new LruCache<>(cacheSize);
+    }
+
+    /**
+     * 응답에 공개 ID를 사용하는지 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 입력 ID(공개 ID 또는 암호화 ID) → 내부 ID
+     * 공개 ID는 종류 글자가 기대한 종류와 같을 때만 조회하며, 다른 종류의 공개 ID는 유효하지 않은 ID로 거절
+     * @param externalId 공개 ID 또는 암호화 ID
+     * @param kind 기대하는 엔티티 종류
+     * @return 내부 ID (입력이 없으면 null)
+     * @throws InvalidIdException 복호화할 수 없거나 다른 종류의 공개 ID인 경우 (400)
+     * @throws IllegalArgumentException 없는 공개 ID인 경우 (없는 암호화 ID와 같이 404)
+     */
+    public Long resolve(String externalId, IdKind kind) {
+        if (externalId == null || externalId.isEmpty()) {
+            return null;
+        }
+        if (kind.isPublicId(externalId)) {
+            Long id = lookup(externalId);
+            if (id == null) {
+                throw new IllegalArgumentException(kind.getNotFoundMessage());
+            }
+            return id;
+        }
+        Long id = idEncryptionUtil.decryptIfValid(externalId);
+        if (id == null) {
+            throw new InvalidIdException();
+        }
+        return id;
+    }
+
+    /**
+     * 유효한 입력 ID만 내부 ID로 변환 (일괄 처리에서 행별로 거절할 때 사용)
+     * @param externalId 공개 ID 또는 암호화 ID
+     * @param kind 기대하는 엔티티 종류
+     * @return 내부 ID (없거나, 복호화할 수 없거나, 다른 종류이거나, 없는 공개 ID이면 null)
+     */
+    public Long resolveIfValid(String externalId, IdKind kind) {
+        return kind.isPublicId(externalId) ? lookup(externalId) : idEncryptionUtil.decryptIfValid(externalId);
+    }
+
+    /**
+     * 입력 ID 유효성 검증
+     * @param externalId 공개 ID 또는 암호화 ID
+     * @param kind 기대하는 엔티티 종류
+     * @return 유효하면 true
+     */
+    public boolean isValid(String externalId, IdKind kind) {
+        return resolveIfValid(externalId, kind) != null;
+    }
+
+    /**
+     * 응답용 ID (행과 함께 공개 ID를 읽은 경우)
+     * @param id 내부 ID
+     * @param publicId 행에 저장된 공개 ID (없으면 null)
+     * @return 모드를 켜고 공개 ID가 있으면 공개 ID, 아니면 암호화 ID
+     */
+    public String render(long id, String publicId) {
+        return enabled && publicId != null ? publicId : idEncryptionUtil.encrypt(id);
+    }
+
+    /**
+     * 응답용 창고 ID (모드를 켜면 공개 ID, 모드를 끄거나 공개 ID가 없으면 암호화 ID)
+     */
+    public String renderWarehouseId(long warehouseId) {
+        return renderWarehouseIds(new long[]{warehouseId})[0];
+    }
+
+    /**
+     * 응답용 재고 ID (모드를 켜면 공개 ID, 모드를 끄거나 공개 ID가 없으면 암호화 ID)
+     */
+    public String renderInventoryId(long inventoryId) {
+        return renderInventoryIds(new long[]{inventoryId})[0];
+    }
+
+    /**
+     * 응답용 창고 ID 일괄 변환 (캐시에 없는 공개 ID는 한 번에 조회)
+     * @param warehouseIds 창고 ID 목록
+     * @return 같은 순서의 응답용 ID
+     */
+    public String[] renderWarehouseIds(long[] warehouseIds) {
+        if (!enabled) {
+            return idEncryptionUtil.encryptAll(warehouseIds);
+        }
+        return render(warehouseIds, warehousePublicIds, publicIdJdbcRepository::findWarehousePublicIds);
+    }
+
+    /**
+     * 응답용 재고 ID 일괄 변환 (캐시에 없는 공개 ID는 한 번에 조회)
+     * @param inventoryIds 재고 ID 목록
+     * @return 같은 순서의 응답용 ID
+     */
+    public String[] renderInventoryIds(long[] inventoryIds) {
+        if (!enabled) {
+            return idEncryptionUtil.encryptAll(inventoryIds);
+        }
+        return render(inventoryIds, inventoryPublicIds, publicIdJdbcRepository::findInventoryPublicIds);
+    }
+
+    private String[] render(long[] ids, LruCache<Long, String> cache,
+                            Function<Set<Long>, Map<Long, String>> findPublicIds) {
+        String[] publicIds = new String[ids.length];
+        Set<Long> missing = new LinkedHashSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            publicIds[i] = cache.get(ids[i]);
+            if (publicIds[i] == null) {
+                missing.add(ids[i]);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, String> found = findPublicIds.apply(missing);
+            found.forEach(cache::put);
+            for (int i = 0; i < ids.length; i++) {
+                if (publicIds[i] == null) {
+                    publicIds[i] = found.get(ids[i]);
+                }
+            }
+        }
+        return PublicIds.orEncrypted(publicIds, ids, idEncryptionUtil);
+    }
+
+    private Long lookup(String publicId) {
+        Long id = resolved.get(publicId);
+        if (id == null) {
+            id = publicIdJdbcRepository.findId(publicId).orElse(null);
+            if (id != null) {
+                resolved.put(publicId, id);
+            }
+        }
+        return id;
+    }
+
+    /**
+     * 주기적인 공개 ID 일괄 발급 (모드를 켠 경우에만, 모두 발급된 뒤에는 빈 조회 두 번)
+     */
+    @Scheduled(fixedDelayString = "${app.public-id.backfill-interval-ms:60000}",
+            initialDelayString = "${app.public-id.backfill-initial-delay-ms:10000}")
+    public void scheduledBackfill() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            backfill();
+        } catch (IllegalStateException e) {
+            log.debug("공개 ID 일괄 발급 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 공개 ID가 없는 기존 창고/재고 행에 공개 ID 발급
+     * 묶음마다 한 트랜잭션으로 발급하므로 재고 변경을 오래 막지 않음 (공개 ID가 없는 행만 갱신)
+     * @return 발급한 행 수
+     * @throws IllegalStateException 이미 발급 중인 경우
+     */
+    public int backfill() {
+        if (!backfilling.compareAndSet(false, true)) {
+            throw new IllegalStateException("공개 ID 일괄 발급이 이미 실행 중입니다.");
+        }
+        try {
+            long start = System.nanoTime();
+            int warehouses = backfill(publicIdJdbcRepository::findWarehousesWithoutPublicId,
+                    publicIdJdbcRepository::assignWarehousePublicIds);
+            int inventories = backfill(publicIdJdbcRepository::findInventoriesWithoutPublicId,
+                    publicIdJdbcRepository::assignInventoryPublicIds);
+            if (warehouses + inventories > 0) {
+                log.info("공개 ID 일괄 발급: 창고 {}개, 재고 {}개, {}ms", warehouses, inventories,
+                        (System.nanoTime() - start) / 1_000_000);
+            }
+            return warehouses + inventories;
+        } finally {
+            backfilling.set(false);
+        }
+    }
+
+    private int backfill(IntFunction<List<Long>> findMissing, Function<List<Long>, Integer> assign) {
+        int assigned = 0;
+        while (true) {
+            List<Long> ids = findMissing.apply(backfillChunkSize);
+            if (ids.isEmpty()) {
+                return assigned;
+            }
+            int chunk = transactionTemplate.execute(tx -> assign.apply(ids));
+            if (chunk == 0) {
+                // 조회한 행이 모두 삭제되었거나 다른 인스턴스가 먼저 발급한 경우, 다음 주기에 다시 확인
+                return assigned;
+            }
+            assigned += chunk;
+        }
+    }
+}
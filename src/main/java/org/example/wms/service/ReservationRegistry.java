@@ -0,0 +1,255 @@
+package org.example.wms.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.entity.InventoryReservationEntity;
+import org.example.wms.repository.InventoryReservationRepository;
+import org.example.wms.util.HashedTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * 활성 재고 예약 레지스트리 (인메모리)
+ * 재고 ID별 예약 수량 합계를 메모리에 유지하고, 만료는 타이밍 휠로 처리 (DB 폴링 없음)
+ * inventory_reservations 테이블은 재시작 시 복원용으로만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationRegistry {
+
+    private final InventoryReservationRepository reservationRepository;
+
+    @Value("${app.inventory.reservation.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${app.inventory.reservation.wheel-size:512}")
+    private int wheelSize;
+
+    private final Map<Long, Hold> holdsById = new ConcurrentHashMap<>();
+    private final Map<Long, InventoryHolds> holdsByInventory = new ConcurrentHashMap<>();
+    private HashedTimingWheel<Hold> timingWheel;
+
+    /**
+     * 활성 예약
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Hold {
+        private final Long reservationId;
+        private final Long inventoryId;
+        private final int quantity;
+        private final LocalDateTime expiresAt;
+        private HashedTimingWheel.Timeout<Hold> timeout;
+    }
+
+    /**
+     * 재고별 예약 수량 합계 (같은 재고의 예약 등록은 이 객체로 동기화)
+     * 예약 수량이 0이 되면 맵에서 제거하고 removed로 표시하며, 제거된 객체를 잡은 스레드는 새 객체로 다시 시도
+     */
+    private static final class InventoryHolds {
+        private volatile int reserved;
+        private boolean removed;
+    }
+
+    @PostConstruct
+    void start() {
+        timingWheel = new HashedTimingWheel<>("reservation-timing-wheel", tickMs, TimeUnit.MILLISECONDS,
+                wheelSize, this::expire);
+        LocalDateTime now = LocalDateTime.now();
+        reservationRepository.deleteExpired(now);
+        for (InventoryReservationEntity reservation : reservationRepository.findAll()) {
+            register(reservation);
+        }
+        log.info("활성 재고 예약 {}건 적재", holdsById.size());
+    }
+
+    @PreDestroy
+    void stop() {
+        timingWheel.close();
+    }
+
+    /**
+     * 재고별 활성 예약 수량
+     * @param inventoryId 재고 ID
+     * @return 예약 수량 합계
+     */
+    public int reservedQuantity(Long inventoryId) {
+        InventoryHolds holds = holdsByInventory.get(inventoryId);
+        return holds == null ? 0 : holds.reserved;
+    }
+
+    /**
+     * 같은 재고의 예약 등록과 직렬화한 상태에서 예약 수량을 읽고 작업 수행
+     * DB 행 잠금을 거치지 않는 출고(핫 재고 엔진)에 사용하며, 작업은 메모리 연산만 해야 함
+     * (호출이 잦은 재고이므로 빈 합계 객체는 제거하지 않고 남겨 둠)
+     * @param inventoryId 재고 ID
+     * @param action 예약 수량 합계를 받아 수행할 작업
+     * @return 작업 결과
+     */
+    public <T> T withReservedQuantity(Long inventoryId, IntFunction<T> action) {
+        while (true) {
+            InventoryHolds holds = holdsByInventory.computeIfAbsent(inventoryId, id -> new InventoryHolds());
+            synchronized (holds) {
+                if (!holds.removed) {
+                    return action.apply(holds.reserved);
+                }
+            }
+        }
+    }
+
+    /**
+     * 가용 재고(현재 재고 - 활성 예약)를 확인하고 예약 등록
+     * DB 재고는 호출 측 트랜잭션에서 재고 행을 잠근 뒤 호출해야 함 (출고도 행을 잠근 뒤 예약 수량을 읽으므로,
+     * 커밋 전까지 예약 수량을 읽지 않은 출고가 예약분을 차감하지 못함)
+     * @param inventoryId 재고 ID
+     * @param quantity 예약 수량
+     * @param ttl 예약 유지 시간
+     * @param onHand 현재 재고 수량 조회 함수 (재고별 동기화 안에서 호출됨)
+     * @return 저장된 예약
+     * @throws IllegalStateException 가용 재고가 부족한 경우
+     */
+    public InventoryReservationEntity reserve(Long inventoryId, int quantity, Duration ttl, IntSupplier onHand) {
+        while (true) {
+            InventoryHolds holds = holdsByInventory.computeIfAbsent(inventoryId, id -> new InventoryHolds());
+            synchronized (holds) {
+                if (holds.removed) {
+                    continue;
+                }
+                try {
+                    int available = onHand.getAsInt() - holds.reserved;
+                    if (available < quantity) {
+                        throw new IllegalStateException(
+                                "가용 재고가 부족합니다. 가용 재고: " + available + ", 요청 수량: " + quantity);
+                    }
+                    InventoryReservationEntity saved = reservationRepository.saveAndFlush(
+                            InventoryReservationEntity.builder()
+                                    .inventoryId(inventoryId)
+                                    .quantity(quantity)
+                                    .expiresAt(LocalDateTime.now().plus(ttl))
+                                    .build());
+                    register(saved);
+                    return saved;
+                } finally {
+                    pruneIfEmpty(inventoryId, holds);
+                }
+            }
+        }
+    }
+
+    /**
+     * 예약을 확정/해제하기 위해 점유
+     * 점유된 예약은 다른 확정/해제/만료 대상에서 빠지지만, 예약 수량은 {@link #complete(Hold)} 전까지 유지됨
+     * @param reservationId 예약 ID
+     * @return 점유한 예약 (없거나 이미 만료된 경우 empty)
+     */
+    public Optional<Hold> claim(Long reservationId) {
+        Hold hold = holdsById.remove(reservationId);
+        if (hold == null) {
+            return Optional.empty();
+        }
+        hold.timeout.cancel();
+        return Optional.of(hold);
+    }
+
+    /**
+     * 점유한 예약을 종료하고 예약 수량 반환
+     */
+    public void complete(Hold hold) {
+        release(hold);
+    }
+
+    /**
+     * 점유한 예약을 되돌림 (확정 실패 시)
+     */
+    public void restore(Hold hold) {
+        holdsById.put(hold.reservationId, hold);
+        schedule(hold);
+    }
+
+    /**
+     * 만료된 예약 행 정리 (메모리의 예약은 타이밍 휠에서 이미 해제됨)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.reservation.cleanup-interval-ms:60000}")
+    public void deleteExpiredRows() {
+        int deleted = reservationRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("만료된 재고 예약 {}건 삭제", deleted);
+        }
+    }
+
+    private void register(InventoryReservationEntity reservation) {
+        Hold hold = new Hold(reservation.getReservationId(), reservation.getInventoryId(),
+                reservation.getQuantity(), reservation.getExpiresAt(), null);
+        withHolds(hold.inventoryId, holds -> holds.reserved += hold.quantity);
+        holdsById.put(hold.reservationId, hold);
+        schedule(hold);
+    }
+
+    private void schedule(Hold hold) {
+        long delayMillis = Duration.between(LocalDateTime.now(), hold.expiresAt).toMillis();
+        hold.timeout = timingWheel.schedule(hold, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 타이밍 휠 만료 콜백 (휠 스레드에서 실행되므로 메모리 상태만 변경)
+     */
+    private void expire(Hold hold) {
+        if (holdsById.remove(hold.reservationId, hold)) {
+            release(hold);
+            log.debug("재고 예약 만료: {}", hold.reservationId);
+        }
+    }
+
+    private void release(Hold hold) {
+        withHolds(hold.inventoryId, holds -> holds.reserved -= hold.quantity);
+    }
+
+    /**
+     * 재고별 예약 수량 합계를 동기화한 상태로 변경 (변경 후 0이면 맵에서 제거)
+     */
+    private void withHolds(Long inventoryId, Consumer<InventoryHolds> update) {
+        while (true) {
+            InventoryHolds holds = holdsByInventory.computeIfAbsent(inventoryId, id -> new InventoryHolds());
+            synchronized (holds) {
+                if (!holds.removed) {
+                    update.accept(holds);
+                    pruneIfEmpty(inventoryId, holds);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 예약이 없는 재고의 합계 객체 제거 (holds 동기화 안에서 호출)
+     */
+    private void pruneIfEmpty(Long inventoryId, InventoryHolds holds) {
+        if (holds.reserved == 0 && !holds.removed) {
+            holds.removed = true;
+            holdsByInventory.remove(inventoryId, holds);
+        }
+    }
+
+    /**
+     * 예약 수량 합계가 남아 있는 재고 수 (테스트용)
+     */
+    int trackedInventoryCount() {
+        return holdsByInventory.size();
+    }
+}
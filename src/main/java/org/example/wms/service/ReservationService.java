@@ -0,0 +1,135 @@
+package org.example.wms.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.wms.dto.crud.ReservationCreateRequest;
+import org.example.wms.dto.info.ReservationInfoDTO;
+import org.example.wms.entity.InventoryReservationEntity;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.repository.InventoryReservationRepository;
+import org.example.wms.service.ReservationRegistry.Hold;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 재고 예약 서비스
+ * 예약 → (확정 시) 출고 / (해제·만료 시) 예약 수량 반환
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationService {
+
+    private final ReservationRegistry reservationRegistry;
+    private final InventoryReservationRepository reservationRepository;
+    private final InventoryService inventoryService;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final PublicIdService publicIdService;
+
+    @Value("${app.inventory.reservation.default-ttl-seconds:900}")
+    private long defaultTtlSeconds;
+
+    @Value("${app.inventory.reservation.max-ttl-seconds:86400}")
+    private long maxTtlSeconds;
+
+    /**
+     * 재고 예약
+     * @param encryptedInventoryId 암호화된 재고 ID
+     * @param request 예약 요청 DTO (수량, 유지 시간)
+     * @return 생성된 예약 정보
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     * @throws IllegalStateException 가용 재고가 부족한 경우
+     */
+    public ReservationInfoDTO reserve(String encryptedInventoryId, ReservationCreateRequest request) {
+        return reserve(publicIdService.resolve(encryptedInventoryId, IdKind.INVENTORY), request);
+    }
+
+    /**
+     * 재고 예약 (복호화된 ID)
+     * @param inventoryId 재고 ID
+     * @param request 예약 요청 DTO (수량, 유지 시간)
+     * @return 생성된 예약 정보
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     * @throws IllegalStateException 가용 재고가 부족한 경우
+     */
+    public ReservationInfoDTO reserve(Long inventoryId, ReservationCreateRequest request) {
+        long ttlSeconds = request.getTtlSeconds() == null ? defaultTtlSeconds : request.getTtlSeconds();
+        Duration ttl = Duration.ofSeconds(Math.min(ttlSeconds, maxTtlSeconds));
+
+        // 재고 행을 잠근 상태로 가용 재고 확인과 예약 등록을 처리 (출고도 같은 행을 잠근 뒤 예약 수량을 읽음)
+        // 메모리 등록은 커밋 전에 끝나야 하므로, 커밋에 실패하면 등록한 예약을 되돌림
+        InventoryReservationEntity[] saved = new InventoryReservationEntity[1];
+        try {
+            transactionTemplate.executeWithoutResult(tx -> saved[0] = reservationRegistry.reserve(inventoryId,
+                    request.getQuantity(), ttl, inventoryService.lockOnHandQuantity(inventoryId)));
+        } catch (RuntimeException e) {
+            if (saved[0] != null) {
+                reservationRegistry.claim(saved[0].getReservationId()).ifPresent(reservationRegistry::complete);
+            }
+            throw e;
+        }
+        return ReservationInfoDTO.of(saved[0], idEncryptionUtil, publicIdService);
+    }
+
+    /**
+     * 예약 확정 (예약 수량만큼 출고)
+     * 출고와 예약 행 삭제를 한 트랜잭션으로 처리하고, 실패하면 예약을 그대로 유지
+     * @param encryptedReservationId 암호화된 예약 ID
+     * @throws IllegalArgumentException 예약을 찾을 수 없는 경우 (이미 확정/해제/만료됨)
+     */
+    public void confirm(String encryptedReservationId) {
+        confirm(idEncryptionUtil.decrypt(encryptedReservationId));
+    }
+
+    /**
+     * 예약 확정 (복호화된 ID)
+     * @param reservationId 예약 ID
+     * @throws IllegalArgumentException 예약을 찾을 수 없는 경우 (이미 확정/해제/만료됨)
+     */
+    public void confirm(Long reservationId) {
+        Hold hold = claim(reservationId);
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                inventoryService.stockOut(hold.getInventoryId(), hold.getQuantity(), hold.getQuantity(),
+                        MovementSource.RESERVATION, "예약 확정");
+                reservationRepository.deleteById(hold.getReservationId());
+            });
+        } catch (RuntimeException e) {
+            reservationRegistry.restore(hold);
+            throw e;
+        }
+        reservationRegistry.complete(hold);
+    }
+
+    /**
+     * 예약 해제 (예약 수량 반환)
+     * @param encryptedReservationId 암호화된 예약 ID
+     * @throws IllegalArgumentException 예약을 찾을 수 없는 경우 (이미 확정/해제/만료됨)
+     */
+    public void release(String encryptedReservationId) {
+        release(idEncryptionUtil.decrypt(encryptedReservationId));
+    }
+
+    /**
+     * 예약 해제 (복호화된 ID)
+     * @param reservationId 예약 ID
+     * @throws IllegalArgumentException 예약을 찾을 수 없는 경우 (이미 확정/해제/만료됨)
+     */
+    public void release(Long reservationId) {
+        Hold hold = claim(reservationId);
+        try {
+            reservationRepository.deleteById(hold.getReservationId());
+        } finally {
+            reservationRegistry.complete(hold);
+        }
+    }
+
+    private Hold claim(Long reservationId) {
+        return reservationRegistry.claim(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동시성 충돌 재시도 실행기
+ * 낙관적 락 충돌, 데드락 등 {@link ConcurrencyFailureException}이 발생하면 새 트랜잭션으로 다시 실행
+ * - 재시도 간격: 지수 백오프 + 전체 지터 (0 ~ min(max-backoff, initial-backoff * 2^n))
+ * - 재시도 예산: 첫 시도마다 budget-ratio 만큼 적립되고 재시도마다 1씩 차감 (충돌이 폭증해도 재시도가 DB 부하를 키우지 않음)
+ * 트랜잭션 밖(Controller)에서 호출해야 하며, 이미 트랜잭션 안이면 재시도하지 않고 한 번만 실행
+ *
+ * 메트릭 (operation 태그 = 엔드포인트 이름)
+ * - wms.concurrency.conflicts: 충돌 발생 횟수 (exception 태그)
+ * - wms.concurrency.retries: 재시도 횟수
+ * - wms.concurrency.failures: 재시도를 포기한 횟수 (reason = attempts-exhausted / budget-exhausted)
+ */
+@Slf4j
+@Component
+public class RetryExecutor {
+
+    private static final long TOKEN = 1_000;  // 예산 1회분 (정수 연산용)
+
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long depositPerCall;
+    private final long budgetCapacity;
+    private final AtomicLong budget;
+
+    public RetryExecutor(MeterRegistry meterRegistry,
+                         @Value("${app.concurrency.retry.max-attempts:4}") int maxAttempts,
+                         @Value("${app.concurrency.retry.initial-backoff-ms:10}") long initialBackoffMs,
+                         @Value("${app.concurrency.retry.max-backoff-ms:200}") long maxBackoffMs,
+                         @Value("${app.concurrency.retry.budget-ratio:0.1}") double budgetRatio,
+                         @Value("${app.concurrency.retry.budget-capacity:100}") int budgetCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.depositPerCall = (long) (budgetRatio * TOKEN);
+        this.budgetCapacity = budgetCapacity * TOKEN;
+        this.budget = new AtomicLong(this.budgetCapacity);
+    }
+
+    /**
+     * 작업 실행 (충돌 시 재시도)
+     * @param operation 메트릭 태그로 사용할 작업 이름
+     * @param action 실행할 작업 (자체 트랜잭션을 가진 서비스 호출)
+     * @return 작업 결과
+     * @throws ConcurrencyFailureException 재시도 횟수나 예산을 모두 사용한 경우
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return action.get();
+        }
+        deposit();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (ConcurrencyFailureException e) {
+                counter("wms.concurrency.conflicts", operation, "exception", e.getClass().getSimpleName()).increment();
+                if (attempt >= maxAttempts) {
+                    counter("wms.concurrency.failures", operation, "reason", "attempts-exhausted").increment();
+                    throw e;
+                }
+                if (!withdraw()) {
+                    counter("wms.concurrency.failures", operation, "reason", "budget-exhausted").increment();
+                    throw e;
+                }
+                counter("wms.concurrency.retries", operation, null, null).increment();
+                log.debug("{} 충돌 재시도 ({}회): {}", operation, attempt, e.getMessage());
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 결과가 없는 작업 실행 (충돌 시 재시도)
+     * @param operation 메트릭 태그로 사용할 작업 이름
+     * @param action 실행할 작업
+     */
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void deposit() {
+        budget.getAndUpdate(current -> Math.min(budgetCapacity, current + depositPerCall));
+    }
+
+    private boolean withdraw() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempt - 1, 20));
+        long sleepMs = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            TimeUnit.MILLISECONDS.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private Counter counter(String name, String operation, String tagKey, String tagValue) {
+        Counter.Builder builder = Counter.builder(name).tag("operation", operation);
+        if (tagKey != null) {
+            builder.tag(tagKey, tagValue);
+        }
+        return builder.register(meterRegistry);
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.event.StockAlert;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 재고 알림 인프로세스 버스
+ * 발행은 제한된 크기의 큐에 넣기만 하고, 별도 스레드가 구독자(SSE 스트림 등)에게 전달
+ * 재고 변경 요청 스레드는 구독자 전달을 기다리지 않으며, 큐가 가득 차면 알림을 버림
+ *
+ * 메트릭
+ * - wms.inventory.alerts: 발행된 알림 수 (status 태그 = 변경 후 상태)
+ * - wms.inventory.alerts.dropped: 큐가 가득 차 버린 알림 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockAlertBus {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.inventory.alerts.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private final List<Consumer<StockAlert>> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private BlockingQueue<StockAlert> queue;
+    private Thread dispatcherThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        dispatcherThread = new Thread(this::dispatchLoop, "stock-alert-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        dispatcherThread.interrupt();
+        dispatcherThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 다음 알림 일련번호
+     */
+    public long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    /**
+     * 알림 발행 (대기하지 않음)
+     * @param alert 알림
+     * @return 큐에 들어갔으면 true, 가득 차 버렸으면 false
+     */
+    public boolean publish(StockAlert alert) {
+        Counter.builder("wms.inventory.alerts")
+                .tag("status", alert.getStatus().name())
+                .register(meterRegistry)
+                .increment();
+        if (queue.offer(alert)) {
+            return true;
+        }
+        Counter.builder("wms.inventory.alerts.dropped").register(meterRegistry).increment();
+        log.warn("알림 큐가 가득 차 알림을 버립니다: {}", alert);
+        return false;
+    }
+
+    /**
+     * 구독 (알림 전달 스레드에서 호출됨)
+     * @param subscriber 알림 처리 함수 (예외는 로그만 남기고 무시)
+     * @return 구독 해제 함수
+     */
+    public Runnable subscribe(Consumer<StockAlert> subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                StockAlert alert = queue.poll(1, TimeUnit.SECONDS);
+                if (alert != null) {
+                    dispatch(alert);
+                }
+            } catch (InterruptedException e) {
+                // stop()에서 깨운 경우 running 플래그로 종료
+            }
+        }
+    }
+
+    private void dispatch(StockAlert alert) {
+        for (Consumer<StockAlert> subscriber : subscribers) {
+            try {
+                subscriber.accept(alert);
+            } catch (Exception e) {
+                log.warn("알림 구독자 처리 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
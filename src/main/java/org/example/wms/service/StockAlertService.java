@@ -0,0 +1,221 @@
+package org.example.wms.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.dto.info.StockAlertDTO;
+import org.example.wms.event.StockAlert;
+import org.example.wms.util.IdEncryptionUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+
+/**
+ * 재고 알림 SSE 스트림 서비스
+ * 알림 버스를 한 번만 구독하고, 알림마다 ID를 한 번 암호화하여 연결된 모든 스트림의 대기열에 넣음
+ * - 버스 디스패처 스레드는 대기열에 넣기만 하고, 전송은 구독자별 가상 스레드에서 순서대로 수행
+ *   (느리거나 멈춘 연결이 다른 연결이나 디스패처를 막지 않음)
+ * - 대기열이 가득 찬 구독자와 한 번의 전송이 send-timeout-ms를 넘은 구독자는 연결을 끊음
+ *   (클라이언트(EventSource)가 다시 연결함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockAlertService {
+
+    static final String EVENT_NAME = "stock-alert";
+
+    private final StockAlertBus stockAlertBus;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final PublicIdService publicIdService;
+
+    @Value("${app.inventory.alerts.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    @Value("${app.inventory.alerts.max-subscribers:100}")
+    private int maxSubscribers;
+
+    @Value("${app.inventory.alerts.subscriber-queue-capacity:256}")
+    private int subscriberQueueCapacity;
+
+    @Value("${app.inventory.alerts.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private LongFunction<SseEmitter> emitterFactory = SseEmitter::new;  // 테스트에서 교체
+    private ExecutorService sender;
+    private Runnable unsubscribe;
+
+    @PostConstruct
+    void start() {
+        sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("stock-alert-sender-", 0).factory());
+        unsubscribe = stockAlertBus.subscribe(this::broadcast);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        unsubscribe.run();
+        subscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter.complete();
+        });
+        sender.shutdown();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 알림 스트림 연결
+     * 연결 시간이 sse-timeout-ms를 넘으면 종료되며, 클라이언트(EventSource)가 다시 연결함
+     * @return SSE 스트림
+     * @throws IllegalStateException 연결 수가 최대치에 도달한 경우
+     */
+    public SseEmitter openStream() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("알림 스트림 연결 수가 최대치에 도달했습니다.");
+        }
+        Subscriber subscriber = new Subscriber(emitterFactory.apply(sseTimeoutMs));
+        subscriber.emitter.onCompletion(subscriber::close);
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(e -> subscriber.close());
+        subscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    /**
+     * 전송 한 번이 send-timeout-ms를 넘은 구독자의 연결을 끊음
+     * 멈춘 전송은 연결이 닫혀 쓰기가 실패할 때까지 해당 구독자의 전송 스레드만 점유
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.alerts.send-check-interval-ms:1000}")
+    public void evictStalledSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                subscriber.evict("전송 시간 초과");
+            }
+        }
+    }
+
+    /**
+     * 연결된 스트림 수
+     */
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void broadcast(StockAlert alert) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        StockAlertDTO data = StockAlertDTO.of(alert, idEncryptionUtil, publicIdService);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(new Message(alert.getSequence(), data));
+        }
+    }
+
+    /**
+     * 전송할 알림 (일련번호 = SSE 이벤트 ID)
+     */
+    private record Message(long sequence, StockAlertDTO data) {
+    }
+
+    /**
+     * 알림 스트림 구독자 (크기가 제한된 대기열)
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Message> pending = new ArrayDeque<>();  // this로 보호
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long sendStartedAt;  // 전송 중이면 시작 시각(nanoTime), 아니면 0
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Message message) {
+            synchronized (this) {
+                if (closed.get()) {
+                    return;
+                }
+                if (pending.size() >= subscriberQueueCapacity) {
+                    evict("대기열 초과");
+                    return;
+                }
+                pending.add(message);
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        /**
+         * 대기열이 빌 때까지 전송 (구독자당 한 스레드만 실행)
+         */
+        private void drain() {
+            while (true) {
+                Message message;
+                synchronized (this) {
+                    message = closed.get() ? null : pending.poll();
+                    if (message == null) {
+                        scheduled.set(false);
+                        return;
+                    }
+                }
+                sendStartedAt = System.nanoTime();
+                try {
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(message.sequence()))
+                            .name(EVENT_NAME)
+                            .data(message.data()));
+                } catch (IOException | IllegalStateException e) {
+                    // 끊어진 연결은 목록에서 제거
+                    log.debug("알림 스트림 전송 실패, 연결 제거: {}", e.getMessage());
+                    close();
+                    scheduled.set(false);
+                    return;
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        }
+
+        /**
+         * 연결을 목록에서 제거하고 오류로 종료 (종료는 전송 중인 쓰기가 끝날 때까지 기다릴 수 있으므로 별도 스레드에서 수행)
+         */
+        private void evict(String reason) {
+            if (close()) {
+                log.warn("느린 알림 스트림 연결 종료: {}", reason);
+                sender.execute(() -> emitter.completeWithError(new TimeoutException(reason)));
+            }
+        }
+
+        /**
+         * @return 이번 호출로 닫았으면 true
+         */
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.remove(this);
+            synchronized (this) {
+                pending.clear();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.wms.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.service.OrderAllocator.Slot;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * 주문 할당용 상품 → 창고 → 수량 인덱스 (인메모리)
+ * 시작 시 전체 재고를 한 번에 적재하고, 커밋된 재고 변경 이벤트로 갱신
+ * 이벤트 순서가 뒤바뀌어 생길 수 있는 오차는 주기적인 전체 재적재로 보정
+ * 재적재 중 도착한 이벤트는 기존 인덱스에 반영하면서 함께 모아 두었다가, 새 인덱스로 교체하기 전에 다시 반영
+ * (적재 쿼리가 이미 지나간 재고의 변경이 교체와 함께 사라지지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockAllocationIndex {
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+
+    // 상품 ID → (재고 ID → 창고 ID/수량)
+    private volatile Map<Long, Map<Long, StockEntry>> products = new ConcurrentHashMap<>();
+
+    // 이벤트 반영은 읽기 잠금으로 동시에, 재적재 시작/교체는 쓰기 잠금으로 이벤트와 겹치지 않게 처리
+    private final ReadWriteLock reloadLock = new ReentrantReadWriteLock();
+    private Queue<InventoryChange> pendingDuringReload;  // 재적재 중에만 존재, reloadLock으로 보호
+
+    /**
+     * 재고 한 행 (창고 ID, 현재 수량)
+     */
+    record StockEntry(long warehouseId, int quantity) {
+    }
+
+    @PostConstruct
+    void start() {
+        refresh();
+    }
+
+    /**
+     * 전체 재적재 (수량이 남아 있는 재고만)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.allocation.refresh-interval-ms:300000}",
+            initialDelayString = "${app.inventory.allocation.refresh-interval-ms:300000}")
+    public synchronized void refresh() {
+        Queue<InventoryChange> pending = new ConcurrentLinkedQueue<>();
+        reloadLock.writeLock().lock();
+        try {
+            pendingDuringReload = pending;
+        } finally {
+            reloadLock.writeLock().unlock();
+        }
+
+        Map<Long, Map<Long, StockEntry>> loaded = new ConcurrentHashMap<>();
+        int[] rows = new int[1];
+        try {
+            inventoryJdbcRepository.forEachAvailableStockRow(row -> {
+                loaded.computeIfAbsent(row.getProductId(), id -> new ConcurrentHashMap<>())
+                        .put(row.getInventoryId(), new StockEntry(row.getWarehouseId(), row.getQuantity()));
+                rows[0]++;
+            });
+        } catch (RuntimeException e) {
+            reloadLock.writeLock().lock();
+            try {
+                pendingDuringReload = null;  // 기존 인덱스를 그대로 사용 (이벤트는 이미 반영됨)
+            } finally {
+                reloadLock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        reloadLock.writeLock().lock();
+        try {
+            pending.forEach(change -> apply(loaded, change));
+            products = loaded;
+            pendingDuringReload = null;
+        } finally {
+            reloadLock.writeLock().unlock();
+        }
+        log.debug("주문 할당 인덱스 적재: 상품 {}개, 재고 {}건 (적재 중 변경 {}건 재반영)",
+                loaded.size(), rows[0], pending.size());
+    }
+
+    /**
+     * 커밋된 재고 변경 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        reloadLock.readLock().lock();
+        try {
+            if (pendingDuringReload != null) {
+                pendingDuringReload.addAll(event.getChanges());
+            }
+            Map<Long, Map<Long, StockEntry>> current = products;
+            event.getChanges().forEach(change -> apply(current, change));
+        } finally {
+            reloadLock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Map<Long, Map<Long, StockEntry>> index, InventoryChange change) {
+        Map<Long, StockEntry> stock = index.computeIfAbsent(change.getProductId(), id -> new ConcurrentHashMap<>());
+        if (change.getQuantity() > 0) {
+            stock.put(change.getInventoryId(), new StockEntry(change.getWarehouseId(), change.getQuantity()));
+        } else {
+            stock.remove(change.getInventoryId());
+        }
+    }
+
+    /**
+     * 상품의 창고별 재고 조회
+     * @param productId 상품 ID
+     * @param reservedQuantity 재고 ID → 활성 예약 수량 (가용 수량 계산용)
+     * @return 창고별 가용 재고 (재고가 없으면 빈 목록)
+     */
+    public List<Slot> slotsOf(Long productId, ToIntFunction<Long> reservedQuantity) {
+        Map<Long, StockEntry> stock = products.get(productId);
+        if (stock == null || stock.isEmpty()) {
+            return List.of();
+        }
+        List<Slot> slots = new ArrayList<>(stock.size());
+        stock.forEach((inventoryId, entry) -> slots.add(new Slot(inventoryId, entry.warehouseId(),
+                entry.quantity() - reservedQuantity.applyAsInt(inventoryId))));
+        return slots;
+    }
+}
@@ -0,0 +1,304 @@
+package org.example.wms.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.dto.crud.StockInRequest;
+import org.example.wms.dto.crud.StockOutRequest;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.exception.ConcurrencyLimitException;
+import org.example.wms.exception.DuplicateRequestException;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.util.IdKind;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 단건 입출고 그룹 커밋
+ * 같은 재고에 대한 동시 입출고 요청을 짧은 구간(window-ms) 동안 모아 한 트랜잭션으로 처리
+ * - 재고 행을 한 번 잠그고(FOR UPDATE) 요청 순서대로 재고 부족 여부를 요청별로 판단
+ * - 적용된 요청의 순 변화량만 UPDATE 한 번으로 반영
+ * - 요청별 결과(성공 / 재고 부족 / 재고 없음)는 각 호출자에게 개별로 전달
+ * - 멱등성 키는 적용되는 요청만 같은 트랜잭션에서 기록
+ * - 호출자는 await-timeout-ms까지만 기다리며, 그때까지 트랜잭션에 포함되지 않은 요청은 빼고 429로 응답
+ * 비활성화(기본값) 상태이거나 핫 재고 엔진이 관리하는 재고는 {@link InventoryService}로 바로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockMovementCoalescer {
+
+    private final InventoryService inventoryService;
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final ReservationRegistry reservationRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Optional<HotStockEngine> hotStockEngine;
+    private final IdempotencyService idempotencyService;
+    private final PublicIdService publicIdService;
+
+    @Value("${app.inventory.coalescing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.inventory.coalescing.window-ms:3}")
+    private long windowMs;
+
+    @Value("${app.inventory.coalescing.flush-threads:4}")
+    private int flushThreads;
+
+    @Value("${app.inventory.coalescing.await-timeout-ms:2000}")
+    private long awaitTimeoutMs;
+
+    private final Map<Long, Group> groups = new ConcurrentHashMap<>();
+    private ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * 그룹에 모인 요청 한 건
+     * taken은 그룹 처리가 요청을 트랜잭션에 포함하거나 호출자가 대기를 포기할 때 먼저 설정한 쪽이 차지
+     */
+    private record Pending(int delta, MovementSource source, String reason, IdempotencyClaim claim,
+                           CompletableFuture<Void> result, AtomicBoolean taken) {
+    }
+
+    /**
+     * 재고 하나에 대해 구간 동안 모인 요청 (닫힌 뒤에는 새 그룹이 생성됨)
+     */
+    private static final class Group {
+        private final List<Pending> items = new ArrayList<>();
+        private boolean closed;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        scheduler = new ScheduledThreadPoolExecutor(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "stock-coalescer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("입출고 그룹 커밋 활성화: {}ms 구간, 처리 스레드 {}개", windowMs, flushThreads);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (scheduler != null) {
+            // 이미 예약된 그룹은 종료 전에 처리됨
+            scheduler.shutdown();
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 재고 입고
+     * @param request 입고 요청 DTO
+     * @param claim 입고와 같은 트랜잭션에서 기록할 멱등성 키 (없으면 null)
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     * @throws DuplicateRequestException 이미 처리된 멱등성 키인 경우
+     */
+    public void stockIn(StockInRequest request, IdempotencyClaim claim) {
+        Long id = publicIdService.resolve(request.getEncryptedInventoryId(), IdKind.INVENTORY);
+        if (!coalesces(id)) {
+            inventoryService.stockIn(request, claim);
+            return;
+        }
+        await(submit(id, request.getQuantity(), MovementSource.STOCK_IN, request.getReason(), claim));
+    }
+
+    /**
+     * 재고 출고
+     * @param request 출고 요청 DTO
+     * @param claim 출고와 같은 트랜잭션에서 기록할 멱등성 키 (없으면 null)
+     * @throws IllegalArgumentException 재고를 찾을 수 없는 경우
+     * @throws IllegalStateException 가용 재고가 부족한 경우
+     * @throws DuplicateRequestException 이미 처리된 멱등성 키인 경우
+     */
+    public void stockOut(StockOutRequest request, IdempotencyClaim claim) {
+        Long id = publicIdService.resolve(request.getEncryptedInventoryId(), IdKind.INVENTORY);
+        if (!coalesces(id)) {
+            inventoryService.stockOut(request, claim);
+            return;
+        }
+        await(submit(id, -request.getQuantity(), MovementSource.STOCK_OUT, request.getReason(), claim));
+    }
+
+    private boolean coalesces(Long inventoryId) {
+        return enabled && (hotStockEngine.isEmpty() || !hotStockEngine.get().handles(inventoryId));
+    }
+
+    /**
+     * 요청을 재고별 그룹에 추가 (그룹이 없으면 만들고 window-ms 뒤 처리를 예약)
+     */
+    private Pending submit(Long inventoryId, int delta, MovementSource source, String reason, IdempotencyClaim claim) {
+        Pending pending = new Pending(delta, source, reason, claim, new CompletableFuture<>(), new AtomicBoolean());
+        while (true) {
+            Group group = groups.get(inventoryId);
+            boolean created = false;
+            if (group == null) {
+                Group fresh = new Group();
+                group = groups.putIfAbsent(inventoryId, fresh);
+                if (group == null) {
+                    group = fresh;
+                    created = true;
+                }
+            }
+            synchronized (group) {
+                if (group.closed) {
+                    continue;  // 처리 중인 그룹이면 다음 그룹에 추가
+                }
+                group.items.add(pending);
+            }
+            // 예약은 맵 갱신 밖에서 (만든 그룹은 처리가 예약되기 전까지 닫히지 않으므로 자기 요청이 항상 포함됨)
+            if (created) {
+                schedule(inventoryId, group);
+            }
+            return pending;
+        }
+    }
+
+    private void schedule(Long inventoryId, Group group) {
+        try {
+            scheduler.schedule(() -> flush(inventoryId, group), windowMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이면 호출 스레드에서 바로 처리 (그룹에 모인 요청이 남지 않도록)
+            flush(inventoryId, group);
+        }
+    }
+
+    /**
+     * 그룹 처리: 잠금 → 요청별 판단 → 순 변화량 UPDATE → 이벤트 발행 → 커밋 후 결과 전달
+     */
+    private void flush(Long inventoryId, Group group) {
+        groups.remove(inventoryId, group);
+        List<Pending> items;
+        synchronized (group) {
+            group.closed = true;
+            items = group.items;
+        }
+
+        RuntimeException[] outcomes = new RuntimeException[items.size()];
+        try {
+            transactionTemplate.executeWithoutResult(tx -> apply(inventoryId, items, outcomes));
+        } catch (RuntimeException e) {
+            // 트랜잭션 실패(충돌, DB 오류)는 그룹 전체에 전달하여 호출자별로 재시도하게 함
+            items.forEach(item -> item.result().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (outcomes[i] == null) {
+                items.get(i).result().complete(null);
+            } else {
+                items.get(i).result().completeExceptionally(outcomes[i]);
+            }
+        }
+    }
+
+    private void apply(Long inventoryId, List<Pending> items, RuntimeException[] outcomes) {
+        Optional<InventoryStockRow> locked = inventoryJdbcRepository.lockStockRow(inventoryId);
+        if (locked.isEmpty()) {
+            for (int i = 0; i < outcomes.length; i++) {
+                outcomes[i] = new IllegalArgumentException("재고를 찾을 수 없습니다.");
+            }
+            return;
+        }
+        InventoryStockRow row = locked.get();
+        int reserved = reservationRegistry.reservedQuantity(inventoryId);
+        int quantity = row.getQuantity();
+        int netDelta = 0;
+        List<InventoryChange> changes = new ArrayList<>(items.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < items.size(); i++) {
+            Pending item = items.get(i);
+            if (!item.taken().compareAndSet(false, true)) {
+                continue;  // 호출자가 대기를 포기한 요청 (응답을 기다리는 쪽이 없음)
+            }
+            // 이미 처리된 키는 재고 판단 전에 걸러냄 (재요청에는 최초 응답을 돌려줘야 함)
+            if (item.claim() != null && !idempotencyService.tryClaim(item.claim())) {
+                outcomes[i] = new DuplicateRequestException(item.claim().key());
+                continue;
+            }
+            if (item.delta() < 0 && quantity + item.delta() < reserved) {
+                // 거절된 요청의 키는 지워서 같은 키로 다시 시도할 수 있게 함
+                if (item.claim() != null) {
+                    idempotencyService.releaseClaim(item.claim());
+                }
+                outcomes[i] = new IllegalStateException(
+                        InventoryService.insufficientStockMessage(quantity, reserved, -item.delta()));
+                continue;
+            }
+            quantity += item.delta();
+            netDelta += item.delta();
+            changes.add(InventoryChange.builder()
+                    .inventoryId(row.getInventoryId())
+                    .productId(row.getProductId())
+                    .warehouseId(row.getWarehouseId())
+                    .delta(item.delta())
+                    .quantity(quantity)
+                    .source(item.source())
+                    .reason(item.reason())
+                    .occurredAt(now)
+                    .build());
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        if (netDelta != 0) {
+            inventoryJdbcRepository.addQuantity(inventoryId, netDelta);
+        }
+        eventPublisher.publishEvent(new InventoryChangedEvent(changes));
+    }
+
+    /**
+     * 그룹 처리 결과 대기 (요청별 예외를 그대로 다시 던짐)
+     * await-timeout-ms 안에 트랜잭션에 포함되지 않은 요청은 그룹 처리에서 빠지므로 반영되지 않음이 보장됨
+     * 이미 트랜잭션에 포함된 요청은 커밋/롤백까지 한 번 더 기다리고, 그래도 끝나지 않으면 결과를 알 수 없음
+     * @throws ConcurrencyLimitException 대기 시간 안에 처리되지 않아 요청을 반영하지 않은 경우
+     * @throws QueryTimeoutException 트랜잭션에 포함된 요청의 결과를 대기 시간 안에 받지 못한 경우
+     */
+    private void await(Pending pending) {
+        try {
+            try {
+                pending.result().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.taken().compareAndSet(false, true)) {
+                    throw new ConcurrencyLimitException("입출고 요청이 밀려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+                }
+                pending.result().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("입출고 처리 결과를 기다리는 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입출고 처리 대기 중 중단되었습니다.", e);
+        }
+    }
+}
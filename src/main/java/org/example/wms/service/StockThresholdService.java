@@ -0,0 +1,179 @@
+package org.example.wms.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.entity.StockStatus;
+import org.example.wms.repository.ProductRepository;
+import org.example.wms.repository.StockThresholdJdbcRepository;
+import org.example.wms.repository.StockThresholdRow;
+import org.example.wms.repository.WarehouseRepository;
+import org.example.wms.util.LongIntHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.example.wms.repository.StockThresholdJdbcRepository.PRODUCT_DEFAULT;
+
+/**
+ * 부족 기준 수량 관리 (상품 기본값 + 창고별 재정의)
+ * - 조회는 기본형 키 해시 맵(인메모리)만 사용하므로 재고 행마다 쿼리나 객체 생성이 없음
+ *   (우선순위: 창고별 재정의 → 상품 기본값 → StockStatus.DEFAULT_LOW_THRESHOLD)
+ * - 맵은 변경 시와 주기적으로 전체를 다시 만들어 교체 (읽는 쪽은 잠금 없이 volatile 참조만 읽음)
+ * - 재고 행에는 생성 시점의 기준 수량이 기록되며(low_threshold), 기준이 바뀌면 해당 재고 행을 DB에서 일괄 갱신
+ *   → 목록/상태 조회는 DB가 계산한 재고 상태를 그대로 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockThresholdService {
+
+    private static final int MISSING = -1;
+
+    private final StockThresholdJdbcRepository thresholdJdbcRepository;
+    private final ProductRepository productRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryExecutor retryExecutor;
+
+    private volatile Thresholds thresholds = Thresholds.EMPTY;
+
+    /**
+     * 적재된 기준 수량 (만든 뒤에는 변경하지 않음)
+     * @param byProduct 상품 ID → 상품 기본값
+     * @param byStock (상품 ID, 창고 ID) → 창고별 재정의
+     */
+    private record Thresholds(LongIntHashMap byProduct, LongIntHashMap byStock) {
+        private static final Thresholds EMPTY = new Thresholds(new LongIntHashMap(0), new LongIntHashMap(0));
+    }
+
+    @PostConstruct
+    void start() {
+        refresh();
+    }
+
+    /**
+     * 전체 재적재 (다른 인스턴스에서 변경한 설정 반영)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.thresholds.refresh-interval-ms:60000}",
+            initialDelayString = "${app.inventory.thresholds.refresh-interval-ms:60000}")
+    public void refresh() {
+        List<StockThresholdRow> rows = thresholdJdbcRepository.findAll();
+        LongIntHashMap byProduct = new LongIntHashMap(rows.size());
+        LongIntHashMap byStock = new LongIntHashMap(0);
+        for (StockThresholdRow row : rows) {
+            if (row.getWarehouseId() == PRODUCT_DEFAULT) {
+                byProduct.put(row.getProductId(), row.getLowThreshold());
+            } else if (fitsKey(row.getProductId(), row.getWarehouseId())) {
+                byStock.put(stockKey(row.getProductId(), row.getWarehouseId()), row.getLowThreshold());
+            } else {
+                log.warn("맵 키 범위를 벗어난 부족 기준 수량은 이벤트 판정에서 제외: {}", row);
+            }
+        }
+        thresholds = new Thresholds(byProduct, byStock);
+        log.debug("부족 기준 수량 적재: 상품 기본값 {}건, 창고별 재정의 {}건", byProduct.size(), byStock.size());
+    }
+
+    /**
+     * 적용되는 부족 기준 수량 조회 (인메모리, 객체 생성 없음)
+     * @return 창고별 재정의 → 상품 기본값 → 전체 기본값 순으로 처음 있는 값
+     */
+    public int lowThreshold(long productId, long warehouseId) {
+        Thresholds current = thresholds;
+        if (current.byStock().size() > 0 && fitsKey(productId, warehouseId)) {
+            int override = current.byStock().get(stockKey(productId, warehouseId), MISSING);
+            if (override != MISSING) {
+                return override;
+            }
+        }
+        return current.byProduct().get(productId, StockStatus.DEFAULT_LOW_THRESHOLD);
+    }
+
+    /**
+     * 수량으로 재고 상태 판정 (상품/창고의 부족 기준 수량 적용)
+     */
+    public StockStatus statusOf(long productId, long warehouseId, int quantity) {
+        return StockStatus.of(quantity, lowThreshold(productId, warehouseId));
+    }
+
+    /**
+     * 부족 기준 수량 설정 (재고 행에도 반영)
+     * @param productId 상품 ID
+     * @param warehouseId 창고 ID (없으면 상품 기본값)
+     * @param lowThreshold 부족 기준 수량 (이 수량 이하이면 부족)
+     * @throws IllegalArgumentException 상품 또는 창고를 찾을 수 없는 경우
+     */
+    public void setThreshold(Long productId, Long warehouseId, int lowThreshold) {
+        long product = requireProduct(productId);
+        long warehouse = requireWarehouse(warehouseId);
+        retryExecutor.run("stock-threshold.set", () -> transactionTemplate.executeWithoutResult(tx -> {
+            thresholdJdbcRepository.upsert(product, warehouse, lowThreshold);
+            thresholdJdbcRepository.applyToInventory(product, warehouse, lowThreshold);
+        }));
+        refreshAndReapply(product, warehouse, lowThreshold);
+    }
+
+    /**
+     * 부족 기준 수량 설정 삭제 (재고 행은 다음 우선순위의 기준 수량으로 되돌림)
+     * @param productId 상품 ID
+     * @param warehouseId 창고 ID (없으면 상품 기본값)
+     * @throws IllegalArgumentException 상품/창고를 찾을 수 없거나 설정이 없는 경우
+     */
+    public void deleteThreshold(Long productId, Long warehouseId) {
+        long product = requireProduct(productId);
+        long warehouse = requireWarehouse(warehouseId);
+        int fallback = retryExecutor.execute("stock-threshold.delete", () -> transactionTemplate.execute(tx -> {
+            if (!thresholdJdbcRepository.delete(product, warehouse)) {
+                throw new IllegalArgumentException("설정된 부족 기준 수량이 없습니다.");
+            }
+            int next = warehouse == PRODUCT_DEFAULT
+                    ? StockStatus.DEFAULT_LOW_THRESHOLD
+                    : thresholdJdbcRepository.findThreshold(product, PRODUCT_DEFAULT)
+                            .orElse(StockStatus.DEFAULT_LOW_THRESHOLD);
+            thresholdJdbcRepository.applyToInventory(product, warehouse, next);
+            return next;
+        }));
+        refreshAndReapply(product, warehouse, fallback);
+    }
+
+    /**
+     * 맵 교체 후 한 번 더 반영
+     * 교체 전의 맵으로 기준 수량을 기록하며 생성된 재고 행을 보정 (생성 중인 행은 커밋을 기다린 뒤 갱신됨)
+     */
+    private void refreshAndReapply(long productId, long warehouseId, int lowThreshold) {
+        refresh();
+        int corrected = thresholdJdbcRepository.applyToInventory(productId, warehouseId, lowThreshold);
+        if (corrected > 0) {
+            log.debug("설정 변경 중 생성된 재고 {}건의 부족 기준 수량 보정", corrected);
+        }
+    }
+
+    private long requireProduct(Long productId) {
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("상품을 찾을 수 없습니다.");
+        }
+        return productId;
+    }
+
+    // 창고가 없으면 상품 기본값
+    private long requireWarehouse(Long warehouseId) {
+        if (warehouseId == null) {
+            return PRODUCT_DEFAULT;
+        }
+        if (!warehouseRepository.existsById(warehouseId)) {
+            throw new IllegalArgumentException("창고를 찾을 수 없습니다.");
+        }
+        return warehouseId;
+    }
+
+    // (상품 ID, 창고 ID)를 long 하나로 합침 (각각 32비트 이내인 경우만)
+    private static long stockKey(long productId, long warehouseId) {
+        return (productId << 32) | warehouseId;
+    }
+
+    private static boolean fitsKey(long productId, long warehouseId) {
+        return (productId >>> 31) == 0 && (warehouseId >>> 32) == 0;
+    }
+}
@@ -0,0 +1,298 @@
+package org.example.wms.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.dto.crud.StocktakeRequest;
+import org.example.wms.dto.crud.StocktakeRequest.CountLine;
+import org.example.wms.dto.info.StocktakeResultDTO;
+import org.example.wms.dto.info.StocktakeResultDTO.RejectedLine;
+import org.example.wms.dto.info.StocktakeResultDTO.Variance;
+import org.example.wms.dto.info.StocktakeResultDTO.VarianceStatus;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.repository.StockKey;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 창고 재고 실사 반영 서비스
+ * 창고 전체의 실사 수량을 받아 현재 수량과 비교하고 차이만 반영
+ * - 창고의 재고 행을 재고 ID 순으로 모두 잠그며 한 번 읽고, 상품 ID로 실사 라인을 찾아 비교
+ *   (다른 작업과 같은 잠금 순서, 재고 행마다 조회하지 않으며 잠근 시점의 수량 하나를 기준으로 비교)
+ * - 실사 목록에 없는 재고는 zeroUncounted를 지정한 경우에만 0으로 맞춤
+ * - 차이는 JDBC 배치 UPDATE, 새 재고는 JDBC 배치 INSERT로 같은 트랜잭션에서 반영
+ * - 반영한 차이는 재고 변경 이벤트(STOCKTAKE)로 발행하여 요약/합계/이력/원장에 그대로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StocktakeService {
+
+    private static final int MAX_REPORTED_LINES = 1000;
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryExecutor retryExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReservationRegistry reservationRegistry;
+    private final StockThresholdService stockThresholdService;
+    private final Optional<HotStockEngine> hotStockEngine;
+    private final PublicIdService publicIdService;
+
+    /**
+     * 복호화한 실사 라인
+     */
+    record Count(int line, long productId, int quantity) {
+    }
+
+    /**
+     * 재고별 차이 (ID 암호화 전)
+     */
+    record Diff(long productId, long inventoryId, int systemQuantity, int countedQuantity, VarianceStatus status,
+                boolean belowReserved) {
+        int variance() {
+            return countedQuantity - systemQuantity;
+        }
+    }
+
+    /**
+     * 한 트랜잭션의 반영 결과
+     */
+    static final class Outcome {
+        final List<Diff> diffs = new ArrayList<>();
+        final List<Count> unknownProducts = new ArrayList<>();
+        int matched;
+        long quantityBefore;
+    }
+
+    /**
+     * 재고 실사 반영
+     * @param encryptedWarehouseId 암호화된 창고 ID
+     * @param request 상품별 실사 수량 목록
+     * @return 차이 보고서
+     * @throws IllegalArgumentException 창고를 찾을 수 없는 경우
+     */
+    public StocktakeResultDTO reconcile(String encryptedWarehouseId, StocktakeRequest request) {
+        return reconcile(publicIdService.resolve(encryptedWarehouseId, IdKind.WAREHOUSE), request);
+    }
+
+    /**
+     * 재고 실사 반영 (복호화된 ID)
+     * @param warehouseId 창고 ID
+     * @param request 상품별 실사 수량 목록
+     * @return 차이 보고서
+     * @throws IllegalArgumentException 창고를 찾을 수 없는 경우
+     */
+    public StocktakeResultDTO reconcile(Long warehouseId, StocktakeRequest request) {
+        long start = System.nanoTime();
+        if (inventoryJdbcRepository.findExistingWarehouseIds(Set.of(warehouseId)).isEmpty()) {
+            throw new IllegalArgumentException("창고를 찾을 수 없습니다.");
+        }
+        List<CountLine> lines = request.getLines();
+        boolean zeroUncounted = Boolean.TRUE.equals(request.getZeroUncounted());
+
+        // 1. 상품 ID 복호화 후 상품 ID 순으로 정렬 (같은 상품이 다시 나오면 뒤의 라인을 거절)
+        List<RejectedLine> rejected = new ArrayList<>();
+        List<Count> counts = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            Long productId = idEncryptionUtil.decryptIfValid(lines.get(i).getEncryptedProductId());
+            if (productId == null) {
+                rejected.add(new RejectedLine(i + 1, lines.get(i).getEncryptedProductId(), "유효하지 않은 ID입니다."));
+                continue;
+            }
+            counts.add(new Count(i, productId, lines.get(i).getCountedQuantity()));
+        }
+        counts.sort(Comparator.comparingLong(Count::productId).thenComparingInt(Count::line));
+        List<Count> unique = new ArrayList<>(counts.size());
+        for (Count count : counts) {
+            if (!unique.isEmpty() && unique.get(unique.size() - 1).productId() == count.productId()) {
+                rejected.add(new RejectedLine(count.line() + 1, lines.get(count.line()).getEncryptedProductId(),
+                        "같은 요청에 이미 있는 상품입니다."));
+                continue;
+            }
+            unique.add(count);
+        }
+
+        // 2. 한 트랜잭션에서 잠금 → 병합 비교 → 배치 반영
+        Outcome outcome = retryExecutor.execute("inventory.stocktake", () -> transactionTemplate.execute(
+                tx -> apply(warehouseId, unique, zeroUncounted, request.getReason())));
+        outcome.unknownProducts.forEach(count -> rejected.add(new RejectedLine(count.line() + 1,
+                lines.get(count.line()).getEncryptedProductId(), "상품을 찾을 수 없습니다.")));
+
+        StocktakeResultDTO result = toResult(lines.size(), outcome, rejected, System.nanoTime() - start);
+        log.info("재고 실사 반영: 창고 {}, {}라인 ({} 일치, {} 변경, {} 생성, {} 0으로 변경), 차이 합계 {}, {}ms",
+                warehouseId, result.getCountedLines(), result.getMatchedCount(), result.getAdjustedCount(),
+                result.getCreatedCount(), result.getZeroedCount(), result.getNetVariance(), result.getElapsedMs());
+        return result;
+    }
+
+    /**
+     * 창고의 재고 행을 잠그고 실사 수량과 비교하여 차이를 반영 (트랜잭션 안에서 호출)
+     * @param counts 상품 ID 오름차순 실사 수량 (중복 없음)
+     */
+    Outcome apply(long warehouseId, List<Count> counts, boolean zeroUncounted, String reason) {
+        Outcome outcome = new Outcome();
+        Map<Long, Count> uncounted = new LinkedHashMap<>();
+        counts.forEach(count -> uncounted.put(count.productId(), count));
+
+        // 재고 ID 순으로 잠그며 읽고, 창고에 재고가 있는 실사 라인은 꺼냄
+        inventoryJdbcRepository.forEachLockedWarehouseRow(warehouseId, row -> {
+            outcome.quantityBefore += row.getQuantity();
+            Count count = uncounted.remove(row.getProductId());
+            if (count != null) {
+                compare(row, count.quantity(), VarianceStatus.ADJUSTED, outcome);
+            } else if (zeroUncounted) {
+                compare(row, 0, VarianceStatus.ZEROED, outcome);
+            }
+        });
+        List<Count> missing = new ArrayList<>(uncounted.values());  // 재고가 없는 실사 라인 (상품 ID 순)
+
+        // 기존 재고의 차이를 배치로 반영
+        List<Diff> adjusted = outcome.diffs.stream()
+                .filter(diff -> diff.status() != VarianceStatus.SKIPPED)
+                .toList();
+        List<InventoryChange> changes = new ArrayList<>(adjusted.size() + missing.size());
+        LocalDateTime now = LocalDateTime.now();
+        if (!adjusted.isEmpty()) {
+            long[] ids = new long[adjusted.size()];
+            int[] deltas = new int[adjusted.size()];
+            for (int i = 0; i < adjusted.size(); i++) {
+                Diff diff = adjusted.get(i);
+                ids[i] = diff.inventoryId();
+                deltas[i] = diff.variance();
+                changes.add(change(diff.inventoryId(), diff.productId(), warehouseId, diff.variance(),
+                        diff.countedQuantity(), MovementSource.STOCKTAKE, reason, now));
+            }
+            inventoryJdbcRepository.addQuantities(ids, deltas);
+        }
+
+        // 실사에서 발견된 재고 생성 (수량 0은 생성하지 않음, 없는 상품은 거절)
+        List<Count> found = missing.stream().filter(count -> count.quantity() > 0).toList();
+        if (!found.isEmpty()) {
+            Set<Long> existingProducts = inventoryJdbcRepository.findExistingProductIds(
+                    found.stream().map(Count::productId).collect(Collectors.toSet()));
+            List<StockKey> keys = new ArrayList<>(found.size());
+            List<Count> creatable = new ArrayList<>(found.size());
+            for (Count count : found) {
+                if (existingProducts.contains(count.productId())) {
+                    keys.add(new StockKey(count.productId(), warehouseId));
+                    creatable.add(count);
+                } else {
+                    outcome.unknownProducts.add(count);
+                }
+            }
+            if (!keys.isEmpty()) {
+                int[] quantities = creatable.stream().mapToInt(Count::quantity).toArray();
+                inventoryJdbcRepository.upsertRows(keys, quantities, false,
+                        key -> stockThresholdService.lowThreshold(key.productId(), key.warehouseId()));
+                Map<StockKey, InventoryStockRow> created = inventoryJdbcRepository.lockStockRowsByKeys(keys);
+                for (Count count : creatable) {
+                    InventoryStockRow row = created.get(new StockKey(count.productId(), warehouseId));
+                    outcome.diffs.add(new Diff(count.productId(), row.getInventoryId(), 0, count.quantity(),
+                            VarianceStatus.CREATED, false));
+                    changes.add(change(row.getInventoryId(), count.productId(), warehouseId, count.quantity(),
+                            count.quantity(), MovementSource.CREATE, reason, now));
+                }
+            }
+        }
+        outcome.matched += missing.size() - found.size();  // 없는 재고를 0으로 실사한 라인
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new InventoryChangedEvent(changes));
+        }
+        return outcome;
+    }
+
+    private void compare(InventoryStockRow row, int counted, VarianceStatus status, Outcome outcome) {
+        if (row.getQuantity() == counted) {
+            if (status == VarianceStatus.ADJUSTED) {
+                outcome.matched++;
+            }
+            return;
+        }
+        if (hotStockEngine.isPresent() && hotStockEngine.get().handles(row.getInventoryId())) {
+            outcome.diffs.add(new Diff(row.getProductId(), row.getInventoryId(), row.getQuantity(), counted,
+                    VarianceStatus.SKIPPED, false));
+            return;
+        }
+        boolean belowReserved = counted < reservationRegistry.reservedQuantity(row.getInventoryId());
+        outcome.diffs.add(new Diff(row.getProductId(), row.getInventoryId(), row.getQuantity(), counted,
+                status, belowReserved));
+    }
+
+    private StocktakeResultDTO toResult(int countedLines, Outcome outcome, List<RejectedLine> rejected,
+                                        long elapsedNanos) {
+        int[] byStatus = new int[VarianceStatus.values().length];
+        long netVariance = 0;
+        long absoluteVariance = 0;
+        for (Diff diff : outcome.diffs) {
+            byStatus[diff.status().ordinal()]++;
+            if (diff.status() != VarianceStatus.SKIPPED) {
+                netVariance += diff.variance();
+                absoluteVariance += Math.abs(diff.variance());
+            }
+        }
+        // 차이가 큰 순으로 보고 (ID 변환은 보고하는 항목만)
+        List<Diff> reported = outcome.diffs.stream()
+                .sorted(Comparator.comparingInt((Diff diff) -> Math.abs(diff.variance())).reversed())
+                .limit(MAX_REPORTED_LINES)
+                .toList();
+        String[] inventoryIds = publicIdService.renderInventoryIds(
+                reported.stream().mapToLong(Diff::inventoryId).toArray());
+        List<Variance> variances = new ArrayList<>(reported.size());
+        for (int i = 0; i < reported.size(); i++) {
+            Diff diff = reported.get(i);
+            variances.add(new Variance(idEncryptionUtil.encrypt(diff.productId()), inventoryIds[i],
+                    diff.systemQuantity(), diff.countedQuantity(), diff.variance(), diff.status(),
+                    diff.belowReserved()));
+        }
+        rejected.sort(Comparator.comparingInt(RejectedLine::getLine));
+        return StocktakeResultDTO.builder()
+                .countedLines(countedLines)
+                .matchedCount(outcome.matched)
+                .adjustedCount(byStatus[VarianceStatus.ADJUSTED.ordinal()])
+                .createdCount(byStatus[VarianceStatus.CREATED.ordinal()])
+                .zeroedCount(byStatus[VarianceStatus.ZEROED.ordinal()])
+                .skippedCount(byStatus[VarianceStatus.SKIPPED.ordinal()])
+                .rejectedCount(rejected.size())
+                .quantityBefore(outcome.quantityBefore)
+                .quantityAfter(outcome.quantityBefore + netVariance)
+                .netVariance(netVariance)
+                .absoluteVariance(absoluteVariance)
+                .elapsedMs(elapsedNanos / 1_000_000)
+                .variances(variances)
+                .rejectedLines(rejected.size() > MAX_REPORTED_LINES ? rejected.subList(0, MAX_REPORTED_LINES) : rejected)
+                .build();
+    }
+
+    private static InventoryChange change(long inventoryId, long productId, long warehouseId, int delta, int quantity,
+                                          MovementSource source, String reason, LocalDateTime now) {
+        return InventoryChange.builder()
+                .inventoryId(inventoryId)
+                .productId(productId)
+                .warehouseId(warehouseId)
+                .delta(delta)
+                .quantity(quantity)
+                .source(source)
+                .reason(reason)
+                .occurredAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,305 @@
+package org.example.wms.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.wms.dto.crud.TransferBatchRequest;
+import org.example.wms.dto.crud.TransferRequest;
+import org.example.wms.dto.info.TransferBatchResultDTO;
+import org.example.wms.dto.info.TransferBatchResultDTO.LineResult;
+import org.example.wms.dto.info.TransferBatchResultDTO.LineStatus;
+import org.example.wms.dto.info.TransferResultDTO;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.entity.WarehouseEntity;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.repository.StockKey;
+import org.example.wms.repository.WarehouseRepository;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 창고 간 재고 이동 서비스
+ * 보내는 재고의 출고와 받는 재고의 입고를 한 트랜잭션으로 처리
+ * - 관련된 기존 재고 행을 재고 ID 오름차순으로 한 번에 잠가 반대 방향 이동끼리도 교착되지 않음
+ * - 받는 창고에 재고가 없으면 잠금 이후 (상품 ID, 창고 ID) 순으로 생성 (생성끼리도 순서가 같음)
+ * - 여러 라인의 변경은 재고별 순 변화량으로 합산하여 JDBC 배치 UPDATE 한 번으로 반영
+ */
+@Service
+@RequiredArgsConstructor
+public class TransferService {
+
+    private final InventoryJdbcRepository inventoryJdbcRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final ReservationRegistry reservationRegistry;
+    private final IdEncryptionUtil idEncryptionUtil;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Optional<HotStockEngine> hotStockEngine;
+    private final StockThresholdService stockThresholdService;
+    private final PublicIdService publicIdService;
+
+    /**
+     * 이동 라인 (복호화된 ID)
+     */
+    private record Line(StockKey from, StockKey to, int quantity, String reason) {
+    }
+
+    /**
+     * 라인별 처리 결과
+     */
+    /**
+     * 적용된 라인의 이동 후 수량 (응답 ID는 적용된 라인을 모두 모은 뒤 한 번에 변환)
+     */
+    private record AppliedLine(int index, long fromInventoryId, long toInventoryId, int fromQuantity, int toQuantity) {
+    }
+
+    private record Outcome(LineStatus status, String message, TransferResultDTO result) {
+
+        static Outcome rejected(LineStatus status, String message) {
+            return new Outcome(status, message, null);
+        }
+    }
+
+    /**
+     * 창고 간 재고 이동 (컨트롤러에서 변환한 내부 ID)
+     * @param productId 상품 ID
+     * @param fromWarehouseId 보내는 창고 ID
+     * @param toWarehouseId 받는 창고 ID
+     * @param quantity 이동 수량
+     * @param reason 이동 사유 (선택사항)
+     * @return 양쪽 재고의 이동 후 수량
+     * @throws IllegalArgumentException 보내는 재고 또는 받는 창고를 찾을 수 없는 경우
+     * @throws IllegalStateException 가용 재고가 부족하거나 이동할 수 없는 재고인 경우
+     */
+    @Transactional
+    public TransferResultDTO transfer(long productId, long fromWarehouseId, long toWarehouseId, int quantity,
+                                      String reason) {
+        Line line = new Line(new StockKey(productId, fromWarehouseId), new StockKey(productId, toWarehouseId),
+                quantity, reason);
+        Outcome outcome = execute(new Line[] {line}, new Outcome[1])[0];
+        return switch (outcome.status()) {
+            case APPLIED -> outcome.result();
+            case UNKNOWN_ID -> throw new IllegalArgumentException(outcome.message());
+            default -> throw new IllegalStateException(outcome.message());
+        };
+    }
+
+    /**
+     * 창고 간 재고 일괄 이동
+     * 라인 순서대로 판단하며, 라인마다 양쪽이 모두 반영되거나 모두 반영되지 않음
+     * 적용된 라인은 한 트랜잭션으로 함께 커밋됨
+     * @param request 일괄 이동 요청 DTO
+     * @return 라인별 처리 결과
+     */
+    @Transactional
+    public TransferBatchResultDTO transferAll(TransferBatchRequest request) {
+        Outcome[] outcomes = execute(request.getTransfers());
+        List<LineResult> results = new ArrayList<>(outcomes.length);
+        for (int i = 0; i < outcomes.length; i++) {
+            results.add(new LineResult(i + 1, outcomes[i].status(), outcomes[i].message(), outcomes[i].result()));
+        }
+        return TransferBatchResultDTO.of(results);
+    }
+
+    private Outcome[] execute(List<TransferRequest> requests) {
+        Outcome[] outcomes = new Outcome[requests.size()];
+        Line[] lines = new Line[requests.size()];
+        for (int i = 0; i < lines.length; i++) {
+            TransferRequest request = requests.get(i);
+            Long productId = idEncryptionUtil.decryptIfValid(request.getEncryptedProductId());
+            Long fromWarehouseId =
+                    publicIdService.resolveIfValid(request.getEncryptedFromWarehouseId(), IdKind.WAREHOUSE);
+            Long toWarehouseId = publicIdService.resolveIfValid(request.getEncryptedToWarehouseId(), IdKind.WAREHOUSE);
+            if (productId == null || fromWarehouseId == null || toWarehouseId == null) {
+                outcomes[i] = Outcome.rejected(LineStatus.UNKNOWN_ID, "유효하지 않은 ID입니다.");
+                continue;
+            }
+            lines[i] = new Line(new StockKey(productId, fromWarehouseId), new StockKey(productId, toWarehouseId),
+                    request.getQuantity(), request.getReason());
+        }
+        return execute(lines, outcomes);
+    }
+
+    /**
+     * ID 변환을 마친 라인 처리 (변환하지 못한 라인은 null이며 outcomes에 거절 결과가 있음)
+     */
+    private Outcome[] execute(Line[] lines, Outcome[] outcomes) {
+        Set<StockKey> keys = new HashSet<>();
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] == null) {
+                continue;
+            }
+            if (lines[i].from().equals(lines[i].to())) {
+                outcomes[i] = Outcome.rejected(LineStatus.INVALID, "보내는 창고와 받는 창고가 같습니다.");
+                lines[i] = null;
+                continue;
+            }
+            keys.add(lines[i].from());
+            keys.add(lines[i].to());
+        }
+
+        // 1. 기존 재고를 찾아(잠금 없음) 재고 ID 오름차순으로 잠금
+        List<Long> existingIds = inventoryJdbcRepository.findStockRowsByKeys(keys).values().stream()
+                .map(InventoryStockRow::getInventoryId)
+                .toList();
+        Map<StockKey, InventoryStockRow> locked = new HashMap<>();
+        inventoryJdbcRepository.lockStockRows(existingIds).values()
+                .forEach(row -> locked.put(keyOf(row), row));
+
+        // 2. 잠근 수량으로 라인 순서대로 판단 (새로 만들 재고는 0부터 시작)
+        Set<Long> knownWarehouses = findNewDestinationWarehouses(lines, locked);
+        Map<StockKey, Integer> running = new HashMap<>();
+        locked.forEach((key, row) -> running.put(key, row.getQuantity()));
+        Set<StockKey> created = new TreeSet<>();
+        for (int i = 0; i < lines.length; i++) {
+            Line line = lines[i];
+            if (line == null) {
+                continue;
+            }
+            InventoryStockRow source = locked.get(line.from());
+            InventoryStockRow target = locked.get(line.to());
+            if (source == null && !created.contains(line.from())) {
+                outcomes[i] = Outcome.rejected(LineStatus.UNKNOWN_ID, "재고를 찾을 수 없습니다.");
+                continue;
+            }
+            if (target == null && !created.contains(line.to()) && !knownWarehouses.contains(line.to().warehouseId())) {
+                outcomes[i] = Outcome.rejected(LineStatus.UNKNOWN_ID, "창고를 찾을 수 없습니다.");
+                continue;
+            }
+            if (isHot(source) || isHot(target)) {
+                outcomes[i] = Outcome.rejected(LineStatus.INVALID, "핫 재고 엔진이 관리하는 재고는 이동할 수 없습니다.");
+                continue;
+            }
+            int reserved = source == null ? 0 : reservationRegistry.reservedQuantity(source.getInventoryId());
+            int current = running.getOrDefault(line.from(), 0);
+            if (current - line.quantity() < reserved) {
+                outcomes[i] = Outcome.rejected(LineStatus.INSUFFICIENT,
+                        InventoryService.insufficientStockMessage(current, reserved, line.quantity()));
+                continue;
+            }
+            running.put(line.from(), current - line.quantity());
+            running.merge(line.to(), line.quantity(), Integer::sum);
+            if (target == null) {
+                created.add(line.to());
+            }
+        }
+
+        // 3. 적용되는 라인의 받는 재고 생성 (다른 요청이 먼저 만들었으면 그 행을 잠가서 사용)
+        Set<StockKey> inserted = new HashSet<>();
+        if (!created.isEmpty()) {
+            inserted = inventoryJdbcRepository.insertEmptyRows(created,
+                    key -> stockThresholdService.lowThreshold(key.productId(), key.warehouseId()));
+            locked.putAll(inventoryJdbcRepository.lockStockRowsByKeys(created));
+        }
+
+        // 4. 변경 후 수량 계산 및 재고별 순 변화량 합산
+        Map<Long, Integer> quantities = new HashMap<>();
+        locked.values().forEach(row -> quantities.put(row.getInventoryId(), row.getQuantity()));
+        Map<Long, Integer> netDeltas = new TreeMap<>();
+        List<InventoryChange> changes = new ArrayList<>();
+        List<AppliedLine> applied = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < lines.length; i++) {
+            if (lines[i] == null || outcomes[i] != null) {
+                continue;
+            }
+            Line line = lines[i];
+            InventoryStockRow source = locked.get(line.from());
+            InventoryStockRow target = locked.get(line.to());
+            int fromQuantity = quantities.merge(source.getInventoryId(), -line.quantity(), Integer::sum);
+            int toQuantity = quantities.merge(target.getInventoryId(), line.quantity(), Integer::sum);
+            netDeltas.merge(source.getInventoryId(), -line.quantity(), Integer::sum);
+            netDeltas.merge(target.getInventoryId(), line.quantity(), Integer::sum);
+            if (inserted.remove(line.to())) {
+                // 이 이동으로 생성된 재고는 생성 내역을 먼저 남김 (창고별 SKU 수 집계에 사용)
+                changes.add(change(target, 0, 0, MovementSource.CREATE, line.reason(), now));
+            }
+            changes.add(change(source, -line.quantity(), fromQuantity, MovementSource.TRANSFER_OUT, line.reason(), now));
+            changes.add(change(target, line.quantity(), toQuantity, MovementSource.TRANSFER_IN, line.reason(), now));
+            applied.add(new AppliedLine(i, source.getInventoryId(), target.getInventoryId(), fromQuantity, toQuantity));
+        }
+        long[] resultIds = new long[applied.size() * 2];
+        for (int k = 0; k < applied.size(); k++) {
+            resultIds[2 * k] = applied.get(k).fromInventoryId();
+            resultIds[2 * k + 1] = applied.get(k).toInventoryId();
+        }
+        String[] rendered = publicIdService.renderInventoryIds(resultIds);
+        for (int k = 0; k < applied.size(); k++) {
+            AppliedLine line = applied.get(k);
+            outcomes[line.index()] = new Outcome(LineStatus.APPLIED, null, new TransferResultDTO(
+                    rendered[2 * k], rendered[2 * k + 1], lines[line.index()].quantity(),
+                    line.fromQuantity(), line.toQuantity()));
+        }
+        if (changes.isEmpty()) {
+            return outcomes;
+        }
+
+        // 5. 재고 ID 오름차순으로 순 변화량 반영 (이미 모두 잠긴 행)
+        netDeltas.values().removeIf(delta -> delta == 0);
+        long[] ids = new long[netDeltas.size()];
+        int[] deltas = new int[netDeltas.size()];
+        int n = 0;
+        for (Map.Entry<Long, Integer> entry : netDeltas.entrySet()) {
+            ids[n] = entry.getKey();
+            deltas[n++] = entry.getValue();
+        }
+        inventoryJdbcRepository.addQuantities(ids, deltas);
+        eventPublisher.publishEvent(new InventoryChangedEvent(changes));
+        return outcomes;
+    }
+
+    /**
+     * 재고가 아직 없는 받는 창고 중 실제로 존재하는 창고 ID (조회 1회)
+     */
+    private Set<Long> findNewDestinationWarehouses(Line[] lines, Map<StockKey, InventoryStockRow> locked) {
+        Set<Long> warehouseIds = new HashSet<>();
+        for (Line line : lines) {
+            if (line != null && !locked.containsKey(line.to())) {
+                warehouseIds.add(line.to().warehouseId());
+            }
+        }
+        if (warehouseIds.isEmpty()) {
+            return warehouseIds;
+        }
+        return warehouseRepository.findAllById(warehouseIds).stream()
+                .map(WarehouseEntity::getWarehouseId)
+                .collect(Collectors.toSet());
+    }
+
+    private boolean isHot(InventoryStockRow row) {
+        return row != null && hotStockEngine.isPresent() && hotStockEngine.get().handles(row.getInventoryId());
+    }
+
+    private static StockKey keyOf(InventoryStockRow row) {
+        return new StockKey(row.getProductId(), row.getWarehouseId());
+    }
+
+    private static InventoryChange change(InventoryStockRow row, int delta, int quantity, MovementSource source,
+                                          String reason, LocalDateTime occurredAt) {
+        return InventoryChange.builder()
+                .inventoryId(row.getInventoryId())
+                .productId(row.getProductId())
+                .warehouseId(row.getWarehouseId())
+                .delta(delta)
+                .quantity(quantity)
+                .source(source)
+                .reason(reason)
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import org.example.wms.dto.list.WarehouseListDTO;
 import org.example.wms.entity.WarehouseEntity;
 import org.example.wms.repository.WarehouseRepository;
 import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,6 +22,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class WarehouseService {
     private final WarehouseRepository warehouseRepository;
     private final IdEncryptionUtil idEncryptionUtil;
+    private final InventoryHistoryService inventoryHistoryService;
+    private final PublicIdService publicIdService;
     //--------------------------------생성-------------------------------------------------
 
     /**
@@ -37,7 +40,8 @@ public class WarehouseService {
                 .build();
 
         WarehouseEntity saved = warehouseRepository.saveAndFlush(entity);
-        return WarehouseInfoDTO.of(saved, idEncryptionUtil);
+        inventoryHistoryService.createBaseline(saved.getWarehouseId());
+        return WarehouseInfoDTO.of(saved, idEncryptionUtil, publicIdService.isEnabled());
     }
 
     //--------------------------------조회-------------------------------------------------
@@ -48,10 +52,19 @@ public class WarehouseService {
      * @throws IllegalArgumentException 창고를 찾을 수 없는 경우
      */
     public WarehouseInfoDTO getWarehouse(String encryptedId){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        return getWarehouse(publicIdService.resolve(encryptedId, IdKind.WAREHOUSE));
+    }
+
+    /**
+     * 창고 단건 조회 (복호화된 ID)
+     * @param id 창고 ID
+     * @return 창고 상세 정보
+     * @throws IllegalArgumentException 창고를 찾을 수 없는 경우
+     */
+    public WarehouseInfoDTO getWarehouse(Long id){
         WarehouseEntity entity = warehouseRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("창고를 찾을 수 없습니다."));
-        return WarehouseInfoDTO.of(entity, idEncryptionUtil);
+        return WarehouseInfoDTO.of(entity, idEncryptionUtil, publicIdService.isEnabled());
     }
 
     /**
@@ -61,7 +74,7 @@ public class WarehouseService {
      */
     public Page<WarehouseListDTO> getAllWarehouses(Pageable pageable){
         Page<WarehouseEntity> page = warehouseRepository.findAll(pageable);
-        return WarehouseListDTO.of(page, idEncryptionUtil);
+        return WarehouseListDTO.of(page, idEncryptionUtil, publicIdService.isEnabled());
     }
 
     /**
@@ -72,7 +85,7 @@ public class WarehouseService {
      */
     public Page<WarehouseListDTO> searchByName(String name, Pageable pageable){
         Page<WarehouseEntity> page = warehouseRepository.findByNameContaining(name, pageable);
-        return  WarehouseListDTO.of(page, idEncryptionUtil);
+        return WarehouseListDTO.of(page, idEncryptionUtil, publicIdService.isEnabled());
     }
 
     /**
@@ -83,7 +96,18 @@ public class WarehouseService {
      */
     public Page<WarehouseListDTO> searchByLocation(String location, Pageable pageable){
         Page<WarehouseEntity> page = warehouseRepository.findByLocationContaining(location, pageable);
-        return   WarehouseListDTO.of(page, idEncryptionUtil);
+        return WarehouseListDTO.of(page, idEncryptionUtil, publicIdService.isEnabled());
+    }
+
+    /**
+     * 총 재고량 기준으로 창고 검색
+     * @param minQuantity 최소 재고량
+     * @param pageable 페이지 정보
+     * @return 총 재고량이 최소 재고량 이상인 창고 목록
+     */
+    public Page<WarehouseListDTO> searchByTotalQuantity(Long minQuantity, Pageable pageable){
+        Page<WarehouseEntity> page = warehouseRepository.findByTotalQuantityGreaterThanEqual(minQuantity, pageable);
+        return WarehouseListDTO.of(page, idEncryptionUtil, publicIdService.isEnabled());
     }
 
     //--------------------------------수정-------------------------------------------------
@@ -95,7 +119,17 @@ public class WarehouseService {
      */
     @Transactional
     public void updateWarehouse(String encryptedId, WarehouseUpdateRequest request){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        updateWarehouse(publicIdService.resolve(encryptedId, IdKind.WAREHOUSE), request);
+    }
+
+    /**
+     * 창고 정보 수정 (복호화된 ID)
+     * @param id 창고 ID
+     * @param request 수정할 정보
+     * @throws IllegalArgumentException 창고를 찾을 수 없는 경우
+     */
+    @Transactional
+    public void updateWarehouse(Long id, WarehouseUpdateRequest request){
         WarehouseEntity entity = warehouseRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("창고를 찾을 수 없습니다."));
 
@@ -118,7 +152,17 @@ public class WarehouseService {
      */
     @Transactional
     public void deleteWarehouse(String encryptedId){
-        Long id = idEncryptionUtil.decrypt(encryptedId);
+        deleteWarehouse(publicIdService.resolve(encryptedId, IdKind.WAREHOUSE));
+    }
+
+    /**
+     * 창고 삭제 (복호화된 ID)
+     * @param id 창고 ID
+     * @throws IllegalArgumentException 창고를 찾을 수 없는 경우
+     * @throws DataIntegrityViolationException 연관된 재고가 있는 경우
+     */
+    @Transactional
+    public void deleteWarehouse(Long id){
         WarehouseEntity entity = warehouseRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("창고를 찾을 수 없습니다."));
         warehouseRepository.delete(entity);
@@ -0,0 +1,285 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.WarehouseStockDelta;
+import org.example.wms.repository.WarehouseStockTotalsJdbcRepository;
+import org.example.wms.repository.WarehouseStockTotalsRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 창고별 재고 합계(총 수량, SKU 수, 수량이 0인 SKU 수) 갱신기
+ * 재고 변경 트랜잭션은 합계 행을 잠그지 않음 (같은 창고의 모든 쓰기가 합계 행 하나의 잠금에 줄 서지 않도록)
+ * - 커밋된 변경만 창고별 변화량으로 메모리에 합산하고, 주기적으로 창고 ID 오름차순 JDBC 배치 한 번으로 누적
+ *   (합계는 최대 flush-interval-ms 만큼 늦게 반영되며, 반영에 실패하면 다음 주기에 누적분과 함께 다시 반영)
+ * - 핫 재고 엔진이 관리하는 재고는 엔진이 DB에 반영할 때 같은 트랜잭션에서 누적
+ * - 주기적으로 창고 ID 묶음 단위로 inventory를 다시 집계하여 차이가 있으면 보정
+ *   (커밋 전이거나 반영 대기 중인 변경이 있는 창고는 건너뛰고 다음 재계산에서 확인)
+ *
+ * 메트릭
+ * - wms.warehouse-totals.drift: 재계산 시 보정된 창고 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarehouseStockTotalsUpdater {
+
+    private final WarehouseStockTotalsJdbcRepository totalsJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Optional<HotStockEngine> hotStockEngine;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.warehouse.totals.reconcile-chunk-size:500}")
+    private int reconcileChunkSize;
+
+    private final Map<Long, PendingTotals> pending = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+    private Counter driftCounter;
+
+    @PostConstruct
+    void start() {
+        driftCounter = Counter.builder("wms.warehouse-totals.drift").register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    /**
+     * 재고 변경을 창고별 변화량으로 합산하여 커밋 후 반영 대기 목록에 추가 (롤백된 변경은 버림)
+     * 트랜잭션 밖에서 발행된 변경은 바로 반영 대기 목록에 추가
+     */
+    @EventListener
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        List<InventoryChange> changes = event.getChanges();
+        if (hotStockEngine.isPresent()) {
+            changes = changes.stream()
+                    .filter(change -> !hotStockEngine.get().handles(change.getInventoryId()))
+                    .toList();
+        }
+        List<WarehouseStockDelta> deltas = WarehouseStockDelta.aggregate(changes);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deltas.forEach(delta -> totals(delta.getWarehouseId()).add(delta));
+            return;
+        }
+
+        // 커밋 전에는 진행 중으로만 표시 (재계산이 커밋 직후의 창고를 보정하지 않도록)
+        deltas.forEach(delta -> totals(delta.getWarehouseId()).begin());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                for (WarehouseStockDelta delta : deltas) {
+                    totals(delta.getWarehouseId()).complete(status == STATUS_COMMITTED ? delta : null);
+                }
+            }
+        });
+    }
+
+    /**
+     * 반영 대기 중인 변화량을 창고 ID 오름차순으로 한 트랜잭션에 누적
+     */
+    @Scheduled(fixedDelayString = "${app.warehouse.totals.flush-interval-ms:200}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<WarehouseStockDelta> deltas = new ArrayList<>();
+            for (Long warehouseId : new TreeSet<>(pending.keySet())) {
+                WarehouseStockDelta delta = pending.get(warehouseId).take(warehouseId);
+                if (delta != null) {
+                    deltas.add(delta);
+                }
+            }
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(tx -> totalsJdbcRepository.applyDeltas(deltas));
+            } catch (Exception e) {
+                deltas.forEach(delta -> totals(delta.getWarehouseId()).add(delta));
+                log.error("창고별 재고 합계 반영 실패 ({}개 창고), 다음 주기에 재시도합니다.", deltas.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 주기적인 합계 재계산
+     */
+    @Scheduled(fixedDelayString = "${app.warehouse.totals.reconcile-interval-ms:3600000}",
+            initialDelayString = "${app.warehouse.totals.reconcile-interval-ms:3600000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (IllegalStateException e) {
+            log.debug("창고별 재고 합계 재계산 건너뜀: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 창고의 합계를 inventory 집계와 비교하여 보정
+     * @return 보정한 창고 수
+     * @throws IllegalStateException 이미 재계산 중인 경우
+     */
+    public int reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            throw new IllegalStateException("창고별 재고 합계 재계산이 이미 실행 중입니다.");
+        }
+        try {
+            long start = System.nanoTime();
+            int checked = 0;
+            int corrected = 0;
+            long lastWarehouseId = 0;
+            while (true) {
+                List<Long> warehouseIds = totalsJdbcRepository.findWarehouseIdsAfter(lastWarehouseId,
+                        reconcileChunkSize);
+                if (warehouseIds.isEmpty()) {
+                    break;
+                }
+                corrected += reconcileChunk(warehouseIds);
+                checked += warehouseIds.size();
+                lastWarehouseId = warehouseIds.get(warehouseIds.size() - 1);
+            }
+
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            if (corrected > 0) {
+                log.warn("창고별 재고 합계 재계산: {}개 창고 중 {}개 보정, {}ms", checked, corrected, elapsedMs);
+            } else {
+                log.info("창고별 재고 합계 재계산: {}개 창고 일치, {}ms", checked, elapsedMs);
+            }
+            return corrected;
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    /**
+     * 창고 ID 묶음 재계산
+     * 반영을 멈춘 상태에서 대기분을 먼저 누적하고, 변경이 없는 창고의 버전을 기록한 뒤 한 트랜잭션에서
+     * 합계 행 잠금 → inventory 집계 → 그 사이 버전이 바뀌지 않은 창고만 교체
+     * (합계 행을 먼저 잠그므로 핫 재고 엔진의 반영은 대기하고, 집계는 잠금 이후 시점을 읽음)
+     */
+    private int reconcileChunk(List<Long> warehouseIds) {
+        synchronized (flushLock) {
+            flush();
+            Map<Long, Long> versions = new HashMap<>();
+            for (Long warehouseId : warehouseIds) {
+                PendingTotals totals = pending.get(warehouseId);
+                if (totals == null) {
+                    versions.put(warehouseId, 0L);
+                } else if (totals.idle()) {
+                    versions.put(warehouseId, totals.version());
+                }
+            }
+
+            Integer corrected = transactionTemplate.execute(tx -> {
+                Map<Long, WarehouseStockTotalsRow> recorded = totalsJdbcRepository.lockTotals(versions.keySet());
+                Map<Long, WarehouseStockTotalsRow> actual = totalsJdbcRepository.aggregateInventory(versions.keySet());
+
+                List<WarehouseStockTotalsRow> corrections = new ArrayList<>();
+                for (Long warehouseId : new TreeSet<>(versions.keySet())) {
+                    PendingTotals totals = pending.get(warehouseId);
+                    if (totals != null && (!totals.idle() || totals.version() != versions.get(warehouseId))) {
+                        continue;  // 집계 중 변경이 시작된 창고
+                    }
+                    WarehouseStockTotalsRow current = recorded.get(warehouseId);
+                    WarehouseStockTotalsRow expected = actual.getOrDefault(warehouseId,
+                            new WarehouseStockTotalsRow(warehouseId, 0, 0, 0));
+                    boolean drifted = current == null
+                            ? expected.getTotalQuantity() != 0 || expected.getSkuCount() != 0
+                            : !current.sameTotals(expected);
+                    if (drifted) {
+                        corrections.add(expected);
+                    }
+                }
+                totalsJdbcRepository.overwrite(corrections);
+                return corrections.size();
+            });
+            int count = corrected == null ? 0 : corrected;
+            driftCounter.increment(count);
+            return count;
+        }
+    }
+
+    private PendingTotals totals(long warehouseId) {
+        return pending.computeIfAbsent(warehouseId, id -> new PendingTotals());
+    }
+
+    /**
+     * 창고별 반영 대기 변화량
+     * version: 변경이 시작되거나 변화량이 추가될 때마다 증가 (재계산 중 변경 감지용)
+     */
+    private static final class PendingTotals {
+        private long quantityDelta;
+        private int skuCountDelta;
+        private int zeroStockSkuCountDelta;
+        private int inflight;  // 커밋 전인 트랜잭션 수
+        private long version;
+
+        synchronized void begin() {
+            inflight++;
+            version++;
+        }
+
+        synchronized void complete(WarehouseStockDelta committed) {
+            inflight--;
+            if (committed != null) {
+                add(committed);
+            }
+        }
+
+        synchronized void add(WarehouseStockDelta delta) {
+            quantityDelta += delta.getQuantityDelta();
+            skuCountDelta += delta.getSkuCountDelta();
+            zeroStockSkuCountDelta += delta.getZeroStockSkuCountDelta();
+            version++;
+        }
+
+        /**
+         * 대기 변화량을 꺼내고 초기화
+         * @return 변화량 (없으면 null)
+         */
+        synchronized WarehouseStockDelta take(long warehouseId) {
+            if (quantityDelta == 0 && skuCountDelta == 0 && zeroStockSkuCountDelta == 0) {
+                return null;
+            }
+            WarehouseStockDelta delta = new WarehouseStockDelta(warehouseId, quantityDelta, skuCountDelta,
+                    zeroStockSkuCountDelta);
+            quantityDelta = 0;
+            skuCountDelta = 0;
+            zeroStockSkuCountDelta = 0;
+            return delta;
+        }
+
+        synchronized boolean idle() {
+            return inflight == 0 && quantityDelta == 0 && skuCountDelta == 0 && zeroStockSkuCountDelta == 0;
+        }
+
+        synchronized long version() {
+            return version;
+        }
+    }
+}
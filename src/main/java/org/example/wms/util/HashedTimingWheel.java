@@ -0,0 +1,165 @@
+package org.example.wms.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠
+ * 만료 시각을 tick 단위 버킷에 나누어 담고, 전용 스레드가 tick마다 현재 버킷만 확인
+ * 등록/취소는 O(1)이며, 만료 확인 비용이 전체 타이머 수와 무관함
+ * 만료 콜백은 휠 스레드에서 실행되므로 오래 걸리는 작업을 하면 안 됨
+ *
+ * @param <T> 타이머에 연결할 값 타입
+ */
+@Slf4j
+public class HashedTimingWheel<T> implements AutoCloseable {
+
+    private final long tickNanos;
+    private final Queue<Timeout<T>>[] buckets;
+    private final int mask;
+    private final Consumer<T> onExpire;
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startNanos;
+    private volatile boolean running = true;
+    private long tick;  // 휠 스레드에서만 접근
+
+    /**
+     * 등록된 타이머 (취소 가능)
+     */
+    public static final class Timeout<T> {
+        private final T value;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(T value, long deadlineNanos) {
+            this.value = value;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        /**
+         * 타이머 취소 (만료 콜백이 호출되지 않음)
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * @param name 휠 스레드 이름
+     * @param tickDuration tick 간격
+     * @param unit tick 간격 단위
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     * @param onExpire 만료 콜백
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickDuration, TimeUnit unit, int wheelSize, Consumer<T> onExpire) {
+        if (tickDuration <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick 간격과 버킷 수는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        if (size <= 0) {
+            size = 1;
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.mask = size - 1;
+        this.onExpire = onExpire;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 타이머 등록
+     * @param value 만료 시 콜백에 전달할 값
+     * @param delay 만료까지 남은 시간
+     * @param unit 시간 단위
+     * @return 취소 가능한 타이머
+     */
+    public Timeout<T> schedule(T value, long delay, TimeUnit unit) {
+        Timeout<T> timeout = new Timeout<>(value, System.nanoTime() - startNanos + unit.toNanos(Math.max(0, delay)));
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            transferPendingTimeouts();
+            expire(buckets[(int) (tick & mask)], deadline);
+            tick++;
+        }
+    }
+
+    /**
+     * 새로 등록된 타이머를 만료 시각에 해당하는 버킷으로 이동
+     */
+    private void transferPendingTimeouts() {
+        Timeout<T> timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long expireTick = Math.max(timeout.deadlineNanos / tickNanos, tick);
+            timeout.remainingRounds = (expireTick - tick) / buckets.length;
+            buckets[(int) (expireTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(Queue<Timeout<T>> bucket, long deadline) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0 && timeout.deadlineNanos <= deadline) {
+                iterator.remove();
+                try {
+                    onExpire.accept(timeout.value);
+                } catch (RuntimeException e) {
+                    // 콜백 예외가 휠 스레드를 중단시키지 않도록 기록만 함
+                    log.warn("타이머 만료 콜백 실패: {}", timeout.value, e);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+}
@@ -1,38 +1,185 @@
 package org.example.wms.util;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 
 /**
  * 엔티티 ID 암호화/복호화 유틸리티
- * AES 대칭키 암호화를 사용하여 클라이언트에 노출되는 ID를 안전하게 처리
+ * 대칭키 암호화를 사용하여 클라이언트에 노출되는 ID를 안전하게 처리
+ *
+ * 토큰 형식 (v2, 12글자): 키 ID 1글자 + Base64(URL, 패딩 없음) 11글자
+ * - ID 48비트 + 검사 비트 16비트를 64비트 블록 암호(Blowfish) 한 블록으로 암호화 (10진수 문자열/패딩/파싱 없음)
+ * - 검사 비트는 키마다 다른 값으로 ID를 섞어 만들며, 복호화 후 일치하지 않으면 거절
+ *   (임의로 만든 토큰이 유효한 ID로 복호화될 확률은 1/65536, 조회 전에 400으로 거절됨)
+ * - Base64 마지막 글자의 남는 2비트가 0이 아닌 토큰도 거절하므로 ID마다 유효한 토큰은 하나뿐
+ * - 키 ID로 어떤 키로 만든 토큰인지 구분하므로 키 교체 중에는 여러 키를 함께 복호화에 사용
+ *   (새 토큰은 활성 키로만 발급, 이전 키는 목록에 남겨 두는 동안 계속 복호화됨)
+ * - 같은 ID라도 키마다 토큰이 다르므로, 키 교체 후 클라이언트가 보관한 토큰은 이전 키를 제거할 때까지만 유효
+ *
+ * 이전 형식 (v1, 22/43글자): AES로 ID의 10진수 문자열을 암호화
+ * - 마이그레이션 기간에는 복호화만 지원 (legacy-decode-enabled=false로 종료)
+ *
+ * 초기화된 Cipher와 작업 버퍼를 스레드마다 두고 재사용 (ECB는 doFinal 후 초기화 직후 상태로 돌아감)
  */
 @Component
 public class IdEncryptionUtil {
 
-    private static final String ALGORITHM = "AES";
-    private final SecretKeySpec secretKey;
+    private static final String TOKEN_ALGORITHM = "Blowfish";
+    private static final String TOKEN_TRANSFORMATION = "Blowfish/ECB/NoPadding";
+    private static final int TOKEN_BLOCK_SIZE = 8;
+    private static final int TOKEN_LENGTH = 12;                             // 키 ID 1글자 + 8바이트의 Base64 11글자
+    private static final int TOKEN_ID_BYTES = 6;                            // 앞 6바이트 = ID, 뒤 2바이트 = 검사 비트
+    public static final long MAX_TOKEN_ID = (1L << (TOKEN_ID_BYTES * 8)) - 1;
+    private static final String DEFAULT_KEY_ID = "1";
 
-    public IdEncryptionUtil(@Value("${app.encryption.secret-key}") String secretKeyString) {
+    private static final String LEGACY_ALGORITHM = "AES";
+    private static final int LEGACY_BLOCK_SIZE = 16;
+    private static final int LEGACY_MAX_DIGITS = 20;                        // "-9223372036854775808"
+    private static final int LEGACY_MAX_CIPHER_LENGTH = 2 * LEGACY_BLOCK_SIZE;
+    private static final int LEGACY_MAX_ENCODED_LENGTH = 44;                // 32바이트의 Base64 길이 (패딩 포함)
+
+    private static final byte[] BASE64_URL =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] BASE64_URL_VALUES = new int[128];
+
+    static {
+        Arrays.fill(BASE64_URL_VALUES, -1);
+        for (int i = 0; i < BASE64_URL.length; i++) {
+            BASE64_URL_VALUES[BASE64_URL[i]] = i;
+        }
+    }
+
+    private final SecretKeySpec[] tokenKeys = new SecretKeySpec[128];   // 키 ID 글자 → 키
+    private final long[] checkSalts = new long[128];                      // 키 ID 글자 → 검사 비트용 값 (키에서 유도)
+    private final char activeKeyId;
+    private final SecretKeySpec legacyKey;
+    private final boolean legacyDecodeEnabled;
+    private final ThreadLocal<CipherContext> contexts = new ThreadLocal<>();
+
+    /**
+     * 키 하나로 사용 (키 ID "1" = secret-key, 이전 형식도 같은 키로 복호화)
+     */
+    public IdEncryptionUtil(String secretKeyString) {
+        this(secretKeyString, "", DEFAULT_KEY_ID, true);
+    }
+
+    /**
+     * @param secretKeyString 이전 형식(v1) 토큰의 AES 키, keys가 비어 있으면 키 ID "1"의 키로도 사용
+     * @param keys 토큰 키 목록 ("키ID=키" 쉼표 구분, 키 ID는 영문/숫자 1글자)
+     * @param activeKeyId 새 토큰을 발급할 키 ID
+     * @param legacyDecodeEnabled 이전 형식 토큰 복호화 여부 (마이그레이션 기간)
+     */
+    @Autowired
+    public IdEncryptionUtil(@Value("${app.encryption.secret-key}") String secretKeyString,
+                            @Value("${app.encryption.keys:}") String keys,
+                            @Value("${app.encryption.active-key-id:" + DEFAULT_KEY_ID + "}") String activeKeyId,
+                            @Value("${app.encryption.legacy-decode-enabled:true}") boolean legacyDecodeEnabled) {
+        this.legacyKey = new SecretKeySpec(validKey(secretKeyString), LEGACY_ALGORITHM);
+        this.legacyDecodeEnabled = legacyDecodeEnabled;
+        if (keys == null || keys.isBlank()) {
+            registerKey(DEFAULT_KEY_ID, secretKeyString);
+        } else {
+            for (String entry : keys.split(",")) {
+                int separator = entry.indexOf('=');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("암호화 키는 '키ID=키' 형식이어야 합니다.");
+                }
+                registerKey(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim());
+            }
+        }
+        this.activeKeyId = keyIdOf(activeKeyId);
+        if (tokenKeys[this.activeKeyId] == null) {
+            throw new IllegalArgumentException("활성 키 ID에 해당하는 암호화 키가 없습니다: " + activeKeyId);
+        }
+    }
+
+    private void registerKey(String keyId, String secret) {
+        char id = keyIdOf(keyId);
+        if (tokenKeys[id] != null) {
+            throw new IllegalArgumentException("중복된 암호화 키 ID: " + keyId);
+        }
+        byte[] key = validKey(secret);
+        tokenKeys[id] = new SecretKeySpec(key, TOKEN_ALGORITHM);
+        checkSalts[id] = checkSalt(key);
+    }
+
+    /**
+     * 키에서 검사 비트용 값 유도 (SHA-256의 앞 8바이트, 키를 모르면 검사 비트를 맞출 수 없음)
+     */
+    private static long checkSalt(byte[] key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update("wms-id-check".getBytes(StandardCharsets.US_ASCII));
+            byte[] hash = digest.digest(key);
+            long salt = 0;
+            for (int i = 0; i < 8; i++) {
+                salt = (salt << 8) | (hash[i] & 0xFF);
+            }
+            return salt;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * ID의 검사 비트 16비트 (키별 값과 섞은 뒤 SplitMix64 마무리 함수로 확산)
+     */
+    private static int checkBits(long id, long salt) {
+        long z = id ^ salt;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (int) (z >>> 48);
+    }
+
+    private static char keyIdOf(String keyId) {
+        if (keyId == null || keyId.length() != 1 || !isAsciiLetterOrDigit(keyId.charAt(0))) {
+            throw new IllegalArgumentException("암호화 키 ID는 영문/숫자 1글자여야 합니다: " + keyId);
+        }
+        return keyId.charAt(0);
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static byte[] validKey(String secret) {
         // 16, 24, 32 바이트 키만 허용 (AES-128, AES-192, AES-256)
-        byte[] key = secretKeyString.getBytes(StandardCharsets.UTF_8);
+        byte[] key = secret.getBytes(StandardCharsets.UTF_8);
         if (key.length != 16 && key.length != 24 && key.length != 32) {
             throw new IllegalArgumentException(
                     "암호화 키는 16, 24, 또는 32 바이트여야 합니다. 현재: " + key.length + " 바이트"
             );
         }
-        this.secretKey = new SecretKeySpec(key, ALGORITHM);
+        return key;
+    }
+
+    /**
+     * 스레드 전용 Cipher와 작업 버퍼 (다른 스레드와 공유하지 않음, Cipher는 처음 쓸 때 생성)
+     */
+    private static final class CipherContext {
+        private final Cipher[] encryptCiphers = new Cipher[128];
+        private final Cipher[] decryptCiphers = new Cipher[128];
+        private Cipher legacyDecryptCipher;
+        private final byte[] block = new byte[LEGACY_MAX_CIPHER_LENGTH];
+        private final byte[] output = new byte[LEGACY_MAX_CIPHER_LENGTH];
+        private final byte[] encoded = new byte[TOKEN_LENGTH];
     }
 
     /**
      * Long ID를 암호화된 문자열로 변환
-     * @param id 엔티티 ID
-     * @return Base64로 인코딩된 암호화 문자열
+     * @param id 엔티티 ID (0 ~ {@link #MAX_TOKEN_ID})
+     * @return 활성 키로 암호화한 토큰
+     * @throws RuntimeException ID가 토큰으로 표현할 수 있는 범위를 벗어난 경우
      */
     public String encrypt(Long id) {
         if (id == null) {
@@ -40,18 +187,41 @@ public class IdEncryptionUtil {
         }
 
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            byte[] encrypted = cipher.doFinal(id.toString().getBytes(StandardCharsets.UTF_8));
-            return Base64.getUrlEncoder().withoutPadding().encodeToString(encrypted);
+            return encrypt(context(), id);
         } catch (Exception e) {
+            contexts.remove();
             throw new RuntimeException("ID 암호화 실패: " + id, e);
         }
     }
 
+    /**
+     * 여러 ID를 한 번에 암호화 (목록 변환용, 스레드 전용 Cipher를 한 번만 찾음)
+     * @param ids 엔티티 ID 배열
+     * @return 같은 순서의 암호화 문자열 배열
+     */
+    public String[] encryptAll(long[] ids) {
+        String[] result = new String[ids.length];
+        if (ids.length == 0) {
+            return result;
+        }
+
+        CipherContext context = context();
+        int i = 0;
+        try {
+            for (; i < ids.length; i++) {
+                // 정렬된 목록에서 반복되는 ID(같은 창고 등)는 다시 암호화하지 않음
+                result[i] = i > 0 && ids[i] == ids[i - 1] ? result[i - 1] : encrypt(context, ids[i]);
+            }
+            return result;
+        } catch (Exception e) {
+            contexts.remove();
+            throw new RuntimeException("ID 암호화 실패: " + ids[i], e);
+        }
+    }
+
     /**
      * 암호화된 문자열을 Long ID로 복호화
-     * @param encryptedId Base64로 인코딩된 암호화 문자열
+     * @param encryptedId 토큰 (현재 형식 또는 마이그레이션 기간의 이전 형식)
      * @return 원본 ID
      */
     public Long decrypt(String encryptedId) {
@@ -60,13 +230,15 @@ public class IdEncryptionUtil {
         }
 
         try {
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            byte[] decoded = Base64.getUrlDecoder().decode(encryptedId);
-            byte[] decrypted = cipher.doFinal(decoded);
-            String decryptedString = new String(decrypted, StandardCharsets.UTF_8);
-            return Long.parseLong(decryptedString);
+            if (encryptedId.length() == TOKEN_LENGTH) {
+                return decryptToken(context(), encryptedId);
+            }
+            if (!legacyDecodeEnabled) {
+                throw new IllegalArgumentException("지원하지 않는 ID 형식입니다.");
+            }
+            return decryptLegacy(context(), encryptedId);
         } catch (Exception e) {
+            contexts.remove();
             throw new RuntimeException("ID 복호화 실패: " + encryptedId, e);
         }
     }
@@ -77,11 +249,203 @@ public class IdEncryptionUtil {
      * @return 유효하면 true
      */
     public boolean isValid(String encryptedId) {
+        return decryptIfValid(encryptedId) != null;
+    }
+
+    /**
+     * 유효한 암호화 ID만 복호화 (검증과 복호화를 한 번에)
+     * @param encryptedId 암호화 ID
+     * @return 원본 ID (없거나 복호화할 수 없거나 0 이하이면 null)
+     */
+    public Long decryptIfValid(String encryptedId) {
         try {
             Long id = decrypt(encryptedId);
-            return id != null && id > 0;
+            return id != null && id > 0 ? id : null;
         } catch (Exception e) {
-            return false;
+            return null;
+        }
+    }
+
+    private CipherContext context() {
+        CipherContext context = contexts.get();
+        if (context == null) {
+            context = new CipherContext();
+            contexts.set(context);
+        }
+        return context;
+    }
+
+    private String encrypt(CipherContext context, long id) throws GeneralSecurityException {
+        if (id < 0 || id > MAX_TOKEN_ID) {
+            throw new IllegalArgumentException("토큰으로 표현할 수 없는 ID입니다: " + id);
+        }
+        Cipher cipher = context.encryptCiphers[activeKeyId];
+        if (cipher == null) {
+            cipher = tokenCipher(Cipher.ENCRYPT_MODE, tokenKeys[activeKeyId]);
+            context.encryptCiphers[activeKeyId] = cipher;
+        }
+        int check = checkBits(id, checkSalts[activeKeyId]);
+        context.block[TOKEN_ID_BYTES] = (byte) (check >>> 8);
+        context.block[TOKEN_ID_BYTES + 1] = (byte) check;
+        for (int i = TOKEN_ID_BYTES - 1; i >= 0; i--) {
+            context.block[i] = (byte) id;
+            id >>>= 8;
+        }
+        cipher.doFinal(context.block, 0, TOKEN_BLOCK_SIZE, context.output, 0);
+        context.encoded[0] = (byte) activeKeyId;
+        int length = 1 + encode(context.output, TOKEN_BLOCK_SIZE, context.encoded, 1);
+        return new String(context.encoded, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private long decryptToken(CipherContext context, String token) throws GeneralSecurityException {
+        char keyId = token.charAt(0);
+        SecretKeySpec key = keyId < tokenKeys.length ? tokenKeys[keyId] : null;
+        if (key == null) {
+            throw new IllegalArgumentException("알 수 없는 암호화 키 ID: " + keyId);
+        }
+        Cipher cipher = context.decryptCiphers[keyId];
+        if (cipher == null) {
+            cipher = tokenCipher(Cipher.DECRYPT_MODE, key);
+            context.decryptCiphers[keyId] = cipher;
+        }
+        if (decode(token, 1, token.length(), context.block) != TOKEN_BLOCK_SIZE) {
+            throw new IllegalArgumentException("토큰 길이가 올바르지 않습니다.");
+        }
+        cipher.doFinal(context.block, 0, TOKEN_BLOCK_SIZE, context.output, 0);
+        long id = 0;
+        for (int i = 0; i < TOKEN_ID_BYTES; i++) {
+            id = (id << 8) | (context.output[i] & 0xFF);
+        }
+        int check = (context.output[TOKEN_ID_BYTES] & 0xFF) << 8 | (context.output[TOKEN_ID_BYTES + 1] & 0xFF);
+        if (check != checkBits(id, checkSalts[keyId])) {
+            throw new IllegalArgumentException("토큰 검사 비트가 일치하지 않습니다.");
+        }
+        return id;
+    }
+
+    private static Cipher tokenCipher(int mode, SecretKeySpec key) throws GeneralSecurityException {
+        Cipher cipher = Cipher.getInstance(TOKEN_TRANSFORMATION);
+        cipher.init(mode, key);
+        return cipher;
+    }
+
+    /**
+     * 이전 형식 복호화 (AES, 10진수 문자열)
+     */
+    private long decryptLegacy(CipherContext context, String encryptedId) throws GeneralSecurityException {
+        // 암호화 결과보다 긴 문자열은 디코딩 전에 거절
+        if (encryptedId.length() > LEGACY_MAX_ENCODED_LENGTH) {
+            throw new IllegalArgumentException("암호문 길이 초과: " + encryptedId.length());
+        }
+        int decodedLength = decode(encryptedId, 0, encryptedId.length(), context.block);
+        if (decodedLength == 0 || decodedLength % LEGACY_BLOCK_SIZE != 0) {
+            throw new IllegalArgumentException("암호문 길이가 블록 크기의 배수가 아닙니다.");
+        }
+        if (context.legacyDecryptCipher == null) {
+            Cipher cipher = Cipher.getInstance(LEGACY_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, legacyKey);
+            context.legacyDecryptCipher = cipher;
+        }
+        int plainLength = context.legacyDecryptCipher.doFinal(context.block, 0, decodedLength, context.output, 0);
+        return parseLong(context.output, plainLength);
+    }
+
+    /**
+     * Base64 URL 인코딩 (패딩 없음, Base64.getUrlEncoder().withoutPadding()과 같은 결과)
+     * @return 기록한 글자 수
+     */
+    private static int encode(byte[] source, int length, byte[] target, int offset) {
+        int position = offset;
+        int i = 0;
+        for (; i + 3 <= length; i += 3) {
+            int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8 | (source[i + 2] & 0xFF);
+            target[position++] = BASE64_URL[bits >>> 18];
+            target[position++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            target[position++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            target[position++] = BASE64_URL[bits & 0x3F];
+        }
+        if (i < length) {
+            int bits = (source[i] & 0xFF) << 16 | (i + 1 < length ? (source[i + 1] & 0xFF) << 8 : 0);
+            target[position++] = BASE64_URL[bits >>> 18];
+            target[position++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            if (i + 1 < length) {
+                target[position++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            }
+        }
+        return position - offset;
+    }
+
+    /**
+     * Base64 URL 디코딩 (끝의 패딩은 있어도 되고 없어도 됨)
+     * 마지막 글자의 남는 비트가 0이 아니면 거절 (같은 바이트열을 나타내는 다른 문자열을 받지 않음)
+     * @return 기록한 바이트 수
+     * @throws IllegalArgumentException Base64 URL 문자가 아니거나 길이가 올바르지 않거나 정규 형식이 아닌 경우
+     */
+    private static int decode(String source, int from, int to, byte[] target) {
+        int end = to;
+        while (end > from && source.charAt(end - 1) == '=') {
+            end--;
+        }
+        int length = end - from;
+        int padding = to - end;
+        int remainder = length % 4;
+        if (remainder == 1 || padding > 2 || (padding > 0 && (to - from) % 4 != 0)) {
+            throw new IllegalArgumentException("Base64 길이가 올바르지 않습니다.");
+        }
+        if (length / 4 * 3 + (remainder == 0 ? 0 : remainder - 1) > target.length) {
+            throw new IllegalArgumentException("암호문 길이 초과: " + (to - from));
+        }
+        int position = 0;
+        int bits = 0;
+        int count = 0;
+        for (int i = from; i < end; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64_URL_VALUES[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("Base64 URL 문자가 아닙니다: " + c);
+            }
+            bits = bits << 6 | value;
+            if (++count == 4) {
+                target[position++] = (byte) (bits >> 16);
+                target[position++] = (byte) (bits >> 8);
+                target[position++] = (byte) bits;
+                bits = 0;
+                count = 0;
+            }
+        }
+        if ((count == 3 && (bits & 0x3) != 0) || (count == 2 && (bits & 0xF) != 0)) {
+            throw new IllegalArgumentException("Base64 마지막 글자의 남는 비트가 0이 아닙니다.");
+        }
+        if (count == 3) {
+            target[position++] = (byte) (bits >> 10);
+            target[position++] = (byte) (bits >> 2);
+        } else if (count == 2) {
+            target[position++] = (byte) (bits >> 4);
+        }
+        return position;
+    }
+
+    /**
+     * 복호화한 10진수 바이트를 Long으로 변환 (Long.parseLong과 같은 규칙, 이전 형식 전용)
+     */
+    private static long parseLong(byte[] buffer, int length) {
+        if (length == 0 || length > LEGACY_MAX_DIGITS) {
+            throw new NumberFormatException("숫자 길이가 올바르지 않습니다: " + length);
+        }
+        boolean negative = buffer[0] == '-';
+        int start = negative || buffer[0] == '+' ? 1 : 0;
+        if (start == length) {
+            throw new NumberFormatException("숫자가 없습니다.");
+        }
+        // 음수 범위에서 누적하여 Long.MIN_VALUE까지 표현
+        long result = 0;
+        for (int i = start; i < length; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("숫자가 아닌 문자가 있습니다.");
+            }
+            result = Math.subtractExact(Math.multiplyExact(result, 10), digit);
         }
+        return negative ? result : Math.negateExact(result);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package org.example.wms.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 ID가 가리키는 엔티티 종류
+ * 공개 ID는 종류 글자가 같은 종류(창고/재고)에서만 받으며, 공개 ID가 없는 종류(상품, 제조사, 예약)는 암호화 ID만 받음
+ * (다른 종류의 공개 ID로 조회한 내부 ID가 이 종류의 ID로 쓰이지 않도록 함)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum IdKind {
+    PRODUCT(null, "상품을 찾을 수 없습니다."),
+    MANUFACTURER(null, "제조사를 찾을 수 없습니다."),
+    WAREHOUSE(PublicIds.WAREHOUSE, "창고를 찾을 수 없습니다."),
+    INVENTORY(PublicIds.INVENTORY, "재고를 찾을 수 없습니다."),
+    RESERVATION(null, "예약을 찾을 수 없습니다.");
+
+    private final Character publicIdPrefix;  // 공개 ID가 없는 종류는 null
+    private final String notFoundMessage;
+
+    /**
+     * 이 종류의 공개 ID 형식인지 확인 (존재 여부는 확인하지 않음)
+     * @param id 입력 ID
+     * @return 공개 ID 형식이고 종류 글자가 이 종류와 같으면 true
+     */
+    public boolean isPublicId(String id) {
+        return publicIdPrefix != null && PublicIds.isPublicId(id) && id.charAt(0) == publicIdPrefix;
+    }
+}
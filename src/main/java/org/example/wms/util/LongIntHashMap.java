@@ -0,0 +1,110 @@
+package org.example.wms.util;
+
+import java.util.Arrays;
+
+/**
+ * long 키 → int 값 해시 맵 (열린 주소법, 선형 탐사)
+ * 키/값을 기본형 배열에 그대로 저장하므로 조회 시 박싱이나 객체 생성이 없음
+ * 삭제는 지원하지 않으며 (전체를 다시 만들어 교체), 스레드 안전하지 않음
+ * 다 만든 뒤 volatile 참조로 공개하면 여러 스레드에서 읽기 전용으로 사용할 수 있음
+ */
+public class LongIntHashMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;  // 빈 칸 표시 (키로 사용할 수 없음)
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * @param expectedSize 예상 항목 수 (넘으면 자동으로 늘어남)
+     */
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * 값 조회
+     * @param key 키
+     * @param defaultValue 키가 없을 때 돌려줄 값
+     * @return 저장된 값 또는 defaultValue
+     */
+    public int get(long key, int defaultValue) {
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    public boolean containsKey(long key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 값 저장 (이미 있으면 교체)
+     * @throws IllegalArgumentException 키가 Long.MIN_VALUE인 경우
+     */
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Long.MIN_VALUE는 키로 사용할 수 없습니다.");
+        }
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int indexOf(long key) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slot(long key) {
+        // 연속된 ID가 한쪽에 몰리지 않도록 비트를 섞음 (murmur3 fmix64)
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.wms.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기 제한 LRU 캐시 (스레드 안전)
+ * 가장 오래 사용되지 않은 항목부터 제거하며, 조회/저장은 O(1)
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LruCache<K, V> {
+
+    private final Map<K, V> entries;
+
+    /**
+     * @param maxSize 최대 항목 수
+     */
+    public LruCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 0보다 커야 합니다.");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.wms.util;
+
+import java.security.SecureRandom;
+
+/**
+ * 공개 ID (행마다 저장하는 외부 노출용 무작위 ID)
+ * - 형식: 종류 1글자(W: 창고, I: 재고) + 무작위 90비트를 Base64 URL로 표현한 15글자 = 16글자 고정
+ *   (암호화 ID(12/22/43글자)와 길이가 달라 입력 ID의 형식을 길이로 구분)
+ * - 생성 시 발급하며 변경하지 않음, 응답에 쓸 때 암호화 연산이 필요 없음
+ */
+public final class PublicIds {
+
+    public static final int LENGTH = 16;
+    public static final char WAREHOUSE = 'W';
+    public static final char INVENTORY = 'I';
+
+    private static final int RANDOM_CHARS = LENGTH - 1;
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private PublicIds() {
+    }
+
+    /**
+     * 새 창고 공개 ID 발급
+     */
+    public static String newWarehouseId() {
+        return generate(WAREHOUSE);
+    }
+
+    /**
+     * 새 재고 공개 ID 발급
+     */
+    public static String newInventoryId() {
+        return generate(INVENTORY);
+    }
+
+    /**
+     * 공개 ID 형식인지 확인 (존재 여부는 확인하지 않음)
+     * @param id 입력 ID
+     * @return 16글자이고 종류 글자와 Base64 URL 문자로만 이루어졌으면 true
+     */
+    public static boolean isPublicId(String id) {
+        if (id == null || id.length() != LENGTH || (id.charAt(0) != WAREHOUSE && id.charAt(0) != INVENTORY)) {
+            return false;
+        }
+        for (int i = 1; i < LENGTH; i++) {
+            char c = id.charAt(i);
+            if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '-' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 응답용 ID 일괄 변환: 공개 ID가 있는 행은 그대로, 없는 행(일괄 발급 전)만 암호화
+     * @param publicIds 행별 공개 ID (없으면 null)
+     * @param ids 행별 내부 ID
+     * @param encryptionUtil 암호화 유틸리티
+     * @return 행별 응답용 ID
+     */
+    public static String[] orEncrypted(String[] publicIds, long[] ids, IdEncryptionUtil encryptionUtil) {
+        int missing = 0;
+        for (String publicId : publicIds) {
+            if (publicId == null) {
+                missing++;
+            }
+        }
+        if (missing == 0) {
+            return publicIds;
+        }
+
+        long[] missingIds = new long[missing];
+        for (int i = 0, m = 0; i < ids.length; i++) {
+            if (publicIds[i] == null) {
+                missingIds[m++] = ids[i];
+            }
+        }
+        String[] encrypted = encryptionUtil.encryptAll(missingIds);
+        String[] result = publicIds.clone();
+        for (int i = 0, m = 0; i < result.length; i++) {
+            if (result[i] == null) {
+                result[i] = encrypted[m++];
+            }
+        }
+        return result;
+    }
+
+    private static String generate(char kind) {
+        // 6비트씩 15글자 (nextLong 두 번에서 90비트 사용)
+        long high = RANDOM.nextLong();
+        long low = RANDOM.nextLong();
+        char[] chars = new char[LENGTH];
+        chars[0] = kind;
+        for (int i = 1; i <= 10; i++) {
+            chars[i] = ALPHABET[(int) (high & 0x3F)];
+            high >>>= 6;
+        }
+        for (int i = 11; i < LENGTH; i++) {
+            chars[i] = ALPHABET[(int) (low & 0x3F)];
+            low >>>= 6;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,252 @@
+package org.example.wms.util;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 재고 변경 선행 기록(write-ahead) 저널
+ * 메모리 매핑된 세그먼트 파일에 고정 길이(16바이트) 레코드를 추가만 함
+ * 레코드: inventoryId(8) + delta(4) + version(4), inventoryId가 0이면 세그먼트 끝
+ *
+ * 추가(append)는 락 없이 위치만 원자적으로 예약하며,
+ * 회전(rotate) 시에는 이전 세그먼트에 진행 중인 쓰기가 끝날 때까지 기다린 뒤 반환함
+ * 기록은 페이지 캐시에 남으므로 프로세스 장애에는 안전하고, OS 장애 대비는 {@link #force()} 주기에 따름
+ */
+public class StockJournal implements AutoCloseable {
+
+    public static final int RECORD_BYTES = 16;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final Deque<Segment> segments = new ConcurrentLinkedDeque<>();
+    private volatile Segment current;
+    private long nextSegmentNumber;
+
+    /**
+     * 저널 레코드 소비자 (복구용)
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+        void accept(long inventoryId, int delta, int version);
+    }
+
+    public StockJournal(Path directory, int segmentBytes) throws IOException {
+        if (segmentBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("세그먼트 크기는 " + RECORD_BYTES + " 바이트 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes - (segmentBytes % RECORD_BYTES);
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            this.nextSegmentNumber = files.map(this::segmentNumber)
+                    .filter(number -> number >= 0)
+                    .max(Long::compare)
+                    .orElse(-1L) + 1;
+        }
+    }
+
+    /**
+     * 디스크에 남아 있는 모든 세그먼트의 레코드를 기록 순서대로 읽음 (시작 시 복구용)
+     * @param consumer 레코드 소비자
+     */
+    public void replay(RecordConsumer consumer) throws IOException {
+        for (Path file : existingSegmentFiles()) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    long inventoryId = buffer.getLong();
+                    int delta = buffer.getInt();
+                    int version = buffer.getInt();
+                    if (inventoryId == 0) {
+                        break;
+                    }
+                    consumer.accept(inventoryId, delta, version);
+                }
+            }
+        }
+    }
+
+    /**
+     * 디스크에 남아 있는 모든 세그먼트 삭제 (복구 반영 완료 후)
+     */
+    public void deleteExistingSegments() throws IOException {
+        for (Path file : existingSegmentFiles()) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 새 세그먼트를 열어 기록 시작
+     */
+    public synchronized void open() throws IOException {
+        if (current == null) {
+            current = newSegment();
+            segments.addLast(current);
+        }
+    }
+
+    /**
+     * 레코드 추가
+     * @param inventoryId 재고 ID (0보다 커야 함)
+     * @param delta 수량 변화량
+     * @param version 재고별 변경 버전
+     */
+    public void append(long inventoryId, int delta, int version) {
+        while (true) {
+            Segment segment = current;
+            segment.inflight.incrementAndGet();
+            if (segment != current) {
+                // 회전과 경합한 경우 새 세그먼트로 재시도
+                segment.inflight.decrementAndGet();
+                continue;
+            }
+            int position = segment.position.getAndAdd(RECORD_BYTES);
+            if (position + RECORD_BYTES > segmentBytes) {
+                segment.inflight.decrementAndGet();
+                rotateIfCurrent(segment);
+                continue;
+            }
+            try {
+                MappedByteBuffer buffer = segment.buffer;
+                // inventoryId를 마지막에 기록하여 부분 기록된 레코드가 유효 레코드로 읽히지 않도록 함
+                buffer.putInt(position + 8, delta);
+                buffer.putInt(position + 12, version);
+                buffer.putLong(position, inventoryId);
+                return;
+            } finally {
+                segment.inflight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 새 세그먼트로 전환
+     * 반환 시점에는 반환된 번호 이전 세그먼트들의 모든 쓰기가 끝나 있음
+     * @return 전환 후 세그먼트 번호 (이후 {@link #deleteBefore(long)}에 전달)
+     */
+    public long rotate() {
+        Segment marker = rotateIfCurrent(current);
+        for (Segment segment : segments) {
+            if (segment == marker) {
+                break;
+            }
+            awaitWriters(segment);
+        }
+        return marker.number;
+    }
+
+    /**
+     * 지정한 번호 이전의 세그먼트 삭제 (DB 반영이 끝난 세그먼트)
+     * @param segmentNumber {@link #rotate()}가 반환한 세그먼트 번호
+     */
+    public void deleteBefore(long segmentNumber) throws IOException {
+        Segment segment;
+        while ((segment = segments.peekFirst()) != null
+                && segment != current && segment.number < segmentNumber) {
+            segments.pollFirst();
+            segment.close();
+            Files.deleteIfExists(segment.file);
+        }
+    }
+
+    /**
+     * 열려 있는 세그먼트의 변경 내용을 디스크에 강제 기록
+     */
+    public void force() {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (Segment segment : segments) {
+            awaitWriters(segment);
+            segment.buffer.force();
+            segment.close();
+        }
+    }
+
+    private synchronized Segment rotateIfCurrent(Segment expected) {
+        if (current != expected) {
+            return current;
+        }
+        try {
+            Segment next = newSegment();
+            segments.addLast(next);
+            current = next;
+            return next;
+        } catch (IOException e) {
+            throw new IllegalStateException("재고 저널 세그먼트를 생성할 수 없습니다.", e);
+        }
+    }
+
+    private void awaitWriters(Segment segment) {
+        while (segment.inflight.get() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private Segment newSegment() throws IOException {
+        long number = nextSegmentNumber++;
+        Path file = directory.resolve(SEGMENT_PREFIX + String.format("%019d", number) + SEGMENT_SUFFIX);
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        return new Segment(number, file, channel, buffer);
+    }
+
+    private List<Path> existingSegmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> result = new ArrayList<>(files.filter(file -> segmentNumber(file) >= 0).sorted().toList());
+            for (Segment segment : segments) {
+                result.remove(segment.file);
+            }
+            return result;
+        }
+    }
+
+    private long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Segment {
+        private final long number;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final AtomicInteger position = new AtomicInteger();
+        private final AtomicInteger inflight = new AtomicInteger();
+
+        private Segment(long number, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.number = number;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+-- ============================================================================
+-- WMS 스키마 변경 스크립트
+-- spring.jpa.hibernate.ddl-auto=validate 이므로 애플리케이션 실행 전에 순서대로 적용
+-- ============================================================================
+
+-- 재고 이동 원장 (추가 전용)
+CREATE TABLE inventory_movements (
+    movement_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    inventory_id       BIGINT       NOT NULL,
+    warehouse_id       BIGINT       NOT NULL,
+    delta              INT          NOT NULL,
+    resulting_quantity INT          NOT NULL,
+    source             VARCHAR(20)  NOT NULL,
+    reason             VARCHAR(200) NULL,
+    created_at         DATETIME(6)  NOT NULL,
+    PRIMARY KEY (movement_id),
+    INDEX idx_movement_inventory (inventory_id, movement_id),
+    INDEX idx_movement_warehouse (warehouse_id, movement_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 핫 재고 엔진 저널 체크포인트 (재고별로 DB에 반영된 마지막 저널 버전)
+CREATE TABLE hot_stock_checkpoints (
+    inventory_id    BIGINT NOT NULL,
+    journal_version INT    NOT NULL,
+    PRIMARY KEY (inventory_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 활성 재고 예약 (확정/해제/만료 시 삭제, 시작 시 메모리로 적재)
+CREATE TABLE inventory_reservations (
+    reservation_id BIGINT      NOT NULL AUTO_INCREMENT,
+    inventory_id   BIGINT      NOT NULL,
+    quantity       INT         NOT NULL,
+    expires_at     DATETIME(6) NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (reservation_id),
+    INDEX idx_reservation_expires_at (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 재고 낙관적 락 버전
+ALTER TABLE inventory
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- 입출고 멱등성 키 (입출고와 같은 트랜잭션에서 기록, 만료 후 삭제)
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(100) NOT NULL,
+    operation       VARCHAR(50)  NOT NULL,
+    response_body   TEXT         NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    expires_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (idempotency_key),
+    INDEX idx_idempotency_expires_at (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 상품별 재고 요약 (재고 변경과 같은 트랜잭션에서 변화량으로 누적, 주기적으로 재계산)
+CREATE TABLE product_stock_summary (
+    product_id       BIGINT      NOT NULL,
+    total_quantity   BIGINT      NOT NULL,
+    warehouse_count  INT         NOT NULL,
+    last_movement_at DATETIME(6) NULL,
+    updated_at       DATETIME(6) NOT NULL,
+    PRIMARY KEY (product_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 기존 재고로 초기값 적재
+INSERT INTO product_stock_summary (product_id, total_quantity, warehouse_count, last_movement_at, updated_at)
+SELECT i.product_id, SUM(i.quantity), SUM(i.quantity > 0), MAX(i.updated_at), NOW(6)
+FROM inventory i
+GROUP BY i.product_id;
+
+-- 창고별 재고 합계 (커밋된 재고 변경을 모아 주기적으로 변화량으로 누적, 총 재고량 검색은 인덱스 범위 조회)
+CREATE TABLE warehouse_stock_totals (
+    warehouse_id         BIGINT      NOT NULL,
+    total_quantity       BIGINT      NOT NULL,
+    sku_count            INT         NOT NULL,
+    zero_stock_sku_count INT         NOT NULL,
+    updated_at           DATETIME(6) NOT NULL,
+    PRIMARY KEY (warehouse_id),
+    INDEX idx_warehouse_totals_quantity (total_quantity)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 기존 재고로 초기값 적재 (재고가 없는 창고도 0으로 생성)
+INSERT INTO warehouse_stock_totals (warehouse_id, total_quantity, sku_count, zero_stock_sku_count, updated_at)
+SELECT w.warehouse_id, COALESCE(SUM(i.quantity), 0), COUNT(i.inventory_id), COALESCE(SUM(i.quantity = 0), 0), NOW(6)
+FROM warehouses w
+LEFT JOIN inventory i ON w.warehouse_id = i.warehouse_id
+GROUP BY w.warehouse_id;
+
+-- 재고 상태 (수량으로 계산하는 STORED 생성 컬럼, 부족 기준 수량은 StockStatus.DEFAULT_LOW_THRESHOLD와 같음)
+-- 모든 쓰기 경로(JPA, JDBC 배치, 핫 재고 반영)에서 DB가 함께 갱신하므로 별도 동기화가 필요 없음
+-- 상태별 목록은 (창고, 상태, 수량) 인덱스 범위 조회로 수량순 정렬까지 처리 (테이블 재작성이 필요한 변경)
+ALTER TABLE inventory
+    ADD COLUMN stock_status VARCHAR(12) AS (
+        CASE
+            WHEN quantity <= 0 THEN 'OUT_OF_STOCK'
+            WHEN quantity <= 10 THEN 'LOW'
+            ELSE 'SUFFICIENT'
+        END) STORED NOT NULL,
+    ADD INDEX idx_inventory_status (stock_status, quantity),
+    ADD INDEX idx_inventory_warehouse_status (warehouse_id, stock_status, quantity);
+
+-- 상품별 부족 기준 수량 (warehouse_id = 0은 상품 기본값, 그 외는 창고별 재정의)
+CREATE TABLE stock_thresholds (
+    product_id    BIGINT      NOT NULL,
+    warehouse_id  BIGINT      NOT NULL DEFAULT 0,
+    low_threshold INT         NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (product_id, warehouse_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 재고 행마다 적용 중인 부족 기준 수량을 함께 저장하고 재고 상태 계산식이 이를 사용하도록 변경
+-- (생성 시 기준 수량을 기록하고, 기준 변경 시 해당 상품/창고의 재고 행만 일괄 갱신)
+ALTER TABLE inventory
+    ADD COLUMN low_threshold INT NOT NULL DEFAULT 10,
+    MODIFY COLUMN stock_status VARCHAR(12) AS (
+        CASE
+            WHEN quantity <= 0 THEN 'OUT_OF_STOCK'
+            WHEN quantity <= low_threshold THEN 'LOW'
+            ELSE 'SUFFICIENT'
+        END) STORED NOT NULL;
+
+-- 재고 이력 (재고 변경과 같은 트랜잭션에서 재고별 변화량만 기록, 기록 시각은 재고 행을 잠근 상태의 DB 시각)
+CREATE TABLE inventory_history (
+    history_id   BIGINT      NOT NULL AUTO_INCREMENT,
+    warehouse_id BIGINT      NOT NULL,
+    inventory_id BIGINT      NOT NULL,
+    product_id   BIGINT      NOT NULL,
+    delta        INT         NOT NULL,
+    recorded_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (history_id),
+    INDEX idx_history_warehouse_recorded (warehouse_id, recorded_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 창고별 재고 스냅샷 (시점 조회는 해당 시점 이전의 가장 최근 스냅샷 + 이후 이력 재생)
+CREATE TABLE inventory_snapshots (
+    snapshot_id  BIGINT      NOT NULL AUTO_INCREMENT,
+    warehouse_id BIGINT      NOT NULL,
+    taken_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (snapshot_id),
+    INDEX idx_snapshot_warehouse_taken (warehouse_id, taken_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE inventory_snapshot_items (
+    snapshot_id  BIGINT NOT NULL,
+    inventory_id BIGINT NOT NULL,
+    product_id   BIGINT NOT NULL,
+    quantity     INT    NOT NULL,
+    PRIMARY KEY (snapshot_id, inventory_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 이력 시작 시점의 기준 스냅샷 (애플리케이션을 멈춘 상태에서 적용, 이 시각 이전은 조회할 수 없음)
+INSERT INTO inventory_snapshots (warehouse_id, taken_at)
+SELECT w.warehouse_id, NOW(6) FROM warehouses w;
+
+INSERT INTO inventory_snapshot_items (snapshot_id, inventory_id, product_id, quantity)
+SELECT s.snapshot_id, i.inventory_id, i.product_id, i.quantity
+FROM inventory_snapshots s
+JOIN inventory i ON i.warehouse_id = s.warehouse_id
+WHERE i.quantity <> 0;
+
+-- 창고/재고 공개 ID (외부 노출용 무작위 16글자, 생성 시 발급하며 변경하지 않음)
+-- 대소문자를 구분해야 하므로 ascii_bin, 기존 행은 app.public-id.enabled=true로 실행하면 묶음 단위로 일괄 발급
+-- (모두 발급된 뒤 NOT NULL로 변경 가능: SELECT COUNT(*) ... WHERE public_id IS NULL 이 0인지 확인)
+ALTER TABLE warehouses
+    ADD COLUMN public_id VARCHAR(16) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER warehouse_id,
+    ADD UNIQUE INDEX uk_warehouses_public_id (public_id);
+
+ALTER TABLE inventory
+    ADD COLUMN public_id VARCHAR(16) CHARACTER SET ascii COLLATE ascii_bin NULL AFTER inventory_id,
+    ADD UNIQUE INDEX uk_inventory_public_id (public_id);
+
+-- 창고 재고 잠금 순서용 인덱스 (InnoDB 보조 인덱스는 기본 키를 포함하므로 (창고 ID, 재고 ID) 순)
+-- 재고 실사가 창고의 재고 행을 정렬 없이 재고 ID 오름차순으로 잠가 재고 이동/주문 출고와 잠금 순서가 같음
+ALTER TABLE inventory
+    ADD INDEX idx_inventory_warehouse (warehouse_id);
+
+-- 스냅샷과 이력의 경계를 기록 시각 대신 이력 ID로 지정 (같은 시각의 이력이나 시계 보정에 영향받지 않음)
+-- 기존 스냅샷은 스냅샷 시각까지 기록된 이 창고의 마지막 이력 ID로 채움
+ALTER TABLE inventory_snapshots
+    ADD COLUMN last_history_id BIGINT NOT NULL DEFAULT 0;
+
+UPDATE inventory_snapshots s
+SET s.last_history_id = (
+    SELECT COALESCE(MAX(h.history_id), 0) FROM inventory_history h
+    WHERE h.warehouse_id = s.warehouse_id AND h.recorded_at <= s.taken_at);
+
+ALTER TABLE inventory_history
+    ADD INDEX idx_history_warehouse_id (warehouse_id, history_id);
+
+-- 멱등성 키에 요청 본문 해시 기록 (같은 키를 다른 본문으로 다시 사용하면 최초 응답 대신 422)
+-- 기존 키는 null로 두고 만료될 때까지 작업 이름만 비교
+ALTER TABLE idempotency_keys
+    ADD COLUMN request_hash VARCHAR(64) NULL AFTER operation;
@@ -0,0 +1,116 @@
+package org.example.wms.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크 공통 유틸리티
+ * 여러 스레드에서 같은 작업을 반복 실행하고 처리량(ops/s)과 지연 시간 분포를 출력
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * 스레드 번호와 반복 번호를 받는 벤치마크 작업
+     */
+    @FunctionalInterface
+    interface Operation {
+        void run(int thread, int iteration) throws Exception;
+    }
+
+    /**
+     * 측정 결과
+     */
+    record Result(String name, long operations, long failures, double opsPerSecond,
+                  double p50Micros, double p99Micros) {
+
+        void print() {
+            System.out.printf("[benchmark] %-40s %,12.0f ops/s  p50=%,10.1fus  p99=%,10.1fus  ops=%,d  failures=%,d%n",
+                    name, opsPerSecond, p50Micros, p99Micros, operations, failures);
+        }
+    }
+
+    /**
+     * 워밍업 후 측정
+     * @param name 결과 이름
+     * @param threads 동시 실행 스레드 수
+     * @param iterations 스레드당 반복 횟수
+     * @param operation 측정할 작업 (예외는 실패로 집계)
+     * @return 측정 결과
+     */
+    static Result measure(String name, int threads, int iterations, Operation operation) throws InterruptedException {
+        run(threads, Math.max(1, iterations / 10), operation, null);
+        long[][] latencies = new long[threads][iterations];
+        AtomicLong failures = new AtomicLong();
+        long elapsed = run(threads, iterations, (thread, iteration) -> {
+            long start = System.nanoTime();
+            try {
+                operation.run(thread, iteration);
+            } catch (Exception e) {
+                failures.incrementAndGet();
+            }
+            latencies[thread][iteration] = System.nanoTime() - start;
+        }, failures);
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        long operations = (long) threads * iterations;
+        Result result = new Result(name, operations, failures.get(),
+                operations / (elapsed / 1_000_000_000.0),
+                percentile(all, 0.50) / 1_000.0,
+                percentile(all, 0.99) / 1_000.0);
+        result.print();
+        return result;
+    }
+
+    private static long run(int threads, int iterations, Operation operation, AtomicLong failures)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        try {
+                            operation.run(thread, i);
+                        } catch (Exception e) {
+                            if (failures != null) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        return elapsed;
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.wms.benchmark;
+
+import org.example.wms.entity.InventoryEntity;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.repository.InventoryRepository;
+import org.example.wms.service.HotStockEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 핫 재고 처리량 비교
+ * 같은 재고 한 행에 입고/출고를 번갈아 요청할 때
+ * 1) 엔티티 조회 + saveAndFlush, 2) 조건부 UPDATE, 3) 핫 재고 엔진, 4) 트랜잭션 안의 핫 재고 엔진 처리량을 비교
+ * 실행: ./gradlew benchmark --tests "*HotStockEngineBenchmark"
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.inventory.hot-engine.enabled=true",
+        "app.inventory.hot-engine.inventory-ids=" + HotStockEngineBenchmark.INVENTORY_ID,
+        "app.inventory.hot-engine.journal-dir=build/benchmark/stock-journal",
+        "spring.jpa.show-sql=false"
+})
+class HotStockEngineBenchmark {
+
+    static final long INVENTORY_ID = 1L;
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 2_000;
+
+    @Autowired
+    private InventoryRepository inventoryRepository;
+    @Autowired
+    private HotStockEngine hotStockEngine;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("saveAndFlush / 조건부 UPDATE / 핫 재고 엔진 처리량 비교")
+    void compareThroughput() throws InterruptedException {
+        BenchmarkSupport.measure("saveAndFlush (read-modify-write)", THREADS, ITERATIONS, (thread, i) ->
+                transactionTemplate.executeWithoutResult(tx -> {
+                    InventoryEntity entity = inventoryRepository.findById(INVENTORY_ID).orElseThrow();
+                    if (i % 2 == 0) {
+                        entity.addQuantity(1);
+                    } else {
+                        entity.removeQuantity(1);
+                    }
+                    inventoryRepository.saveAndFlush(entity);
+                }));
+
+        BenchmarkSupport.measure("conditional UPDATE", THREADS, ITERATIONS, (thread, i) ->
+                transactionTemplate.executeWithoutResult(tx -> {
+                    if (i % 2 == 0) {
+                        inventoryRepository.increaseQuantity(INVENTORY_ID, 1);
+                    } else {
+                        inventoryRepository.decreaseQuantity(INVENTORY_ID, 1, 0);
+                    }
+                }));
+
+        BenchmarkSupport.measure("hot stock engine", THREADS, ITERATIONS, (thread, i) ->
+                hotStockEngine.apply(INVENTORY_ID, i % 2 == 0 ? 1 : -1, 0,
+                        i % 2 == 0 ? MovementSource.STOCK_IN : MovementSource.STOCK_OUT, null));
+
+        // 서비스 경로와 같이 트랜잭션 안에서 호출 (롤백 보상 등록 비용 포함)
+        BenchmarkSupport.measure("hot stock engine (in transaction)", THREADS, ITERATIONS, (thread, i) ->
+                transactionTemplate.executeWithoutResult(tx -> hotStockEngine.apply(INVENTORY_ID,
+                        i % 2 == 0 ? 1 : -1, 0,
+                        i % 2 == 0 ? MovementSource.STOCK_IN : MovementSource.STOCK_OUT, null)));
+        hotStockEngine.flush();
+    }
+}
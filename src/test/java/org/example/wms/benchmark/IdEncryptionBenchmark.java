@@ -0,0 +1,78 @@
+package org.example.wms.benchmark;
+
+import org.example.wms.util.IdEncryptionUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * ID 암호화 비용 (목록 한 페이지 = 500행)
+ * 이전 형식(v1: AES + 10진수 문자열, 22글자)과 현재 형식(v2: 8바이트 한 블록 + 키 ID, 12글자)의 암호화/복호화 비교
+ * v1 암호화는 더 이상 발급하지 않으므로 여기서 Cipher 하나를 재사용하여 직접 만듦
+ * DB 없이 유틸리티만 측정하므로 SpringBootTest를 사용하지 않음
+ * 실행: ./gradlew benchmark --tests "*IdEncryptionBenchmark"
+ */
+@Tag("benchmark")
+class IdEncryptionBenchmark {
+
+    private static final String SECRET_KEY = "MySecretKey12345";
+    private static final int PAGE_SIZE = 500;
+    private static final int PAGES = 2_000;
+
+    @Test
+    @DisplayName("500행 페이지 ID 암호화/복호화: v1(AES 10진수) / v2(8바이트 한 블록)")
+    void compareFormats() throws Exception {
+        IdEncryptionUtil util = new IdEncryptionUtil(SECRET_KEY);
+        Cipher legacy = Cipher.getInstance("AES");
+        legacy.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(SECRET_KEY.getBytes(StandardCharsets.UTF_8), "AES"));
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        long[][] pages = new long[PAGES][PAGE_SIZE];
+        for (int p = 0; p < PAGES; p++) {
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                pages[p][i] = 1_000_000L + (long) p * PAGE_SIZE + i;
+            }
+        }
+        String[] legacyTokens = new String[PAGE_SIZE];
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            legacyTokens[i] = encoder.encodeToString(
+                    legacy.doFinal(Long.toString(pages[0][i]).getBytes(StandardCharsets.UTF_8)));
+        }
+        String[] tokens = util.encryptAll(pages[0]);
+
+        report(BenchmarkSupport.measure("v1 encrypt page (cached AES Cipher)", 1, PAGES, (thread, p) -> {
+            for (long id : pages[p]) {
+                encoder.encodeToString(legacy.doFinal(Long.toString(id).getBytes(StandardCharsets.UTF_8)));
+            }
+        }));
+
+        report(BenchmarkSupport.measure("v2 encryptAll page", 1, PAGES, (thread, p) -> util.encryptAll(pages[p])));
+
+        report(BenchmarkSupport.measure("v1 decrypt page (migration path)", 1, PAGES, (thread, p) -> {
+            for (String token : legacyTokens) {
+                util.decrypt(token);
+            }
+        }));
+
+        report(BenchmarkSupport.measure("v2 decrypt page", 1, PAGES, (thread, p) -> {
+            for (String token : tokens) {
+                util.decrypt(token);
+            }
+        }));
+
+        report(BenchmarkSupport.measure("v2 encryptAll page (8 threads)", 8, PAGES, (thread, p) ->
+                util.encryptAll(pages[p])));
+
+        System.out.printf("[benchmark] token length: v1=%d, v2=%d%n", legacyTokens[0].length(), tokens[0].length());
+    }
+
+    private static void report(BenchmarkSupport.Result result) {
+        // 한 작업이 PAGE_SIZE개의 ID를 처리하므로 ID당 시간으로 환산 (스레드당)
+        System.out.printf("[benchmark] %-40s %,10.1f ns/id%n", result.name(),
+                result.p50Micros() * 1_000.0 / PAGE_SIZE);
+    }
+}
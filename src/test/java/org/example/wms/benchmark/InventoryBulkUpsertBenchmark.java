@@ -0,0 +1,64 @@
+package org.example.wms.benchmark;
+
+import org.example.wms.dto.crud.InventoryBulkUpsertRequest;
+import org.example.wms.dto.crud.InventoryBulkUpsertRequest.MergePolicy;
+import org.example.wms.dto.crud.InventoryCreateRequest;
+import org.example.wms.service.InventoryBulkService;
+import org.example.wms.util.IdEncryptionUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 일괄 등록 처리량 (rows/s)
+ * 상품 1..PRODUCTS를 창고 1에 ADD 정책, 수량 0으로 등록 (기존 수량은 바뀌지 않음)
+ * 1) 요청당 1행, 2) 요청당 ROWS_PER_REQUEST행
+ * 실행: ./gradlew benchmark --tests "*InventoryBulkUpsertBenchmark"
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class InventoryBulkUpsertBenchmark {
+
+    private static final long WAREHOUSE_ID = 1L;
+    private static final int PRODUCTS = 1_000;
+    private static final int ROWS_PER_REQUEST = 1_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private InventoryBulkService inventoryBulkService;
+    @Autowired
+    private IdEncryptionUtil idEncryptionUtil;
+
+    @Test
+    @DisplayName("요청당 1행 / 1000행 일괄 등록 처리량 비교")
+    void compareThroughput() throws InterruptedException {
+        String warehouseId = idEncryptionUtil.encrypt(WAREHOUSE_ID);
+        List<InventoryCreateRequest> rows = new ArrayList<>(ROWS_PER_REQUEST);
+        for (int i = 0; i < ROWS_PER_REQUEST; i++) {
+            rows.add(InventoryCreateRequest.builder()
+                    .encryptedProductId(idEncryptionUtil.encrypt(1L + i % PRODUCTS))
+                    .encryptedWarehouseId(warehouseId)
+                    .quantity(0)
+                    .build());
+        }
+
+        BenchmarkSupport.Result single = BenchmarkSupport.measure("bulk upsert (1 row/request)", 1,
+                ITERATIONS * 50, (thread, i) -> inventoryBulkService.upsert(
+                        new InventoryBulkUpsertRequest(MergePolicy.ADD, List.of(rows.get(i % rows.size())))));
+        printRowsPerSecond(single, 1);
+
+        BenchmarkSupport.Result bulk = BenchmarkSupport.measure("bulk upsert (" + ROWS_PER_REQUEST + " rows/request)", 1,
+                ITERATIONS, (thread, i) -> inventoryBulkService.upsert(
+                        new InventoryBulkUpsertRequest(MergePolicy.ADD, rows)));
+        printRowsPerSecond(bulk, ROWS_PER_REQUEST);
+    }
+
+    private static void printRowsPerSecond(BenchmarkSupport.Result result, int rowsPerRequest) {
+        System.out.printf("[benchmark] %-40s %,12.0f rows/s%n", result.name(), result.opsPerSecond() * rowsPerRequest);
+    }
+}
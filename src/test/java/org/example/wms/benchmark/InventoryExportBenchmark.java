@@ -0,0 +1,104 @@
+package org.example.wms.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.wms.repository.InventoryExportRow;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.service.InventoryExportService;
+import org.example.wms.service.PublicIdService;
+import org.example.wms.util.IdEncryptionUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 재고 내보내기 메모리 사용량 (500만 행, 힙 64MB)
+ * 커서 대신 행을 하나씩 만들어 넘기는 Repository로 서비스의 직렬화/버퍼링 경로만 측정 (출력은 버림)
+ * 행을 모으지 않으므로 힙 64MB에서 OOM 없이 끝나야 함 (MySQL 드라이버의 행 단위 스트리밍은 측정 대상이 아님)
+ * 실행: ./gradlew exportBenchmark (힙 64MB로 이 벤치마크만 실행)
+ */
+@Tag("benchmark")
+class InventoryExportBenchmark {
+
+    private static final int ROWS = 5_000_000;
+    private static final int SAMPLE_INTERVAL = 100_000;
+
+    @Test
+    @DisplayName("500만 행 NDJSON / CSV gzip 내보내기: 처리량과 최대 힙 사용량")
+    void streamFiveMillionRows() throws IOException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long[] peakHeap = new long[1];
+        InventoryJdbcRepository repository = mock(InventoryJdbcRepository.class);
+        doAnswer(invocation -> {
+            Consumer<InventoryExportRow> consumer = invocation.getArgument(2);
+            LocalDateTime updatedAt = LocalDateTime.of(2026, 1, 1, 9, 0);
+            for (int i = 1; i <= ROWS; i++) {
+                consumer.accept(new InventoryExportRow(i, null, 1_000L + i % 10_000, "상품 " + i % 10_000,
+                        1L + i % 20, null, "창고 " + (1 + i % 20), i % 500, 10,
+                        i % 500 == 0 ? "OUT_OF_STOCK" : "SUFFICIENT", updatedAt));
+                if (i % SAMPLE_INTERVAL == 0) {
+                    peakHeap[0] = Math.max(peakHeap[0], memory.getHeapMemoryUsage().getUsed());
+                }
+            }
+            return null;
+        }).when(repository).forEachExportRow(any(), any(), any());
+
+        IdEncryptionUtil idEncryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+        InventoryExportService service = new InventoryExportService(repository, idEncryptionUtil,
+                new PublicIdService(null, idEncryptionUtil, null), new ObjectMapper(), 1, 65_536);
+
+        System.out.printf("[benchmark] max heap: %,d MB%n", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        for (InventoryExportService.Format format : InventoryExportService.Format.values()) {
+            for (boolean gzip : new boolean[] {false, true}) {
+                peakHeap[0] = 0;
+                CountingOutputStream out = new CountingOutputStream();
+                long start = System.nanoTime();
+                service.export(null, null, format, gzip).writeTo(out);
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                if (!gzip) {
+                    long header = format == InventoryExportService.Format.CSV ? 1 : 0;
+                    assertEquals(ROWS, out.lines - header);
+                }
+                System.out.printf("[benchmark] %-6s gzip=%-5s %,12.0f rows/s  %,8.1f MB written  peak heap %,6.1f MB%n",
+                        format, gzip, ROWS / seconds, out.bytes / (1024.0 * 1024), peakHeap[0] / (1024.0 * 1024));
+            }
+        }
+    }
+
+    /**
+     * 출력을 버리고 바이트 수와 줄 수만 세는 스트림
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.wms.benchmark;
+
+import org.example.wms.service.OrderAllocator;
+import org.example.wms.service.OrderAllocator.Slot;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 주문 창고 할당 처리량
+ * 상품 50,000개 x 창고 40개 (상품당 평균 8개 창고에 재고) 카탈로그에서 200라인 주문을 할당
+ * DB 없이 할당기만 측정하므로 SpringBootTest를 사용하지 않음
+ * 실행: ./gradlew benchmark --tests "*OrderAllocationBenchmark"
+ */
+@Tag("benchmark")
+class OrderAllocationBenchmark {
+
+    private static final int PRODUCTS = 50_000;
+    private static final int WAREHOUSES = 40;
+    private static final int WAREHOUSES_PER_PRODUCT = 8;
+    private static final int ORDER_LINES = 200;
+    private static final int ORDERS = 1_000;
+
+    private static final Map<Long, List<Slot>> catalog = new HashMap<>();
+    private static final List<Map<Long, Integer>> orders = new ArrayList<>();
+
+    @BeforeAll
+    static void setUp() {
+        Random random = new Random(42);
+        long inventoryId = 1;
+        for (long productId = 1; productId <= PRODUCTS; productId++) {
+            // 상품-창고 조합은 재고 한 행 (중복 창고 없음)
+            List<Slot> slots = new ArrayList<>(WAREHOUSES_PER_PRODUCT);
+            boolean[] stocked = new boolean[WAREHOUSES + 1];
+            while (slots.size() < WAREHOUSES_PER_PRODUCT) {
+                int warehouseId = 1 + random.nextInt(WAREHOUSES);
+                if (!stocked[warehouseId]) {
+                    stocked[warehouseId] = true;
+                    slots.add(new Slot(inventoryId++, warehouseId, random.nextInt(50)));
+                }
+            }
+            catalog.put(productId, slots);
+        }
+        for (int o = 0; o < ORDERS; o++) {
+            Map<Long, Integer> order = new LinkedHashMap<>();
+            while (order.size() < ORDER_LINES) {
+                order.put(1L + random.nextInt(PRODUCTS), 1 + random.nextInt(10));
+            }
+            orders.add(order);
+        }
+    }
+
+    @Test
+    @DisplayName("200라인 주문 할당 처리량 (단일 스레드 / 8 스레드)")
+    void measureAllocation() throws InterruptedException {
+        OrderAllocator allocator = new OrderAllocator(new long[]{1, 2, 3});
+
+        BenchmarkSupport.measure("allocate 200 lines (1 thread)", 1, ORDERS, (thread, i) ->
+                allocator.allocate(orders.get(i), catalog::get));
+
+        BenchmarkSupport.measure("allocate 200 lines (8 threads)", 8, ORDERS, (thread, i) ->
+                allocator.allocate(orders.get(i), catalog::get));
+
+        long warehouses = 0;
+        for (Map<Long, Integer> order : orders) {
+            warehouses += allocator.allocate(order, catalog::get).warehouseCount();
+        }
+        System.out.printf("[benchmark] average warehouses per order: %.2f%n", (double) warehouses / ORDERS);
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.wms.benchmark;
+
+import org.example.wms.dto.list.InventoryListDTO;
+import org.example.wms.dto.list.WarehouseListDTO;
+import org.example.wms.entity.InventoryEntity;
+import org.example.wms.entity.ProductEntity;
+import org.example.wms.entity.WarehouseEntity;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.PublicIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 응답 변환 비용: 암호화 ID 모드 / 공개 ID 모드 (목록 한 페이지 = 500행)
+ * 엔티티 → DTO 변환만 측정하므로 DB 조회 비용은 포함하지 않음 (단일 스레드이므로 행당 시간 ≈ 행당 CPU 시간)
+ * - 공개 ID 모드 (일괄 발급 중): 10행 중 1행은 공개 ID가 없어 암호화
+ * DB 없이 DTO 변환만 측정하므로 SpringBootTest를 사용하지 않음
+ * 실행: ./gradlew benchmark --tests "*PublicIdBenchmark"
+ */
+@Tag("benchmark")
+class PublicIdBenchmark {
+
+    private static final int PAGE_SIZE = 500;
+    private static final int PAGES = 2_000;
+
+    @Test
+    @DisplayName("500행 창고/재고 목록 변환: 암호화 ID / 공개 ID / 공개 ID(일괄 발급 중)")
+    void compareModes() throws Exception {
+        IdEncryptionUtil util = new IdEncryptionUtil("MySecretKey12345");
+        List<Page<WarehouseEntity>> warehouses = new ArrayList<>();
+        List<Page<WarehouseEntity>> partialWarehouses = new ArrayList<>();
+        List<Page<InventoryEntity>> inventories = new ArrayList<>();
+        ProductEntity product = ProductEntity.builder().productId(1L).name("상품").build();
+        for (int p = 0; p < PAGES; p++) {
+            List<WarehouseEntity> warehouseRows = new ArrayList<>(PAGE_SIZE);
+            List<WarehouseEntity> partialRows = new ArrayList<>(PAGE_SIZE);
+            List<InventoryEntity> inventoryRows = new ArrayList<>(PAGE_SIZE);
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                long id = 1_000_000L + (long) p * PAGE_SIZE + i;
+                WarehouseEntity warehouse = warehouse(id, PublicIds.newWarehouseId());
+                warehouseRows.add(warehouse);
+                partialRows.add(warehouse(id, i % 10 == 0 ? null : warehouse.getPublicId()));
+                inventoryRows.add(InventoryEntity.builder()
+                        .inventoryId(id)
+                        .publicId(PublicIds.newInventoryId())
+                        .quantity(i)
+                        .lowThreshold(10)
+                        .product(product)
+                        .warehouse(warehouse)
+                        .build());
+            }
+            warehouses.add(new PageImpl<>(warehouseRows));
+            partialWarehouses.add(new PageImpl<>(partialRows));
+            inventories.add(new PageImpl<>(inventoryRows));
+        }
+
+        report(BenchmarkSupport.measure("warehouse list, encrypted ids", 1, PAGES, (thread, p) ->
+                WarehouseListDTO.of(warehouses.get(p), util, false).getContent()));
+
+        report(BenchmarkSupport.measure("warehouse list, public ids", 1, PAGES, (thread, p) ->
+                WarehouseListDTO.of(warehouses.get(p), util, true).getContent()));
+
+        report(BenchmarkSupport.measure("warehouse list, public ids (10% missing)", 1, PAGES, (thread, p) ->
+                WarehouseListDTO.of(partialWarehouses.get(p), util, true).getContent()));
+
+        report(BenchmarkSupport.measure("inventory list, encrypted ids", 1, PAGES, (thread, p) ->
+                InventoryListDTO.of(inventories.get(p), util, false).getContent()));
+
+        report(BenchmarkSupport.measure("inventory list, public ids", 1, PAGES, (thread, p) ->
+                InventoryListDTO.of(inventories.get(p), util, true).getContent()));
+    }
+
+    private static WarehouseEntity warehouse(long id, String publicId) {
+        return WarehouseEntity.builder()
+                .warehouseId(id)
+                .publicId(publicId)
+                .name("창고 " + id)
+                .location("서울")
+                .skuCount(10)
+                .totalQuantity(1_000L)
+                .zeroStockSkuCount(0)
+                .build();
+    }
+
+    private static void report(BenchmarkSupport.Result result) {
+        // 한 작업이 PAGE_SIZE개의 행을 변환하므로 행당 시간으로 환산
+        System.out.printf("[benchmark] %-45s %,10.1f ns/row%n", result.name(),
+                result.p50Micros() * 1_000.0 / PAGE_SIZE);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.wms.benchmark;
+
+import org.example.wms.dto.crud.StockInRequest;
+import org.example.wms.dto.crud.StockOutRequest;
+import org.example.wms.service.InventoryService;
+import org.example.wms.service.StockMovementCoalescer;
+import org.example.wms.util.IdEncryptionUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * 같은 재고 행에 몰리는 단건 입출고 처리량 비교
+ * 1) 요청마다 트랜잭션 (InventoryService), 2) 그룹 커밋 (StockMovementCoalescer)
+ * 결과의 ops/s는 반영된 입출고 요청 수, p99는 요청별 응답 지연
+ * 실행: ./gradlew benchmark --tests "*StockCoalescingBenchmark"
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.inventory.coalescing.enabled=true",
+        "app.inventory.coalescing.window-ms=3",
+        "spring.jpa.show-sql=false"
+})
+class StockCoalescingBenchmark {
+
+    private static final long INVENTORY_ID = 1L;
+    private static final int THREADS = 32;
+    private static final int ITERATIONS = 500;
+
+    @Autowired
+    private InventoryService inventoryService;
+    @Autowired
+    private StockMovementCoalescer stockMovementCoalescer;
+    @Autowired
+    private IdEncryptionUtil idEncryptionUtil;
+
+    @Test
+    @DisplayName("요청별 트랜잭션 / 그룹 커밋 처리량 비교")
+    void compareThroughput() throws InterruptedException {
+        String encryptedId = idEncryptionUtil.encrypt(INVENTORY_ID);
+        StockInRequest in = StockInRequest.builder()
+                .encryptedInventoryId(encryptedId).quantity(1).reason("benchmark").build();
+        StockOutRequest out = StockOutRequest.builder()
+                .encryptedInventoryId(encryptedId).quantity(1).reason("benchmark").build();
+
+        BenchmarkSupport.measure("transaction per request", THREADS, ITERATIONS, (thread, i) -> {
+            if (i % 2 == 0) {
+                inventoryService.stockIn(in);
+            } else {
+                inventoryService.stockOut(out);
+            }
+        });
+
+        BenchmarkSupport.measure("coalesced (3ms window)", THREADS, ITERATIONS, (thread, i) -> {
+            if (i % 2 == 0) {
+                stockMovementCoalescer.stockIn(in, null);
+            } else {
+                stockMovementCoalescer.stockOut(out, null);
+            }
+        });
+    }
+}
@@ -0,0 +1,134 @@
+package org.example.wms.service;
+
+import org.example.wms.entity.MovementSource;
+import org.example.wms.repository.InventoryHistoryJdbcRepository;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.repository.ProductStockSummaryJdbcRepository;
+import org.example.wms.repository.WarehouseStockTotalsJdbcRepository;
+import org.example.wms.util.StockJournal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class HotStockEngineTest {
+
+    private static final long INVENTORY_ID = 1L;
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    Path journalDir;
+
+    private InventoryJdbcRepository inventoryJdbcRepository;
+    private HotStockEngine engine;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        inventoryJdbcRepository = mock(InventoryJdbcRepository.class);
+        when(inventoryJdbcRepository.findHotCheckpoints()).thenReturn(Map.of());
+        when(inventoryJdbcRepository.findStockRows(anyCollection()))
+                .thenReturn(Map.of(INVENTORY_ID, new InventoryStockRow(INVENTORY_ID, 10L, 100L, 10)));
+
+        engine = new HotStockEngine(inventoryJdbcRepository, mock(ProductStockSummaryJdbcRepository.class),
+                mock(WarehouseStockTotalsJdbcRepository.class), mock(InventoryHistoryJdbcRepository.class),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(engine, "hotInventoryIds", new long[]{INVENTORY_ID});
+        ReflectionTestUtils.setField(engine, "journalDir", journalDir.toString());
+        ReflectionTestUtils.setField(engine, "journalSegmentBytes", SEGMENT_BYTES);
+        engine.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        engine.stop();
+    }
+
+    /**
+     * 트랜잭션 안에서 실행하고 주어진 결과로 완료 처리
+     */
+    private void inTransaction(int status, Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private long journalDeltaSum() throws Exception {
+        AtomicLong sum = new AtomicLong();
+        new StockJournal(journalDir, SEGMENT_BYTES).replay((inventoryId, delta, version) -> sum.addAndGet(delta));
+        return sum.get();
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 핫 재고 변경을 되돌리고 저널에 보상 레코드를 남긴다")
+    void testRollbackCompensates() throws Exception {
+        // When
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> engine.apply(INVENTORY_ID, -3, 0, MovementSource.STOCK_OUT, null));
+
+        // Then
+        assertEquals(10, engine.currentQuantity(INVENTORY_ID));
+        assertEquals(0, journalDeltaSum());
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 커밋되면 핫 재고 변경을 유지한다")
+    void testCommitKeepsChange() throws Exception {
+        // When
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED,
+                () -> engine.apply(INVENTORY_ID, -3, 0, MovementSource.STOCK_OUT, null));
+
+        // Then
+        assertEquals(7, engine.currentQuantity(INVENTORY_ID));
+        assertEquals(-3, journalDeltaSum());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 변경하면 즉시 확정된다")
+    void testOutsideTransaction() {
+        // When
+        engine.apply(INVENTORY_ID, 5, 0, MovementSource.STOCK_IN, null);
+
+        // Then
+        assertEquals(15, engine.currentQuantity(INVENTORY_ID));
+    }
+
+    @Test
+    @DisplayName("롤백된 출고분은 다시 출고할 수 있다")
+    void testRolledBackStockIsAvailableAgain() {
+        // Given
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> engine.apply(INVENTORY_ID, -10, 0, MovementSource.STOCK_OUT, null));
+
+        // When
+        engine.apply(INVENTORY_ID, -10, 0, MovementSource.STOCK_OUT, null);
+
+        // Then
+        assertEquals(0, engine.currentQuantity(INVENTORY_ID));
+        assertThrows(IllegalStateException.class,
+                () -> engine.apply(INVENTORY_ID, -1, 0, MovementSource.STOCK_OUT, null));
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.wms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.wms.dto.ApiResponse;
+import org.example.wms.dto.crud.StockInRequest;
+import org.example.wms.entity.IdempotencyKeyEntity;
+import org.example.wms.exception.DuplicateRequestException;
+import org.example.wms.exception.IdempotencyKeyReusedException;
+import org.example.wms.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class IdempotencyServiceTest {
+
+    private static final String KEY = "key-1";
+    private static final String OPERATION = "inventory.stock-in";
+
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+    private IdempotencyService service;
+    private List<IdempotencyClaim> claims;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyRepository = mock(IdempotencyKeyRepository.class);
+        service = new IdempotencyService(idempotencyKeyRepository, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(service, "cacheSize", 100);
+        ReflectionTestUtils.setField(service, "ttlHours", 24L);
+        service.init();
+        claims = new ArrayList<>();
+    }
+
+    private ResponseEntity<ApiResponse<Void>> stockIn(int quantity) {
+        return service.execute(KEY, OPERATION, new StockInRequest("inv", quantity, null),
+                ApiResponse.success(null, "재고가 입고되었습니다."), claims::add);
+    }
+
+    @Test
+    @DisplayName("같은 키와 같은 본문의 재요청은 작업을 실행하지 않고 최초 응답을 반환한다")
+    void testSameBodyIsReplayed() {
+        // Given
+        stockIn(3);
+
+        // When
+        ResponseEntity<ApiResponse<Void>> replayed = stockIn(3);
+
+        // Then
+        assertEquals(1, claims.size());
+        assertEquals(64, claims.get(0).requestHash().length());
+        assertEquals("true", replayed.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 본문으로 다시 사용하면 작업을 실행하지 않고 거절한다")
+    void testDifferentBodyIsRejected() {
+        // Given
+        stockIn(3);
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class, () -> stockIn(4));
+        assertEquals(1, claims.size());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 기록한 키도 저장된 본문 해시와 비교한다")
+    void testStoredHashIsCompared() {
+        // Given: 메모리에는 없고, 다른 본문으로 기록된 키가 DB에 있음
+        String otherHash = "0".repeat(64);
+        when(idempotencyKeyRepository.findById(KEY)).thenReturn(Optional.of(new IdempotencyKeyEntity(
+                KEY, OPERATION, otherHash, "{\"success\":true}", LocalDateTime.now(), LocalDateTime.now())));
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> service.execute(KEY, OPERATION, new StockInRequest("inv", 3, null),
+                        ApiResponse.success(null, "재고가 입고되었습니다."), claim -> {
+                            throw new DuplicateRequestException(claim.key());
+                        }));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 키는 메모리에 남아 있어도 최초 응답을 반환하지 않고 다시 실행한다")
+    void testExpiredCacheEntryIsNotReplayed() {
+        // Given
+        ReflectionTestUtils.setField(service, "ttlHours", 0L);
+        stockIn(3);
+
+        // When
+        ResponseEntity<ApiResponse<Void>> second = stockIn(4);
+
+        // Then
+        assertEquals(2, claims.size());
+        assertNull(second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("키를 기록하기 전에 정리되지 않은 만료 키를 삭제한다")
+    void testClaimDeletesExpiredKeyFirst() {
+        // Given
+        IdempotencyClaim claim = new IdempotencyClaim(KEY, OPERATION, "0".repeat(64), "{}");
+        when(idempotencyKeyRepository.insertIgnore(eq(KEY), any(), any(), any(), any(), any())).thenReturn(1);
+
+        // When
+        boolean claimed = service.tryClaim(claim);
+
+        // Then
+        assertTrue(claimed);
+        InOrder order = inOrder(idempotencyKeyRepository);
+        order.verify(idempotencyKeyRepository).deleteExpiredKey(eq(KEY), any());
+        order.verify(idempotencyKeyRepository).insertIgnore(eq(KEY), any(), any(), any(), any(), any());
+    }
+}
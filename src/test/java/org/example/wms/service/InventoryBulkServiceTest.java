@@ -0,0 +1,137 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.wms.dto.crud.InventoryBulkUpsertRequest;
+import org.example.wms.dto.crud.InventoryBulkUpsertRequest.MergePolicy;
+import org.example.wms.dto.crud.InventoryCreateRequest;
+import org.example.wms.dto.info.InventoryBulkUpsertResultDTO;
+import org.example.wms.dto.info.InventoryBulkUpsertResultDTO.RowStatus;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.repository.StockKey;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryBulkServiceTest {
+
+    private static final long PRODUCT_ID = 100L;
+    private static final long WAREHOUSE_ID = 1L;
+    private static final StockKey KEY = new StockKey(PRODUCT_ID, WAREHOUSE_ID);
+
+    private final IdEncryptionUtil idEncryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+    private InventoryJdbcRepository inventoryJdbcRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ReservationRegistry reservationRegistry;
+    private InventoryBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        inventoryJdbcRepository = mock(InventoryJdbcRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        reservationRegistry = mock(ReservationRegistry.class);
+        PublicIdService publicIdService = mock(PublicIdService.class);
+        when(publicIdService.resolveIfValid("w1", IdKind.WAREHOUSE)).thenReturn(WAREHOUSE_ID);
+        when(publicIdService.renderInventoryIds(any()))
+                .thenAnswer(invocation -> idEncryptionUtil.encryptAll(invocation.getArgument(0)));
+        when(inventoryJdbcRepository.findExistingProductIds(any())).thenReturn(Set.of(PRODUCT_ID));
+        when(inventoryJdbcRepository.findExistingWarehouseIds(any())).thenReturn(Set.of(WAREHOUSE_ID));
+        when(inventoryJdbcRepository.findStockRowsByKeys(any())).thenReturn(Map.of());
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        service = new InventoryBulkService(inventoryJdbcRepository, idEncryptionUtil,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new RetryExecutor(meterRegistry, 1, 0, 0, 0.1, 100), eventPublisher, reservationRegistry,
+                Optional.empty(), mock(StockThresholdService.class), meterRegistry, publicIdService);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+    }
+
+    private InventoryBulkUpsertResultDTO upsert(MergePolicy policy, int quantity) {
+        InventoryCreateRequest row = new InventoryCreateRequest(idEncryptionUtil.encrypt(PRODUCT_ID), "w1", quantity);
+        return service.upsert(new InventoryBulkUpsertRequest(policy, List.of(row)));
+    }
+
+    private static InventoryStockRow row(long inventoryId, int quantity) {
+        return new InventoryStockRow(inventoryId, PRODUCT_ID, WAREHOUSE_ID, quantity);
+    }
+
+    private InventoryChange publishedChange() {
+        ArgumentCaptor<InventoryChangedEvent> event = ArgumentCaptor.forClass(InventoryChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(1, event.getValue().getChanges().size());
+        return event.getValue().getChanges().get(0);
+    }
+
+    @Test
+    @DisplayName("잠금 없는 조회 이후 다른 요청이 만든 재고는 잠근 조회로 찾아 CREATED가 아닌 UPDATED로 반영한다")
+    void testRowCreatedAfterPreReadIsUpdated() {
+        // Given: 잠금 없는 조회에는 없었지만, 잠근 조회 시점에는 수량 3으로 존재
+        when(inventoryJdbcRepository.lockStockRowsByKeys(any()))
+                .thenReturn(Map.of(KEY, row(5L, 3)))
+                .thenReturn(Map.of(KEY, row(5L, 7)));
+
+        // When
+        InventoryBulkUpsertResultDTO result = upsert(MergePolicy.REPLACE, 7);
+
+        // Then
+        assertEquals(RowStatus.UPDATED, result.getResults().get(0).getStatus());
+        InventoryChange change = publishedChange();
+        assertEquals(MovementSource.BULK_UPSERT, change.getSource());
+        assertEquals(4, change.getDelta());
+        assertEquals(7, change.getQuantity());
+    }
+
+    @Test
+    @DisplayName("잠근 조회에도 없는 재고는 CREATED로 반영하고 생성 내역을 남긴다")
+    void testMissingRowIsCreated() {
+        // Given
+        when(inventoryJdbcRepository.lockStockRowsByKeys(any()))
+                .thenReturn(Map.of())
+                .thenReturn(Map.of(KEY, row(6L, 7)));
+
+        // When
+        InventoryBulkUpsertResultDTO result = upsert(MergePolicy.ADD, 7);
+
+        // Then
+        assertEquals(RowStatus.CREATED, result.getResults().get(0).getStatus());
+        assertEquals(7, result.getResults().get(0).getQuantity());
+        InventoryChange change = publishedChange();
+        assertEquals(MovementSource.CREATE, change.getSource());
+        assertEquals(7, change.getDelta());
+    }
+
+    @Test
+    @DisplayName("REPLACE로 예약 수량보다 적게 바꾸는 행은 INVALID이며 반영하지 않는다")
+    void testReplaceBelowReservedIsInvalid() {
+        // Given
+        when(inventoryJdbcRepository.lockStockRowsByKeys(any())).thenReturn(Map.of(KEY, row(5L, 10)));
+        when(reservationRegistry.reservedQuantity(5L)).thenReturn(4);
+
+        // When
+        InventoryBulkUpsertResultDTO result = upsert(MergePolicy.REPLACE, 3);
+
+        // Then
+        assertEquals(RowStatus.INVALID, result.getResults().get(0).getStatus());
+        verify(inventoryJdbcRepository, never()).upsertRows(any(), any(), anyBoolean(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.wms.dto.info.InventoryChangeStreamDTO;
+import org.example.wms.entity.StockStatus;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.util.IdEncryptionUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryChangeStreamServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private InventoryChangeStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        StockThresholdService stockThresholdService = mock(StockThresholdService.class);
+        when(stockThresholdService.statusOf(anyLong(), anyLong(), anyInt())).thenReturn(StockStatus.SUFFICIENT);
+        IdEncryptionUtil idEncryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+        service = new InventoryChangeStreamService(idEncryptionUtil, meterRegistry, stockThresholdService,
+                new PublicIdService(null, idEncryptionUtil, null));
+        ReflectionTestUtils.setField(service, "sseTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(service, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(service, "sendTimeoutMs", 50L);
+        ReflectionTestUtils.setField(service, "emitterFactory", (LongFunction<SseEmitter>) timeout -> emitters.poll());
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        unblock.countDown();
+        service.stop();
+    }
+
+    private SseEmitter blockingEmitter(CountDownLatch sending) throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            unblock.await();
+            return null;
+        }).when(emitter).send(any(SseEventBuilder.class));
+        return emitter;
+    }
+
+    private static InventoryChangedEvent change(long inventoryId, long warehouseId, int quantity) {
+        return InventoryChangedEvent.of(InventoryChange.builder()
+                .inventoryId(inventoryId).productId(10L).warehouseId(warehouseId)
+                .delta(1).quantity(quantity).occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static int quantityOf(SseEventBuilder event) {
+        return event.build().stream()
+                .map(data -> data.getData())
+                .filter(InventoryChangeStreamDTO.class::isInstance)
+                .map(InventoryChangeStreamDTO.class::cast)
+                .findFirst().orElseThrow()
+                .getQuantity();
+    }
+
+    @Test
+    @DisplayName("전송 중 같은 재고가 여러 번 바뀌면 중간 값은 합쳐지고 최신 수량만 전송한다")
+    void testConflation() throws Exception {
+        // Given
+        CountDownLatch sending = new CountDownLatch(1);
+        SseEmitter emitter = blockingEmitter(sending);
+        emitters.add(emitter);
+        service.openStream(null, null);
+        service.onInventoryChanged(change(1L, 1L, 1));
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+        // When: 첫 전송이 멈춘 동안 같은 재고가 세 번 바뀜
+        service.onInventoryChanged(change(1L, 1L, 2));
+        service.onInventoryChanged(change(1L, 1L, 3));
+        service.onInventoryChanged(change(1L, 1L, 4));
+        unblock.countDown();
+
+        // Then
+        ArgumentCaptor<SseEventBuilder> events = ArgumentCaptor.forClass(SseEventBuilder.class);
+        verify(emitter, timeout(1_000).times(2)).send(events.capture());
+        List<SseEventBuilder> sent = events.getAllValues();
+        assertEquals(1, quantityOf(sent.get(0)));
+        assertEquals(4, quantityOf(sent.get(1)));
+        assertEquals(2.0, meterRegistry.counter("wms.inventory.stream.conflated").count());
+        assertEquals(0.0, meterRegistry.get("wms.inventory.stream.queue-depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 연결이 있어도 다른 연결에는 바로 전송하고, 전송 시간을 넘긴 연결은 끊는다")
+    void testStalledSubscriberIsEvicted() throws Exception {
+        // Given
+        CountDownLatch sending = new CountDownLatch(1);
+        SseEmitter slow = blockingEmitter(sending);
+        SseEmitter fast = mock(SseEmitter.class);
+        emitters.add(slow);
+        emitters.add(fast);
+        service.openStream(null, null);
+        service.openStream(null, null);
+
+        // When
+        service.onInventoryChanged(change(1L, 1L, 5));
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+        verify(fast, timeout(1_000)).send(any(SseEventBuilder.class));
+        Thread.sleep(100);
+        service.evictStalledSubscribers();
+
+        // Then
+        assertEquals(1, service.subscriberCount());
+        verify(slow, timeout(1_000)).completeWithError(any());
+        verify(fast, never()).completeWithError(any());
+        assertEquals(1.0, meterRegistry.counter("wms.inventory.stream.evicted").count());
+        service.onInventoryChanged(change(2L, 1L, 6));
+        verify(fast, timeout(1_000).times(2)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("창고 조건이 있는 연결에는 해당 창고의 변경만 전송한다")
+    void testWarehouseFilter() throws Exception {
+        // Given
+        SseEmitter emitter = mock(SseEmitter.class);
+        emitters.add(emitter);
+        service.openStream(1L, null);
+
+        // When
+        service.onInventoryChanged(change(1L, 2L, 5));
+        service.onInventoryChanged(change(2L, 1L, 7));
+
+        // Then
+        ArgumentCaptor<SseEventBuilder> events = ArgumentCaptor.forClass(SseEventBuilder.class);
+        verify(emitter, timeout(1_000)).send(events.capture());
+        assertEquals(7, quantityOf(events.getValue()));
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.wms.service;
+
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트용 재고 변경 내역 (출고, 현재 시각 기본값)
+ */
+final class InventoryChanges {
+
+    private InventoryChanges() {
+    }
+
+    /**
+     * 재고 변경 내역 빌더 (사유, 발생 시각 등은 필요한 테스트에서 덮어씀)
+     */
+    static InventoryChange.InventoryChangeBuilder change(long inventoryId, long productId, long warehouseId,
+                                                         int delta, int quantity) {
+        return InventoryChange.builder()
+                .inventoryId(inventoryId).productId(productId).warehouseId(warehouseId)
+                .delta(delta).quantity(quantity)
+                .source(MovementSource.STOCK_OUT)
+                .occurredAt(LocalDateTime.now());
+    }
+}
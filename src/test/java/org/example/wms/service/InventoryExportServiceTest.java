@@ -0,0 +1,196 @@
+package org.example.wms.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.wms.exception.ConcurrencyLimitException;
+import org.example.wms.repository.InventoryExportRow;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.util.IdEncryptionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class InventoryExportServiceTest {
+
+    private List<InventoryExportRow> rows;
+    private IdEncryptionUtil idEncryptionUtil;
+    private InventoryExportService service;
+
+    @BeforeEach
+    void setUp() {
+        rows = new ArrayList<>();
+        InventoryJdbcRepository repository = mock(InventoryJdbcRepository.class);
+        doAnswer(invocation -> {  // DB 커서 대신 메모리의 행을 순회 (조건은 그대로 적용)
+            Long warehouseId = invocation.getArgument(0);
+            Long productId = invocation.getArgument(1);
+            rows.stream()
+                    .filter(row -> warehouseId == null || row.getWarehouseId() == warehouseId)
+                    .filter(row -> productId == null || row.getProductId() == productId)
+                    .forEach(invocation.<Consumer<InventoryExportRow>>getArgument(2));
+            return null;
+        }).when(repository).forEachExportRow(any(), any(), any());
+        idEncryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+        PublicIdService publicIdService = new PublicIdService(null, idEncryptionUtil, null);  // 공개 ID 모드 꺼짐
+        service = new InventoryExportService(repository, idEncryptionUtil, publicIdService, new ObjectMapper(), 1, 4096);
+    }
+
+    private void addRow(long inventoryId, long productId, String productName, long warehouseId, int quantity) {
+        rows.add(new InventoryExportRow(inventoryId, null, productId, productName, warehouseId, null,
+                "창고 " + warehouseId, quantity, 10, quantity == 0 ? "OUT_OF_STOCK" : "SUFFICIENT",
+                LocalDateTime.of(2026, 1, 1, 9, 0)));
+    }
+
+    private String export(Long warehouseId, Long productId, InventoryExportService.Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(warehouseId, productId, format, false).writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("NDJSON은 한 줄에 재고 하나씩 암호화 ID로 출력한다")
+    void testNdjson() throws IOException {
+        // Given
+        addRow(1L, 100L, "노트북", 10L, 50);
+        addRow(2L, 200L, "마우스", 10L, 0);
+
+        // When
+        String[] lines = export(null, null, InventoryExportService.Format.NDJSON).split("\n");
+
+        // Then
+        assertEquals(2, lines.length);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertEquals(1L, idEncryptionUtil.decrypt(first.get("inventoryId").asText()));
+        assertEquals(100L, idEncryptionUtil.decrypt(first.get("productId").asText()));
+        assertEquals(10L, idEncryptionUtil.decrypt(first.get("warehouseId").asText()));
+        assertEquals("노트북", first.get("productName").asText());
+        assertEquals(50, first.get("quantity").asInt());
+        assertEquals("2026-01-01T09:00", first.get("updatedAt").asText());
+        assertEquals("OUT_OF_STOCK", new ObjectMapper().readTree(lines[1]).get("stockStatus").asText());
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더 뒤에 행을 출력하고 쉼표, 큰따옴표, 줄바꿈이 있는 값은 큰따옴표로 감싼다")
+    void testCsvEscaping() throws IOException {
+        // Given
+        addRow(1L, 100L, "모니터, 27\"", 10L, 5);
+        addRow(2L, 200L, "키보드\n무선", 10L, 7);
+
+        // When
+        String[] lines = export(null, null, InventoryExportService.Format.CSV).split("\n", -1);
+
+        // Then
+        assertEquals(InventoryExportService.CSV_HEADER, lines[0]);
+        assertTrue(lines[1].contains(",\"모니터, 27\"\"\","));
+        assertTrue(lines[2].contains(",\"키보드"));  // 값 안의 줄바꿈은 큰따옴표 안에 그대로 둠
+        assertTrue(lines[3].startsWith("무선\","));
+        assertEquals("", lines[4]);
+        assertEquals("plain", InventoryExportService.csv("plain"));
+        assertEquals("", InventoryExportService.csv(null));
+    }
+
+    @Test
+    @DisplayName("창고와 상품 조건에 맞는 재고만 출력한다")
+    void testFilter() throws IOException {
+        // Given
+        addRow(1L, 100L, "노트북", 10L, 50);
+        addRow(2L, 100L, "노트북", 20L, 30);
+        addRow(3L, 200L, "마우스", 20L, 10);
+
+        // When
+        String byWarehouse = export(20L, null, InventoryExportService.Format.NDJSON);
+        String byBoth = export(20L, 100L, InventoryExportService.Format.NDJSON);
+
+        // Then
+        assertEquals(2, byWarehouse.lines().count());
+        assertEquals(1, byBoth.lines().count());
+        assertEquals(2L, idEncryptionUtil.decrypt(new ObjectMapper().readTree(byBoth).get("inventoryId").asText()));
+    }
+
+    @Test
+    @DisplayName("gzip을 요청하면 압축을 풀었을 때 같은 내용이다")
+    void testGzip() throws IOException {
+        // Given
+        addRow(1L, 100L, "노트북", 10L, 50);
+        String plain = export(null, null, InventoryExportService.Format.CSV);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.export(null, null, InventoryExportService.Format.CSV, true).writeTo(out);
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertEquals(plain, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("동시 내보내기 수가 최대치이면 거부하고, 내보내기가 끝나면 다시 받는다")
+    void testConcurrencyLimit() throws IOException {
+        // Given
+        StreamingResponseBody first = service.export(null, null, InventoryExportService.Format.NDJSON, false);
+
+        // When & Then
+        assertThrows(ConcurrencyLimitException.class,
+                () -> service.export(null, null, InventoryExportService.Format.NDJSON, false));
+        first.writeTo(new ByteArrayOutputStream());
+        assertNotNull(service.export(null, null, InventoryExportService.Format.NDJSON, false));
+    }
+
+    @Test
+    @DisplayName("본문이 실행되지 않고 요청이 끝나면 허가를 한 번만 반환하고, 이후 본문은 실행하지 않는다")
+    void testReleaseWithoutBody() {
+        // Given
+        InventoryExportService.Export first = service.export(null, null, InventoryExportService.Format.NDJSON, false);
+
+        // When
+        first.release();
+        first.release();
+
+        // Then
+        InventoryExportService.Export second = service.export(null, null, InventoryExportService.Format.NDJSON, false);
+        assertThrows(ConcurrencyLimitException.class,
+                () -> service.export(null, null, InventoryExportService.Format.NDJSON, false));
+        assertThrows(IOException.class, () -> first.writeTo(new ByteArrayOutputStream()));
+        second.release();
+    }
+
+    @Test
+    @DisplayName("본문 실행 후 요청 완료 콜백이 와도 허가를 다시 반환하지 않는다")
+    void testReleaseAfterBody() throws IOException {
+        // Given
+        InventoryExportService.Export first = service.export(null, null, InventoryExportService.Format.NDJSON, false);
+        first.writeTo(new ByteArrayOutputStream());
+
+        // When
+        first.release();
+
+        // Then
+        service.export(null, null, InventoryExportService.Format.NDJSON, false);
+        assertThrows(ConcurrencyLimitException.class,
+                () -> service.export(null, null, InventoryExportService.Format.NDJSON, false));
+    }
+
+    @Test
+    @DisplayName("형식 파라미터는 대소문자를 구분하지 않는다")
+    void testFormatFrom() {
+        // When & Then
+        assertEquals(InventoryExportService.Format.CSV, InventoryExportService.Format.from("csv"));
+        assertEquals(InventoryExportService.Format.NDJSON, InventoryExportService.Format.from(" NDJSON "));
+        assertThrows(IllegalArgumentException.class, () -> InventoryExportService.Format.from("xml"));
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.wms.service;
+
+import org.example.wms.dto.info.InventoryAsOfDTO;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryHistoryDelta;
+import org.example.wms.repository.InventoryHistoryJdbcRepository;
+import org.example.wms.repository.InventorySnapshotRow;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.util.IdEncryptionUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryHistoryServiceTest {
+
+    private static final LocalDateTime SNAPSHOT_AT = LocalDateTime.of(2026, 1, 31, 0, 0);
+
+    private InventoryHistoryJdbcRepository repository;
+    private IdEncryptionUtil idEncryptionUtil;
+    private InventoryHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(InventoryHistoryJdbcRepository.class);
+        idEncryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+        service = new InventoryHistoryService(repository, null, null, idEncryptionUtil, Optional.empty(),
+                new PublicIdService(null, idEncryptionUtil, null));  // 공개 ID 모드 꺼짐
+    }
+
+    private static InventoryChange change(long inventoryId, int delta) {
+        return InventoryChanges.change(inventoryId, inventoryId * 10, 1L, delta, 100).build();
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 변경을 재고별 변화량으로 합산하고 합계 0은 기록하지 않는다")
+    void testRecordCompactDeltas() {
+        // When
+        service.onInventoryChanged(new InventoryChangedEvent(List.of(
+                change(5L, -3), change(2L, 10), change(5L, -4), change(9L, 6), change(9L, -6))));
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InventoryHistoryDelta>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertDeltas(deltas.capture());
+        List<InventoryHistoryDelta> inserted = deltas.getValue();
+        assertEquals(2, inserted.size());
+        assertEquals(2L, inserted.get(0).getInventoryId());
+        assertEquals(10, inserted.get(0).getDelta());
+        assertEquals(5L, inserted.get(1).getInventoryId());
+        assertEquals(-7, inserted.get(1).getDelta());
+    }
+
+    @Test
+    @DisplayName("스냅샷 수량에 스냅샷의 마지막 이력 ID 이후 이력을 재생하여 시점 수량을 계산한다")
+    void testAsOfReplaysDeltasAfterSnapshot() {
+        // Given: 스냅샷 시점 재고 1 = 50, 재고 2 = 5, 스냅샷의 마지막 이력 ID 500
+        LocalDateTime asOf = SNAPSHOT_AT.plusHours(23).plusMinutes(59);
+        InventorySnapshotRow snapshot = new InventorySnapshotRow(1L, 1L, SNAPSHOT_AT, 500L);
+        when(repository.findSnapshotAtOrBefore(1L, asOf)).thenReturn(Optional.of(snapshot));
+        doAnswer(invocation -> {
+            Consumer<InventoryStockRow> consumer = invocation.getArgument(1);
+            consumer.accept(new InventoryStockRow(1L, 10L, 1L, 50));
+            consumer.accept(new InventoryStockRow(2L, 20L, 1L, 5));
+            return null;
+        }).when(repository).forEachSnapshotItem(eq(snapshot), any());
+        doAnswer(invocation -> {
+            Consumer<InventoryHistoryDelta> consumer = invocation.getArgument(3);
+            consumer.accept(new InventoryHistoryDelta(1L, 10L, 1L, -20));
+            consumer.accept(new InventoryHistoryDelta(2L, 20L, 1L, -5));   // 0이 되어 결과에서 제외
+            consumer.accept(new InventoryHistoryDelta(3L, 30L, 1L, 7));    // 스냅샷 이후 생성된 재고
+            return null;
+        }).when(repository).forEachDelta(eq(1L), eq(500L), eq(asOf), any());
+
+        // When
+        InventoryAsOfDTO result = service.getStockAsOf(1L, asOf);
+
+        // Then
+        assertEquals(SNAPSHOT_AT, result.getSnapshotAt());
+        assertEquals(3, result.getReplayedChanges());
+        assertEquals(37, result.getTotalQuantity());
+        assertEquals(2, result.getItems().size());
+        assertEquals(idEncryptionUtil.encrypt(1L), result.getItems().get(0).getInventoryId());
+        assertEquals(30, result.getItems().get(0).getQuantity());
+        assertEquals(idEncryptionUtil.encrypt(30L), result.getItems().get(1).getProductId());
+        assertEquals(7, result.getItems().get(1).getQuantity());
+    }
+
+    @Test
+    @DisplayName("이력 기록 시작 전 시점은 조회할 수 없다")
+    void testAsOfBeforeHistory() {
+        // Given: 조회 시점 이전의 스냅샷 없음 (Repository 기본 응답)
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> service.getStockAsOf(1L, SNAPSHOT_AT.minusDays(1)));
+    }
+}
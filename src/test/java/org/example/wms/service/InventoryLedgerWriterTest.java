@@ -0,0 +1,151 @@
+package org.example.wms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.example.wms.service.InventoryChanges.change;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class InventoryLedgerWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InventoryJdbcRepository inventoryJdbcRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private InventoryLedgerWriter writer;
+    private Path spillFile;
+
+    @BeforeEach
+    void setUp() {
+        inventoryJdbcRepository = mock(InventoryJdbcRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        spillFile = tempDir.resolve("ledger-spill.ndjson");
+        writer = new InventoryLedgerWriter(inventoryJdbcRepository, new ObjectMapper().findAndRegisterModules(),
+                meterRegistry);
+        ReflectionTestUtils.setField(writer, "queueCapacity", 100);
+        ReflectionTestUtils.setField(writer, "batchSize", 10);
+        ReflectionTestUtils.setField(writer, "offerTimeoutMs", 10L);
+        ReflectionTestUtils.setField(writer, "retryAttempts", 3);
+        ReflectionTestUtils.setField(writer, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(writer, "retryMaxBackoffMs", 1L);
+        ReflectionTestUtils.setField(writer, "spillFile", spillFile);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name).count();
+    }
+
+    @Test
+    @DisplayName("원장 기록이 일시적으로 실패하면 같은 묶음을 재시도한다")
+    void testRetryKeepsBatch() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new DataAccessResourceFailureException("db down");
+            }
+            return null;
+        }).when(inventoryJdbcRepository).insertMovements(anyList());
+        writer.start();
+        InventoryChange inventoryChange = change(1L, 10L, 100L, -1, 9).build();
+
+        // When
+        writer.onInventoryChanged(InventoryChangedEvent.of(inventoryChange));
+
+        // Then
+        verify(inventoryJdbcRepository, timeout(3000).times(3)).insertMovements(List.of(inventoryChange));
+        assertEquals(2, count("wms.inventory.ledger.retried"));
+        assertEquals(0, count("wms.inventory.ledger.spilled"));
+        assertFalse(Files.exists(spillFile));
+    }
+
+    @Test
+    @DisplayName("재시도까지 실패한 원장은 파일에 보관했다가 DB가 복구되면 기록한다")
+    void testSpillAndReplay() throws Exception {
+        // Given
+        AtomicBoolean dbDown = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            if (dbDown.get()) {
+                throw new DataAccessResourceFailureException("db down");
+            }
+            return null;
+        }).when(inventoryJdbcRepository).insertMovements(anyList());
+        writer.start();
+        InventoryChange inventoryChange = change(1L, 10L, 100L, -1, 9).reason("출고").build();
+
+        // When
+        writer.onInventoryChanged(InventoryChangedEvent.of(inventoryChange));
+
+        // Then
+        verify(inventoryJdbcRepository, timeout(3000).times(3)).insertMovements(any());
+        waitUntil(() -> count("wms.inventory.ledger.spilled") == 1);
+        assertEquals(1, Files.readAllLines(spillFile).size());
+
+        // When
+        dbDown.set(false);
+
+        // Then
+        waitUntil(() -> !Files.exists(spillFile));
+        verify(inventoryJdbcRepository, atLeastOnce()).insertMovements(argThat(changes -> changes.size() == 1
+                && changes.get(0).getInventoryId().equals(1L)
+                && changes.get(0).getDelta() == -1
+                && "출고".equals(changes.get(0).getReason())
+                && changes.get(0).getOccurredAt().equals(inventoryChange.getOccurredAt())));
+        assertEquals(0, count("wms.inventory.ledger.dropped"));
+    }
+
+    @Test
+    @DisplayName("파일 보관도 실패하면 유실 건수를 집계한다")
+    void testDroppedCounter() throws Exception {
+        // Given
+        doThrow(new DataAccessResourceFailureException("db down"))
+                .when(inventoryJdbcRepository).insertMovements(anyList());
+        Path notADirectory = tempDir.resolve("file");
+        Files.writeString(notADirectory, "x");
+        ReflectionTestUtils.setField(writer, "spillFile", notADirectory.resolve("ledger-spill.ndjson"));
+        writer.start();
+
+        // When
+        writer.onInventoryChanged(new InventoryChangedEvent(List.of(
+                change(1L, 10L, 100L, -1, 9).build(),
+                change(2L, 20L, 100L, -2, 8).build())));
+
+        // Then
+        waitUntil(() -> count("wms.inventory.ledger.dropped") == 2);
+        assertEquals(0, count("wms.inventory.ledger.spilled"));
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "조건을 기다리다 시간 초과");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.example.wms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.wms.dto.info.StockMovementBatchResultDTO;
+import org.example.wms.dto.info.StockMovementBatchResultDTO.LineStatus;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.util.IdKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InventoryMovementServiceTest {
+
+    private static final long HOT_ID = 1L;
+
+    private InventoryJdbcRepository inventoryJdbcRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private ReservationRegistry reservationRegistry;
+    private HotStockEngine hotStockEngine;
+    private InventoryMovementService service;
+
+    @BeforeEach
+    void setUp() {
+        inventoryJdbcRepository = mock(InventoryJdbcRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        reservationRegistry = mock(ReservationRegistry.class);
+        hotStockEngine = mock(HotStockEngine.class);
+        PublicIdService publicIdService = mock(PublicIdService.class);
+        when(publicIdService.resolveIfValid("hot", IdKind.INVENTORY)).thenReturn(HOT_ID);
+        when(hotStockEngine.handles(HOT_ID)).thenReturn(true);
+
+        service = new InventoryMovementService(inventoryJdbcRepository, null, null, new ObjectMapper(), null,
+                eventPublisher, reservationRegistry, publicIdService, Optional.of(hotStockEngine));
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "maxFailures", 1000);
+    }
+
+    private StockMovementBatchResultDTO apply(String json) throws IOException {
+        return service.applyBatch(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("핫 재고 라인은 DB를 직접 갱신하지 않고 엔진에서 예약 수량을 남기고 처리한다")
+    void testHotLinesGoThroughEngine() throws IOException {
+        // Given
+        when(reservationRegistry.withReservedQuantity(eq(HOT_ID), any()))
+                .thenAnswer(inv -> inv.<IntFunction<?>>getArgument(1).apply(3));
+        when(hotStockEngine.apply(eq(HOT_ID), eq(5), eq(0), eq(MovementSource.BATCH), any()))
+                .thenReturn(InventoryChange.builder().inventoryId(HOT_ID).delta(5).quantity(15).build());
+        when(hotStockEngine.apply(eq(HOT_ID), eq(-100), eq(3), eq(MovementSource.BATCH), any()))
+                .thenThrow(new IllegalStateException("재고가 부족합니다."));
+
+        // When
+        StockMovementBatchResultDTO result = apply("""
+                [{"encryptedInventoryId": "hot", "type": "IN", "quantity": 5},
+                 {"encryptedInventoryId": "hot", "type": "OUT", "quantity": 100}]
+                """);
+
+        // Then
+        assertEquals(1, result.getAppliedCount());
+        assertEquals(1, result.getFailures().size());
+        assertEquals(2, result.getFailures().get(0).getLine());
+        assertEquals(LineStatus.INSUFFICIENT, result.getFailures().get(0).getStatus());
+        verify(inventoryJdbcRepository, never()).applyDeltas(any(), any(), any());
+        verify(eventPublisher, times(1)).publishEvent(any(InventoryChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("DB 출고 라인은 트랜잭션 안에서 재고 행을 잠근 뒤 예약 수량을 읽어 하한으로 쓴다")
+    void testFloorsReadAfterRowLock() throws IOException {
+        // Given
+        PublicIdService publicIdService = mock(PublicIdService.class);
+        when(publicIdService.resolveIfValid("db", IdKind.INVENTORY)).thenReturn(2L);
+        service = new InventoryMovementService(inventoryJdbcRepository, null, null, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher,
+                reservationRegistry, publicIdService, Optional.empty());
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "maxFailures", 1000);
+        when(reservationRegistry.reservedQuantity(2L)).thenReturn(4);
+        when(inventoryJdbcRepository.applyDeltas(any(), any(), any()))
+                .thenReturn(new int[] {InventoryJdbcRepository.INSUFFICIENT});
+
+        // When
+        StockMovementBatchResultDTO result = apply("""
+                [{"encryptedInventoryId": "db", "type": "OUT", "quantity": 7}]
+                """);
+
+        // Then
+        assertEquals(LineStatus.INSUFFICIENT, result.getFailures().get(0).getStatus());
+        InOrder order = inOrder(inventoryJdbcRepository, reservationRegistry);
+        order.verify(inventoryJdbcRepository).lockStockRows(Set.of(2L));
+        order.verify(reservationRegistry).reservedQuantity(2L);
+        order.verify(inventoryJdbcRepository).applyDeltas(aryEq(new long[] {2L}), aryEq(new int[] {-7}),
+                aryEq(new int[] {4}));
+    }
+
+    @Test
+    @DisplayName("실패 라인은 DB 반영 결과와 합쳐 라인 순서대로 최대 개수까지만 담고, 건수는 모두 집계한다")
+    void testFailuresInLineOrderAndBounded() throws IOException {
+        // Given: 1, 3번 DB 라인은 묶음 반영 후 결과가 정해지고, 2, 4번은 읽는 즉시 정해짐
+        PublicIdService publicIdService = mock(PublicIdService.class);
+        when(publicIdService.resolveIfValid("db", IdKind.INVENTORY)).thenReturn(2L);
+        service = new InventoryMovementService(inventoryJdbcRepository, null, null, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher,
+                reservationRegistry, publicIdService, Optional.empty());
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+        ReflectionTestUtils.setField(service, "maxFailures", 2);
+        when(inventoryJdbcRepository.applyDeltas(any(), any(), any())).thenReturn(
+                new int[] {InventoryJdbcRepository.INSUFFICIENT, InventoryJdbcRepository.INSUFFICIENT});
+
+        // When
+        StockMovementBatchResultDTO result = apply("""
+                [{"encryptedInventoryId": "db", "type": "OUT", "quantity": 7},
+                 {"encryptedInventoryId": "db", "type": "OUT", "quantity": 0},
+                 {"encryptedInventoryId": "db", "type": "OUT", "quantity": 7},
+                 {"encryptedInventoryId": "unknown", "type": "IN", "quantity": 1}]
+                """);
+
+        // Then
+        assertEquals(4, result.getTotalLines());
+        assertEquals(2, result.getInsufficientCount());
+        assertEquals(1, result.getInvalidCount());
+        assertEquals(1, result.getUnknownIdCount());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(1, result.getFailures().get(0).getLine());
+        assertEquals(LineStatus.INSUFFICIENT, result.getFailures().get(0).getStatus());
+        assertEquals(2, result.getFailures().get(1).getLine());
+        assertEquals(LineStatus.INVALID, result.getFailures().get(1).getStatus());
+        assertTrue(result.isFailuresTruncated());
+    }
+}
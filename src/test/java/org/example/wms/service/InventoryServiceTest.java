@@ -1,6 +1,7 @@
 package org.example.wms.service;
 
 import org.example.wms.dto.list.InventoryListDTO;
+import org.example.wms.entity.StockStatus;
 import org.example.wms.util.IdEncryptionUtil;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -37,4 +39,12 @@ class InventoryServiceTest {
         Page<InventoryListDTO> result = inventoryService.getInventoriesByProduct(productId, pageable);
         result.getContent().forEach(System.out::println);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getInventoriesByStatus() {
+        String warehouseId = idEncryptionUtil.encrypt(1L);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("quantity"));
+        Page<InventoryListDTO> result = inventoryService.getInventoriesByStatus(StockStatus.LOW, warehouseId, pageable);
+        result.getContent().forEach(inventory -> assertEquals(StockStatus.LOW.getLabel(), inventory.getStatus()));
+    }
+}
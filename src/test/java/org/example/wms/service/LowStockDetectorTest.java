@@ -0,0 +1,100 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.wms.entity.StockStatus;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.event.StockAlert;
+import org.example.wms.repository.StockThresholdJdbcRepository;
+import org.example.wms.repository.StockThresholdRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LowStockDetectorTest {
+
+    private StockAlertBus bus;
+    private StockThresholdJdbcRepository thresholdRepository;
+    private StockThresholdService thresholds;
+    private LowStockDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        bus = spy(new StockAlertBus(new SimpleMeterRegistry()));  // 순번은 실제로 발급하고 발행만 가로챔
+        doReturn(true).when(bus).publish(any());
+        thresholdRepository = mock(StockThresholdJdbcRepository.class);
+        thresholds = new StockThresholdService(thresholdRepository, null, null, null, null);
+        thresholds.refresh();
+        detector = new LowStockDetector(bus, thresholds);
+    }
+
+    private static InventoryChange change(int delta, int quantity) {
+        return InventoryChanges.change(1L, 2L, 3L, delta, quantity).build();
+    }
+
+    private List<StockAlert> published() {
+        ArgumentCaptor<StockAlert> alerts = ArgumentCaptor.forClass(StockAlert.class);
+        verify(bus, atLeast(0)).publish(alerts.capture());
+        return alerts.getAllValues();
+    }
+
+    @Test
+    @DisplayName("수량으로 상태를 판정한다 (0은 없음, 기준 수량 이하는 부족)")
+    void testStockStatus() {
+        assertEquals(StockStatus.OUT_OF_STOCK, StockStatus.of(0));
+        assertEquals(StockStatus.LOW, StockStatus.of(1));
+        assertEquals(StockStatus.LOW, StockStatus.of(StockStatus.DEFAULT_LOW_THRESHOLD));
+        assertEquals(StockStatus.SUFFICIENT, StockStatus.of(StockStatus.DEFAULT_LOW_THRESHOLD + 1));
+    }
+
+    @Test
+    @DisplayName("상태 경계를 넘은 변경만 알림으로 발행한다")
+    void testPublishOnlyCrossings() {
+        // When
+        detector.onInventoryChanged(new InventoryChangedEvent(List.of(
+                change(-5, 20),   // 25 → 20: 충분 유지
+                change(-15, 5),   // 20 → 5: 충분 → 부족
+                change(-3, 2),    // 5 → 2: 부족 유지
+                change(-2, 0),    // 2 → 0: 부족 → 없음
+                change(30, 30)    // 0 → 30: 없음 → 충분
+        )));
+
+        // Then
+        List<StockAlert> published = published();
+        assertEquals(3, published.size());
+        assertEquals(StockStatus.SUFFICIENT, published.get(0).getPreviousStatus());
+        assertEquals(StockStatus.LOW, published.get(0).getStatus());
+        assertEquals(StockStatus.OUT_OF_STOCK, published.get(1).getStatus());
+        assertEquals(StockStatus.SUFFICIENT, published.get(2).getStatus());
+        assertTrue(published.get(1).getSequence() > published.get(0).getSequence());
+    }
+
+    @Test
+    @DisplayName("상품 기본값과 창고별 재정의 기준 수량으로 경계를 판정한다")
+    void testPerProductThreshold() {
+        // Given: 상품 2는 100 이하가 부족, 창고 3에서는 5 이하가 부족
+        when(thresholdRepository.findAll()).thenReturn(List.of(
+                new StockThresholdRow(2L, StockThresholdJdbcRepository.PRODUCT_DEFAULT, 100),
+                new StockThresholdRow(2L, 4L, 5)));
+        thresholds.refresh();
+
+        // When: 창고 3은 상품 기본값(100) 적용
+        detector.onInventoryChanged(new InventoryChangedEvent(List.of(change(-30, 90))));  // 120 → 90
+
+        // Then
+        List<StockAlert> published = published();
+        assertEquals(1, published.size());
+        assertEquals(StockStatus.LOW, published.get(0).getStatus());
+        assertEquals(100, thresholds.lowThreshold(2L, 3L));
+        assertEquals(5, thresholds.lowThreshold(2L, 4L));
+        assertEquals(StockStatus.DEFAULT_LOW_THRESHOLD, thresholds.lowThreshold(9L, 4L));
+        assertEquals(StockStatus.SUFFICIENT, thresholds.statusOf(2L, 4L, 6));
+    }
+}
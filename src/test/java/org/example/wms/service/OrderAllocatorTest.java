@@ -0,0 +1,129 @@
+package org.example.wms.service;
+
+import org.example.wms.service.OrderAllocator.Allocation;
+import org.example.wms.service.OrderAllocator.Result;
+import org.example.wms.service.OrderAllocator.Slot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAllocatorTest {
+
+    // 상품 ID → 창고별 재고 (재고 ID = 상품 ID * 100 + 창고 ID)
+    private final Map<Long, List<Slot>> stock = new HashMap<>();
+
+    private void stock(long productId, long warehouseId, int quantity) {
+        stock.computeIfAbsent(productId, id -> new ArrayList<>())
+                .add(new Slot(productId * 100 + warehouseId, warehouseId, quantity));
+    }
+
+    private static Map<Long, Integer> order(long... productAndQuantity) {
+        Map<Long, Integer> demand = new LinkedHashMap<>();
+        for (int i = 0; i < productAndQuantity.length; i += 2) {
+            demand.put(productAndQuantity[i], (int) productAndQuantity[i + 1]);
+        }
+        return demand;
+    }
+
+    private static Set<Long> warehousesOf(Result result) {
+        return result.allocations().stream().map(Allocation::warehouseId).collect(Collectors.toSet());
+    }
+
+    @Test
+    @DisplayName("한 창고로 주문 전체를 충족할 수 있으면 그 창고만 사용한다")
+    void testSingleWarehouse() {
+        // Given
+        stock(1, 10, 5);
+        stock(2, 10, 5);
+        stock(1, 20, 100);
+        stock(2, 30, 100);
+        stock(1, 40, 10);
+        stock(2, 40, 10);
+
+        // When
+        Result result = new OrderAllocator(new long[0]).allocate(order(1, 8, 2, 8), stock::get);
+
+        // Then
+        assertTrue(result.fullyAllocated());
+        assertEquals(1, result.warehouseCount());
+        assertEquals(Set.of(40L), warehousesOf(result));
+    }
+
+    @Test
+    @DisplayName("충족할 수 있는 창고가 여러 개면 우선순위가 높은 창고를 사용한다")
+    void testWarehousePriority() {
+        // Given
+        stock(1, 10, 10);
+        stock(1, 20, 10);
+        stock(1, 30, 10);
+
+        // When
+        Result result = new OrderAllocator(new long[]{30, 20}).allocate(order(1, 5), stock::get);
+
+        // Then
+        assertEquals(Set.of(30L), warehousesOf(result));
+    }
+
+    @Test
+    @DisplayName("한 창고로 부족하면 최소 개수의 창고로 나누어 할당한다")
+    void testSplitAcrossWarehouses() {
+        // Given
+        stock(1, 10, 10);
+        stock(2, 10, 10);
+        stock(3, 20, 10);
+        stock(3, 30, 4);
+        stock(1, 30, 4);
+
+        // When
+        Result result = new OrderAllocator(new long[0]).allocate(order(1, 10, 2, 10, 3, 10), stock::get);
+
+        // Then
+        assertTrue(result.fullyAllocated());
+        assertEquals(2, result.warehouseCount());
+        assertEquals(Set.of(10L, 20L), warehousesOf(result));
+    }
+
+    @Test
+    @DisplayName("한 상품의 수량을 여러 창고에서 나누어 채운다")
+    void testSplitSingleProduct() {
+        // Given
+        stock(1, 10, 6);
+        stock(1, 20, 3);
+        stock(1, 30, 2);
+
+        // When
+        Result result = new OrderAllocator(new long[0]).allocate(order(1, 9), stock::get);
+
+        // Then
+        assertTrue(result.fullyAllocated());
+        assertEquals(2, result.warehouseCount());
+        assertEquals(9, result.allocations().stream().mapToInt(Allocation::quantity).sum());
+    }
+
+    @Test
+    @DisplayName("재고가 모자라면 가능한 만큼 할당하고 부족 수량을 돌려준다")
+    void testShortage() {
+        // Given
+        stock(1, 10, 3);
+        stock(2, 10, 0);
+
+        // When
+        Result result = new OrderAllocator(new long[0]).allocate(order(1, 5, 2, 1, 3, 1), stock::get);
+
+        // Then
+        assertFalse(result.fullyAllocated());
+        assertEquals(3, result.shortages().size());
+        assertEquals(3, result.shortages().get(0).allocated());
+        assertEquals(0, result.shortages().get(1).allocated());
+        assertEquals(1, result.warehouseCount());
+    }
+}
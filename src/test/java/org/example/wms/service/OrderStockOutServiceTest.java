@@ -0,0 +1,181 @@
+package org.example.wms.service;
+
+import org.example.wms.dto.crud.OrderStockOutRequest;
+import org.example.wms.dto.crud.OrderStockOutRequest.OrderLine;
+import org.example.wms.dto.info.OrderStockOutResultDTO;
+import org.example.wms.dto.info.OrderStockOutResultDTO.Shortage;
+import org.example.wms.dto.info.OrderStockOutResultDTO.ShortageReason;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.exception.InsufficientStockException;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.util.IdKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderStockOutServiceTest {
+
+    private static final long HOT_ID = 9L;
+
+    private InventoryJdbcRepository inventoryJdbcRepository;
+    private ReservationRegistry reservationRegistry;
+    private ApplicationEventPublisher eventPublisher;
+    private HotStockEngine hotStockEngine;
+    private OrderStockOutService service;
+
+    @BeforeEach
+    void setUp() {
+        inventoryJdbcRepository = mock(InventoryJdbcRepository.class);
+        reservationRegistry = mock(ReservationRegistry.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        PublicIdService publicIdService = mock(PublicIdService.class);
+        when(publicIdService.resolveIfValid("inv1", IdKind.INVENTORY)).thenReturn(1L);
+        when(publicIdService.resolveIfValid("inv2", IdKind.INVENTORY)).thenReturn(2L);
+        when(publicIdService.resolveIfValid("hot", IdKind.INVENTORY)).thenReturn(HOT_ID);
+        hotStockEngine = mock(HotStockEngine.class);
+        when(hotStockEngine.handles(HOT_ID)).thenReturn(true);
+
+        service = new OrderStockOutService(inventoryJdbcRepository, reservationRegistry, publicIdService,
+                eventPublisher, Optional.of(hotStockEngine));
+    }
+
+    private void givenRows(InventoryStockRow... rows) {
+        Map<Long, InventoryStockRow> locked = new HashMap<>();
+        Arrays.stream(rows).forEach(row -> locked.put(row.getInventoryId(), row));
+        when(inventoryJdbcRepository.lockStockRows(any())).thenReturn(locked);
+    }
+
+    private static OrderStockOutRequest order(OrderLine... lines) {
+        return new OrderStockOutRequest(List.of(lines), "ORDER-1");
+    }
+
+    private static OrderLine line(String encryptedInventoryId, int quantity) {
+        return new OrderLine(encryptedInventoryId, quantity);
+    }
+
+    @Test
+    @DisplayName("같은 재고의 라인은 합산하여 예약 수량을 하한으로 한 번에 차감하고, 라인별 출고 후 수량을 반환한다")
+    void testDemandIsSummedPerInventory() {
+        // Given
+        givenRows(new InventoryStockRow(1L, 10L, 20L, 10));
+        when(reservationRegistry.reservedQuantity(1L)).thenReturn(2);
+        when(inventoryJdbcRepository.applyLockedDeltas(any(), any(), any())).thenReturn(new boolean[] {true});
+
+        // When
+        OrderStockOutResultDTO result = service.stockOut(order(line("inv1", 3), line("inv1", 4)));
+
+        // Then
+        verify(inventoryJdbcRepository).applyLockedDeltas(aryEq(new long[] {1L}), aryEq(new int[] {-7}),
+                aryEq(new int[] {2}));
+        assertEquals(7, result.getTotalQuantity());
+        assertEquals(7, result.getLines().get(0).getRemainingQuantity());
+        assertEquals(3, result.getLines().get(1).getRemainingQuantity());
+        verify(eventPublisher).publishEvent(any(InventoryChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("합산 수량이 가용 재고를 넘는 재고가 하나라도 있으면 부족 목록 전체를 반환하고 아무것도 차감하지 않는다")
+    void testShortageRejectsWholeOrder() {
+        // Given: 재고 1은 충분, 재고 2는 라인별로는 충분하지만 합산하면 부족
+        givenRows(new InventoryStockRow(1L, 10L, 20L, 10), new InventoryStockRow(2L, 11L, 20L, 5));
+        when(reservationRegistry.reservedQuantity(2L)).thenReturn(1);
+
+        // When
+        InsufficientStockException e = assertThrows(InsufficientStockException.class,
+                () -> service.stockOut(order(line("inv1", 5), line("inv2", 3), line("inv2", 3), line("unknown", 1))));
+
+        // Then
+        List<Shortage> shortages = e.getShortages();
+        assertEquals(2, shortages.size());
+        assertEquals(ShortageReason.UNKNOWN_ID, shortages.get(0).getReason());
+        assertEquals("unknown", shortages.get(0).getInventoryId());
+        assertEquals(ShortageReason.INSUFFICIENT, shortages.get(1).getReason());
+        assertEquals("inv2", shortages.get(1).getInventoryId());
+        assertEquals(6, shortages.get(1).getRequested());
+        assertEquals(4, shortages.get(1).getAvailable());
+        verify(inventoryJdbcRepository, never()).applyLockedDeltas(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("핫 재고는 잠그지 않고 DB 재고 검증 후 엔진에서 합산 수량을 차감한다")
+    void testHotStockIsAppliedThroughEngine() {
+        // Given
+        givenRows(new InventoryStockRow(1L, 10L, 20L, 10));
+        when(inventoryJdbcRepository.applyLockedDeltas(any(), any(), any())).thenReturn(new boolean[] {true});
+        doAnswer(invocation -> invocation.<IntFunction<?>>getArgument(1).apply(1))
+                .when(reservationRegistry).withReservedQuantity(eq(HOT_ID), any());
+        when(hotStockEngine.apply(HOT_ID, -5, 1, MovementSource.ORDER_OUT, "ORDER-1"))
+                .thenReturn(InventoryChanges.change(HOT_ID, 30L, 20L, -5, 15).build());
+
+        // When
+        OrderStockOutResultDTO result = service.stockOut(order(line("hot", 2), line("inv1", 1), line("hot", 3)));
+
+        // Then
+        verify(inventoryJdbcRepository).lockStockRows(Set.of(1L));
+        assertEquals(6, result.getTotalQuantity());
+        assertEquals(18, result.getLines().get(0).getRemainingQuantity());
+        assertEquals(9, result.getLines().get(1).getRemainingQuantity());
+        assertEquals(15, result.getLines().get(2).getRemainingQuantity());
+        verify(eventPublisher).publishEvent(argThat((InventoryChangedEvent event) -> {
+            InventoryChange hot = event.getChanges().get(0);
+            return event.getChanges().size() == 3 && hot.getInventoryId() == HOT_ID
+                    && hot.getProductId() == 30L && hot.getQuantity() == 18;
+        }));
+    }
+
+    @Test
+    @DisplayName("핫 재고가 부족하면 부족 목록을 반환하고 DB 재고는 차감하지 않는다")
+    void testHotStockShortageRejectsWholeOrder() {
+        // Given
+        givenRows(new InventoryStockRow(1L, 10L, 20L, 10));
+        doAnswer(invocation -> invocation.<IntFunction<?>>getArgument(1).apply(0))
+                .when(reservationRegistry).withReservedQuantity(eq(HOT_ID), any());
+        when(hotStockEngine.apply(eq(HOT_ID), anyInt(), anyInt(), any(), any()))
+                .thenThrow(new IllegalStateException("재고가 부족합니다."));
+        when(hotStockEngine.currentQuantity(HOT_ID)).thenReturn(1);
+
+        // When
+        InsufficientStockException e = assertThrows(InsufficientStockException.class,
+                () -> service.stockOut(order(line("inv1", 1), line("hot", 2))));
+
+        // Then
+        assertEquals(1, e.getShortages().size());
+        assertEquals(ShortageReason.INSUFFICIENT, e.getShortages().get(0).getReason());
+        assertEquals("hot", e.getShortages().get(0).getInventoryId());
+        assertEquals(2, e.getShortages().get(0).getRequested());
+        assertEquals(1, e.getShortages().get(0).getAvailable());
+        verify(inventoryJdbcRepository, never()).applyLockedDeltas(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("DB 재고가 부족하면 핫 재고를 엔진에서 차감하지 않는다")
+    void testColdShortageSkipsHotStock() {
+        // Given
+        givenRows(new InventoryStockRow(1L, 10L, 20L, 1));
+
+        // When
+        assertThrows(InsufficientStockException.class,
+                () -> service.stockOut(order(line("inv1", 2), line("hot", 2))));
+
+        // Then
+        verify(hotStockEngine, never()).apply(anyLong(), anyInt(), anyInt(), any(), any());
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.ProductStockDelta;
+import org.example.wms.repository.ProductStockSummaryJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductStockSummaryServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private ProductStockSummaryJdbcRepository repository;
+    private ProductStockSummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProductStockSummaryJdbcRepository.class);
+        service = new ProductStockSummaryService(repository, null, null, Optional.empty(), new SimpleMeterRegistry());
+    }
+
+    private static InventoryChange change(long productId, long warehouseId, int delta, int quantity, int minutes) {
+        return InventoryChanges.change(productId * 100 + warehouseId, productId, warehouseId, delta, quantity)
+                .occurredAt(BASE.plusMinutes(minutes))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductStockDelta> applied() {
+        ArgumentCaptor<List<ProductStockDelta>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(repository).applyDeltas(deltas.capture());
+        return deltas.getValue();
+    }
+
+    @Test
+    @DisplayName("재고 변경을 상품별로 합산하여 상품 ID 오름차순으로 누적한다")
+    void testAggregatePerProduct() {
+        // When
+        service.onInventoryChanged(new InventoryChangedEvent(List.of(
+                change(7L, 1L, 10, 10, 1),   // 0 → 10: 창고 +1
+                change(3L, 1L, -4, 6, 2),    // 10 → 6: 창고 수 유지
+                change(7L, 2L, -5, 0, 3),    // 5 → 0: 창고 -1
+                change(7L, 1L, -10, 0, 0),   // 10 → 0: 창고 -1
+                change(7L, 1L, 3, 3, 4)      // 0 → 3: 창고 +1
+        )));
+
+        // Then
+        List<ProductStockDelta> applied = applied();
+        assertEquals(2, applied.size());
+        ProductStockDelta first = applied.get(0);
+        assertEquals(3L, first.getProductId());
+        assertEquals(-4, first.getQuantityDelta());
+        assertEquals(0, first.getWarehouseCountDelta());
+
+        ProductStockDelta second = applied.get(1);
+        assertEquals(7L, second.getProductId());
+        assertEquals(-2, second.getQuantityDelta());
+        assertEquals(0, second.getWarehouseCountDelta());
+        assertEquals(BASE.plusMinutes(4), second.getLastMovementAt());
+    }
+
+    @Test
+    @DisplayName("수량 변화가 없는 재고 생성도 마지막 변경 시각을 남긴다")
+    void testEmptyCreate() {
+        // When
+        service.onInventoryChanged(new InventoryChangedEvent(List.of(change(5L, 1L, 0, 0, 9))));
+
+        // Then
+        List<ProductStockDelta> applied = applied();
+        assertEquals(1, applied.size());
+        assertEquals(0, applied.get(0).getQuantityDelta());
+        assertEquals(0, applied.get(0).getWarehouseCountDelta());
+        assertEquals(BASE.plusMinutes(9), applied.get(0).getLastMovementAt());
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.wms.service;
+
+import org.example.wms.exception.InvalidIdException;
+import org.example.wms.repository.PublicIdJdbcRepository;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.example.wms.util.PublicIds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PublicIdServiceTest {
+
+    private PublicIdJdbcRepository repository;
+    private IdEncryptionUtil idEncryptionUtil;
+    private PublicIdService service;
+    private String warehousePublicId;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PublicIdJdbcRepository.class);
+        idEncryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+        service = new PublicIdService(repository, idEncryptionUtil, null);
+        ReflectionTestUtils.setField(service, "cacheSize", 100);
+        service.start();
+
+        warehousePublicId = PublicIds.newWarehouseId();
+        when(repository.findId(warehousePublicId)).thenReturn(Optional.of(7L));
+    }
+
+    @Test
+    @DisplayName("공개 ID는 종류 글자가 기대한 종류와 같을 때 내부 ID로 변환한다")
+    void testResolveMatchingKind() {
+        // When & Then
+        assertEquals(7L, service.resolve(warehousePublicId, IdKind.WAREHOUSE));
+        assertEquals(7L, service.resolveIfValid(warehousePublicId, IdKind.WAREHOUSE));
+    }
+
+    @Test
+    @DisplayName("다른 종류의 공개 ID나 공개 ID가 없는 종류 자리의 공개 ID는 조회하지 않고 거절한다")
+    void testRejectKindMismatch() {
+        // When & Then
+        assertThrows(InvalidIdException.class, () -> service.resolve(warehousePublicId, IdKind.INVENTORY));
+        assertThrows(InvalidIdException.class, () -> service.resolve(warehousePublicId, IdKind.PRODUCT));
+        assertThrows(InvalidIdException.class, () -> service.resolve(warehousePublicId, IdKind.MANUFACTURER));
+        assertNull(service.resolveIfValid(warehousePublicId, IdKind.INVENTORY));
+        assertFalse(service.isValid(warehousePublicId, IdKind.PRODUCT));
+        verify(repository, never()).findId(anyString());
+    }
+
+    @Test
+    @DisplayName("없는 공개 ID는 없는 암호화 ID와 같이 404 예외로 거절한다")
+    void testUnknownPublicIdIsNotFound() {
+        // Given
+        String unknown = PublicIds.newInventoryId();
+        when(repository.findId(unknown)).thenReturn(Optional.empty());
+
+        // When
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> service.resolve(unknown, IdKind.INVENTORY));
+
+        // Then
+        assertEquals(IdKind.INVENTORY.getNotFoundMessage(), e.getMessage());
+        assertNull(service.resolveIfValid(unknown, IdKind.INVENTORY));
+    }
+
+    @Test
+    @DisplayName("암호화 ID는 종류와 관계없이 복호화하고, 복호화할 수 없는 ID는 거절한다")
+    void testEncryptedId() {
+        // Given
+        String encrypted = idEncryptionUtil.encrypt(42L);
+
+        // When & Then
+        assertEquals(42L, service.resolve(encrypted, IdKind.PRODUCT));
+        assertEquals(42L, service.resolve(encrypted, IdKind.WAREHOUSE));
+        assertNull(service.resolve(null, IdKind.WAREHOUSE));
+        assertThrows(InvalidIdException.class, () -> service.resolve("not-an-id", IdKind.WAREHOUSE));
+    }
+
+    @Test
+    @DisplayName("공개 ID 모드에서는 재고 ID를 한 번의 조회로 공개 ID로 표시하고, 공개 ID가 없는 재고는 암호화 ID로 표시한다")
+    void testRenderInventoryIds() {
+        // Given
+        ReflectionTestUtils.setField(service, "enabled", true);
+        String inventoryPublicId = PublicIds.newInventoryId();
+        when(repository.findInventoryPublicIds(anyCollection())).thenReturn(Map.of(1L, inventoryPublicId));
+
+        // When
+        String[] first = service.renderInventoryIds(new long[]{1L, 2L, 1L});
+        String[] second = service.renderInventoryIds(new long[]{1L});
+
+        // Then
+        assertArrayEquals(new String[]{inventoryPublicId, idEncryptionUtil.encrypt(2L), inventoryPublicId}, first);
+        assertArrayEquals(new String[]{inventoryPublicId}, second);
+        verify(repository, times(1)).findInventoryPublicIds(Set.of(1L, 2L));
+        verify(repository, times(1)).findInventoryPublicIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("공개 ID 모드가 꺼져 있으면 조회 없이 암호화 ID로 표시한다")
+    void testRenderWhenDisabled() {
+        // When & Then
+        assertEquals(idEncryptionUtil.encrypt(3L), service.renderWarehouseId(3L));
+        verify(repository, never()).findWarehousePublicIds(anyCollection());
+    }
+}
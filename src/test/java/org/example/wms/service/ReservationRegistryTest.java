@@ -0,0 +1,109 @@
+package org.example.wms.service;
+
+import org.example.wms.entity.InventoryReservationEntity;
+import org.example.wms.repository.InventoryReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReservationRegistryTest {
+
+    private static final long INVENTORY_ID = 1L;
+
+    private InventoryReservationRepository repository;
+    private ReservationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(InventoryReservationRepository.class);
+        when(repository.findAll()).thenReturn(List.of());
+        AtomicLong ids = new AtomicLong();
+        when(repository.saveAndFlush(any())).thenAnswer(inv -> {
+            InventoryReservationEntity entity = inv.getArgument(0);
+            return InventoryReservationEntity.builder()
+                    .reservationId(ids.incrementAndGet())
+                    .inventoryId(entity.getInventoryId())
+                    .quantity(entity.getQuantity())
+                    .expiresAt(entity.getExpiresAt())
+                    .build();
+        });
+
+        registry = new ReservationRegistry(repository);
+        ReflectionTestUtils.setField(registry, "tickMs", 100L);
+        ReflectionTestUtils.setField(registry, "wheelSize", 64);
+        registry.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+    }
+
+    @Test
+    @DisplayName("예약을 모두 확정/해제하면 재고별 예약 합계를 제거하고, 다시 예약하면 새로 만든다")
+    void testPruneEmptyHolds() {
+        // Given
+        InventoryReservationEntity first = registry.reserve(INVENTORY_ID, 3, Duration.ofMinutes(5), () -> 10);
+        InventoryReservationEntity second = registry.reserve(INVENTORY_ID, 4, Duration.ofMinutes(5), () -> 10);
+        assertEquals(7, registry.reservedQuantity(INVENTORY_ID));
+
+        // When
+        registry.claim(first.getReservationId()).ifPresent(registry::complete);
+        assertEquals(1, registry.trackedInventoryCount());
+        registry.claim(second.getReservationId()).ifPresent(registry::complete);
+
+        // Then
+        assertEquals(0, registry.reservedQuantity(INVENTORY_ID));
+        assertEquals(0, registry.trackedInventoryCount());
+        registry.reserve(INVENTORY_ID, 10, Duration.ofMinutes(5), () -> 10);
+        assertEquals(10, registry.reservedQuantity(INVENTORY_ID));
+    }
+
+    @Test
+    @DisplayName("가용 재고가 부족해 거절된 예약은 빈 예약 합계를 남기지 않는다")
+    void testRejectedReservationLeavesNoHolds() {
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> registry.reserve(INVENTORY_ID, 11, Duration.ofMinutes(5), () -> 10));
+        assertEquals(0, registry.trackedInventoryCount());
+        verify(repository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("만료된 예약도 예약 수량을 반환하고 빈 예약 합계를 제거한다")
+    void testExpiryPrunesHolds() throws InterruptedException {
+        // Given
+        registry.reserve(INVENTORY_ID, 5, Duration.ofMillis(200), () -> 10);
+
+        // When
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (registry.trackedInventoryCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        // Then
+        assertEquals(0, registry.reservedQuantity(INVENTORY_ID));
+        assertEquals(0, registry.trackedInventoryCount());
+    }
+
+    @Test
+    @DisplayName("예약 수량을 읽는 작업은 같은 재고의 예약 등록이 보는 합계와 같은 값을 받는다")
+    void testWithReservedQuantity() {
+        // Given
+        registry.reserve(INVENTORY_ID, 6, Duration.ofMinutes(5), () -> 10);
+
+        // When & Then
+        assertEquals(6, registry.withReservedQuantity(INVENTORY_ID, reserved -> reserved));
+        assertEquals(0, registry.withReservedQuantity(2L, reserved -> reserved));
+    }
+}
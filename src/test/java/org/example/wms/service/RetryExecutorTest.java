@@ -0,0 +1,102 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private RetryExecutor executor(int maxAttempts, int budgetCapacity) {
+        return new RetryExecutor(meterRegistry, maxAttempts, 0, 0, 0.1, budgetCapacity);
+    }
+
+    private double count(String name, String operation) {
+        return meterRegistry.find(name).tag("operation", operation).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    @Test
+    @DisplayName("충돌이 발생하면 재시도하여 결과를 반환한다")
+    void testRetryUntilSuccess() {
+        // Given
+        RetryExecutor retryExecutor = executor(4, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = retryExecutor.execute("test", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "ok";
+        });
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, count("wms.concurrency.conflicts", "test"));
+        assertEquals(2, count("wms.concurrency.retries", "test"));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘으면 충돌 예외를 그대로 던진다")
+    void testAttemptsExhausted() {
+        // Given
+        RetryExecutor retryExecutor = executor(3, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> retryExecutor.run("test", () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+        assertEquals(3, calls.get());
+        assertEquals(1, count("wms.concurrency.failures", "test"));
+    }
+
+    @Test
+    @DisplayName("재시도 예산을 모두 쓰면 더 이상 재시도하지 않는다")
+    void testBudgetExhausted() {
+        // Given: 예산 1회분
+        RetryExecutor retryExecutor = executor(10, 1);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThrows(OptimisticLockingFailureException.class, () -> retryExecutor.run("test", () -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }));
+        assertEquals(2, calls.get());
+        assertEquals(1, meterRegistry.find("wms.concurrency.failures")
+                .tag("reason", "budget-exhausted").counter().count());
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 재시도하지 않는다")
+    void testNonConflictException() {
+        // Given
+        RetryExecutor retryExecutor = executor(4, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> retryExecutor.run("test", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("재고가 부족합니다.");
+        }));
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.wms.service;
+
+import org.example.wms.entity.StockStatus;
+import org.example.wms.event.StockAlert;
+import org.example.wms.util.IdEncryptionUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StockAlertServiceTest {
+
+    private Consumer<StockAlert> listener;
+    private final Deque<SseEmitter> emitters = new ArrayDeque<>();
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private StockAlertService service;
+
+    @BeforeEach
+    void setUp() {
+        StockAlertBus bus = mock(StockAlertBus.class);
+        when(bus.subscribe(any())).thenAnswer(invocation -> {
+            listener = invocation.getArgument(0);
+            return (Runnable) () -> { };
+        });
+        IdEncryptionUtil idEncryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+        service = new StockAlertService(bus, idEncryptionUtil, new PublicIdService(null, idEncryptionUtil, null));
+        ReflectionTestUtils.setField(service, "sseTimeoutMs", 60_000L);
+        ReflectionTestUtils.setField(service, "maxSubscribers", 10);
+        ReflectionTestUtils.setField(service, "subscriberQueueCapacity", 2);
+        ReflectionTestUtils.setField(service, "sendTimeoutMs", 50L);
+        ReflectionTestUtils.setField(service, "emitterFactory", (LongFunction<SseEmitter>) timeout -> emitters.poll());
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        unblock.countDown();
+        service.stop();
+    }
+
+    private SseEmitter blockingEmitter(CountDownLatch sending) throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            sending.countDown();
+            unblock.await();
+            return null;
+        }).when(emitter).send(any(SseEventBuilder.class));
+        return emitter;
+    }
+
+    private static StockAlert alert(long sequence) {
+        return StockAlert.builder()
+                .sequence(sequence).inventoryId(1L).productId(2L).warehouseId(3L)
+                .previousStatus(StockStatus.SUFFICIENT).status(StockStatus.LOW).quantity(3)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("전송이 멈춘 연결이 있어도 다른 연결에는 바로 전송하고, 전송 시간을 넘긴 연결은 끊는다")
+    void testStalledSubscriberIsEvicted() throws Exception {
+        // Given
+        CountDownLatch sending = new CountDownLatch(1);
+        SseEmitter slow = blockingEmitter(sending);
+        SseEmitter fast = mock(SseEmitter.class);
+        emitters.add(slow);
+        emitters.add(fast);
+        service.openStream();
+        service.openStream();
+
+        // When
+        listener.accept(alert(1));
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+        verify(fast, timeout(1_000)).send(any(SseEventBuilder.class));
+        Thread.sleep(100);
+        service.evictStalledSubscribers();
+
+        // Then
+        assertEquals(1, service.subscriberCount());
+        verify(slow, timeout(1_000)).completeWithError(any());
+        verify(fast, never()).completeWithError(any());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 찬 연결은 끊고, 디스패처 스레드는 기다리지 않는다")
+    void testQueueOverflowEvicts() throws Exception {
+        // Given
+        CountDownLatch sending = new CountDownLatch(1);
+        SseEmitter slow = blockingEmitter(sending);
+        emitters.add(slow);
+        service.openStream();
+        listener.accept(alert(1));
+        assertTrue(sending.await(1, TimeUnit.SECONDS));
+
+        // When: 대기열 크기 2를 넘김
+        listener.accept(alert(2));
+        listener.accept(alert(3));
+        assertEquals(1, service.subscriberCount());
+        listener.accept(alert(4));
+
+        // Then
+        assertEquals(0, service.subscriberCount());
+        verify(slow, timeout(1_000)).completeWithError(any());
+    }
+}
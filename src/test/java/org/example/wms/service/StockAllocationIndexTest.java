@@ -0,0 +1,86 @@
+package org.example.wms.service;
+
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.service.OrderAllocator.Slot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StockAllocationIndexTest {
+
+    private static final long PRODUCT_ID = 10L;
+
+    private InventoryJdbcRepository inventoryJdbcRepository;
+    private StockAllocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        inventoryJdbcRepository = mock(InventoryJdbcRepository.class);
+        index = new StockAllocationIndex(inventoryJdbcRepository);
+    }
+
+    private static InventoryChangedEvent change(long inventoryId, long warehouseId, int quantity) {
+        return InventoryChangedEvent.of(InventoryChange.builder()
+                .inventoryId(inventoryId).productId(PRODUCT_ID).warehouseId(warehouseId)
+                .delta(quantity).quantity(quantity)
+                .build());
+    }
+
+    private int quantityOf(long inventoryId) {
+        return index.slotsOf(PRODUCT_ID, id -> 0).stream()
+                .filter(slot -> slot.inventoryId() == inventoryId)
+                .mapToInt(Slot::available)
+                .findFirst().orElse(0);
+    }
+
+    @Test
+    @DisplayName("재적재 중 도착한 변경은 적재 쿼리가 이미 지나간 재고라도 새 인덱스에 반영된다")
+    void testChangesDuringReloadAreReplayed() {
+        // Given: 재고 1을 읽은 뒤 재고 1이 0으로, 새 재고 3이 생성되는 변경이 커밋됨
+        doAnswer(invocation -> {
+            Consumer<InventoryStockRow> consumer = invocation.getArgument(0);
+            consumer.accept(new InventoryStockRow(1L, PRODUCT_ID, 1L, 5));
+            index.onInventoryChanged(change(1L, 1L, 0));
+            index.onInventoryChanged(change(3L, 2L, 4));
+            consumer.accept(new InventoryStockRow(2L, PRODUCT_ID, 2L, 8));
+            return null;
+        }).when(inventoryJdbcRepository).forEachAvailableStockRow(any());
+
+        // When
+        index.refresh();
+
+        // Then
+        List<Slot> slots = index.slotsOf(PRODUCT_ID, id -> 0);
+        assertEquals(2, slots.size());
+        assertEquals(0, quantityOf(1L));
+        assertEquals(8, quantityOf(2L));
+        assertEquals(4, quantityOf(3L));
+    }
+
+    @Test
+    @DisplayName("재적재가 끝난 뒤의 변경은 모아 두지 않고 바로 반영한다")
+    void testChangesAfterReload() {
+        // Given
+        doAnswer(invocation -> {
+            invocation.<Consumer<InventoryStockRow>>getArgument(0).accept(new InventoryStockRow(1L, PRODUCT_ID, 1L, 5));
+            return null;
+        }).when(inventoryJdbcRepository).forEachAvailableStockRow(any());
+        index.refresh();
+
+        // When
+        index.onInventoryChanged(change(1L, 1L, 9));
+
+        // Then
+        assertEquals(9, quantityOf(1L));
+    }
+}
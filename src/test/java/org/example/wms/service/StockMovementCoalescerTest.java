@@ -0,0 +1,89 @@
+package org.example.wms.service;
+
+import org.example.wms.dto.crud.StockInRequest;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.exception.ConcurrencyLimitException;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.util.IdKind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StockMovementCoalescerTest {
+
+    private static final long INVENTORY_ID = 1L;
+
+    private InventoryJdbcRepository inventoryJdbcRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private StockMovementCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        inventoryJdbcRepository = mock(InventoryJdbcRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        PublicIdService publicIdService = mock(PublicIdService.class);
+        when(publicIdService.resolve("inv", IdKind.INVENTORY)).thenReturn(INVENTORY_ID);
+        when(inventoryJdbcRepository.lockStockRow(INVENTORY_ID))
+                .thenReturn(Optional.of(new InventoryStockRow(INVENTORY_ID, 10L, 20L, 5)));
+
+        coalescer = new StockMovementCoalescer(mock(InventoryService.class), inventoryJdbcRepository,
+                mock(ReservationRegistry.class), new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                eventPublisher, Optional.empty(), mock(IdempotencyService.class), publicIdService);
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "flushThreads", 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        coalescer.stop();
+    }
+
+    @Test
+    @DisplayName("구간 안에 모인 입고는 한 번의 UPDATE로 반영한다")
+    void testGroupCommit() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(coalescer, "windowMs", 200L);
+        ReflectionTestUtils.setField(coalescer, "awaitTimeoutMs", 2_000L);
+        coalescer.start();
+
+        // When
+        Thread other = Thread.ofVirtual().start(() -> coalescer.stockIn(new StockInRequest("inv", 3, null), null));
+        coalescer.stockIn(new StockInRequest("inv", 4, null), null);
+        other.join();
+
+        // Then
+        verify(inventoryJdbcRepository).addQuantity(INVENTORY_ID, 7);
+        verify(eventPublisher).publishEvent(any(InventoryChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 처리되지 않은 요청은 429로 응답하고 이후 그룹 처리에서도 반영하지 않는다")
+    void testAwaitTimeoutWithdrawsRequest() throws InterruptedException {
+        // Given: 그룹 처리가 대기 시간보다 늦게 실행됨
+        ReflectionTestUtils.setField(coalescer, "windowMs", 200L);
+        ReflectionTestUtils.setField(coalescer, "awaitTimeoutMs", 20L);
+        coalescer.start();
+
+        // When
+        assertThrows(ConcurrencyLimitException.class,
+                () -> coalescer.stockIn(new StockInRequest("inv", 3, null), null));
+
+        // Then
+        verify(inventoryJdbcRepository, timeout(1_000)).lockStockRow(INVENTORY_ID);
+        Thread.sleep(50);
+        verify(inventoryJdbcRepository, never()).addQuantity(anyLong(), anyInt());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.wms.service;
+
+import org.example.wms.dto.info.StocktakeResultDTO.VarianceStatus;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.repository.StockKey;
+import org.example.wms.service.StocktakeService.Count;
+import org.example.wms.service.StocktakeService.Diff;
+import org.example.wms.service.StocktakeService.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StocktakeServiceTest {
+
+    private static final long WAREHOUSE_ID = 1L;
+
+    private InventoryJdbcRepository repository;
+    private List<InventoryStockRow> rows;  // 창고 재고 (재고 ID 오름차순)
+    private Set<Long> products;
+    private List<InventoryChangedEvent> published;
+    private StocktakeService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(InventoryJdbcRepository.class);
+        rows = new ArrayList<>();
+        products = new HashSet<>();
+        doAnswer(invocation -> {
+            rows.forEach(invocation.<Consumer<InventoryStockRow>>getArgument(1));
+            return null;
+        }).when(repository).forEachLockedWarehouseRow(eq(WAREHOUSE_ID), any());
+        when(repository.findExistingProductIds(any())).thenAnswer(invocation -> {
+            Set<Long> existing = new HashSet<>(invocation.<Collection<Long>>getArgument(0));
+            existing.retainAll(products);
+            return existing;
+        });
+        when(repository.lockStockRowsByKeys(any())).thenAnswer(invocation -> {  // 생성된 재고 ID는 상품 ID * 100
+            Map<StockKey, InventoryStockRow> created = new HashMap<>();
+            for (StockKey key : invocation.<Collection<StockKey>>getArgument(0)) {
+                created.put(key, new InventoryStockRow(key.productId() * 100, key.productId(), key.warehouseId(), 0));
+            }
+            return created;
+        });
+        published = new ArrayList<>();
+        StockThresholdService thresholds = new StockThresholdService(null, null, null, null, null);
+        service = new StocktakeService(repository, null, null, null,
+                event -> published.add((InventoryChangedEvent) event),
+                new ReservationRegistry(null), thresholds, Optional.empty(), null);
+    }
+
+    private void stock(long inventoryId, long productId, int quantity) {
+        rows.add(new InventoryStockRow(inventoryId, productId, WAREHOUSE_ID, quantity));
+        products.add(productId);
+    }
+
+    @Test
+    @DisplayName("실사 목록과 창고 재고를 상품 ID로 맞춰 비교하여 차이만 반영한다")
+    void testMergeAndApplyDifferences() {
+        // Given: 상품 10(20개), 20(5개), 30(7개) 재고, 상품 25는 재고 없이 상품만 존재
+        stock(1L, 10L, 20);
+        stock(2L, 20L, 5);
+        stock(3L, 30L, 7);
+        products.add(25L);
+
+        // When: 10은 일치, 20은 8개, 25는 새로 발견, 30은 목록에 없음, 40은 없는 상품
+        Outcome outcome = service.apply(WAREHOUSE_ID, List.of(
+                new Count(0, 10L, 20),
+                new Count(1, 20L, 8),
+                new Count(2, 25L, 4),
+                new Count(3, 40L, 1)), true, "실사-2026-01");
+
+        // Then
+        assertEquals(1, outcome.matched);
+        assertEquals(32, outcome.quantityBefore);
+        verify(repository).addQuantities(aryEq(new long[] {2L, 3L}), aryEq(new int[] {3, -7}));
+        verify(repository).upsertRows(eq(List.of(new StockKey(25L, WAREHOUSE_ID))), aryEq(new int[] {4}),
+                eq(false), any());
+        assertEquals(1, outcome.unknownProducts.size());
+        assertEquals(40L, outcome.unknownProducts.get(0).productId());
+
+        List<VarianceStatus> statuses = outcome.diffs.stream().map(Diff::status).toList();
+        assertEquals(List.of(VarianceStatus.ADJUSTED, VarianceStatus.ZEROED, VarianceStatus.CREATED), statuses);
+
+        assertEquals(1, published.size());
+        List<InventoryChange> changes = published.get(0).getChanges();
+        assertEquals(3, changes.size());
+        assertEquals(MovementSource.STOCKTAKE, changes.get(0).getSource());
+        assertEquals(8, changes.get(0).getQuantity());
+        assertEquals(MovementSource.CREATE, changes.get(2).getSource());
+        assertEquals("실사-2026-01", changes.get(2).getReason());
+    }
+
+    @Test
+    @DisplayName("재고 ID 순으로 잠근 재고의 상품 순서가 실사 목록과 달라도 같은 상품끼리 비교한다")
+    void testRowsInInventoryIdOrder() {
+        // Given: 재고 ID 순으로는 상품 30, 10 순서
+        stock(1L, 30L, 7);
+        stock(2L, 10L, 20);
+
+        // When
+        Outcome outcome = service.apply(WAREHOUSE_ID, List.of(new Count(0, 10L, 25), new Count(1, 30L, 7)),
+                false, null);
+
+        // Then
+        assertEquals(1, outcome.matched);
+        verify(repository).addQuantities(aryEq(new long[] {2L}), aryEq(new int[] {5}));
+        verify(repository, never()).upsertRows(any(), any(), anyBoolean(), any());
+    }
+
+    @Test
+    @DisplayName("목록에 없는 재고를 0으로 맞추지 않으면 그대로 둔다")
+    void testKeepUncounted() {
+        // Given
+        stock(1L, 10L, 20);
+        stock(2L, 20L, 5);
+
+        // When
+        Outcome outcome = service.apply(WAREHOUSE_ID, List.of(new Count(0, 20L, 5)), false, null);
+
+        // Then
+        assertEquals(1, outcome.matched);
+        assertTrue(outcome.diffs.isEmpty());
+        verify(repository, never()).addQuantities(any(), any());
+        assertTrue(published.isEmpty());
+    }
+}
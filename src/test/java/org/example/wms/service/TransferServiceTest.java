@@ -0,0 +1,169 @@
+package org.example.wms.service;
+
+import org.example.wms.dto.crud.TransferBatchRequest;
+import org.example.wms.dto.crud.TransferRequest;
+import org.example.wms.dto.info.TransferBatchResultDTO;
+import org.example.wms.dto.info.TransferBatchResultDTO.LineStatus;
+import org.example.wms.dto.info.TransferResultDTO;
+import org.example.wms.repository.InventoryJdbcRepository;
+import org.example.wms.repository.InventoryStockRow;
+import org.example.wms.repository.StockKey;
+import org.example.wms.repository.WarehouseRepository;
+import org.example.wms.util.IdEncryptionUtil;
+import org.example.wms.util.IdKind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TransferServiceTest {
+
+    private static final long PRODUCT_ID = 100L;
+    private static final long HOT_ID = 9L;
+
+    private final IdEncryptionUtil idEncryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+    private InventoryJdbcRepository inventoryJdbcRepository;
+    private ReservationRegistry reservationRegistry;
+    private TransferService service;
+
+    @BeforeEach
+    void setUp() {
+        inventoryJdbcRepository = mock(InventoryJdbcRepository.class);
+        reservationRegistry = mock(ReservationRegistry.class);
+        PublicIdService publicIdService = mock(PublicIdService.class);
+        when(publicIdService.resolveIfValid("wA", IdKind.WAREHOUSE)).thenReturn(1L);
+        when(publicIdService.resolveIfValid("wB", IdKind.WAREHOUSE)).thenReturn(2L);
+        when(publicIdService.resolveIfValid("wC", IdKind.WAREHOUSE)).thenReturn(3L);
+        when(publicIdService.renderInventoryIds(any()))
+                .thenAnswer(invocation -> idEncryptionUtil.encryptAll(invocation.getArgument(0)));
+        HotStockEngine hotStockEngine = mock(HotStockEngine.class);
+        when(hotStockEngine.handles(HOT_ID)).thenReturn(true);
+
+        service = new TransferService(inventoryJdbcRepository, mock(WarehouseRepository.class), reservationRegistry,
+                idEncryptionUtil, mock(ApplicationEventPublisher.class), Optional.of(hotStockEngine),
+                mock(StockThresholdService.class), publicIdService);
+    }
+
+    /**
+     * 상품 PRODUCT_ID의 기존 재고 행 (조회와 잠금 모두 같은 행을 반환)
+     */
+    private void givenRows(InventoryStockRow... rows) {
+        Map<StockKey, InventoryStockRow> byKey = new HashMap<>();
+        Map<Long, InventoryStockRow> byId = new HashMap<>();
+        for (InventoryStockRow row : rows) {
+            byKey.put(new StockKey(row.getProductId(), row.getWarehouseId()), row);
+            byId.put(row.getInventoryId(), row);
+        }
+        when(inventoryJdbcRepository.findStockRowsByKeys(any())).thenReturn(byKey);
+        when(inventoryJdbcRepository.lockStockRows(any())).thenReturn(byId);
+    }
+
+    private static InventoryStockRow row(long inventoryId, long warehouseId, int quantity) {
+        return new InventoryStockRow(inventoryId, PRODUCT_ID, warehouseId, quantity);
+    }
+
+    private TransferRequest transfer(String from, String to, int quantity) {
+        return new TransferRequest(idEncryptionUtil.encrypt(PRODUCT_ID), from, to, quantity, null);
+    }
+
+    private TransferBatchResultDTO transferAll(TransferRequest... transfers) {
+        return service.transferAll(new TransferBatchRequest(List.of(transfers)));
+    }
+
+    private static LineStatus statusOf(TransferBatchResultDTO result, int line) {
+        return result.getResults().get(line - 1).getStatus();
+    }
+
+    @Test
+    @DisplayName("보내는 창고와 받는 창고가 같은 라인은 INVALID이며 다른 라인은 처리한다")
+    void testSameWarehouseIsInvalid() {
+        // Given
+        givenRows(row(11L, 1L, 10), row(12L, 2L, 0));
+
+        // When
+        TransferBatchResultDTO result = transferAll(transfer("wA", "wA", 1), transfer("wA", "wB", 2));
+
+        // Then
+        assertEquals(LineStatus.INVALID, statusOf(result, 1));
+        assertEquals(LineStatus.APPLIED, statusOf(result, 2));
+        verify(inventoryJdbcRepository).addQuantities(aryEq(new long[] {11L, 12L}), aryEq(new int[] {-2, 2}));
+    }
+
+    @Test
+    @DisplayName("앞 라인이 받은 재고를 뒤 라인이 보낼 수 있고, 앞 라인이 보낸 만큼 뒤 라인의 가용 재고가 줄어든다")
+    void testLinesSeeEarlierLines() {
+        // Given: A 5개, B 0개, C 0개
+        givenRows(row(11L, 1L, 5), row(12L, 2L, 0), row(13L, 3L, 0));
+
+        // When
+        TransferBatchResultDTO result = transferAll(
+                transfer("wA", "wB", 5),   // A → B 5개
+                transfer("wB", "wC", 3),   // 앞 라인이 받은 B의 5개 중 3개
+                transfer("wA", "wC", 1));  // A는 이미 비었음
+
+        // Then
+        assertEquals(LineStatus.APPLIED, statusOf(result, 1));
+        assertEquals(LineStatus.APPLIED, statusOf(result, 2));
+        assertEquals(2, result.getResults().get(1).getResult().getFromQuantity());
+        assertEquals(3, result.getResults().get(1).getResult().getToQuantity());
+        assertEquals(LineStatus.INSUFFICIENT, statusOf(result, 3));
+        verify(inventoryJdbcRepository).addQuantities(aryEq(new long[] {11L, 12L, 13L}), aryEq(new int[] {-5, 2, 3}));
+    }
+
+    @Test
+    @DisplayName("보내는 재고의 예약 수량 아래로는 이동할 수 없다")
+    void testReservedQuantityIsFloor() {
+        // Given: A 10개 중 4개 예약
+        givenRows(row(11L, 1L, 10), row(12L, 2L, 0));
+        when(reservationRegistry.reservedQuantity(11L)).thenReturn(4);
+
+        // When
+        TransferBatchResultDTO result = transferAll(transfer("wA", "wB", 7), transfer("wA", "wB", 6));
+
+        // Then
+        assertEquals(LineStatus.INSUFFICIENT, statusOf(result, 1));
+        assertEquals(LineStatus.APPLIED, statusOf(result, 2));
+        assertEquals(4, result.getResults().get(1).getResult().getFromQuantity());
+    }
+
+    @Test
+    @DisplayName("핫 재고 엔진이 관리하는 재고와의 이동은 INVALID이며 DB에 반영하지 않는다")
+    void testHotStockIsInvalid() {
+        // Given
+        givenRows(row(HOT_ID, 1L, 10), row(12L, 2L, 0));
+
+        // When
+        TransferBatchResultDTO result = transferAll(transfer("wA", "wB", 1), transfer("wB", "wA", 1));
+
+        // Then
+        assertEquals(LineStatus.INVALID, statusOf(result, 1));
+        assertEquals(LineStatus.INVALID, statusOf(result, 2));
+        assertEquals(2, result.getInvalidCount());
+        verify(inventoryJdbcRepository, never()).addQuantities(any(), any());
+    }
+
+    @Test
+    @DisplayName("단건 이동은 변환된 내부 ID로 처리하고, 같은 창고 간 이동은 거절한다")
+    void testSingleTransferWithResolvedIds() {
+        // Given
+        givenRows(row(11L, 1L, 10), row(12L, 2L, 0));
+
+        // When
+        TransferResultDTO result = service.transfer(PRODUCT_ID, 1L, 2L, 4, null);
+
+        // Then
+        assertEquals(6, result.getFromQuantity());
+        assertEquals(4, result.getToQuantity());
+        verify(inventoryJdbcRepository).addQuantities(aryEq(new long[] {11L, 12L}), aryEq(new int[] {-4, 4}));
+        assertThrows(IllegalStateException.class, () -> service.transfer(PRODUCT_ID, 1L, 1L, 1, null));
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.wms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.wms.entity.MovementSource;
+import org.example.wms.event.InventoryChange;
+import org.example.wms.event.InventoryChangedEvent;
+import org.example.wms.repository.WarehouseStockDelta;
+import org.example.wms.repository.WarehouseStockTotalsJdbcRepository;
+import org.example.wms.repository.WarehouseStockTotalsRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class WarehouseStockTotalsUpdaterTest {
+
+    private WarehouseStockTotalsJdbcRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private WarehouseStockTotalsUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(WarehouseStockTotalsJdbcRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        updater = new WarehouseStockTotalsUpdater(repository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), Optional.empty(), meterRegistry);
+        ReflectionTestUtils.setField(updater, "reconcileChunkSize", 100);
+        updater.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 변경 이벤트를 받은 상태로 만들고, 완료 처리용 동기화 목록을 반환
+     */
+    private List<TransactionSynchronization> publishInTransaction(InventoryChange... changes) {
+        TransactionSynchronizationManager.initSynchronization();
+        updater.onInventoryChanged(new InventoryChangedEvent(List.of(changes)));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WarehouseStockDelta> appliedDeltas() {
+        ArgumentCaptor<List<WarehouseStockDelta>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(repository).applyDeltas(deltas.capture());
+        return deltas.getValue();
+    }
+
+    private static InventoryChange change(long warehouseId, int delta, int quantity, MovementSource source) {
+        return InventoryChanges.change(1L, 2L, warehouseId, delta, quantity).source(source).build();
+    }
+
+    @Test
+    @DisplayName("재고 생성은 SKU 수를, 0 경계를 넘은 변경은 0인 SKU 수를 바꾼다")
+    void testAggregatePerWarehouse() {
+        // When
+        updater.onInventoryChanged(new InventoryChangedEvent(List.of(
+                change(9L, 0, 0, MovementSource.CREATE),         // 수량 0으로 생성: SKU +1, 0인 SKU +1
+                change(9L, 5, 5, MovementSource.TRANSFER_IN),    // 0 → 5: 0인 SKU -1
+                change(4L, 20, 20, MovementSource.CREATE),       // 수량 20으로 생성: SKU +1
+                change(4L, -20, 0, MovementSource.STOCK_OUT),    // 20 → 0: 0인 SKU +1
+                change(4L, -3, 7, MovementSource.ORDER_OUT)      // 10 → 7: 수량만 변경
+        )));
+        updater.flush();
+
+        // Then (창고 ID 오름차순)
+        List<WarehouseStockDelta> applied = appliedDeltas();
+        assertEquals(2, applied.size());
+        WarehouseStockDelta first = applied.get(0);
+        assertEquals(4L, first.getWarehouseId());
+        assertEquals(-3, first.getQuantityDelta());
+        assertEquals(1, first.getSkuCountDelta());
+        assertEquals(1, first.getZeroStockSkuCountDelta());
+
+        WarehouseStockDelta second = applied.get(1);
+        assertEquals(9L, second.getWarehouseId());
+        assertEquals(5, second.getQuantityDelta());
+        assertEquals(1, second.getSkuCountDelta());
+        assertEquals(0, second.getZeroStockSkuCountDelta());
+    }
+
+    @Test
+    @DisplayName("합계는 커밋 후에만 모아서 반영하고, 롤백된 변경은 버린다")
+    void testOnlyCommittedChangesAreFlushed() {
+        // Given
+        List<TransactionSynchronization> committed = publishInTransaction(change(4L, -3, 7, MovementSource.STOCK_OUT));
+        List<TransactionSynchronization> rolledBack = publishInTransaction(change(4L, -5, 2, MovementSource.STOCK_OUT));
+
+        // When: 커밋 전에는 합계 행을 건드리지 않음
+        updater.flush();
+        verify(repository, never()).applyDeltas(anyList());
+        complete(committed, TransactionSynchronization.STATUS_COMMITTED);
+        complete(rolledBack, TransactionSynchronization.STATUS_ROLLED_BACK);
+        updater.flush();
+
+        // Then
+        List<WarehouseStockDelta> applied = appliedDeltas();
+        assertEquals(1, applied.size());
+        assertEquals(-3, applied.get(0).getQuantityDelta());
+    }
+
+    @Test
+    @DisplayName("합계 반영에 실패하면 변화량을 유지했다가 다음 주기에 함께 반영한다")
+    void testFailedFlushIsRetried() {
+        // Given
+        doThrow(new DataAccessResourceFailureException("db down")).doNothing()
+                .when(repository).applyDeltas(anyList());
+        updater.onInventoryChanged(InventoryChangedEvent.of(change(4L, -3, 7, MovementSource.STOCK_OUT)));
+        updater.flush();
+        updater.onInventoryChanged(InventoryChangedEvent.of(change(4L, -2, 5, MovementSource.STOCK_OUT)));
+
+        // When
+        updater.flush();
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WarehouseStockDelta>> deltas = ArgumentCaptor.forClass(List.class);
+        verify(repository, times(2)).applyDeltas(deltas.capture());
+        assertEquals(-5, deltas.getAllValues().get(1).get(0).getQuantityDelta());
+    }
+
+    @Test
+    @DisplayName("재계산은 inventory 집계와 다른 창고만 보정하고, 커밋 전 변경이 있는 창고는 건너뛴다")
+    void testReconcileSkipsBusyWarehouses() {
+        // Given: 창고 4는 어긋남, 창고 9는 커밋 전 변경이 있어 확인하지 않음, 창고 12는 일치
+        when(repository.findWarehouseIdsAfter(0L, 100)).thenReturn(List.of(4L, 9L, 12L));
+        when(repository.findWarehouseIdsAfter(12L, 100)).thenReturn(List.of());
+        when(repository.lockTotals(Set.of(4L, 12L))).thenReturn(Map.of(
+                4L, new WarehouseStockTotalsRow(4L, 10, 2, 0),
+                12L, new WarehouseStockTotalsRow(12L, 3, 1, 0)));
+        when(repository.aggregateInventory(Set.of(4L, 12L))).thenReturn(Map.of(
+                4L, new WarehouseStockTotalsRow(4L, 7, 2, 1),
+                12L, new WarehouseStockTotalsRow(12L, 3, 1, 0)));
+        publishInTransaction(change(9L, -1, 4, MovementSource.STOCK_OUT));
+
+        // When
+        int corrected = updater.reconcile();
+
+        // Then
+        assertEquals(1, corrected);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<WarehouseStockTotalsRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(repository).overwrite(rows.capture());
+        assertEquals(1, rows.getValue().size());
+        assertEquals(4L, rows.getValue().get(0).getWarehouseId());
+        assertEquals(7, rows.getValue().get(0).getTotalQuantity());
+        assertEquals(1, meterRegistry.counter("wms.warehouse-totals.drift").count());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.wms.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+
+    private final List<String> expired = new CopyOnWriteArrayList<>();
+    private CountDownLatch latch;
+    private HashedTimingWheel<String> timingWheel;
+
+    @BeforeEach
+    void setUp() {
+        latch = new CountDownLatch(1);
+        // 10ms tick, 8개 버킷 (한 바퀴 80ms)
+        timingWheel = new HashedTimingWheel<>("test-timing-wheel", 10, TimeUnit.MILLISECONDS, 8, value -> {
+            expired.add(value);
+            latch.countDown();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        timingWheel.close();
+    }
+
+    @Test
+    @DisplayName("등록한 타이머는 만료 시각이 지나면 콜백이 호출된다")
+    void testExpire() throws InterruptedException {
+        // Given
+        long start = System.nanoTime();
+
+        // When
+        timingWheel.schedule("a", 50, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(List.of("a"), expired);
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 타이머도 만료 시각 이후에 호출된다")
+    void testExpireAfterSeveralRounds() throws InterruptedException {
+        // Given
+        long start = System.nanoTime();
+
+        // When
+        timingWheel.schedule("long", 200, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(List.of("long"), expired);
+    }
+
+    @Test
+    @DisplayName("취소한 타이머는 콜백이 호출되지 않는다")
+    void testCancel() throws InterruptedException {
+        // Given
+        HashedTimingWheel.Timeout<String> cancelled = timingWheel.schedule("cancelled", 30, TimeUnit.MILLISECONDS);
+        timingWheel.schedule("kept", 60, TimeUnit.MILLISECONDS);
+
+        // When
+        cancelled.cancel();
+
+        // Then
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertTrue(cancelled.isCancelled());
+        assertEquals(List.of("kept"), expired);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록한 타이머는 다음 tick에 호출된다")
+    void testPastDeadline() throws InterruptedException {
+        // When
+        timingWheel.schedule("past", -100, TimeUnit.MILLISECONDS);
+
+        // Then
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(List.of("past"), expired);
+    }
+}
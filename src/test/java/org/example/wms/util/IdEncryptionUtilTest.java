@@ -124,6 +124,19 @@ class IdEncryptionUtilTest {
         assertFalse(valid);
     }
 
+    @Test
+    @DisplayName("검증과 복호화를 한 번에 하면 유효한 ID는 복호화되고 잘못된 ID는 null을 반환한다")
+    void testDecryptIfValid() {
+        // Given
+        String encrypted = encryptionUtil.encrypt(12345L);
+
+        // When & Then
+        assertEquals(12345L, encryptionUtil.decryptIfValid(encrypted));
+        assertNull(encryptionUtil.decryptIfValid("invalid-id"));
+        assertNull(encryptionUtil.decryptIfValid(encryptionUtil.encrypt(0L)));
+        assertNull(encryptionUtil.decryptIfValid(null));
+    }
+
     @Test
     @DisplayName("큰 숫자 ID도 정상적으로 암호화/복호화된다")
     void testEncryptLargeNumber() {
@@ -137,4 +150,163 @@ class IdEncryptionUtilTest {
         // Then
         assertEquals(largeId, decrypted);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("이전 형식(AES, 10진수 문자열)으로 발급한 암호화 ID도 복호화된다")
+    void testDecryptLegacyTokens() {
+        // Given: 이전 형식 토큰 (한 블록 / 두 블록)
+        String oneBlock = "VsL6e_eUqBZzRjvgq9dzmQ";
+        String twoBlocks = "xB4BFgrGk71BSOqgFffGXAbb0lJO2pSgRxctIDarhYM";
+
+        // When & Then
+        assertEquals(12345L, encryptionUtil.decrypt(oneBlock));
+        assertEquals(9007199254740993L, encryptionUtil.decrypt(twoBlocks));
+        assertTrue(encryptionUtil.isValid(oneBlock));
+    }
+
+    @Test
+    @DisplayName("새 토큰은 키 ID 1글자와 11글자로 된 12글자 고정 길이이다")
+    void testTokenFormat() {
+        for (long id : new long[]{1L, 12345L, 999999999999L, IdEncryptionUtil.MAX_TOKEN_ID}) {
+            // When
+            String encrypted = encryptionUtil.encrypt(id);
+
+            // Then
+            assertEquals(12, encrypted.length());
+            assertEquals('1', encrypted.charAt(0));
+            assertTrue(encrypted.matches("[A-Za-z0-9_-]+"));
+        }
+    }
+
+    @Test
+    @DisplayName("키 교체 중에는 이전 키로 발급한 토큰도 복호화되고, 새 토큰은 활성 키로 발급된다")
+    void testKeyRotation() {
+        // Given: 키 1만 있던 인스턴스와, 키 2를 추가하고 활성화한 인스턴스
+        IdEncryptionUtil before = new IdEncryptionUtil("MySecretKey12345", "1=FirstTokenKey001", "1", true);
+        IdEncryptionUtil rotating = new IdEncryptionUtil("MySecretKey12345",
+                "1=FirstTokenKey001,2=SecondTokenKey02", "2", true);
+        String issuedBefore = before.encrypt(777L);
+
+        // When
+        String issuedAfter = rotating.encrypt(777L);
+
+        // Then
+        assertEquals(777L, rotating.decrypt(issuedBefore));
+        assertEquals('2', issuedAfter.charAt(0));
+        assertNotEquals(issuedBefore, issuedAfter);
+        assertEquals(777L, rotating.decrypt(issuedAfter));
+        assertFalse(before.isValid(issuedAfter));  // 키 2를 모르는 인스턴스
+    }
+
+    @Test
+    @DisplayName("이전 형식 복호화를 끄면 이전 형식 토큰은 유효하지 않다")
+    void testLegacyDecodeDisabled() {
+        // Given
+        IdEncryptionUtil strict = new IdEncryptionUtil("MySecretKey12345", "", "1", false);
+
+        // When & Then
+        assertFalse(strict.isValid("VsL6e_eUqBZzRjvgq9dzmQ"));
+        assertEquals(12345L, strict.decrypt(strict.encrypt(12345L)));
+    }
+
+    @Test
+    @DisplayName("활성 키 ID에 해당하는 키가 없으면 생성할 수 없다")
+    void testActiveKeyMustExist() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new IdEncryptionUtil("MySecretKey12345", "1=FirstTokenKey001", "2", true));
+    }
+
+    @Test
+    @DisplayName("토큰으로 표현할 수 있는 범위(48비트)의 경계 값은 암호화/복호화되고, 범위 밖의 ID는 거절한다")
+    void testEncryptBoundaryValues() {
+        for (long id : new long[]{0L, 1L, 9L, 10L, IdEncryptionUtil.MAX_TOKEN_ID}) {
+            // When
+            String encrypted = encryptionUtil.encrypt(id);
+
+            // Then
+            assertEquals(id, encryptionUtil.decrypt(encrypted));
+        }
+        for (long id : new long[]{IdEncryptionUtil.MAX_TOKEN_ID + 1, Long.MAX_VALUE, -1L, Long.MIN_VALUE}) {
+            assertThrows(RuntimeException.class, () -> encryptionUtil.encrypt(id));
+        }
+    }
+
+    @Test
+    @DisplayName("검사 비트가 맞지 않는 토큰(임의로 바꾼 토큰, 다른 키의 검사 비트)은 거절한다")
+    void testRejectTamperedTokens() {
+        // Given
+        String encrypted = encryptionUtil.encrypt(12345L);
+        int rejected = 0;
+        int total = 0;
+
+        // When: 키 ID 뒤의 글자를 하나씩 다른 글자로 바꿈 (마지막 글자는 남는 비트가 0인 글자만)
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int position = 1; position < encrypted.length(); position++) {
+            for (int i = 0; i < alphabet.length(); i++) {
+                char c = alphabet.charAt(i);
+                boolean last = position == encrypted.length() - 1;
+                if (c == encrypted.charAt(position) || (last && i % 4 != 0)) {
+                    continue;
+                }
+                total++;
+                String tampered = encrypted.substring(0, position) + c + encrypted.substring(position + 1);
+                if (!encryptionUtil.isValid(tampered)) {
+                    rejected++;
+                }
+            }
+        }
+
+        // Then: 검사 비트 16비트이므로 바꾼 토큰이 통과할 확률은 1/65536
+        assertEquals(total, rejected);
+        IdEncryptionUtil otherCheck = new IdEncryptionUtil("MySecretKey12345", "1=FirstTokenKey001", "1", true);
+        assertFalse(otherCheck.isValid(encrypted));
+    }
+
+    @Test
+    @DisplayName("마지막 글자의 남는 비트가 0이 아닌 토큰은 같은 블록이라도 거절하여 ID마다 토큰이 하나뿐이다")
+    void testRejectNonCanonicalBase64() {
+        // Given
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        String encrypted = encryptionUtil.encrypt(12345L);
+        int last = alphabet.indexOf(encrypted.charAt(encrypted.length() - 1));
+
+        // When & Then: 마지막 글자는 6비트 중 앞 4비트만 블록에 쓰임
+        assertEquals(0, last % 4);
+        for (int extra = 1; extra < 4; extra++) {
+            String nonCanonical = encrypted.substring(0, encrypted.length() - 1) + alphabet.charAt(last + extra);
+            assertFalse(encryptionUtil.isValid(nonCanonical));
+        }
+        assertEquals(12345L, encryptionUtil.decrypt(encrypted));
+    }
+
+    @Test
+    @DisplayName("일괄 암호화는 ID마다 암호화한 결과와 같다")
+    void testEncryptAll() {
+        // Given: 연속으로 반복되는 ID 포함
+        long[] ids = {3L, 3L, 100L, 7L, 7L, 7L, 999999999999L};
+
+        // When
+        String[] encrypted = encryptionUtil.encryptAll(ids);
+
+        // Then
+        assertEquals(ids.length, encrypted.length);
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(encryptionUtil.encrypt(ids[i]), encrypted[i]);
+        }
+        assertEquals(0, encryptionUtil.encryptAll(new long[0]).length);
+    }
+
+    @Test
+    @DisplayName("잘못된 암호문을 복호화한 뒤에도 같은 스레드에서 정상 동작한다")
+    void testRecoverAfterInvalidInput() {
+        // Given: 이전 형식 길이지만 패딩이 맞지 않는 암호문, 너무 긴 문자열, Base64가 아닌 문자
+        String encrypted = encryptionUtil.encrypt(42L);
+        String wrongBlock = "A".repeat(22);
+
+        // When & Then
+        assertFalse(encryptionUtil.isValid(wrongBlock));
+        assertFalse(encryptionUtil.isValid("A".repeat(100)));
+        assertFalse(encryptionUtil.isValid("재고ID"));
+        assertEquals(42L, encryptionUtil.decrypt(encrypted));
+    }
+}
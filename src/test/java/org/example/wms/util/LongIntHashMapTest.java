@@ -0,0 +1,51 @@
+package org.example.wms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("저장한 값을 조회하고, 없는 키는 기본값을 돌려준다")
+    void testPutAndGet() {
+        // Given
+        LongIntHashMap map = new LongIntHashMap(4);
+        map.put(1L, 10);
+        map.put(-7L, 20);
+        map.put(1L, 30);  // 교체
+
+        // Then
+        assertEquals(2, map.size());
+        assertEquals(30, map.get(1L, 0));
+        assertEquals(20, map.get(-7L, 0));
+        assertEquals(99, map.get(2L, 99));
+        assertTrue(map.containsKey(-7L));
+        assertFalse(map.containsKey(2L));
+    }
+
+    @Test
+    @DisplayName("예상 크기를 넘어도 늘어나며 모든 값을 유지한다")
+    void testResize() {
+        // Given
+        LongIntHashMap map = new LongIntHashMap(2);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            map.put(((long) i << 32) | i, i);
+        }
+
+        // Then
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, map.get(((long) i << 32) | i, -1));
+        }
+    }
+
+    @Test
+    @DisplayName("Long.MIN_VALUE는 키로 사용할 수 없다")
+    void testReservedKey() {
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(4).put(Long.MIN_VALUE, 1));
+    }
+}
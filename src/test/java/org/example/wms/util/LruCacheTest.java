@@ -0,0 +1,34 @@
+package org.example.wms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거된다")
+    void testEvictLeastRecentlyUsed() {
+        // Given
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        // When
+        cache.get("a");       // a를 최근 사용으로 갱신
+        cache.put("c", 3);    // b 제거
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+    }
+
+    @Test
+    @DisplayName("크기가 0 이하이면 예외가 발생한다")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, Integer>(0));
+    }
+}
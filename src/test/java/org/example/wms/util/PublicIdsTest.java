@@ -0,0 +1,72 @@
+package org.example.wms.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublicIdsTest {
+
+    @Test
+    @DisplayName("공개 ID는 종류 글자로 시작하는 16글자이며 형식 검사를 통과한다")
+    void testGenerateFormat() {
+        // When
+        String warehouseId = PublicIds.newWarehouseId();
+        String inventoryId = PublicIds.newInventoryId();
+
+        // Then
+        assertEquals(PublicIds.LENGTH, warehouseId.length());
+        assertEquals(PublicIds.WAREHOUSE, warehouseId.charAt(0));
+        assertEquals(PublicIds.INVENTORY, inventoryId.charAt(0));
+        assertTrue(PublicIds.isPublicId(warehouseId));
+        assertTrue(PublicIds.isPublicId(inventoryId));
+    }
+
+    @Test
+    @DisplayName("발급한 공개 ID는 서로 겹치지 않는다")
+    void testGenerateUnique() {
+        // Given
+        Set<String> ids = new HashSet<>();
+
+        // When & Then
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(ids.add(PublicIds.newInventoryId()));
+        }
+    }
+
+    @Test
+    @DisplayName("암호화 ID나 형식이 다른 문자열은 공개 ID가 아니다")
+    void testIsPublicIdRejectsOtherFormats() {
+        // Given
+        IdEncryptionUtil encryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+
+        // When & Then
+        assertFalse(PublicIds.isPublicId(null));
+        assertFalse(PublicIds.isPublicId(encryptionUtil.encrypt(12345L)));
+        assertFalse(PublicIds.isPublicId("VsL6e_eUqBZzRjvgq9dzmQ"));
+        assertFalse(PublicIds.isPublicId("XAAAAAAAAAAAAAAA"));  // 종류 글자가 아님
+        assertFalse(PublicIds.isPublicId("WAAAAAAAAAAAAAA="));  // Base64 URL 문자가 아님
+    }
+
+    @Test
+    @DisplayName("응답용 ID 변환은 공개 ID가 없는 행만 암호화한다")
+    void testOrEncrypted() {
+        // Given
+        IdEncryptionUtil encryptionUtil = new IdEncryptionUtil("MySecretKey12345");
+        String publicId = PublicIds.newWarehouseId();
+        String[] publicIds = {publicId, null, null};
+        long[] ids = {1L, 2L, 3L};
+
+        // When
+        String[] result = PublicIds.orEncrypted(publicIds, ids, encryptionUtil);
+
+        // Then
+        assertEquals(publicId, result[0]);
+        assertEquals(2L, encryptionUtil.decrypt(result[1]));
+        assertEquals(3L, encryptionUtil.decrypt(result[2]));
+        assertNull(publicIds[1]);  // 입력 배열은 바꾸지 않음
+    }
+}